@@ -19,8 +19,8 @@ public abstract class AbstractParallelAnyArray {
     /*
      * This class and its subclasses (most of which are defined here
      * as nested static classes) maintain the execution parameters for
-     * ParallelArray, ParallelDoubleArray, and ParallelLongArray
-     * tasks.  Pap instances hold the non-operation-specific control
+     * ParallelArray, ParallelDoubleArray, ParallelLongArray,
+     * ParallelFloatArray, and ParallelIntArray tasks.  Pap instances hold the non-operation-specific control
      * and data accessors needed for a task as a whole (as opposed to
      * subtasks), and also house some of the leaf methods that perform
      * the actual array processing. The leaf methods are for the most
@@ -43,12 +43,20 @@ public abstract class AbstractParallelAnyArray {
      *
      * Internal concrete classes are named using an
      * abbreviation scheme to avoid mile-long class names:
-     * O, D, L for Object, Double, Long, for underlying Parallel array
+     * O, D, L, F, I for Object, Double, Long, Float, Int, for
+     * underlying Parallel array
      * U - unfiltered
      * F - filtered
      * R - relation-filtered (aka index-filtered)
-     * OM, DM, LM - Mapped
-     * OC, DC, LC - combiner-mapped (aka index-mapped)
+     * OM, DM, LM, FM, IM - Mapped
+     * OC, DC, LC, FC, IC - combiner-mapped (aka index-mapped)
+     *
+     * The Float and Int classes mirror the Double and Long ones,
+     * except that their mappings are to Object, float, and long, or
+     * to Object, int, and double, respectively, to limit the number
+     * of classes needed. Like ParallelDoubleArray and
+     * ParallelLongArray, they still support dget and lget, so can
+     * serve as the other array in binary mappings.
      */
 
     final ForkJoinPool ex;
@@ -124,18 +132,24 @@ public abstract class AbstractParallelAnyArray {
     }
 
     /**
-     * Access methods for ref, double, long. Checking for
+     * Access methods for ref, double, long, float, int. Checking for
      * null/false return is used as a sort of type test.  These
      * are used to avoid duplication in non-performance-critical
      * aspects of control, as well as to provide a simple default
-     * mechanism for extensions.
+     * mechanism for extensions. The float and int versions are
+     * used only by float and int arrays and their mappings, which
+     * override them; for all others they narrow dget and lget.
      */
     Object[] ogetArray() { return null; }
     double[] dgetArray() { return null; }
     long[]  lgetArray() { return null; }
+    float[] fgetArray() { return null; }
+    int[]   igetArray() { return null; }
     abstract Object oget(int index);
     abstract double dget(int index);
     abstract long lget(int index);
+    float fget(int index) { return (float)dget(index); }
+    int iget(int index) { return (int)lget(index); }
     boolean hasMap() { return false; }
     boolean hasFilter() { return false; }
     boolean isSelected(int index) { return true; }
@@ -157,12 +171,24 @@ public abstract class AbstractParallelAnyArray {
                 procedure.op(dget(i));
     }
 
+    void leafApply(int lo, int hi, FloatProcedure procedure) {
+        for (int i = lo; i < hi; ++i)
+            if (isSelected(i))
+                procedure.op(fget(i));
+    }
+
     void leafApply(int lo, int hi, LongProcedure procedure) {
         for (int i = lo; i < hi; ++i)
             if (isSelected(i))
                 procedure.op(lget(i));
     }
 
+    void leafApply(int lo, int hi, IntProcedure procedure) {
+        for (int i = lo; i < hi; ++i)
+            if (isSelected(i))
+                procedure.op(iget(i));
+    }
+
     Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
         boolean gotFirst = false;
         Object r = base;
@@ -197,6 +223,23 @@ public abstract class AbstractParallelAnyArray {
         return r;
     }
 
+    float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+        boolean gotFirst = false;
+        float r = base;
+        for (int i = lo; i < hi; ++i) {
+            if (isSelected(i)) {
+                float x = fget(i);
+                if (!gotFirst) {
+                    gotFirst = true;
+                    r = x;
+                }
+                else
+                    r = reducer.op(r, x);
+            }
+        }
+        return r;
+    }
+
     long leafReduce(int lo, int hi, LongReducer reducer, long base) {
         boolean gotFirst = false;
         long r = base;
@@ -214,6 +257,23 @@ public abstract class AbstractParallelAnyArray {
         return r;
     }
 
+    int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+        boolean gotFirst = false;
+        int r = base;
+        for (int i = lo; i < hi; ++i) {
+            if (isSelected(i)) {
+                int x = iget(i);
+                if (!gotFirst) {
+                    gotFirst = true;
+                    r = x;
+                }
+                else
+                    r = reducer.op(r, x);
+            }
+        }
+        return r;
+    }
+
     // copy elements, ignoring selector, but applying mapping
     void leafTransfer(int lo, int hi, Object[] dest, int offset) {
         for (int i = lo; i < hi; ++i)
@@ -225,11 +285,21 @@ public abstract class AbstractParallelAnyArray {
             dest[offset++] = dget(i);
     }
 
+    void leafTransfer(int lo, int hi, float[] dest, int offset) {
+        for (int i = lo; i < hi; ++i)
+            dest[offset++] = fget(i);
+    }
+
     void leafTransfer(int lo, int hi, long[] dest, int offset) {
         for (int i = lo; i < hi; ++i)
             dest[offset++] = lget(i);
     }
 
+    void leafTransfer(int lo, int hi, int[] dest, int offset) {
+        for (int i = lo; i < hi; ++i)
+            dest[offset++] = iget(i);
+    }
+
     // copy elements indexed in indices[loIdx..hiIdx], ignoring
     // selector, but applying mapping
     void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
@@ -244,12 +314,24 @@ public abstract class AbstractParallelAnyArray {
             dest[offset++] = dget(indices[i]);
     }
 
+    void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                             float[] dest, int offset) {
+        for (int i = loIdx; i < hiIdx; ++i)
+            dest[offset++] = fget(indices[i]);
+    }
+
     void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
                              long[] dest, int offset) {
         for (int i = loIdx; i < hiIdx; ++i)
             dest[offset++] = lget(indices[i]);
     }
 
+    void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                             int[] dest, int offset) {
+        for (int i = loIdx; i < hiIdx; ++i)
+            dest[offset++] = iget(indices[i]);
+    }
+
     // add indices of selected elements to index array; return #added
     final int leafIndexSelected(int lo, int hi, boolean positive,
                                 int[] indices) {
@@ -297,7 +379,7 @@ public abstract class AbstractParallelAnyArray {
                     dest = new Object[n];
                 else
                     dest = (Object[])Array.newInstance(elementType, n);
-                ex.invoke(new PAS.FJOMap(this, origin, fence,
+                ex.invoke(new PAS.FJOMap(null, this, origin, fence,
                                          null, dest, -origin));
             }
             else {
@@ -321,7 +403,7 @@ public abstract class AbstractParallelAnyArray {
             int n = fence - origin;
             double[] dest = new double[n];
             if (hasMap()) {
-                ex.invoke(new PAS.FJDMap(this, origin, fence,
+                ex.invoke(new PAS.FJDMap(null, this, origin, fence,
                                          null, dest, -origin));
             }
             else {
@@ -332,6 +414,27 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    final float[] allFloats() {
+        if (hasFilter()) {
+            PAS.FJFSelectAllDriver r = new PAS.FJFSelectAllDriver(this);
+            ex.invoke(r);
+            return r.results;
+        }
+        else {
+            int n = fence - origin;
+            float[] dest = new float[n];
+            if (hasMap()) {
+                ex.invoke(new PAS.FJFMap(null, this, origin, fence,
+                                         null, dest, -origin));
+            }
+            else {
+                float[] array = fgetArray();
+                System.arraycopy(array, origin, dest, 0, n);
+            }
+            return dest;
+        }
+    }
+
     final long[] allLongs() {
         if (hasFilter()) {
             PAS.FJLSelectAllDriver r = new PAS.FJLSelectAllDriver(this);
@@ -342,7 +445,7 @@ public abstract class AbstractParallelAnyArray {
             int n = fence - origin;
             long[] dest = new long[n];
             if (hasMap()) {
-                ex.invoke(new PAS.FJLMap(this, origin, fence,
+                ex.invoke(new PAS.FJLMap(null, this, origin, fence,
                                          null, dest, -origin));
             }
             else {
@@ -353,6 +456,27 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    final int[] allInts() {
+        if (hasFilter()) {
+            PAS.FJISelectAllDriver r = new PAS.FJISelectAllDriver(this);
+            ex.invoke(r);
+            return r.results;
+        }
+        else {
+            int n = fence - origin;
+            int[] dest = new int[n];
+            if (hasMap()) {
+                ex.invoke(new PAS.FJIMap(null, this, origin, fence,
+                                         null, dest, -origin));
+            }
+            else {
+                int[] array = igetArray();
+                System.arraycopy(array, origin, dest, 0, n);
+            }
+            return dest;
+        }
+    }
+
     // Bounds check a range
     void boundsCheck(int lo, int hi) {
         if (lo > hi)
@@ -381,26 +505,48 @@ public abstract class AbstractParallelAnyArray {
                             int otherOffset, BinaryOp combiner) {}
 
     void leafTransform(int l, int h, DoubleOp op) {}
+
+    void leafTransform(int l, int h, FloatOp op) {}
     void leafIndexMap(int l, int h, IntToDouble array) {}
+    void leafIndexMap(int l, int h, IntToFloat array) {}
     void leafBinaryIndexMap(int l, int h, IntAndDoubleToDouble op) {}
+    void leafBinaryIndexMap(int l, int h, IntAndFloatToFloat op) {}
     void leafGenerate(int l, int h, DoubleGenerator generator) {}
+    void leafGenerate(int l, int h, FloatGenerator generator) {}
     void leafFill(int l, int h, double value) {}
+    void leafFill(int l, int h, float value) {}
     void leafCombineInPlace(int lo, int hi, double[] other,
                             int otherOffset, BinaryDoubleOp combiner) {}
+    void leafCombineInPlace(int lo, int hi, float[] other,
+                            int otherOffset, BinaryFloatOp combiner) {}
     void leafCombineInPlace(int lo, int hi,
                             ParallelDoubleArrayWithDoubleMapping other,
                             int otherOffset, BinaryDoubleOp combiner) {}
+    void leafCombineInPlace(int lo, int hi,
+                            ParallelFloatArrayWithFloatMapping other,
+                            int otherOffset, BinaryFloatOp combiner) {}
 
     void leafTransform(int l, int h, LongOp op) {}
+
+    void leafTransform(int l, int h, IntOp op) {}
     void leafIndexMap(int l, int h, IntToLong array) {}
+    void leafIndexMap(int l, int h, IntOp array) {}
     void leafBinaryIndexMap(int l, int h, IntAndLongToLong op) {}
+    void leafBinaryIndexMap(int l, int h, IntAndIntToInt op) {}
     void leafGenerate(int l, int h, LongGenerator generator) {}
+    void leafGenerate(int l, int h, IntGenerator generator) {}
     void leafFill(int l, int h, long value) {}
+    void leafFill(int l, int h, int value) {}
     void leafCombineInPlace(int lo, int hi, long[] other,
                             int otherOffset, BinaryLongOp combiner) {}
+    void leafCombineInPlace(int lo, int hi, int[] other,
+                            int otherOffset, BinaryIntOp combiner) {}
     void leafCombineInPlace(int lo, int hi,
                             ParallelLongArrayWithLongMapping other,
                             int otherOffset, BinaryLongOp combiner) {}
+    void leafCombineInPlace(int lo, int hi,
+                            ParallelIntArrayWithIntMapping other,
+                            int otherOffset, BinaryIntOp combiner) {}
 
     // Base of object ref array classes
     static abstract class OPap<T> extends AbstractParallelAnyArray {
@@ -462,6 +608,36 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    // Base of float array classes
+    static abstract class FPap extends AbstractParallelAnyArray {
+        float[] array;
+        FPap(ForkJoinPool ex, int origin, int fence, float[] array) {
+            super(ex, origin, fence);
+            this.array = array;
+        }
+
+        final float[] fgetArray() { return this.array; }
+        Object oget(int i) { return Float.valueOf(fget(i)); }
+        long lget(int i) { return (long)(fget(i)); }
+
+        final void leafMoveByIndex(int[] indices, int loIdx,
+                                   int hiIdx, int offset) {
+            final float[] array = this.array;
+            for (int i = loIdx; i < hiIdx; ++i)
+                array[offset++] = array[indices[i]];
+        }
+
+        final int leafMoveSelected(int lo, int hi, int offset,
+                                   boolean positive) {
+            final float[] array = this.array;
+            for (int i = lo; i < hi; ++i) {
+                if (isSelected(i) == positive)
+                    array[offset++] = array[i];
+            }
+            return offset;
+        }
+    }
+
     // Base of long array classes
     static abstract class LPap extends AbstractParallelAnyArray {
         long[] array;
@@ -492,6 +668,36 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    // Base of int array classes
+    static abstract class IPap extends AbstractParallelAnyArray {
+        int[] array;
+        IPap(ForkJoinPool ex, int origin, int fence, int[] array) {
+            super(ex, origin, fence);
+            this.array = array;
+        }
+
+        final int[] igetArray() { return this.array; }
+        Object oget(int i) { return Integer.valueOf(iget(i)); }
+        double dget(int i) { return (double)(iget(i)); }
+
+        final void leafMoveByIndex(int[] indices, int loIdx,
+                                   int hiIdx, int offset) {
+            final int[] array = this.array;
+            for (int i = loIdx; i < hiIdx; ++i)
+                array[offset++] = array[indices[i]];
+        }
+
+        final int leafMoveSelected(int lo, int hi, int offset,
+                                   boolean positive) {
+            final int[] array = this.array;
+            for (int i = lo; i < hi; ++i) {
+                if (isSelected(i) == positive)
+                    array[offset++] = array[i];
+            }
+            return offset;
+        }
+    }
+
     // Plain (unfiltered, unmapped) classes
     static class OUPap<T> extends ParallelArrayWithBounds<T> {
         OUPap(ForkJoinPool ex, int origin, int fence, T[] array) {
@@ -604,11 +810,16 @@ public abstract class AbstractParallelAnyArray {
         public ParallelArrayWithBounds<T> sort
             (Comparator<? super T> cmp) {
             final Object[] a = this.array;
-            Class tc = array.getClass().getComponentType();
-            T[] ws = (T[])Array.newInstance(tc, fence);
-            ex.invoke(new PAS.FJOSorter
-                      (cmp, array, ws, origin,
-                       fence - origin, getThreshold()));
+            int n = fence - origin;
+            if (n >= PAS.MIN_SAMPLE_SORT_SIZE && ex.getParallelism() > 1)
+                ex.invoke(new PAS.FJOSampleSorter
+                          (cmp, a, origin, n, getThreshold()));
+            else {
+                Class tc = array.getClass().getComponentType();
+                T[] ws = (T[])Array.newInstance(tc, fence);
+                ex.invoke(new PAS.FJOSorter
+                          (cmp, array, ws, origin, n, getThreshold()));
+            }
             return this;
         }
 
@@ -832,9 +1043,18 @@ public abstract class AbstractParallelAnyArray {
         }
 
         public ParallelDoubleArrayWithBounds sort() {
-            ex.invoke(new PAS.FJDCSorter
-                      (this.array, new double[fence],
-                       origin, fence - origin, getThreshold()));
+            int n = fence - origin;
+            if (n >= PAS.MIN_RADIX_SORT_SIZE)
+                ex.invoke(new PAS.FJDRadixSorter
+                          (this.array, origin, n, getThreshold()));
+            else {
+                double[] a = this.array;
+                int hi = PAS.dmoveNaNsToEnd(a, origin, fence);
+                ex.invoke(new PAS.FJDCSorter
+                          (a, new double[fence],
+                           origin, hi - origin, getThreshold()));
+                PAS.dorderZeros(a, origin, hi);
+            }
             return this;
         }
 
@@ -920,69 +1140,68 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
-    static class LUPap extends ParallelLongArrayWithBounds {
-        LUPap(ForkJoinPool ex, int origin, int fence,
-              long[] array) {
+    static class FUPap extends ParallelFloatArrayWithBounds {
+        FUPap(ForkJoinPool ex, int origin, int fence, float[] array) {
             super(ex, origin, fence, array);
         }
 
-        public ParallelLongArrayWithBounds withBounds(int lo, int hi) {
+        public ParallelFloatArrayWithBounds withBounds(int lo, int hi) {
             boundsCheck(lo, hi);
-            return new LUPap(ex, origin + lo, origin + hi, array);
+            return new FUPap(ex, origin + lo, origin + hi, array);
         }
 
-        public ParallelLongArrayWithFilter withFilter(LongPredicate selector) {
-            return new LFPap(ex, origin, fence, array, selector);
+        public ParallelFloatArrayWithFilter withFilter(FloatPredicate selector) {
+            return new FFPap(ex, origin, fence, array, selector);
         }
 
-        public ParallelLongArrayWithFilter withIndexedFilter
-            (IntAndLongPredicate selector) {
-            return new LRPap(ex, origin, fence, array, selector);
+        public ParallelFloatArrayWithFilter withIndexedFilter
+            (IntAndFloatPredicate selector) {
+            return new FRPap(ex, origin, fence, array, selector);
         }
 
-        public <U> ParallelLongArrayWithMapping<U> withMapping
-            (LongToObject<? extends U> op) {
-            return new LUOMPap<U>(ex, origin, fence, array, op);
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FUOMPap<U>(ex, origin, fence, array, op);
         }
 
-        public ParallelLongArrayWithLongMapping withMapping(LongOp op) {
-            return new LULMPap(ex, origin, fence, array, op);
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FUFMPap(ex, origin, fence, array, op);
         }
 
-        public ParallelLongArrayWithDoubleMapping withMapping(LongToDouble op) {
-            return new LUDMPap(ex, origin, fence, array, op);
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FULMPap(ex, origin, fence, array, op);
         }
 
-        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
-            (IntAndLongToObject<? extends V> mapper) {
-            return new LUOCPap<V>(ex, origin, fence, array, mapper);
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array, mapper);
         }
 
-        public ParallelLongArrayWithDoubleMapping withIndexedMapping
-            (IntAndLongToDouble mapper) {
-            return new LUDCPap(ex, origin, fence, array, mapper);
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FUFCPap(ex, origin, fence, array, mapper);
         }
 
-        public ParallelLongArrayWithLongMapping withIndexedMapping
-            (IntAndLongToLong mapper) {
-            return new LULCPap(ex, origin, fence, array,  mapper);
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FULCPap(ex, origin, fence, array, mapper);
         }
 
-        public int indexOf(long target) {
+        public int indexOf(float target) {
             AtomicInteger result = new AtomicInteger(-1);
-            PAS.FJLIndexOf f = new PAS.FJLIndexOf
+            PAS.FJFIndexOf f = new PAS.FJFIndexOf
                 (this, origin, fence, null, result, target);
             ex.invoke(f);
             return result.get();
         }
 
-        public int binarySearch(long target) {
-            final long[] a = this.array;
+        public int binarySearch(float target) {
+            final float[] a = this.array;
             int lo = origin;
             int hi = fence - 1;
             while (lo <= hi) {
                 int mid = (lo + hi) >>> 1;
-                long m = a[mid];
+                float m = a[mid];
                 if (target == m)
                     return mid;
                 else if (target < m)
@@ -993,8 +1212,8 @@ public abstract class AbstractParallelAnyArray {
             return -1;
         }
 
-        public int binarySearch(long target, LongComparator comparator) {
-            final long[] a = this.array;
+        public int binarySearch(float target, FloatComparator comparator) {
+            final float[] a = this.array;
             int lo = origin;
             int hi = fence - 1;
             while (lo <= hi) {
@@ -1010,99 +1229,103 @@ public abstract class AbstractParallelAnyArray {
             return -1;
         }
 
-        public ParallelLongArrayWithBounds cumulate(LongReducer reducer, long base) {
-            PAS.FJLCumulateOp op = new PAS.FJLCumulateOp(this, reducer, base);
-            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+        public ParallelFloatArrayWithBounds cumulate(FloatReducer reducer,
+                                                      float base) {
+            PAS.FJFCumulateOp op = new PAS.FJFCumulateOp(this, reducer, base);
+            PAS.FJFScan r = new PAS.FJFScan(null, op, origin, fence);
             ex.invoke(r);
             return this;
         }
 
-        public ParallelLongArrayWithBounds cumulateSum() {
-            PAS.FJLCumulatePlusOp op = new PAS.FJLCumulatePlusOp(this);
-            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+        public ParallelFloatArrayWithBounds cumulateSum() {
+            PAS.FJFCumulatePlusOp op = new PAS.FJFCumulatePlusOp(this);
+            PAS.FJFScan r = new PAS.FJFScan(null, op, origin, fence);
             ex.invoke(r);
             return this;
         }
 
-        public long precumulate(LongReducer reducer, long base) {
-            PAS.FJLPrecumulateOp op = new PAS.FJLPrecumulateOp
-                (this, reducer, base);
-            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+        public float precumulate(FloatReducer reducer, float base) {
+            PAS.FJFPrecumulateOp op = new PAS.FJFPrecumulateOp(this, reducer, base);
+            PAS.FJFScan r = new PAS.FJFScan(null, op, origin, fence);
             ex.invoke(r);
             return r.out;
         }
 
-        public long precumulateSum() {
-            PAS.FJLPrecumulatePlusOp op = new PAS.FJLPrecumulatePlusOp(this);
-            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+        public float precumulateSum() {
+            PAS.FJFPrecumulatePlusOp op = new PAS.FJFPrecumulatePlusOp(this);
+            PAS.FJFScan r = new PAS.FJFScan(null, op, origin, fence);
             ex.invoke(r);
             return r.out;
         }
 
-        public ParallelLongArrayWithBounds sort(LongComparator cmp) {
-            ex.invoke(new PAS.FJLSorter
-                      (cmp, this.array, new long[fence],
+        public ParallelFloatArrayWithBounds sort(FloatComparator cmp) {
+            ex.invoke(new PAS.FJFSorter
+                      (cmp, this.array, new float[fence],
                        origin, fence - origin, getThreshold()));
             return this;
         }
 
-        public ParallelLongArrayWithBounds sort() {
-            ex.invoke(new PAS.FJLCSorter
-                      (this.array, new long[fence],
-                       origin, fence - origin, getThreshold()));
+        public ParallelFloatArrayWithBounds sort() {
+            float[] a = this.array;
+            int hi = PAS.fmoveNaNsToEnd(a, origin, fence);
+            ex.invoke(new PAS.FJFCSorter
+                      (a, new float[fence],
+                       origin, hi - origin, getThreshold()));
+            PAS.forderZeros(a, origin, hi);
             return this;
         }
 
-        final void leafApply(int lo, int hi, LongProcedure procedure) {
-            final long[] a = this.array;
+        final void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final float[] a = this.array;
             for (int i = lo; i < hi; ++i)
                 procedure.op(a[i]);
         }
 
-        final long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+        final float leafReduce(int lo, int hi, FloatReducer reducer,
+                                float base) {
             if (lo >= hi)
                 return base;
-            final long[] a = this.array;
-            long r = a[lo];
+            final float[] a = this.array;
+            float r = a[lo];
             for (int i = lo+1; i < hi; ++i)
                 r = reducer.op(r, a[i]);
             return r;
         }
 
-        final void leafTransform(int l, int h, LongOp op) {
-            final long[] a = this.array;
+        final void leafTransform(int l, int h, FloatOp op) {
+            final float[] a = this.array;
             for (int i = l; i < h; ++i)
                 a[i] = op.op(a[i]);
         }
 
-        final void leafIndexMap(int l, int h, IntToLong op) {
-            final long[] a = this.array;
+        final void leafIndexMap(int l, int h, IntToFloat op) {
+            final float[] a = this.array;
             for (int i = l; i < h; ++i)
                 a[i] = op.op(i);
         }
 
-        final void leafBinaryIndexMap(int l, int h, IntAndLongToLong op) {
-            final long[] a = this.array;
+        final void leafBinaryIndexMap(int l, int h, IntAndFloatToFloat op) {
+            final float[] a = this.array;
             for (int i = l; i < h; ++i)
                 a[i] = op.op(i, a[i]);
         }
 
-        final void leafGenerate(int l, int h, LongGenerator generator) {
-            final long[] a = this.array;
+        final void leafGenerate(int l, int h, FloatGenerator generator) {
+            final float[] a = this.array;
             for (int i = l; i < h; ++i)
                 a[i] = generator.op();
         }
 
-        final void leafFill(int l, int h, long value) {
-            final long[] a = this.array;
+        final void leafFill(int l, int h, float value) {
+            final float[] a = this.array;
             for (int i = l; i < h; ++i)
                 a[i] = value;
         }
 
         final void leafCombineInPlace
-            (int l, int h, long[] other,
-             int otherOffset, BinaryLongOp combiner) {
-            final long[] a = this.array;
+            (int l, int h, float[] other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
             int k = l + otherOffset;
             for (int i = l; i < h; ++i)
                 a[i] = combiner.op(a[i], other[k++]);
@@ -1110,67 +1333,499 @@ public abstract class AbstractParallelAnyArray {
 
         final void leafCombineInPlace
             (int l, int h,
-             ParallelLongArrayWithLongMapping other,
-             int otherOffset, BinaryLongOp combiner) {
-            final long[] a = this.array;
+             ParallelFloatArrayWithFloatMapping other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
             int k = l + otherOffset;
             if (other.hasFilter()) {
                 for (int i = l; i < h; ++i) {
                     if (other.isSelected(k))
-                        a[i] = combiner.op(a[i], other.lget(k));
+                        a[i] = combiner.op(a[i], other.fget(k));
                     k++;
                 }
             }
             else if (other.hasMap()) {
                 for (int i = l; i < h; ++i)
-                    a[i] = combiner.op(a[i], other.lget(k++));
+                    a[i] = combiner.op(a[i], other.fget(k++));
             }
             else {
-                long[] b = other.array;
+                float[] b = other.array;
                 for (int i = l; i < h; ++i)
                     a[i] = combiner.op(a[i], b[k++]);
             }
+
         }
     }
 
-    // Filtered (but unmapped) classes
-    static final class OFPap<T> extends ParallelArrayWithFilter<T> {
-        final Predicate<? super T> selector;
-        OFPap(ForkJoinPool ex, int origin, int fence,
-              T[] array,
-              Predicate<? super T> selector) {
+    static class LUPap extends ParallelLongArrayWithBounds {
+        LUPap(ForkJoinPool ex, int origin, int fence,
+              long[] array) {
             super(ex, origin, fence, array);
-            this.selector = selector;
         }
 
-        boolean hasFilter() { return true; }
-        boolean isSelected(int i) { return selector.op(this.array[i]); }
+        public ParallelLongArrayWithBounds withBounds(int lo, int hi) {
+            boundsCheck(lo, hi);
+            return new LUPap(ex, origin + lo, origin + hi, array);
+        }
 
-        public ParallelArrayWithFilter<T> withFilter
-            (Predicate<? super T> selector) {
-            return new OFPap<T>(ex, origin, fence, array,
-                                CommonOps.andPredicate(this.selector, selector));
+        public ParallelLongArrayWithFilter withFilter(LongPredicate selector) {
+            return new LFPap(ex, origin, fence, array, selector);
         }
 
-        public ParallelArrayWithFilter<T> withIndexedFilter
-            (IntAndObjectPredicate<? super T> selector) {
-            return new ORPap<T>
-                (ex, origin, fence, array,
-                 compoundIndexedSelector(this.selector, selector));
+        public ParallelLongArrayWithFilter withIndexedFilter
+            (IntAndLongPredicate selector) {
+            return new LRPap(ex, origin, fence, array, selector);
         }
 
-        public <U> ParallelArrayWithMapping<T, U> withMapping
-            (Op<? super T, ? extends U> op) {
-            return new OFOMPap<T,U>(ex, origin, fence, array, selector, op);
+        public <U> ParallelLongArrayWithMapping<U> withMapping
+            (LongToObject<? extends U> op) {
+            return new LUOMPap<U>(ex, origin, fence, array, op);
         }
 
-        public ParallelArrayWithDoubleMapping<T> withMapping
-            (ObjectToDouble<? super T> op) {
-            return new OFDMPap<T>(ex, origin, fence, array, selector, op);
+        public ParallelLongArrayWithLongMapping withMapping(LongOp op) {
+            return new LULMPap(ex, origin, fence, array, op);
         }
 
-        public ParallelArrayWithLongMapping<T> withMapping
-            (ObjectToLong<? super T> op) {
+        public ParallelLongArrayWithDoubleMapping withMapping(LongToDouble op) {
+            return new LUDMPap(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new LUOCPap<V>(ex, origin, fence, array, mapper);
+        }
+
+        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+            (IntAndLongToDouble mapper) {
+            return new LUDCPap(ex, origin, fence, array, mapper);
+        }
+
+        public ParallelLongArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new LULCPap(ex, origin, fence, array,  mapper);
+        }
+
+        public int indexOf(long target) {
+            AtomicInteger result = new AtomicInteger(-1);
+            PAS.FJLIndexOf f = new PAS.FJLIndexOf
+                (this, origin, fence, null, result, target);
+            ex.invoke(f);
+            return result.get();
+        }
+
+        public int binarySearch(long target) {
+            final long[] a = this.array;
+            int lo = origin;
+            int hi = fence - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                long m = a[mid];
+                if (target == m)
+                    return mid;
+                else if (target < m)
+                    hi = mid - 1;
+                else
+                    lo = mid + 1;
+            }
+            return -1;
+        }
+
+        public int binarySearch(long target, LongComparator comparator) {
+            final long[] a = this.array;
+            int lo = origin;
+            int hi = fence - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = comparator.compare(target, a[mid]);
+                if (c == 0)
+                    return mid;
+                else if (c < 0)
+                    hi = mid - 1;
+                else
+                    lo = mid + 1;
+            }
+            return -1;
+        }
+
+        public ParallelLongArrayWithBounds cumulate(LongReducer reducer, long base) {
+            PAS.FJLCumulateOp op = new PAS.FJLCumulateOp(this, reducer, base);
+            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+            ex.invoke(r);
+            return this;
+        }
+
+        public ParallelLongArrayWithBounds cumulateSum() {
+            PAS.FJLCumulatePlusOp op = new PAS.FJLCumulatePlusOp(this);
+            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+            ex.invoke(r);
+            return this;
+        }
+
+        public long precumulate(LongReducer reducer, long base) {
+            PAS.FJLPrecumulateOp op = new PAS.FJLPrecumulateOp
+                (this, reducer, base);
+            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+            ex.invoke(r);
+            return r.out;
+        }
+
+        public long precumulateSum() {
+            PAS.FJLPrecumulatePlusOp op = new PAS.FJLPrecumulatePlusOp(this);
+            PAS.FJLScan r = new PAS.FJLScan(null, op, origin, fence);
+            ex.invoke(r);
+            return r.out;
+        }
+
+        public ParallelLongArrayWithBounds sort(LongComparator cmp) {
+            ex.invoke(new PAS.FJLSorter
+                      (cmp, this.array, new long[fence],
+                       origin, fence - origin, getThreshold()));
+            return this;
+        }
+
+        public ParallelLongArrayWithBounds sort() {
+            int n = fence - origin;
+            if (n >= PAS.MIN_RADIX_SORT_SIZE)
+                ex.invoke(new PAS.FJLRadixSorter
+                          (this.array, origin, n, getThreshold()));
+            else
+                ex.invoke(new PAS.FJLCSorter
+                          (this.array, new long[fence],
+                           origin, n, getThreshold()));
+            return this;
+        }
+
+        final void leafApply(int lo, int hi, LongProcedure procedure) {
+            final long[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(a[i]);
+        }
+
+        final long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            if (lo >= hi)
+                return base;
+            final long[] a = this.array;
+            long r = a[lo];
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, a[i]);
+            return r;
+        }
+
+        final void leafTransform(int l, int h, LongOp op) {
+            final long[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(a[i]);
+        }
+
+        final void leafIndexMap(int l, int h, IntToLong op) {
+            final long[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(i);
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndLongToLong op) {
+            final long[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(i, a[i]);
+        }
+
+        final void leafGenerate(int l, int h, LongGenerator generator) {
+            final long[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = generator.op();
+        }
+
+        final void leafFill(int l, int h, long value) {
+            final long[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = value;
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, long[] other,
+             int otherOffset, BinaryLongOp combiner) {
+            final long[] a = this.array;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i)
+                a[i] = combiner.op(a[i], other[k++]);
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelLongArrayWithLongMapping other,
+             int otherOffset, BinaryLongOp combiner) {
+            final long[] a = this.array;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    if (other.isSelected(k))
+                        a[i] = combiner.op(a[i], other.lget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i)
+                    a[i] = combiner.op(a[i], other.lget(k++));
+            }
+            else {
+                long[] b = other.array;
+                for (int i = l; i < h; ++i)
+                    a[i] = combiner.op(a[i], b[k++]);
+            }
+        }
+    }
+
+    static class IUPap extends ParallelIntArrayWithBounds {
+        IUPap(ForkJoinPool ex, int origin, int fence,
+              int[] array) {
+            super(ex, origin, fence, array);
+        }
+
+        public ParallelIntArrayWithBounds withBounds(int lo, int hi) {
+            boundsCheck(lo, hi);
+            return new IUPap(ex, origin + lo, origin + hi, array);
+        }
+
+        public ParallelIntArrayWithFilter withFilter(IntPredicate selector) {
+            return new IFPap(ex, origin, fence, array, selector);
+        }
+
+        public ParallelIntArrayWithFilter withIndexedFilter
+            (IntAndIntPredicate selector) {
+            return new IRPap(ex, origin, fence, array, selector);
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IUOMPap<U>(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IUIMPap(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IUDMPap(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IUOCPap<V>(ex, origin, fence, array, mapper);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IUDCPap(ex, origin, fence, array, mapper);
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IUICPap(ex, origin, fence, array,  mapper);
+        }
+
+        public int indexOf(int target) {
+            AtomicInteger result = new AtomicInteger(-1);
+            PAS.FJIIndexOf f = new PAS.FJIIndexOf
+                (this, origin, fence, null, result, target);
+            ex.invoke(f);
+            return result.get();
+        }
+
+        public int binarySearch(int target) {
+            final int[] a = this.array;
+            int lo = origin;
+            int hi = fence - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int m = a[mid];
+                if (target == m)
+                    return mid;
+                else if (target < m)
+                    hi = mid - 1;
+                else
+                    lo = mid + 1;
+            }
+            return -1;
+        }
+
+        public int binarySearch(int target, IntComparator comparator) {
+            final int[] a = this.array;
+            int lo = origin;
+            int hi = fence - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = comparator.compare(target, a[mid]);
+                if (c == 0)
+                    return mid;
+                else if (c < 0)
+                    hi = mid - 1;
+                else
+                    lo = mid + 1;
+            }
+            return -1;
+        }
+
+        public ParallelIntArrayWithBounds cumulate(IntReducer reducer, int base) {
+            PAS.FJICumulateOp op = new PAS.FJICumulateOp(this, reducer, base);
+            PAS.FJIScan r = new PAS.FJIScan(null, op, origin, fence);
+            ex.invoke(r);
+            return this;
+        }
+
+        public ParallelIntArrayWithBounds cumulateSum() {
+            PAS.FJICumulatePlusOp op = new PAS.FJICumulatePlusOp(this);
+            PAS.FJIScan r = new PAS.FJIScan(null, op, origin, fence);
+            ex.invoke(r);
+            return this;
+        }
+
+        public int precumulate(IntReducer reducer, int base) {
+            PAS.FJIPrecumulateOp op = new PAS.FJIPrecumulateOp
+                (this, reducer, base);
+            PAS.FJIScan r = new PAS.FJIScan(null, op, origin, fence);
+            ex.invoke(r);
+            return r.out;
+        }
+
+        public int precumulateSum() {
+            PAS.FJIPrecumulatePlusOp op = new PAS.FJIPrecumulatePlusOp(this);
+            PAS.FJIScan r = new PAS.FJIScan(null, op, origin, fence);
+            ex.invoke(r);
+            return r.out;
+        }
+
+        public ParallelIntArrayWithBounds sort(IntComparator cmp) {
+            ex.invoke(new PAS.FJISorter
+                      (cmp, this.array, new int[fence],
+                       origin, fence - origin, getThreshold()));
+            return this;
+        }
+
+        public ParallelIntArrayWithBounds sort() {
+            ex.invoke(new PAS.FJICSorter
+                      (this.array, new int[fence],
+                       origin, fence - origin, getThreshold()));
+            return this;
+        }
+
+        final void leafApply(int lo, int hi, IntProcedure procedure) {
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(a[i]);
+        }
+
+        final int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            if (lo >= hi)
+                return base;
+            final int[] a = this.array;
+            int r = a[lo];
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, a[i]);
+            return r;
+        }
+
+        final void leafTransform(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(a[i]);
+        }
+
+        final void leafIndexMap(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(i);
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndIntToInt op) {
+            final int[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = op.op(i, a[i]);
+        }
+
+        final void leafGenerate(int l, int h, IntGenerator generator) {
+            final int[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = generator.op();
+        }
+
+        final void leafFill(int l, int h, int value) {
+            final int[] a = this.array;
+            for (int i = l; i < h; ++i)
+                a[i] = value;
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, int[] other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i)
+                a[i] = combiner.op(a[i], other[k++]);
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelIntArrayWithIntMapping other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    if (other.isSelected(k))
+                        a[i] = combiner.op(a[i], other.iget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i)
+                    a[i] = combiner.op(a[i], other.iget(k++));
+            }
+            else {
+                int[] b = other.array;
+                for (int i = l; i < h; ++i)
+                    a[i] = combiner.op(a[i], b[k++]);
+            }
+        }
+    }
+
+    // Filtered (but unmapped) classes
+    static final class OFPap<T> extends ParallelArrayWithFilter<T> {
+        final Predicate<? super T> selector;
+        OFPap(ForkJoinPool ex, int origin, int fence,
+              T[] array,
+              Predicate<? super T> selector) {
+            super(ex, origin, fence, array);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelArrayWithFilter<T> withFilter
+            (Predicate<? super T> selector) {
+            return new OFPap<T>(ex, origin, fence, array,
+                                CommonOps.andPredicate(this.selector, selector));
+        }
+
+        public ParallelArrayWithFilter<T> withIndexedFilter
+            (IntAndObjectPredicate<? super T> selector) {
+            return new ORPap<T>
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public <U> ParallelArrayWithMapping<T, U> withMapping
+            (Op<? super T, ? extends U> op) {
+            return new OFOMPap<T,U>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelArrayWithDoubleMapping<T> withMapping
+            (ObjectToDouble<? super T> op) {
+            return new OFDMPap<T>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelArrayWithLongMapping<T> withMapping
+            (ObjectToLong<? super T> op) {
             return new OFLMPap<T>(ex, origin, fence, array, selector, op);
         }
 
@@ -1383,7 +2038,185 @@ public abstract class AbstractParallelAnyArray {
             double r = base;
             final double[] a = this.array;
             for (int i = lo; i < hi; ++i) {
-                double x = a[i];
+                double x = a[i];
+                if (s.op(x)) {
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = x;
+                    }
+                    else
+                        r = reducer.op(r, x);
+                }
+            }
+            return r;
+        }
+
+        final void leafTransform(int l, int h, DoubleOp op) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                double x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(x);
+            }
+        }
+
+        final void leafIndexMap(int l, int h, IntToDouble op) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                double x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(i);
+            }
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndDoubleToDouble op) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                double x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(i, x);
+            }
+        }
+
+        final void leafGenerate(int l, int h, DoubleGenerator generator) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(a[i]))
+                    a[i] = generator.op();
+            }
+        }
+
+        final void leafFill(int l, int h, double value) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(a[i]))
+                    a[i] = value;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, double[] other,
+             int otherOffset, BinaryDoubleOp combiner) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i) {
+                double x = a[i];
+                if (s.op(x))
+                    a[i] = combiner.op(x, other[k]);
+                k++;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelDoubleArrayWithDoubleMapping other,
+             int otherOffset, BinaryDoubleOp combiner) {
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    double x = a[i];
+                    if (s.op(x) && other.isSelected(k))
+                        a[i] = combiner.op(x, other.dget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i) {
+                    double x = a[i];
+                    if (s.op(x))
+                        a[i] = combiner.op(x, other.dget(k));
+                    k++;
+                }
+            }
+            else {
+                double[] b = other.array;
+                for (int i = l; i < h; ++i) {
+                    double x = a[i];
+                    if (s.op(x))
+                        a[i] = combiner.op(x, b[k]);
+                    k++;
+                }
+            }
+        }
+    }
+
+    static final class FFPap extends ParallelFloatArrayWithFilter {
+        final FloatPredicate selector;
+        FFPap(ForkJoinPool ex, int origin, int fence,
+              float[] array,
+              FloatPredicate selector) {
+            super(ex, origin, fence, array);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelFloatArrayWithFilter withFilter(FloatPredicate selector) {
+            return new FFPap(ex, origin, fence, array,
+                             CommonOps.andPredicate(this.selector, selector));
+        }
+
+        public ParallelFloatArrayWithFilter withIndexedFilter
+            (IntAndFloatPredicate selector) {
+            return new FRPap
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FFOMPap<U>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FFFMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FFLMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        final void leafApply(int lo, int hi, FloatProcedure  procedure) {
+            final FloatPredicate s = selector;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(x);
+            }
+        }
+
+        final float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final FloatPredicate s = selector;
+            boolean gotFirst = false;
+            float r = base;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
                 if (s.op(x)) {
                     if (!gotFirst) {
                         gotFirst = true;
@@ -1396,48 +2229,48 @@ public abstract class AbstractParallelAnyArray {
             return r;
         }
 
-        final void leafTransform(int l, int h, DoubleOp op) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+        final void leafTransform(int l, int h, FloatOp op) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             for (int i = l; i < h; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(x))
                     a[i] = op.op(x);
             }
         }
 
-        final void leafIndexMap(int l, int h, IntToDouble op) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+        final void leafIndexMap(int l, int h, IntToFloat op) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             for (int i = l; i < h; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(x))
                     a[i] = op.op(i);
             }
         }
 
-        final void leafBinaryIndexMap(int l, int h, IntAndDoubleToDouble op) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+        final void leafBinaryIndexMap(int l, int h, IntAndFloatToFloat op) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             for (int i = l; i < h; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(x))
                     a[i] = op.op(i, x);
             }
         }
 
-        final void leafGenerate(int l, int h, DoubleGenerator generator) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+        final void leafGenerate(int l, int h, FloatGenerator generator) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             for (int i = l; i < h; ++i) {
                 if (s.op(a[i]))
                     a[i] = generator.op();
             }
         }
 
-        final void leafFill(int l, int h, double value) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+        final void leafFill(int l, int h, float value) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             for (int i = l; i < h; ++i) {
                 if (s.op(a[i]))
                     a[i] = value;
@@ -1445,13 +2278,13 @@ public abstract class AbstractParallelAnyArray {
         }
 
         final void leafCombineInPlace
-            (int l, int h, double[] other,
-             int otherOffset, BinaryDoubleOp combiner) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+            (int l, int h, float[] other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             int k = l + otherOffset;
             for (int i = l; i < h; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(x))
                     a[i] = combiner.op(x, other[k]);
                 k++;
@@ -1460,31 +2293,31 @@ public abstract class AbstractParallelAnyArray {
 
         final void leafCombineInPlace
             (int l, int h,
-             ParallelDoubleArrayWithDoubleMapping other,
-             int otherOffset, BinaryDoubleOp combiner) {
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
+             ParallelFloatArrayWithFloatMapping other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
             int k = l + otherOffset;
             if (other.hasFilter()) {
                 for (int i = l; i < h; ++i) {
-                    double x = a[i];
+                    float x = a[i];
                     if (s.op(x) && other.isSelected(k))
-                        a[i] = combiner.op(x, other.dget(k));
+                        a[i] = combiner.op(x, other.fget(k));
                     k++;
                 }
             }
             else if (other.hasMap()) {
                 for (int i = l; i < h; ++i) {
-                    double x = a[i];
+                    float x = a[i];
                     if (s.op(x))
-                        a[i] = combiner.op(x, other.dget(k));
+                        a[i] = combiner.op(x, other.fget(k));
                     k++;
                 }
             }
             else {
-                double[] b = other.array;
+                float[] b = other.array;
                 for (int i = l; i < h; ++i) {
-                    double x = a[i];
+                    float x = a[i];
                     if (s.op(x))
                         a[i] = combiner.op(x, b[k]);
                     k++;
@@ -1673,6 +2506,186 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IFPap extends ParallelIntArrayWithFilter {
+        final IntPredicate selector;
+        IFPap(ForkJoinPool ex, int origin, int fence,
+              int[] array,
+              IntPredicate selector) {
+            super(ex, origin, fence, array);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelIntArrayWithFilter withFilter(IntPredicate selector) {
+            return new IFPap(ex, origin, fence, array,
+                             CommonOps.andPredicate(this.selector, selector));
+        }
+
+        public ParallelIntArrayWithFilter withIndexedFilter
+            (IntAndIntPredicate selector) {
+            return new IRPap
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IFOMPap<U>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (IntOp op) {
+            return new IFIMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (IntToDouble op) {
+            return new IFDMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IFICPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        final void leafApply(int lo, int hi, IntProcedure  procedure) {
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(x);
+            }
+        }
+
+        final int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntPredicate s = selector;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x)) {
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = x;
+                    }
+                    else
+                        r = reducer.op(r, x);
+                }
+            }
+            return r;
+        }
+
+        final void leafTransform(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(x);
+            }
+        }
+
+        final void leafIndexMap(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(i);
+            }
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndIntToInt op) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    a[i] = op.op(i, x);
+            }
+        }
+
+        final void leafGenerate(int l, int h, IntGenerator generator) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(a[i]))
+                    a[i] = generator.op();
+            }
+        }
+
+        final void leafFill(int l, int h, int value) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(a[i]))
+                    a[i] = value;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, int[] other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    a[i] = combiner.op(x, other[k]);
+                k++;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelIntArrayWithIntMapping other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            final IntPredicate s = selector;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(x) && other.isSelected(k))
+                        a[i] = combiner.op(x, other.iget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(x))
+                        a[i] = combiner.op(x, other.iget(k));
+                    k++;
+                }
+            }
+            else {
+                int[] b = other.array;
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(x))
+                        a[i] = combiner.op(x, b[k]);
+                    k++;
+                }
+            }
+        }
+    }
+
     // Relationally Filtered (but unmapped) classes
     static final class ORPap<T> extends ParallelArrayWithFilter<T> {
         final IntAndObjectPredicate<? super T> selector;
@@ -2027,7 +3040,187 @@ public abstract class AbstractParallelAnyArray {
             else {
                 double[] b = other.array;
                 for (int i = l; i < h; ++i) {
-                    double x = a[i];
+                    double x = a[i];
+                    if (s.op(i, x))
+                        a[i] = combiner.op(x, b[k]);
+                    k++;
+                }
+            }
+        }
+    }
+
+    static final class FRPap extends ParallelFloatArrayWithFilter {
+        final IntAndFloatPredicate selector;
+        FRPap(ForkJoinPool ex, int origin, int fence,
+              float[] array,
+              IntAndFloatPredicate selector) {
+            super(ex, origin, fence, array);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelFloatArrayWithFilter withFilter
+            (FloatPredicate selector) {
+            return new FRPap
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public ParallelFloatArrayWithFilter withIndexedFilter
+            (IntAndFloatPredicate selector) {
+            return new FRPap
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FROMPap<U>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FRFMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FRLMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        final void leafApply(int lo, int hi, FloatProcedure  procedure) {
+            final IntAndFloatPredicate s = selector;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(x);
+            }
+        }
+
+        final float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final IntAndFloatPredicate s = selector;
+            boolean gotFirst = false;
+            float r = base;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x)) {
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = x;
+                    }
+                    else
+                        r = reducer.op(r, x);
+                }
+            }
+            return r;
+        }
+
+        final void leafTransform(int l, int h, FloatOp op) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(x);
+            }
+        }
+
+        final void leafIndexMap(int l, int h, IntToFloat op) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(i);
+            }
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndFloatToFloat op) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(i, x);
+            }
+        }
+
+        final void leafGenerate(int l, int h, FloatGenerator generator) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(i, a[i]))
+                    a[i] = generator.op();
+            }
+        }
+
+        final void leafFill(int l, int h, float value) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(i, a[i]))
+                    a[i] = value;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, float[] other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    a[i] = combiner.op(x, other[k]);
+                k++;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelFloatArrayWithFloatMapping other,
+             int otherOffset, BinaryFloatOp combiner) {
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    float x = a[i];
+                    if (s.op(i, x) && other.isSelected(k))
+                        a[i] = combiner.op(x, other.fget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i) {
+                    float x = a[i];
+                    if (s.op(i, x))
+                        a[i] = combiner.op(x, other.fget(k));
+                    k++;
+                }
+            }
+            else {
+                float[] b = other.array;
+                for (int i = l; i < h; ++i) {
+                    float x = a[i];
                     if (s.op(i, x))
                         a[i] = combiner.op(x, b[k]);
                     k++;
@@ -2216,6 +3409,186 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IRPap extends ParallelIntArrayWithFilter {
+        final IntAndIntPredicate selector;
+        IRPap(ForkJoinPool ex, int origin, int fence,
+              int[] array,
+              IntAndIntPredicate selector) {
+            super(ex, origin, fence, array);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelIntArrayWithFilter withFilter(IntPredicate selector) {
+            return new IRPap(ex, origin, fence, array,
+                             compoundIndexedSelector(this.selector, selector));
+        }
+
+        public ParallelIntArrayWithFilter withIndexedFilter
+            (IntAndIntPredicate selector) {
+            return new IRPap
+                (ex, origin, fence, array,
+                 compoundIndexedSelector(this.selector, selector));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IROMPap<U>(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (IntOp op) {
+            return new IRIMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (IntToDouble op) {
+            return new IRDMPap(ex, origin, fence, array, selector, op);
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IRICPap(ex, origin, fence, array, selector, mapper);
+        }
+
+        final void leafApply(int lo, int hi, IntProcedure  procedure) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(x);
+            }
+        }
+
+        final int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntAndIntPredicate s = selector;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x)) {
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = x;
+                    }
+                    else
+                        r = reducer.op(r, x);
+                }
+            }
+            return r;
+        }
+
+        final void leafTransform(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(x);
+            }
+        }
+
+        final void leafIndexMap(int l, int h, IntOp op) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(i);
+            }
+        }
+
+        final void leafBinaryIndexMap(int l, int h, IntAndIntToInt op) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    a[i] = op.op(i, x);
+            }
+        }
+
+        final void leafGenerate(int l, int h, IntGenerator generator) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(i, a[i]))
+                    a[i] = generator.op();
+            }
+        }
+
+        final void leafFill(int l, int h, int value) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            for (int i = l; i < h; ++i) {
+                if (s.op(i, a[i]))
+                    a[i] = value;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h, int[] other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            int k = l + otherOffset;
+            for (int i = l; i < h; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    a[i] = combiner.op(x, other[k]);
+                k++;
+            }
+        }
+
+        final void leafCombineInPlace
+            (int l, int h,
+             ParallelIntArrayWithIntMapping other,
+             int otherOffset, BinaryIntOp combiner) {
+            final int[] a = this.array;
+            final IntAndIntPredicate s = selector;
+            int k = l + otherOffset;
+            if (other.hasFilter()) {
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(i, x) && other.isSelected(k))
+                        a[i] = combiner.op(x, other.iget(k));
+                    k++;
+                }
+            }
+            else if (other.hasMap()) {
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(i, x))
+                        a[i] = combiner.op(x, other.iget(k));
+                    k++;
+                }
+            }
+            else {
+                int[] b = other.array;
+                for (int i = l; i < h; ++i) {
+                    int x = a[i];
+                    if (s.op(i, x))
+                        a[i] = combiner.op(x, b[k]);
+                    k++;
+                }
+            }
+        }
+    }
+
     // Object-mapped
 
     static abstract class OOMPap<T,U> extends ParallelArrayWithMapping<T,U> {
@@ -2277,6 +3650,36 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class FOMPap<U> extends ParallelFloatArrayWithMapping<U> {
+        final FloatToObject<? extends U> op;
+        FOMPap(ForkJoinPool ex, int origin, int fence,
+               float[] array, FloatToObject<? extends U> op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final Object oget(int i) { return op.op(this.array[i]); }
+        final float fget(int i) { return ((Number)oget(i)).floatValue(); }
+        final double dget(int i) { return ((Number)oget(i)).doubleValue(); }
+        final long lget(int i) { return ((Number)oget(i)).longValue(); }
+
+        final void leafTransfer(int lo, int hi, Object[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatToObject f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       Object[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatToObject f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+    }
+
     static abstract class LOMPap<U> extends ParallelLongArrayWithMapping<U> {
         final LongToObject<? extends U> op;
         LOMPap(ForkJoinPool ex, int origin, int fence,
@@ -2306,6 +3709,36 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class IOMPap<U> extends ParallelIntArrayWithMapping<U> {
+        final IntToObject<? extends U> op;
+        IOMPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntToObject<? extends U> op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final Object oget(int i) { return op.op(this.array[i]); }
+        final double dget(int i) { return ((Number)oget(i)).doubleValue(); }
+        final int iget(int i) { return ((Number)oget(i)).intValue(); }
+        final long lget(int i) { return ((Number)oget(i)).longValue(); }
+
+        final void leafTransfer(int lo, int hi, Object[] dest, int offset) {
+            final int[] a = this.array;
+            final IntToObject f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       Object[] dest, int offset) {
+            final int[] a = this.array;
+            final IntToObject f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+    }
+
     // Object mapped, unfiltered
 
     static final class OUOMPap<T,U> extends OOMPap<T,U> {
@@ -2432,51 +3865,175 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
-    static final class LUOMPap<U> extends LOMPap<U> {
-        LUOMPap(ForkJoinPool ex, int origin, int fence,
-                long[] array, LongToObject<? extends U> op) {
+    static final class FUOMPap<U> extends FOMPap<U> {
+        FUOMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FUOMPap<V>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op){
+            return new FUFMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FULMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final float[] a = this.array;
+            final FloatToObject f = op;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            if (lo >= hi)
+                return base;
+            final float[] a = this.array;
+            final FloatToObject f = op;
+            Object r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+
+    }
+
+    static final class LUOMPap<U> extends LOMPap<U> {
+        LUOMPap(ForkJoinPool ex, int origin, int fence,
+                long[] array, LongToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelLongArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new LUOMPap<V>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelLongArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new LULMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelLongArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new LUDMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new LUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new LUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new LULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final long[] a = this.array;
+            final LongToObject f = op;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            if (lo >= hi)
+                return base;
+            final long[] a = this.array;
+            final LongToObject f = op;
+            Object r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+
+    }
+
+    static final class IUOMPap<U> extends IOMPap<U> {
+        IUOMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntToObject<? extends U> op) {
             super(ex, origin, fence, array, op);
         }
 
-        public <V> ParallelLongArrayWithMapping<V> withMapping
+        public <V> ParallelIntArrayWithMapping<V> withMapping
             (Op<? super U, ? extends V> op) {
-            return new LUOMPap<V>(ex, origin, fence, array,
+            return new IUOMPap<V>(ex, origin, fence, array,
                                   CommonOps.compoundOp(this.op, op));
         }
 
-        public ParallelLongArrayWithLongMapping withMapping
-            (ObjectToLong<? super U> op) {
-            return new LULMPap(ex, origin, fence, array,
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IUIMPap(ex, origin, fence, array,
                                CommonOps.compoundOp(this.op, op));
         }
 
-        public ParallelLongArrayWithDoubleMapping withMapping
+        public ParallelIntArrayWithDoubleMapping withMapping
             (ObjectToDouble<? super U> op) {
-            return new LUDMPap(ex, origin, fence, array,
+            return new IUDMPap(ex, origin, fence, array,
                                CommonOps.compoundOp(this.op, op));
         }
 
-        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
             (IntAndObjectToObject<? super U, ? extends V> mapper) {
-            return new LUOCPap<V>(ex, origin, fence, array,
+            return new IUOCPap<V>(ex, origin, fence, array,
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
             (IntAndObjectToDouble<? super U> mapper) {
-            return new LUDCPap(ex, origin, fence, array,
+            return new IUDCPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithLongMapping withIndexedMapping
-            (IntAndObjectToLong<? super U> mapper) {
-            return new LULCPap(ex, origin, fence, array,
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IUICPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
         void leafApply(int lo, int hi, Procedure  procedure) {
-            final long[] a = this.array;
-            final LongToObject f = op;
+            final int[] a = this.array;
+            final IntToObject f = op;
             for (int i = lo; i < hi; ++i)
                 procedure.op(f.op(a[i]));
         }
@@ -2484,8 +4041,8 @@ public abstract class AbstractParallelAnyArray {
         Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
             if (lo >= hi)
                 return base;
-            final long[] a = this.array;
-            final LongToObject f = op;
+            final int[] a = this.array;
+            final IntToObject f = op;
             Object r = f.op(a[lo]);
             for (int i = lo+1; i < hi; ++i)
                 r = reducer.op(r, f.op(a[i]));
@@ -2667,6 +4224,95 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class FFOMPap<U> extends FOMPap<U> {
+        final FloatPredicate selector;
+        FFOMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector,
+                FloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelArray<U> all(Class<? super U> elementType) {
+            PAS.FJOSelectAllDriver r = new PAS.FJOSelectAllDriver
+                (this, elementType);
+            ex.invoke(r);
+            return new ParallelArray<U>(ex, (U[])(r.results));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FFOMPap<V>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op) {
+            return new FFFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FFLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final FloatPredicate s = selector;
+            final FloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            boolean gotFirst = false;
+            Object r = base;
+            final FloatPredicate s = selector;
+            final FloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x)) {
+                    Object y = f.op(x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+
+    }
+
     static final class LFOMPap<U> extends LOMPap<U> {
         final LongPredicate selector;
         LFOMPap(ForkJoinPool ex, int origin, int fence,
@@ -2749,6 +4395,88 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class IFOMPap<U> extends IOMPap<U> {
+        final IntPredicate selector;
+        IFOMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector,
+                IntToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public <V> ParallelIntArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new IFOMPap<V>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IFIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new IFDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntPredicate s = selector;
+            final IntToObject f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final IntPredicate s = selector;
+            final IntToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x)) {
+                    Object y = f.op(x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+
+    }
+
     // Object-mapped, relational
     static final class OROMPap<T,U> extends OOMPap<T,U> {
         final IntAndObjectPredicate<? super T> selector;
@@ -2920,6 +4648,95 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class FROMPap<U> extends FOMPap<U> {
+        final IntAndFloatPredicate selector;
+        FROMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatPredicate selector,
+                FloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelArray<U> all(Class<? super U> elementType) {
+            PAS.FJOSelectAllDriver r = new PAS.FJOSelectAllDriver
+                (this, elementType);
+            ex.invoke(r);
+            return new ParallelArray<U>(ex, (U[])(r.results));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FROMPap<V>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op) {
+            return new FRFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FRLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndFloatPredicate s = selector;
+            final FloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            boolean gotFirst = false;
+            Object r = base;
+            final IntAndFloatPredicate s = selector;
+            final FloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x)) {
+                    Object y = f.op(x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+
+    }
+
     static final class LROMPap<U> extends LOMPap<U> {
         final IntAndLongPredicate selector;
         LROMPap(ForkJoinPool ex, int origin, int fence,
@@ -2984,9 +4801,90 @@ public abstract class AbstractParallelAnyArray {
             final LongToObject f = op;
             boolean gotFirst = false;
             Object r = base;
-            final long[] a = this.array;
+            final long[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                long x = a[i];
+                if (s.op(i, x)) {
+                    Object y = f.op(x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
+    static final class IROMPap<U> extends IOMPap<U> {
+        final IntAndIntPredicate selector;
+        IROMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector,
+                IntToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public <V> ParallelIntArrayWithMapping<V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new IROMPap<V>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IRIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new IRDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndIntPredicate s = selector;
+            final IntToObject f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final IntAndIntPredicate s = selector;
+            final IntToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            final int[] a = this.array;
             for (int i = lo; i < hi; ++i) {
-                long x = a[i];
+                int x = a[i];
                 if (s.op(i, x)) {
                     Object y = f.op(x);
                     if (!gotFirst) {
@@ -3066,6 +4964,38 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class FOCPap<U> extends ParallelFloatArrayWithMapping<U> {
+        final IntAndFloatToObject<? extends U> op;
+        FOCPap(ForkJoinPool ex, int origin, int fence,
+               float[] array, IntAndFloatToObject<? extends U> op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final Object oget(int i) { return op.op(i, this.array[i]); }
+        final float fget(int i) { return ((Number)oget(i)).floatValue(); }
+        final double dget(int i) { return ((Number)oget(i)).doubleValue(); }
+        final long lget(int i) { return ((Number)oget(i)).longValue(); }
+
+        final void leafTransfer(int lo, int hi, Object[] dest, int offset) {
+            final IntAndFloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       Object[] dest, int offset) {
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
     static abstract class LOCPap<U> extends ParallelLongArrayWithMapping<U> {
         final IntAndLongToObject<? extends U> op;
         LOCPap(ForkJoinPool ex, int origin, int fence,
@@ -3097,6 +5027,38 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class IOCPap<U> extends ParallelIntArrayWithMapping<U> {
+        final IntAndIntToObject<? extends U> op;
+        IOCPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntAndIntToObject<? extends U> op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final Object oget(int i) { return op.op(i, this.array[i]); }
+        final double dget(int i) { return ((Number)oget(i)).doubleValue(); }
+        final int iget(int i) { return ((Number)oget(i)).intValue(); }
+        final long lget(int i) { return ((Number)oget(i)).longValue(); }
+
+        final void leafTransfer(int lo, int hi, Object[] dest, int offset) {
+            final IntAndIntToObject f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       Object[] dest, int offset) {
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
     // Object-combined, unfiltered
 
     static final class OUOCPap<T,U> extends OOCPap<T,U> {
@@ -3223,6 +5185,68 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class FUOCPap<U> extends FOCPap<U> {
+        FUOCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelFloatArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndFloatToObject f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            if (lo >= hi)
+                return base;
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            Object r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+
+    }
+
     static final class LUOCPap<U> extends LOCPap<U> {
         LUOCPap(ForkJoinPool ex, int origin, int fence,
                 long[] array, IntAndLongToObject<? extends U> op) {
@@ -3285,6 +5309,68 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class IUOCPap<U> extends IOCPap<U> {
+        IUOCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public <V> ParallelIntArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new IUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new IUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndIntToObject f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            if (lo >= hi)
+                return base;
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
+            Object r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+
+    }
+
     // object-combined filtered
 
     static final class OFOCPap<T,U>   extends OOCPap<T,U> {
@@ -3449,6 +5535,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FFOCPap<U> extends FOCPap<U> {
+        final FloatPredicate selector;
+        FFOCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector,
+                IntAndFloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public <V> ParallelFloatArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final FloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final FloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x)) {
+                    Object y = f.op(i, x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LFOCPap<U> extends LOCPap<U> {
         final LongPredicate selector;
         LFOCPap(ForkJoinPool ex, int origin, int fence,
@@ -3461,60 +5627,140 @@ public abstract class AbstractParallelAnyArray {
         boolean hasFilter() { return true; }
         boolean isSelected(int i) { return selector.op(this.array[i]); }
 
-        public <V> ParallelLongArrayWithMapping< V> withMapping
+        public <V> ParallelLongArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new LFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelLongArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new LFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelLongArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new LFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new LFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new LFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new LFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final LongPredicate s = selector;
+            final long[] a = this.array;
+            final IntAndLongToObject f = op;
+            for (int i = lo; i < hi; ++i) {
+                long x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final LongPredicate s = selector;
+            final long[] a = this.array;
+            final IntAndLongToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            for (int i = lo; i < hi; ++i) {
+                long x = a[i];
+                if (s.op(x)) {
+                    Object y = f.op(i, x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
+    static final class IFOCPap<U> extends IOCPap<U> {
+        final IntPredicate selector;
+        IFOCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector,
+                IntAndIntToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public <V> ParallelIntArrayWithMapping< V> withMapping
             (Op<? super U, ? extends V> op) {
-            return new LFOCPap<V>(ex, origin, fence, array, selector,
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
                                   compoundIndexedOp(this.op, op));
         }
 
-        public ParallelLongArrayWithDoubleMapping withMapping
+        public ParallelIntArrayWithDoubleMapping withMapping
             (ObjectToDouble<? super U> op) {
-            return new LFDCPap(ex, origin, fence, array, selector,
+            return new IFDCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, op));
         }
 
-        public ParallelLongArrayWithLongMapping withMapping
-            (ObjectToLong<? super U> op) {
-            return new LFLCPap(ex, origin, fence, array, selector,
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IFICPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, op));
         }
 
-        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
             (IntAndObjectToObject<? super U, ? extends V> mapper) {
-            return new LFOCPap<V>(ex, origin, fence, array, selector,
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
             (IntAndObjectToDouble<? super U> mapper) {
-            return new LFDCPap(ex, origin, fence, array, selector,
+            return new IFDCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithLongMapping withIndexedMapping
-            (IntAndObjectToLong<? super U> mapper) {
-            return new LFLCPap(ex, origin, fence, array, selector,
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
         void leafApply(int lo, int hi, Procedure  procedure) {
-            final LongPredicate s = selector;
-            final long[] a = this.array;
-            final IntAndLongToObject f = op;
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
             for (int i = lo; i < hi; ++i) {
-                long x = a[i];
+                int x = a[i];
                 if (s.op(x))
                     procedure.op(f.op(i, x));
             }
         }
         Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
-            final LongPredicate s = selector;
-            final long[] a = this.array;
-            final IntAndLongToObject f = op;
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
             boolean gotFirst = false;
             Object r = base;
             for (int i = lo; i < hi; ++i) {
-                long x = a[i];
+                int x = a[i];
                 if (s.op(x)) {
                     Object y = f.op(i, x);
                     if (!gotFirst) {
@@ -3692,6 +5938,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FROCPap<U> extends FOCPap<U> {
+        final IntAndFloatPredicate selector;
+        FROCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatPredicate selector,
+                IntAndFloatToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public <V> ParallelFloatArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (ObjectToFloat<? super U> op) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (ObjectToLong<? super U> op) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndObjectToFloat<? super U> mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndObjectToLong<? super U> mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndFloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final IntAndFloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x)) {
+                    Object y = f.op(i, x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LROCPap<U> extends LOCPap<U> {
         final IntAndLongPredicate selector;
         LROCPap(ForkJoinPool ex, int origin, int fence,
@@ -3772,6 +6098,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IROCPap<U> extends IOCPap<U> {
+        final IntAndIntPredicate selector;
+        IROCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector,
+                IntAndIntToObject<? extends U> op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public <V> ParallelIntArrayWithMapping< V> withMapping
+            (Op<? super U, ? extends V> op) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping
+            (ObjectToDouble<? super U> op) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping
+            (ObjectToInt<? super U> op) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndObjectToObject<? super U, ? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndObjectToDouble<? super U> mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndObjectToInt<? super U> mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, Procedure  procedure) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+        Object leafReduce(int lo, int hi, Reducer reducer, Object base) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToObject f = op;
+            boolean gotFirst = false;
+            Object r = base;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x)) {
+                    Object y = f.op(i, x);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // Double-mapped
 
     static abstract class ODMPap<T> extends ParallelArrayWithDoubleMapping<T> {
@@ -3834,6 +6240,37 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class FFMPap extends ParallelFloatArrayWithFloatMapping {
+        final FloatOp op;
+        FFMPap
+            (ForkJoinPool ex, int origin, int fence,
+             float[] array, FloatOp op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final float fget(int i) { return op.op(this.array[i]); }
+        final double dget(int i) { return fget(i); }
+        final Object oget(int i) { return Float.valueOf(fget(i)); }
+        final long lget(int i) { return (long)(fget(i)); }
+
+        final void leafTransfer(int lo, int hi, float[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatOp f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       float[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatOp f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+    }
+
     static abstract class LDMPap extends ParallelLongArrayWithDoubleMapping {
         final LongToDouble op;
         LDMPap(ForkJoinPool ex, int origin, int fence,
@@ -3864,6 +6301,37 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static abstract class IDMPap extends ParallelIntArrayWithDoubleMapping {
+        final IntToDouble op;
+        IDMPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntToDouble op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final double dget(int i) { return op.op(this.array[i]); }
+        final Object oget(int i) { return Double.valueOf(dget(i)); }
+        final int iget(int i) { return (int)(dget(i)); }
+        final long lget(int i) { return (long)(dget(i)); }
+
+        final void leafTransfer(int lo, int hi, double[] dest, int offset) {
+            final int[] a = this.array;
+            final IntToDouble f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       double[] dest, int offset) {
+            final int[] a = this.array;
+            final IntToDouble f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+
+    }
+
     // double-mapped, unfiltered
 
     static final class OUDMPap<T> extends ODMPap<T> {
@@ -3986,6 +6454,66 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class FUFMPap extends FFMPap {
+        FUFMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatOp op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FUFMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FULMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FUOMPap<U>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final float[] a = this.array;
+            final FloatOp f = op;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            if (lo >= hi)
+                return base;
+            final float[] a = this.array;
+            final FloatOp f = op;
+            float r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+
+    }
+
     static final class LUDMPap extends LDMPap {
         LUDMPap(ForkJoinPool ex, int origin, int fence,
                 long[] array, LongToDouble op) {
@@ -3997,38 +6525,98 @@ public abstract class AbstractParallelAnyArray {
                                CommonOps.compoundOp(this.op, op));
         }
 
-        public ParallelLongArrayWithDoubleMapping withMapping(DoubleOp op) {
-            return new LUDMPap(ex, origin, fence, array,
+        public ParallelLongArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new LUDMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelLongArrayWithMapping<U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new LUOMPap<U>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new LUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new LUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelLongArrayWithLongMapping withIndexedMapping
+            (IntAndDoubleToLong mapper) {
+            return new LULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final LongToDouble f = op;
+            final long[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            if (lo >= hi)
+                return base;
+            final long[] a = this.array;
+            final LongToDouble f = op;
+            double r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+
+    }
+
+    static final class IUDMPap extends IDMPap {
+        IUDMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntToDouble op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IUIMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IUDMPap(ex, origin, fence, array,
                                CommonOps.compoundOp(this.op, op));
         }
 
-        public <U> ParallelLongArrayWithMapping<U> withMapping
+        public <U> ParallelIntArrayWithMapping<U> withMapping
             (DoubleToObject<? extends U> op) {
-            return new LUOMPap<U>(ex, origin, fence, array,
+            return new IUOMPap<U>(ex, origin, fence, array,
                                   CommonOps.compoundOp(this.op, op));
         }
 
-        public <V> ParallelLongArrayWithMapping<V> withIndexedMapping
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
             (IntAndDoubleToObject<? extends V> mapper) {
-            return new LUOCPap<V>(ex, origin, fence, array,
+            return new IUOCPap<V>(ex, origin, fence, array,
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithDoubleMapping withIndexedMapping
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
             (IntAndDoubleToDouble mapper) {
-            return new LUDCPap(ex, origin, fence, array,
+            return new IUDCPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelLongArrayWithLongMapping withIndexedMapping
-            (IntAndDoubleToLong mapper) {
-            return new LULCPap(ex, origin, fence, array,
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IUICPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
         void leafApply(int lo, int hi, DoubleProcedure procedure) {
-            final LongToDouble f = op;
-            final long[] a = this.array;
+            final IntToDouble f = op;
+            final int[] a = this.array;
             for (int i = lo; i < hi; ++i)
                 procedure.op(f.op(a[i]));
         }
@@ -4036,8 +6624,8 @@ public abstract class AbstractParallelAnyArray {
         double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
             if (lo >= hi)
                 return base;
-            final long[] a = this.array;
-            final LongToDouble f = op;
+            final int[] a = this.array;
+            final IntToDouble f = op;
             double r = f.op(a[lo]);
             for (int i = lo+1; i < hi; ++i)
                 r = reducer.op(r, f.op(a[i]));
@@ -4205,6 +6793,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FFFMPap extends FFMPap {
+        final FloatPredicate selector;
+        FFFMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector, FloatOp op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FFFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FFLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FFOMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final FloatPredicate s = selector;
+            final FloatOp f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final FloatPredicate s = selector;
+            boolean gotFirst = false;
+            float r = base;
+            final float[] a = this.array;
+            final FloatOp f = op;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(t)) {
+                    float y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LFDMPap extends LDMPap {
         final LongPredicate selector;
         LFDMPap(ForkJoinPool ex, int origin, int fence,
@@ -4283,6 +6949,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IFDMPap extends IDMPap {
+        final IntPredicate selector;
+        IFDMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector, IntToDouble op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IFIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IFDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new IFOMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            final IntToDouble f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            final IntPredicate s = selector;
+            final IntToDouble f = op;
+            boolean gotFirst = false;
+            double r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(t)) {
+                    double y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // double-mapped, relational
     static final class ORDMPap<T> extends ODMPap<T> {
         final IntAndObjectPredicate<? super T> selector;
@@ -4441,6 +7185,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FRFMPap extends FFMPap {
+        final IntAndFloatPredicate selector;
+        FRFMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatPredicate selector, FloatOp op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FRFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FRLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FROMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final IntAndFloatPredicate s = selector;
+            final FloatOp f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final IntAndFloatPredicate s = selector;
+            boolean gotFirst = false;
+            float r = base;
+            final float[] a = this.array;
+            final FloatOp f = op;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(i, t)) {
+                    float y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LRDMPap extends LDMPap {
         final IntAndLongPredicate selector;
         LRDMPap(ForkJoinPool ex, int origin, int fence,
@@ -4519,6 +7341,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IRDMPap extends IDMPap {
+        final IntAndIntPredicate selector;
+        IRDMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector, IntToDouble op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IRIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IRDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new IROMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            final IntToDouble f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            final IntAndIntPredicate s = selector;
+            final IntToDouble f = op;
+            boolean gotFirst = false;
+            double r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(i, t)) {
+                    double y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // double-combined
     static abstract class ODCPap<T> extends ParallelArrayWithDoubleMapping<T> {
         final IntAndObjectToDouble<? super T> op;
@@ -4566,16 +7466,79 @@ public abstract class AbstractParallelAnyArray {
         final long lget(int i) { return (long)(dget(i)); }
 
         final void leafTransfer(int lo, int hi, double[] dest, int offset) {
-            final IntAndDoubleToDouble f = op;
-            final double[] a = this.array;
+            final IntAndDoubleToDouble f = op;
+            final double[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       double[] dest, int offset) {
+            final double[] a = this.array;
+            final IntAndDoubleToDouble f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
+    static abstract class FFCPap extends ParallelFloatArrayWithFloatMapping {
+        final IntAndFloatToFloat op;
+        FFCPap(ForkJoinPool ex, int origin, int fence,
+               float[] array, IntAndFloatToFloat op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final float fget(int i) { return op.op(i, this.array[i]); }
+        final double dget(int i) { return fget(i); }
+        final Object oget(int i) { return Float.valueOf(fget(i)); }
+        final long lget(int i) { return (long)(fget(i)); }
+
+        final void leafTransfer(int lo, int hi, float[] dest, int offset) {
+            final IntAndFloatToFloat f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       float[] dest, int offset) {
+            final float[] a = this.array;
+            final IntAndFloatToFloat f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
+    static abstract class LDCPap extends ParallelLongArrayWithDoubleMapping {
+        final IntAndLongToDouble op;
+        LDCPap(ForkJoinPool ex, int origin, int fence,
+               long[] array, IntAndLongToDouble op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final double dget(int i) { return op.op(i, this.array[i]); }
+        final Object oget(int i) { return Double.valueOf(dget(i)); }
+        final long lget(int i) { return (long)(dget(i)); }
+
+        final void leafTransfer(int lo, int hi, double[] dest, int offset) {
+            final IntAndLongToDouble f = op;
+            final long[] a = this.array;
             for (int i = lo; i < hi; ++i)
                 dest[offset++] = f.op(i, a[i]);
         }
 
         final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
                                        double[] dest, int offset) {
-            final double[] a = this.array;
-            final IntAndDoubleToDouble f = op;
+            final long[] a = this.array;
+            final IntAndLongToDouble f = op;
             for (int i = loIdx; i < hiIdx; ++i) {
                 int idx = indices[i];
                 dest[offset++] = f.op(idx, a[idx]);
@@ -4583,10 +7546,10 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
-    static abstract class LDCPap extends ParallelLongArrayWithDoubleMapping {
-        final IntAndLongToDouble op;
-        LDCPap(ForkJoinPool ex, int origin, int fence,
-               long[] array, IntAndLongToDouble op) {
+    static abstract class IDCPap extends ParallelIntArrayWithDoubleMapping {
+        final IntAndIntToDouble op;
+        IDCPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntAndIntToDouble op) {
             super(ex, origin, fence, array);
             this.op = op;
         }
@@ -4594,19 +7557,20 @@ public abstract class AbstractParallelAnyArray {
         final boolean hasMap() { return true; }
         final double dget(int i) { return op.op(i, this.array[i]); }
         final Object oget(int i) { return Double.valueOf(dget(i)); }
+        final int iget(int i) { return (int)(dget(i)); }
         final long lget(int i) { return (long)(dget(i)); }
 
         final void leafTransfer(int lo, int hi, double[] dest, int offset) {
-            final IntAndLongToDouble f = op;
-            final long[] a = this.array;
+            final IntAndIntToDouble f = op;
+            final int[] a = this.array;
             for (int i = lo; i < hi; ++i)
                 dest[offset++] = f.op(i, a[i]);
         }
 
         final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
                                        double[] dest, int offset) {
-            final long[] a = this.array;
-            final IntAndLongToDouble f = op;
+            final int[] a = this.array;
+            final IntAndIntToDouble f = op;
             for (int i = loIdx; i < hiIdx; ++i) {
                 int idx = indices[i];
                 dest[offset++] = f.op(idx, a[idx]);
@@ -4734,6 +7698,65 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FUFCPap extends FFCPap {
+        FUFCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatToFloat op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FUOCPap<U>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final IntAndFloatToFloat f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            if (lo >= hi)
+                return base;
+            final float[] a = this.array;
+            final IntAndFloatToFloat f = op;
+            float r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+    }
+
     static final class LUDCPap extends LDCPap {
         LUDCPap(ForkJoinPool ex, int origin, int fence,
                 long[] array, IntAndLongToDouble op) {
@@ -4794,6 +7817,66 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class IUDCPap extends IDCPap {
+        IUDCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntToDouble op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new IUOCPap<U>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new IUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntAndIntToDouble f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            if (lo >= hi)
+                return base;
+            final int[] a = this.array;
+            final IntAndIntToDouble f = op;
+            double r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+
+    }
+
     // double-combined, filtered
     static final class OFDCPap<T> extends ODCPap<T> {
         final Predicate<? super T> selector;
@@ -4954,6 +8037,85 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FFFCPap extends FFCPap {
+        final FloatPredicate selector;
+        FFFCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector,
+                IntAndFloatToFloat op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FFLCPap (ex, origin, fence, array, selector,
+                                compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FFOCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final FloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToFloat f = op;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final FloatPredicate s = selector;
+            final IntAndFloatToFloat f = op;
+            boolean gotFirst = false;
+            float r = base;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(t)) {
+                    float y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LFDCPap extends LDCPap {
         final LongPredicate selector;
         LFDCPap(ForkJoinPool ex, int origin, int fence,
@@ -5032,6 +8194,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IFDCPap extends IDCPap {
+        final IntPredicate selector;
+        IFDCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector, IntAndIntToDouble op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new IFOCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToDouble f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            final IntPredicate s = selector;
+            final IntAndIntToDouble f = op;
+            boolean gotFirst = false;
+            double r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(t)) {
+                    double y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // double-combined, relational
     static final class ORDCPap<T> extends ODCPap<T> {
         final IntAndObjectPredicate<? super T> selector;
@@ -5147,39 +8387,118 @@ public abstract class AbstractParallelAnyArray {
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
-            (IntAndDoubleToDouble mapper) {
-            return new DRDCPap(ex, origin, fence, array, selector,
+        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new DRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelDoubleArrayWithLongMapping withIndexedMapping
+            (IntAndDoubleToLong mapper) {
+            return new DRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntAndDoublePredicate s = selector;
+            final double[] a = this.array;
+            final IntAndDoubleToDouble f = op;
+            for (int i = lo; i < hi; ++i) {
+                double x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            final IntAndDoublePredicate s = selector;
+            final IntAndDoubleToDouble f = op;
+            boolean gotFirst = false;
+            double r = base;
+            final double[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                double t = a[i];
+                if (s.op(i, t)) {
+                    double y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
+    static final class FRFCPap extends FFCPap {
+        final IntAndFloatPredicate selector;
+        FRFCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatPredicate selector,
+                IntAndFloatToFloat op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping(FloatOp op) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(FloatToLong op) {
+            return new FRLCPap (ex, origin, fence, array, selector,
+                                compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
+            (FloatToObject<? extends U> op) {
+            return new FROCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndFloatToObject<? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndFloatToFloat mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithLongMapping withIndexedMapping
-            (IntAndDoubleToLong mapper) {
-            return new DRLCPap(ex, origin, fence, array, selector,
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndFloatToLong mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        void leafApply(int lo, int hi, DoubleProcedure procedure) {
-            final IntAndDoublePredicate s = selector;
-            final double[] a = this.array;
-            final IntAndDoubleToDouble f = op;
+        void leafApply(int lo, int hi, FloatProcedure procedure) {
+            final IntAndFloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToFloat f = op;
             for (int i = lo; i < hi; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(i, x))
                     procedure.op(f.op(i, x));
             }
         }
 
-        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
-            final IntAndDoublePredicate s = selector;
-            final IntAndDoubleToDouble f = op;
+        float leafReduce(int lo, int hi, FloatReducer reducer, float base) {
+            final IntAndFloatPredicate s = selector;
+            final IntAndFloatToFloat f = op;
             boolean gotFirst = false;
-            double r = base;
-            final double[] a = this.array;
+            float r = base;
+            final float[] a = this.array;
             for (int i = lo; i < hi; ++i) {
-                double t = a[i];
+                float t = a[i];
                 if (s.op(i, t)) {
-                    double y = f.op(i, t);
+                    float y = f.op(i, t);
                     if (!gotFirst) {
                         gotFirst = true;
                         r = y;
@@ -5270,6 +8589,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IRDCPap extends IDCPap {
+        final IntAndIntPredicate selector;
+        IRDCPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector, IntAndIntToDouble op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(DoubleOp op) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(DoubleToInt op) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (DoubleToObject<? extends U> op) {
+            return new IROCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndDoubleToObject<? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndDoubleToDouble mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndDoubleToInt mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, DoubleProcedure procedure) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToDouble f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        double leafReduce(int lo, int hi, DoubleReducer reducer, double base) {
+            final IntAndIntPredicate s = selector;
+            final IntAndIntToDouble f = op;
+            boolean gotFirst = false;
+            double r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(i, t)) {
+                    double y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // long-combined
     static abstract class OLMPap<T> extends ParallelArrayWithLongMapping<T> {
         final ObjectToLong<? super T> op;
@@ -5330,6 +8727,37 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static abstract class FLMPap extends ParallelFloatArrayWithLongMapping {
+        final FloatToLong op;
+        FLMPap(ForkJoinPool ex, int origin, int fence,
+               float[] array, FloatToLong op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final long lget(int i) { return op.op(this.array[i]); }
+        final Object oget(int i) { return Long.valueOf(lget(i)); }
+        final float fget(int i) { return (float)(lget(i)); }
+        final double dget(int i) { return (double)(lget(i)); }
+
+        final void leafTransfer(int lo, int hi, long[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatToLong f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       long[] dest, int offset) {
+            final float[] a = this.array;
+            final FloatToLong f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+
+    }
+
     static abstract class LLMPap extends ParallelLongArrayWithLongMapping {
         final LongOp op;
         LLMPap(ForkJoinPool ex, int origin, int fence,
@@ -5360,6 +8788,37 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static abstract class IIMPap extends ParallelIntArrayWithIntMapping {
+        final IntOp op;
+        IIMPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntOp op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final int iget(int i) { return op.op(this.array[i]); }
+        final long lget(int i) { return iget(i); }
+        final Object oget(int i) { return Integer.valueOf(iget(i)); }
+        final double dget(int i) { return (double)(iget(i)); }
+
+        final void leafTransfer(int lo, int hi, int[] dest, int offset) {
+            final int[] a = this.array;
+            final IntOp f = op;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       int[] dest, int offset) {
+            final int[] a = this.array;
+            final IntOp f = op;
+            for (int i = loIdx; i < hiIdx; ++i)
+                dest[offset++] = f.op(a[indices[i]]);
+        }
+
+    }
+
     // long-combined, unfiltered
     static final class OULMPap<T> extends OLMPap<T> {
         OULMPap(ForkJoinPool ex, int origin, int fence,
@@ -5482,6 +8941,68 @@ public abstract class AbstractParallelAnyArray {
 
     }
 
+    static final class FULMPap extends FLMPap {
+        FULMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatToLong op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FUFMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (LongOp op) {
+            return new FULMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (LongToObject<? extends U> op) {
+            return new FUOMPap<U>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new FUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new FULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final float[] a = this.array;
+            final FloatToLong f = op;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            if (lo >= hi)
+                return base;
+            final float[] a = this.array;
+            final FloatToLong f = op;
+            long r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+
+    }
+
     static final class LULMPap extends LLMPap {
         LULMPap(ForkJoinPool ex, int origin, int fence,
                 long[] array, LongOp op) {
@@ -5541,6 +9062,65 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IUIMPap extends IIMPap {
+        IUIMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntOp op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IUIMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IUDMPap(ex, origin, fence, array,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IUOMPap<U>(ex, origin, fence, array,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntOp f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(a[i]));
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            if (lo >= hi)
+                return base;
+            final int[] a = this.array;
+            final IntOp f = op;
+            int r = f.op(a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(a[i]));
+            return r;
+        }
+    }
+
     // long-combined, filtered
     static final class OFLMPap<T> extends OLMPap<T> {
         final Predicate<? super T> selector;
@@ -5646,36 +9226,116 @@ public abstract class AbstractParallelAnyArray {
                                CommonOps.compoundOp(this.op, op));
         }
 
-        public <U> ParallelDoubleArrayWithMapping<U> withMapping
+        public <U> ParallelDoubleArrayWithMapping<U> withMapping
+            (LongToObject<? extends U> op) {
+            return new DFOMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelDoubleArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new DFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
+            (IntAndLongToDouble mapper) {
+            return new DFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelDoubleArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new DFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final DoublePredicate s = selector;
+            final DoubleToLong f = op;
+            final double[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                double x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            boolean gotFirst = false;
+            long r = base;
+            final double[] a = this.array;
+            final DoublePredicate s = selector;
+            final DoubleToLong f = op;
+            for (int i = lo; i < hi; ++i) {
+                double t = a[i];
+                if (s.op(t)) {
+                    long y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
+    static final class FFLMPap extends FLMPap {
+        final FloatPredicate selector;
+        FFLMPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector, FloatToLong op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FFFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (LongOp op) {
+            return new FFLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
             (LongToObject<? extends U> op) {
-            return new DFOMPap<U>(ex, origin, fence, array, selector,
+            return new FFOMPap<U>(ex, origin, fence, array, selector,
                                   CommonOps.compoundOp(this.op, op));
         }
 
-        public <V> ParallelDoubleArrayWithMapping<V> withIndexedMapping
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
             (IntAndLongToObject<? extends V> mapper) {
-            return new DFOCPap<V>(ex, origin, fence, array, selector,
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
-            (IntAndLongToDouble mapper) {
-            return new DFDCPap(ex, origin, fence, array, selector,
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithLongMapping withIndexedMapping
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
             (IntAndLongToLong mapper) {
-            return new DFLCPap(ex, origin, fence, array, selector,
+            return new FFLCPap(ex, origin, fence, array, selector,
                                compoundIndexedOp(this.op, mapper));
         }
 
         void leafApply(int lo, int hi, LongProcedure procedure) {
-            final DoublePredicate s = selector;
-            final DoubleToLong f = op;
-            final double[] a = this.array;
+            final FloatPredicate s = selector;
+            final FloatToLong f = op;
+            final float[] a = this.array;
             for (int i = lo; i < hi; ++i) {
-                double x = a[i];
+                float x = a[i];
                 if (s.op(x))
                     procedure.op(f.op(x));
             }
@@ -5684,11 +9344,11 @@ public abstract class AbstractParallelAnyArray {
         long leafReduce(int lo, int hi, LongReducer reducer, long base) {
             boolean gotFirst = false;
             long r = base;
-            final double[] a = this.array;
-            final DoublePredicate s = selector;
-            final DoubleToLong f = op;
+            final float[] a = this.array;
+            final FloatPredicate s = selector;
+            final FloatToLong f = op;
             for (int i = lo; i < hi; ++i) {
-                double t = a[i];
+                float t = a[i];
                 if (s.op(t)) {
                     long y = f.op(t);
                     if (!gotFirst) {
@@ -5781,6 +9441,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IFIMPap extends IIMPap {
+        final IntPredicate selector;
+        IFIMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector, IntOp op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IFIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IFDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IFOMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntPredicate s = selector;
+            final IntOp f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntPredicate s = selector;
+            final IntOp f = op;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(t)) {
+                    int y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // Long-mapped, relational
     static final class ORLMPap<T> extends OLMPap<T> {
         final IntAndObjectPredicate<? super T> selector;
@@ -5943,6 +9681,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FRLMPap extends FLMPap {
+        final IntAndFloatPredicate selector;
+        FRLMPap(ForkJoinPool ex, int origin, int fence, float[] array,
+                IntAndFloatPredicate selector, FloatToLong op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FRFMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping
+            (LongOp op) {
+            return new FRLMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping<U> withMapping
+            (LongToObject<? extends U> op) {
+            return new FROMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final IntAndFloatPredicate s = selector;
+            final FloatToLong f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            boolean gotFirst = false;
+            long r = base;
+            final float[] a = this.array;
+            final IntAndFloatPredicate s = selector;
+            final FloatToLong f = op;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(i, t)) {
+                    long y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LRLMPap extends LLMPap {
         final IntAndLongPredicate selector;
         LRLMPap(ForkJoinPool ex, int origin, int fence,
@@ -6021,6 +9839,84 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IRIMPap extends IIMPap {
+        final IntAndIntPredicate selector;
+        IRIMPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector, IntOp op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IRIMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IRDMPap(ex, origin, fence, array, selector,
+                               CommonOps.compoundOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping<U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IROMPap<U>(ex, origin, fence, array, selector,
+                                  CommonOps.compoundOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntAndIntPredicate s = selector;
+            final IntOp f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(x));
+            }
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntAndIntPredicate s = selector;
+            final IntOp f = op;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(i, t)) {
+                    int y = f.op(t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // long-combined
     static abstract class OLCPap<T> extends ParallelArrayWithLongMapping<T> {
         final IntAndObjectToLong<? super T> op;
@@ -6084,6 +9980,38 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class FLCPap extends ParallelFloatArrayWithLongMapping {
+        final IntAndFloatToLong op;
+        FLCPap(ForkJoinPool ex, int origin, int fence,
+               float[] array, IntAndFloatToLong op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final long lget(int i) { return op.op(i, this.array[i]); }
+        final Object oget(int i) { return Long.valueOf(lget(i)); }
+        final float fget(int i) { return (float)(lget(i)); }
+        final double dget(int i) { return (double)(lget(i)); }
+
+        final void leafTransfer(int lo, int hi, long[] dest, int offset) {
+            final IntAndFloatToLong f = op;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       long[] dest, int offset) {
+            final float[] a = this.array;
+            final IntAndFloatToLong f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
     static abstract class LLCPap extends ParallelLongArrayWithLongMapping {
         final IntAndLongToLong op;
         LLCPap(ForkJoinPool ex, int origin, int fence,
@@ -6115,6 +10043,38 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static abstract class IICPap extends ParallelIntArrayWithIntMapping {
+        final IntAndIntToInt op;
+        IICPap(ForkJoinPool ex, int origin, int fence,
+               int[] array, IntAndIntToInt op) {
+            super(ex, origin, fence, array);
+            this.op = op;
+        }
+
+        final boolean hasMap() { return true; }
+        final int iget(int i) { return op.op(i, this.array[i]); }
+        final long lget(int i) { return iget(i); }
+        final Object oget(int i) { return Integer.valueOf(iget(i)); }
+        final double dget(int i) { return (double)(iget(i)); }
+
+        final void leafTransfer(int lo, int hi, int[] dest, int offset) {
+            final IntAndIntToInt f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                dest[offset++] = f.op(i, a[i]);
+        }
+
+        final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                       int[] dest, int offset) {
+            final int[] a = this.array;
+            final IntAndIntToInt f = op;
+            for (int i = loIdx; i < hiIdx; ++i) {
+                int idx = indices[i];
+                dest[offset++] = f.op(idx, a[idx]);
+            }
+        }
+    }
+
     // long-combined, unfiltered
     static final class OULCPap<T> extends OLCPap<T> {
         OULCPap(ForkJoinPool ex, int origin, int fence,
@@ -6187,38 +10147,97 @@ public abstract class AbstractParallelAnyArray {
                                compoundIndexedOp(this.op, op));
         }
 
-        public ParallelDoubleArrayWithLongMapping withMapping(LongOp op) {
-            return new DULCPap(ex, origin, fence, array,
+        public ParallelDoubleArrayWithLongMapping withMapping(LongOp op) {
+            return new DULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelDoubleArrayWithMapping< U> withMapping
+            (LongToObject<? extends U> op) {
+            return new DUOCPap<U>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelDoubleArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new DUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
+            (IntAndLongToDouble mapper) {
+            return new DUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelDoubleArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new DULCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final IntAndDoubleToLong f = op;
+            final double[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            if (lo >= hi)
+                return base;
+            final double[] a = this.array;
+            final IntAndDoubleToLong f = op;
+            long r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+    }
+    static final class FULCPap extends FLCPap {
+        FULCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatToLong op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FUFCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(LongOp op) {
+            return new FULCPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, op));
         }
 
-        public <U> ParallelDoubleArrayWithMapping< U> withMapping
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
             (LongToObject<? extends U> op) {
-            return new DUOCPap<U>(ex, origin, fence, array,
+            return new FUOCPap<U>(ex, origin, fence, array,
                                   compoundIndexedOp(this.op, op));
         }
 
-        public <V> ParallelDoubleArrayWithMapping<V> withIndexedMapping
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
             (IntAndLongToObject<? extends V> mapper) {
-            return new DUOCPap<V>(ex, origin, fence, array,
+            return new FUOCPap<V>(ex, origin, fence, array,
                                   compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithDoubleMapping withIndexedMapping
-            (IntAndLongToDouble mapper) {
-            return new DUDCPap(ex, origin, fence, array,
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FUFCPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
-        public ParallelDoubleArrayWithLongMapping withIndexedMapping
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
             (IntAndLongToLong mapper) {
-            return new DULCPap(ex, origin, fence, array,
+            return new FULCPap(ex, origin, fence, array,
                                compoundIndexedOp(this.op, mapper));
         }
 
         void leafApply(int lo, int hi, LongProcedure procedure) {
-            final IntAndDoubleToLong f = op;
-            final double[] a = this.array;
+            final IntAndFloatToLong f = op;
+            final float[] a = this.array;
             for (int i = lo; i < hi; ++i)
                 procedure.op(f.op(i, a[i]));
         }
@@ -6226,8 +10245,8 @@ public abstract class AbstractParallelAnyArray {
         long leafReduce(int lo, int hi, LongReducer reducer, long base) {
             if (lo >= hi)
                 return base;
-            final double[] a = this.array;
-            final IntAndDoubleToLong f = op;
+            final float[] a = this.array;
+            final IntAndFloatToLong f = op;
             long r = f.op(lo, a[lo]);
             for (int i = lo+1; i < hi; ++i)
                 r = reducer.op(r, f.op(i, a[i]));
@@ -6294,6 +10313,65 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IUICPap extends IICPap {
+        IUICPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntToInt op) {
+            super(ex, origin, fence, array, op);
+        }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IUOCPap<U>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IUOCPap<V>(ex, origin, fence, array,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IUDCPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IUICPap(ex, origin, fence, array,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntAndIntToInt f = op;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i)
+                procedure.op(f.op(i, a[i]));
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            if (lo >= hi)
+                return base;
+            final int[] a = this.array;
+            final IntAndIntToInt f = op;
+            int r = f.op(lo, a[lo]);
+            for (int i = lo+1; i < hi; ++i)
+                r = reducer.op(r, f.op(i, a[i]));
+            return r;
+        }
+    }
+
     // long-combined, filtered
     static final class OFLCPap<T> extends OLCPap<T> {
         final Predicate<? super T> selector;
@@ -6457,6 +10535,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FFLCPap extends FLCPap {
+        final FloatPredicate selector;
+        FFLCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, FloatPredicate selector,
+                IntAndFloatToLong op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(LongOp op) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
+            (LongToObject<? extends U> op) {
+            return new FFOCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new FFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FFFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new FFLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final FloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToLong f = op;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            final FloatPredicate s = selector;
+            final IntAndFloatToLong f = op;
+            boolean gotFirst = false;
+            long r = base;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(t)) {
+                    long y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LFLCPap extends LLCPap {
         final LongPredicate selector;
         LFLCPap(ForkJoinPool ex, int origin, int fence,
@@ -6536,6 +10694,85 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IFICPap extends IICPap {
+        final IntPredicate selector;
+        IFICPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntPredicate selector,
+                IntAndIntToInt op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(this.array[i]); }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IFOCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IFOCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IFDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IFICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToInt f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntPredicate s = selector;
+            final IntAndIntToInt f = op;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(t)) {
+                    int y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     // long-combined, relational
     static final class ORLCPap<T> extends OLCPap<T> {
         final IntAndObjectPredicate<? super T> selector;
@@ -6699,6 +10936,86 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class FRLCPap extends FLCPap {
+        final IntAndFloatPredicate selector;
+        FRLCPap(ForkJoinPool ex, int origin, int fence,
+                float[] array, IntAndFloatPredicate selector,
+                IntAndFloatToLong op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelFloatArrayWithFloatMapping withMapping
+            (LongToFloat op) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelFloatArrayWithLongMapping withMapping(LongOp op) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelFloatArrayWithMapping< U> withMapping
+            (LongToObject<? extends U> op) {
+            return new FROCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+            (IntAndLongToObject<? extends V> mapper) {
+            return new FROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithFloatMapping withIndexedMapping
+            (IntAndLongToFloat mapper) {
+            return new FRFCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelFloatArrayWithLongMapping withIndexedMapping
+            (IntAndLongToLong mapper) {
+            return new FRLCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, LongProcedure procedure) {
+            final IntAndFloatPredicate s = selector;
+            final float[] a = this.array;
+            final IntAndFloatToLong f = op;
+            for (int i = lo; i < hi; ++i) {
+                float x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        long leafReduce(int lo, int hi, LongReducer reducer, long base) {
+            final IntAndFloatPredicate s = selector;
+            final IntAndFloatToLong f = op;
+            boolean gotFirst = false;
+            long r = base;
+            final float[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                float t = a[i];
+                if (s.op(i, t)) {
+                    long y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     static final class LRLCPap extends LLCPap {
         final IntAndLongPredicate selector;
         LRLCPap(ForkJoinPool ex, int origin, int fence,
@@ -6778,6 +11095,85 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    static final class IRICPap extends IICPap {
+        final IntAndIntPredicate selector;
+        IRICPap(ForkJoinPool ex, int origin, int fence,
+                int[] array, IntAndIntPredicate selector,
+                IntAndIntToInt op) {
+            super(ex, origin, fence, array, op);
+            this.selector = selector;
+        }
+
+        boolean hasFilter() { return true; }
+        boolean isSelected(int i) { return selector.op(i, this.array[i]); }
+
+        public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, op));
+        }
+
+        public <U> ParallelIntArrayWithMapping< U> withMapping
+            (IntToObject<? extends U> op) {
+            return new IROCPap<U>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, op));
+        }
+
+        public <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+            (IntAndIntToObject<? extends V> mapper) {
+            return new IROCPap<V>(ex, origin, fence, array, selector,
+                                  compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithDoubleMapping withIndexedMapping
+            (IntAndIntToDouble mapper) {
+            return new IRDCPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        public ParallelIntArrayWithIntMapping withIndexedMapping
+            (IntAndIntToInt mapper) {
+            return new IRICPap(ex, origin, fence, array, selector,
+                               compoundIndexedOp(this.op, mapper));
+        }
+
+        void leafApply(int lo, int hi, IntProcedure procedure) {
+            final IntAndIntPredicate s = selector;
+            final int[] a = this.array;
+            final IntAndIntToInt f = op;
+            for (int i = lo; i < hi; ++i) {
+                int x = a[i];
+                if (s.op(i, x))
+                    procedure.op(f.op(i, x));
+            }
+        }
+
+        int leafReduce(int lo, int hi, IntReducer reducer, int base) {
+            final IntAndIntPredicate s = selector;
+            final IntAndIntToInt f = op;
+            boolean gotFirst = false;
+            int r = base;
+            final int[] a = this.array;
+            for (int i = lo; i < hi; ++i) {
+                int t = a[i];
+                if (s.op(i, t)) {
+                    int y = f.op(i, t);
+                    if (!gotFirst) {
+                        gotFirst = true;
+                        r = y;
+                    }
+                    else
+                        r = reducer.op(r, y);
+                }
+            }
+            return r;
+        }
+    }
+
     /*
      * Iterator support
      */
@@ -6785,9 +11181,22 @@ public abstract class AbstractParallelAnyArray {
     class SequentiallyAsDouble implements Iterable<Double> {
         public Iterator<Double> iterator() {
             if (hasFilter())
-                return new FilteredAsDoubleIterator();
+                return new FilteredAsDoubleIterator();
+            else
+                return new UnfilteredAsDoubleIterator();
+        }
+    }
+
+    /*
+     * Iterator support
+     */
+
+    class SequentiallyAsFloat implements Iterable<Float> {
+        public Iterator<Float> iterator() {
+            if (hasFilter())
+                return new FilteredAsFloatIterator();
             else
-                return new UnfilteredAsDoubleIterator();
+                return new UnfilteredAsFloatIterator();
         }
     }
 
@@ -6804,6 +11213,19 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    class UnfilteredAsFloatIterator implements Iterator<Float> {
+        int cursor = origin;
+        public boolean hasNext() { return cursor < fence; }
+        public Float next() {
+            if (cursor >= fence)
+                throw new NoSuchElementException();
+            return Float.valueOf(fget(cursor++));
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     class FilteredAsDoubleIterator implements Iterator<Double> {
         double next;
         int cursor;
@@ -6835,6 +11257,37 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    class FilteredAsFloatIterator implements Iterator<Float> {
+        float next;
+        int cursor;
+        FilteredAsFloatIterator() {
+            cursor = origin;
+            advance() ;
+        }
+        private void advance() {
+            while (cursor < fence) {
+                if (isSelected(cursor)) {
+                    next = fget(cursor);
+                    break;
+                }
+                cursor++;
+            }
+        }
+
+        public boolean hasNext() { return cursor < fence; }
+        public Float next() {
+            if (cursor >= fence)
+                throw new NoSuchElementException();
+            Float x = Float.valueOf(next);
+            cursor++;
+            advance();
+            return x;
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     class SequentiallyAsLong implements Iterable<Long> {
         public Iterator<Long> iterator() {
             if (hasFilter())
@@ -6844,6 +11297,15 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    class SequentiallyAsInt implements Iterable<Integer> {
+        public Iterator<Integer> iterator() {
+            if (hasFilter())
+                return new FilteredAsIntIterator();
+            else
+                return new UnfilteredAsIntIterator();
+        }
+    }
+
     class UnfilteredAsLongIterator implements Iterator<Long> {
         int cursor = origin;
         public boolean hasNext() { return cursor < fence; }
@@ -6857,6 +11319,19 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    class UnfilteredAsIntIterator implements Iterator<Integer> {
+        int cursor = origin;
+        public boolean hasNext() { return cursor < fence; }
+        public Integer next() {
+            if (cursor >= fence)
+                throw new NoSuchElementException();
+            return Integer.valueOf(iget(cursor++));
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     class FilteredAsLongIterator implements Iterator<Long> {
         long next;
         int cursor;
@@ -6888,6 +11363,37 @@ public abstract class AbstractParallelAnyArray {
         }
     }
 
+    class FilteredAsIntIterator implements Iterator<Integer> {
+        int next;
+        int cursor;
+        FilteredAsIntIterator() {
+            cursor = origin;
+            advance() ;
+        }
+        private void advance() {
+            while (cursor < fence) {
+                if (isSelected(cursor)) {
+                    next = iget(cursor);
+                    break;
+                }
+                cursor++;
+            }
+        }
+
+        public boolean hasNext() { return cursor < fence; }
+        public Integer next() {
+            if (cursor >= fence)
+                throw new NoSuchElementException();
+            Integer x = Integer.valueOf(next);
+            cursor++;
+            advance();
+            return x;
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     class Sequentially<U> implements Iterable<U> {
         public Iterator<U> iterator() {
             if (hasFilter())
@@ -6962,6 +11468,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U,W> IntAndObjectToFloat<T> indexedMapper
+        (final ObjectAndObjectToFloat<? super T, ? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndObjectToFloat<T>() {
+            final int offset = u.origin - origin;
+            public float op(int i, T a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+        };
+    }
+
     static <T,U,W> IntAndObjectToLong<T> indexedMapper
         (final ObjectAndObjectToLong<? super T, ? super U> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -6971,6 +11486,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U,W> IntAndObjectToInt<T> indexedMapper
+        (final ObjectAndObjectToInt<? super T, ? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndObjectToInt<T>() {
+            final int offset = u.origin - origin;
+            public int op(int i, T a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+        };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> indexedMapper
         (final ObjectAndDoubleToObject<? super T, ? extends V> combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -6980,6 +11504,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> indexedMapper
+        (final ObjectAndFloatToObject<? super T, ? extends V> combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndObjectToObject<T,V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, T a) { return combiner.op(a, u.fget(i+offset)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> indexedMapper
         (final ObjectAndDoubleToDouble<? super T> combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -6989,6 +11522,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToFloat<T> indexedMapper
+        (final ObjectAndFloatToFloat<? super T> combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndObjectToFloat<T>() {
+            final int offset = u.origin - origin;
+            public float op(int i, T a) { return combiner.op(a, u.fget(i+offset)); }
+        };
+    }
+
     static <T,U> IntAndObjectToLong<T> indexedMapper
         (final ObjectAndDoubleToLong<? super T> combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -6998,6 +11540,24 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToInt<T> indexedMapper
+        (final ObjectAndDoubleToInt<? super T> combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndObjectToInt<T>() {
+            final int offset = u.origin - origin;
+            public int op(int i, T a) { return combiner.op(a, u.dget(i+offset)); }
+        };
+    }
+
+    static <T,U> IntAndObjectToLong<T> indexedMapper
+        (final ObjectAndFloatToLong<? super T> combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndObjectToLong<T>() {
+            final int offset = u.origin - origin;
+            public long op(int i, T a) { return combiner.op(a, u.fget(i+offset)); }
+        };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> indexedMapper
         (final ObjectAndLongToObject<? super T, ? extends V> combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7007,6 +11567,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> indexedMapper
+        (final ObjectAndIntToObject<? super T, ? extends V> combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndObjectToObject<T,V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, T a) { return combiner.op(a, u.iget(i+offset)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> indexedMapper
         (final ObjectAndLongToDouble<? super T> combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7016,6 +11585,24 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToDouble<T> indexedMapper
+        (final ObjectAndIntToDouble<? super T> combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndObjectToDouble<T>() {
+            final int offset = u.origin - origin;
+            public double op(int i, T a) { return combiner.op(a, u.iget(i+offset)); }
+        };
+    }
+
+    static <T> IntAndObjectToFloat<T> indexedMapper
+        (final ObjectAndLongToFloat<? super T> combiner,
+         final ParallelLongArrayWithLongMapping u, final int origin) {
+        return new IntAndObjectToFloat<T>() {
+            final int offset = u.origin - origin;
+            public float op(int i, T a) { return combiner.op(a, u.lget(i+offset)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> indexedMapper
         (final ObjectAndLongToLong<? super T> combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7025,6 +11612,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> indexedMapper
+        (final ObjectAndIntToInt<? super T> combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndObjectToInt<T>() {
+            final int offset = u.origin - origin;
+            public int op(int i, T a) { return combiner.op(a, u.iget(i+offset)); }
+        };
+    }
+
     static <U,V,W> IntAndDoubleToObject<V> indexedMapper
         (final DoubleAndObjectToObject<? super U, ? extends V> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7034,6 +11630,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V,W> IntAndFloatToObject<V> indexedMapper
+        (final FloatAndObjectToObject<? super U, ? extends V> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndFloatToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, float a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+        };
+    }
+
     static <U,W> IntAndDoubleToDouble indexedMapper
         (final DoubleAndObjectToDouble<? super U> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7043,6 +11648,15 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U,W> IntAndFloatToFloat indexedMapper
+        (final FloatAndObjectToFloat<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndFloatToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, float a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
     static <U,W> IntAndDoubleToLong indexedMapper
         (final DoubleAndObjectToLong<? super U> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7052,6 +11666,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U,W> IntAndDoubleToInt indexedMapper
+        (final DoubleAndObjectToInt<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndDoubleToInt() {
+                final int offset = u.origin - origin;
+                public int op(int i, double a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
+    static <U,W> IntAndFloatToLong indexedMapper
+        (final FloatAndObjectToLong<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndFloatToLong() {
+                final int offset = u.origin - origin;
+                public long op(int i, float a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
     static <V> IntAndDoubleToObject<V> indexedMapper
         (final DoubleAndDoubleToObject<? extends V> combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -7061,6 +11693,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndFloatToObject<V> indexedMapper
+        (final FloatAndFloatToObject<? extends V> combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndFloatToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, float a) { return combiner.op(a, u.fget(i+offset)); }
+        };
+    }
+
     static IntAndDoubleToDouble indexedMapper
         (final BinaryDoubleOp combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -7070,6 +11711,15 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatToFloat indexedMapper
+        (final BinaryFloatOp combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndFloatToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, float a) { return combiner.op(a, u.fget(i+offset)); }
+            };
+    }
+
     static IntAndDoubleToLong indexedMapper
         (final DoubleAndDoubleToLong combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
@@ -7079,6 +11729,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt indexedMapper
+        (final DoubleAndDoubleToInt combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndDoubleToInt() {
+                final int offset = u.origin - origin;
+                public int op(int i, double a) { return combiner.op(a, u.dget(i+offset)); }
+            };
+    }
+
+    static IntAndFloatToLong indexedMapper
+        (final FloatAndFloatToLong combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndFloatToLong() {
+                final int offset = u.origin - origin;
+                public long op(int i, float a) { return combiner.op(a, u.fget(i+offset)); }
+            };
+    }
+
     static <V> IntAndDoubleToObject<V> indexedMapper
         (final DoubleAndLongToObject<? extends V> combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7088,6 +11756,24 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndDoubleToObject<V> indexedMapper
+        (final DoubleAndIntToObject<? extends V> combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndDoubleToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, double a) { return combiner.op(a, u.iget(i+offset)); }
+        };
+    }
+
+    static <V> IntAndFloatToObject<V> indexedMapper
+        (final FloatAndLongToObject<? extends V> combiner,
+         final ParallelLongArrayWithLongMapping u, final int origin) {
+        return new IntAndFloatToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, float a) { return combiner.op(a, u.lget(i+offset)); }
+        };
+    }
+
     static IntAndDoubleToDouble indexedMapper
         (final DoubleAndLongToDouble combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7097,6 +11783,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToDouble indexedMapper
+        (final DoubleAndIntToDouble combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndDoubleToDouble() {
+                final int offset = u.origin - origin;
+                public double op(int i, double a) { return combiner.op(a, u.iget(i+offset)); }
+            };
+    }
+
+    static IntAndFloatToFloat indexedMapper
+        (final FloatAndLongToFloat combiner,
+         final ParallelLongArrayWithLongMapping u, final int origin) {
+        return new IntAndFloatToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, float a) { return combiner.op(a, u.lget(i+offset)); }
+            };
+    }
+
     static IntAndDoubleToLong indexedMapper
         (final DoubleAndLongToLong combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7106,6 +11810,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt indexedMapper
+        (final DoubleAndIntToInt combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndDoubleToInt() {
+                final int offset = u.origin - origin;
+                public int op(int i, double a) { return combiner.op(a, u.iget(i+offset)); }
+            };
+    }
+
+    static IntAndFloatToLong indexedMapper
+        (final FloatAndLongToLong combiner,
+         final ParallelLongArrayWithLongMapping u, final int origin) {
+        return new IntAndFloatToLong() {
+                final int offset = u.origin - origin;
+                public long op(int i, float a) { return combiner.op(a, u.lget(i+offset)); }
+            };
+    }
+
     static <U,V,W> IntAndLongToObject<V> indexedMapper
         (final LongAndObjectToObject<? super U, ? extends V> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7115,6 +11837,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V,W> IntAndIntToObject<V> indexedMapper
+        (final IntAndObjectToObject<? super U, ? extends V> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndIntToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, int a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+        };
+    }
+
     static <U,W> IntAndLongToDouble indexedMapper
         (final LongAndObjectToDouble<? super U> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7124,6 +11855,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U,W> IntAndIntToDouble indexedMapper
+        (final IntAndObjectToDouble<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndIntToDouble() {
+                final int offset = u.origin - origin;
+                public double op(int i, int a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
+    static <U,W> IntAndLongToFloat indexedMapper
+        (final LongAndObjectToFloat<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndLongToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, long a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
     static <U,W> IntAndLongToLong indexedMapper
         (final LongAndObjectToLong<? super U> combiner,
          final ParallelArrayWithMapping<W,U> u, final int origin) {
@@ -7133,30 +11882,93 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
-    static <V> IntAndLongToObject<V> indexedMapper
-        (final LongAndDoubleToObject<? extends V> combiner,
+    static <U,W> IntAndIntToInt indexedMapper
+        (final IntAndObjectToInt<? super U> combiner,
+         final ParallelArrayWithMapping<W,U> u, final int origin) {
+        return new IntAndIntToInt() {
+                final int offset = u.origin - origin;
+                public int op(int i, int a) { return combiner.op(a, (U)(u.oget(i+offset))); }
+            };
+    }
+
+    static <V> IntAndLongToObject<V> indexedMapper
+        (final LongAndDoubleToObject<? extends V> combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndLongToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
+        };
+    }
+
+    static <V> IntAndIntToObject<V> indexedMapper
+        (final IntAndDoubleToObject<? extends V> combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndIntToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, int a) { return combiner.op(a, u.dget(i+offset)); }
+        };
+    }
+
+    static <V> IntAndLongToObject<V> indexedMapper
+        (final LongAndFloatToObject<? extends V> combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndLongToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, long a) { return combiner.op(a, u.fget(i+offset)); }
+        };
+    }
+
+    static IntAndLongToDouble indexedMapper
+        (final LongAndDoubleToDouble combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndLongToDouble() {
+                final int offset = u.origin - origin;
+                public double op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
+            };
+    }
+
+    static IntAndIntToDouble indexedMapper
+        (final IntAndDoubleToDouble combiner,
+         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        return new IntAndIntToDouble() {
+                final int offset = u.origin - origin;
+                public double op(int i, int a) { return combiner.op(a, u.dget(i+offset)); }
+            };
+    }
+
+    static IntAndLongToFloat indexedMapper
+        (final LongAndFloatToFloat combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndLongToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, long a) { return combiner.op(a, u.fget(i+offset)); }
+            };
+    }
+
+    static IntAndLongToLong indexedMapper
+        (final LongAndDoubleToLong combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
-        return new IntAndLongToObject<V>() {
-            final int offset = u.origin - origin;
-            public V op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
-        };
+        return new IntAndLongToLong() {
+                final int offset = u.origin - origin;
+                public long op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
+            };
     }
 
-    static IntAndLongToDouble indexedMapper
-        (final LongAndDoubleToDouble combiner,
+    static IntAndIntToInt indexedMapper
+        (final IntAndDoubleToInt combiner,
          final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
-        return new IntAndLongToDouble() {
+        return new IntAndIntToInt() {
                 final int offset = u.origin - origin;
-                public double op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
+                public int op(int i, int a) { return combiner.op(a, u.dget(i+offset)); }
             };
     }
 
     static IntAndLongToLong indexedMapper
-        (final LongAndDoubleToLong combiner,
-         final ParallelDoubleArrayWithDoubleMapping u, final int origin) {
+        (final LongAndFloatToLong combiner,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
         return new IntAndLongToLong() {
                 final int offset = u.origin - origin;
-                public long op(int i, long a) { return combiner.op(a, u.dget(i+offset)); }
+                public long op(int i, long a) { return combiner.op(a, u.fget(i+offset)); }
             };
     }
 
@@ -7169,6 +11981,15 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> indexedMapper
+        (final IntAndIntToObject<? extends V> combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndIntToObject<V>() {
+            final int offset = u.origin - origin;
+            public V op(int i, int a) { return combiner.op(a, u.iget(i+offset)); }
+        };
+    }
+
     static IntAndLongToDouble indexedMapper
         (final LongAndLongToDouble combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7178,6 +11999,24 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble indexedMapper
+        (final IntAndIntToDouble combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndIntToDouble() {
+                final int offset = u.origin - origin;
+                public double op(int i, int a) { return combiner.op(a, u.iget(i+offset)); }
+            };
+    }
+
+    static IntAndLongToFloat indexedMapper
+        (final LongAndLongToFloat combiner,
+         final ParallelLongArrayWithLongMapping u, final int origin) {
+        return new IntAndLongToFloat() {
+                final int offset = u.origin - origin;
+                public float op(int i, long a) { return combiner.op(a, u.lget(i+offset)); }
+            };
+    }
+
     static IntAndLongToLong indexedMapper
         (final BinaryLongOp combiner,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7187,6 +12026,15 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt indexedMapper
+        (final BinaryIntOp combiner,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndIntToInt() {
+                final int offset = u.origin - origin;
+                public int op(int i, int a) { return combiner.op(a, u.iget(i+offset)); }
+            };
+    }
+
     static <T,U,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToObject<? super T, ? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7203,6 +12051,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToObject<? super T, ? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <T,U> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToObject<? super T, ? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7211,6 +12067,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToObject<? super T, ? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <U,V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7219,6 +12083,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final IntAndObjectToObject<? super U, ? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <U> IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final IntAndObjectToDouble<? super U> snd) {
@@ -7227,6 +12099,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <U> IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7235,6 +12115,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToObject<? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static <U> IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final IntAndObjectToLong<? super U> snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <U,V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7243,6 +12139,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final IntAndObjectToObject<? super U, ? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <U> IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final IntAndObjectToDouble<? super U> snd) {
@@ -7251,6 +12155,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final IntAndObjectToDouble<? super U> snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static <U> IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToObject<? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <U> IntAndLongToLong compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7259,6 +12179,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst,
          final IntAndDoubleToObject<? extends V> snd) {
@@ -7267,6 +12195,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst,
+         final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst,
          final IntAndDoubleToDouble snd) {
@@ -7275,6 +12211,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst,
+         final IntAndFloatToFloat snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst,
          final IntAndLongToLong snd) {
@@ -7283,6 +12227,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst,
+         final IntAndIntToInt snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToLong fst,
          final IntAndLongToObject<? extends V> snd) {
@@ -7291,6 +12243,22 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndDoubleToObject<V> compoundIndexedOp
+        (final IntAndDoubleToInt fst,
+         final IntAndIntToObject<? extends V> snd) {
+        return new IntAndDoubleToObject<V>() {
+            public V op(int i, double a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToLong fst,
+         final IntAndLongToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToDouble fst,
          final IntAndDoubleToDouble snd) {
@@ -7299,6 +12267,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToFloat fst,
+         final IntAndFloatToFloat snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToDouble fst,
          final IntAndDoubleToLong snd) {
@@ -7307,6 +12283,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToDouble fst,
+         final IntAndDoubleToInt snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToFloat fst,
+         final IntAndFloatToLong snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToDouble fst,
          final IntAndDoubleToObject<? extends V> snd) {
@@ -7315,6 +12307,22 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToDouble fst,
+         final IntAndDoubleToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
+    static <V> IntAndLongToObject<V> compoundIndexedOp
+        (final IntAndLongToFloat fst,
+         final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndLongToObject<V>() {
+            public V op(int i, long a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToDouble fst,
          final IntAndDoubleToDouble snd) {
@@ -7323,6 +12331,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToDouble fst,
+         final IntAndDoubleToDouble snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToFloat fst,
+         final IntAndFloatToFloat snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final IntAndLongToDouble fst,
          final IntAndDoubleToLong snd) {
@@ -7331,6 +12355,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToDouble fst,
+         final IntAndDoubleToInt snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToLong compoundIndexedOp
+        (final IntAndLongToFloat fst,
+         final IntAndFloatToLong snd) {
+        return new IntAndLongToLong() {
+                public long op(int i, long a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst,
          final IntAndLongToObject<? extends V> snd) {
@@ -7339,6 +12379,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst,
+         final IntAndIntToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst,
          final IntAndLongToDouble snd) {
@@ -7347,6 +12395,22 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToDouble<T> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst,
+         final IntAndIntToDouble snd) {
+        return new IntAndObjectToDouble<T>() {
+            public double op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToLong<? super T> fst,
+         final IntAndLongToFloat snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst,
          final IntAndDoubleToLong snd) {
@@ -7355,6 +12419,22 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToDouble<? super T> fst,
+         final IntAndDoubleToInt snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
+    static <T> IntAndObjectToLong<T> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst,
+         final IntAndFloatToLong snd) {
+        return new IntAndObjectToLong<T>() {
+            public long op(int i, T a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToDouble fst,
          final IntAndDoubleToObject<? extends V> snd) {
@@ -7363,6 +12443,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToFloat fst,
+         final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToLong fst,
          final IntAndLongToDouble snd) {
@@ -7371,6 +12459,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToDouble compoundIndexedOp
+        (final IntAndDoubleToInt fst,
+         final IntAndIntToDouble snd) {
+        return new IntAndDoubleToDouble() {
+                public double op(int i, double a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToLong fst,
+         final IntAndLongToFloat snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToLong fst,
          final IntAndLongToLong snd) {
@@ -7379,6 +12483,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToInt fst,
+         final IntAndIntToInt snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToLong fst,
+         final IntAndLongToLong snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToLong fst,
          final IntAndLongToObject<? extends V> snd) {
@@ -7387,6 +12507,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToInt fst,
+         final IntAndIntToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToLong fst,
          final IntAndLongToDouble snd) {
@@ -7395,6 +12523,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToInt fst,
+         final IntAndIntToDouble snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToLong fst,
+         final IntAndLongToFloat snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final IntAndLongToLong fst,
          final IntAndLongToLong snd) {
@@ -7403,6 +12547,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToInt fst,
+         final IntAndIntToInt snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(i, a)); }
+            };
+    }
+
     static <T,U,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToObject<? super T, ? extends U> fst,
          final Op<? super U, ? extends V> snd) {
@@ -7419,6 +12571,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToObject<? super T, ? extends U> fst,
+         final ObjectToFloat<? super U> snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <T,U> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToObject<? super T, ? extends U> fst,
          final ObjectToLong<? super U> snd) {
@@ -7427,6 +12587,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToObject<? super T, ? extends U> fst,
+         final ObjectToInt<? super U> snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <U,V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final Op<? super U, ? extends V> snd) {
@@ -7435,6 +12603,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final Op<? super U, ? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <U> IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final ObjectToDouble<? super U> snd) {
@@ -7443,6 +12619,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final ObjectToFloat<? super U> snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <U> IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToObject<? extends U> fst,
          final ObjectToLong<? super U> snd) {
@@ -7451,6 +12635,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToObject<? extends U> fst,
+         final ObjectToInt<? super U> snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static <U> IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToObject<? extends U> fst,
+         final ObjectToLong<? super U> snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <U,V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final Op<? super U, ? extends V> snd) {
@@ -7459,6 +12659,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final Op<? super U, ? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <U> IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final ObjectToDouble<? super U> snd) {
@@ -7467,6 +12675,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final ObjectToDouble<? super U> snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static <U> IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToObject<? extends U> fst,
+         final ObjectToFloat<? super U> snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <U> IntAndLongToLong compoundIndexedOp
         (final IntAndLongToObject<? extends U> fst,
          final ObjectToLong<? super U> snd) {
@@ -7475,6 +12699,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToObject<? extends U> fst,
+         final ObjectToInt<? super U> snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst,
          final DoubleToObject<? extends V> snd) {
@@ -7483,6 +12715,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst,
+         final FloatToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst, final DoubleOp snd) {
         return new IntAndObjectToDouble<T>() {
@@ -7490,6 +12730,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst, final FloatOp snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToDouble<? super T> fst, final DoubleToLong snd) {
         return new IntAndObjectToLong<T>() {
@@ -7497,6 +12744,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToDouble<? super T> fst, final DoubleToInt snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
+    static <T> IntAndObjectToLong<T> compoundIndexedOp
+        (final IntAndObjectToFloat<? super T> fst, final FloatToLong snd) {
+        return new IntAndObjectToLong<T>() {
+            public long op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToDouble fst,
          final DoubleToObject<? extends V> snd) {
@@ -7505,6 +12766,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToFloat fst,
+         final FloatToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToDouble fst, final DoubleOp snd) {
         return new IntAndDoubleToDouble() {
@@ -7512,6 +12781,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToFloat fst, final FloatOp snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToDouble fst, final DoubleToLong snd) {
         return new IntAndDoubleToLong() {
@@ -7519,6 +12795,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToDouble fst, final DoubleToInt snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToFloat fst, final FloatToLong snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToDouble fst, final DoubleToObject<? extends V> snd) {
         return new IntAndLongToObject<V>() {
@@ -7526,6 +12816,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToDouble fst, final DoubleToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
+    static <V> IntAndLongToObject<V> compoundIndexedOp
+        (final IntAndLongToFloat fst, final FloatToObject<? extends V> snd) {
+        return new IntAndLongToObject<V>() {
+            public V op(int i, long a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToDouble fst, final DoubleOp snd) {
         return new IntAndLongToDouble() {
@@ -7533,6 +12837,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToDouble fst, final DoubleOp snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i,int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToFloat fst, final FloatOp snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i,long a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final IntAndLongToDouble fst, final DoubleToLong snd) {
         return new IntAndLongToLong() {
@@ -7540,6 +12858,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToDouble fst, final DoubleToInt snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToLong compoundIndexedOp
+        (final IntAndLongToFloat fst, final FloatToLong snd) {
+        return new IntAndLongToLong() {
+                public long op(int i, long a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst,
          final LongToObject<? extends V> snd) {
@@ -7548,6 +12880,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst,
+         final IntToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst, final LongToDouble snd) {
         return new IntAndObjectToDouble<T>() {
@@ -7555,6 +12895,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToDouble<T> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst, final IntToDouble snd) {
+        return new IntAndObjectToDouble<T>() {
+            public double op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final IntAndObjectToLong<? super T> fst, final LongToFloat snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final IntAndObjectToLong<? super T> fst, final LongOp snd) {
         return new IntAndObjectToLong<T>() {
@@ -7562,6 +12916,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final IntAndObjectToInt<? super T> fst, final IntOp snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final IntAndDoubleToLong fst, final LongToObject<? extends V> snd) {
         return new IntAndDoubleToObject<V>() {
@@ -7569,6 +12930,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndDoubleToObject<V> compoundIndexedOp
+        (final IntAndDoubleToInt fst, final IntToObject<? extends V> snd) {
+        return new IntAndDoubleToObject<V>() {
+            public V op(int i, double a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final IntAndFloatToLong fst, final LongToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final IntAndDoubleToLong fst, final LongToDouble snd) {
         return new IntAndDoubleToDouble() {
@@ -7576,6 +12951,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToDouble compoundIndexedOp
+        (final IntAndDoubleToInt fst, final IntToDouble snd) {
+        return new IntAndDoubleToDouble() {
+                public double op(int i, double a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToFloat compoundIndexedOp
+        (final IntAndFloatToLong fst, final LongToFloat snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final IntAndDoubleToLong fst, final LongOp snd) {
         return new IntAndDoubleToLong() {
@@ -7583,6 +12972,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final IntAndDoubleToInt fst, final IntOp snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final IntAndFloatToLong fst, final LongOp snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final IntAndLongToLong fst, final LongToObject<? extends V> snd) {
         return new IntAndLongToObject<V>() {
@@ -7590,6 +12993,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntAndIntToInt fst, final IntToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(fst.op(i, a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final IntAndLongToLong fst, final LongToDouble snd) {
         return new IntAndLongToDouble() {
@@ -7597,6 +13007,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntAndIntToInt fst, final IntToDouble snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i,int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final IntAndLongToLong fst, final LongToFloat snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i,long a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final IntAndLongToLong fst,
          final LongOp snd) {
@@ -7605,6 +13029,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntAndIntToInt fst,
+         final IntOp snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(fst.op(i, a)); }
+            };
+    }
+
     static <T,U,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final Op<? super T, ? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7621,6 +13053,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToFloat<T> compoundIndexedOp
+        (final Op<? super T, ? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <T,U> IntAndObjectToLong<T> compoundIndexedOp
         (final Op<? super T, ? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7629,6 +13069,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,U> IntAndObjectToInt<T> compoundIndexedOp
+        (final Op<? super T, ? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <U,V> IntAndDoubleToObject<V> compoundIndexedOp
         (final DoubleToObject<? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7637,6 +13085,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndFloatToObject<V> compoundIndexedOp
+        (final FloatToObject<? extends U> fst,
+         final IntAndObjectToObject<? super U, ? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <U> IntAndDoubleToDouble compoundIndexedOp
         (final DoubleToObject<? extends U> fst,
          final IntAndObjectToDouble<? super U> snd) {
@@ -7645,6 +13101,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndFloatToFloat compoundIndexedOp
+        (final FloatToObject<? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <U> IntAndDoubleToLong compoundIndexedOp
         (final DoubleToObject<? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7653,6 +13117,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndDoubleToInt compoundIndexedOp
+        (final DoubleToObject<? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static <U> IntAndFloatToLong compoundIndexedOp
+        (final FloatToObject<? extends U> fst,
+         final IntAndObjectToLong<? super U> snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <U,V> IntAndLongToObject<V> compoundIndexedOp
         (final LongToObject<? extends U> fst,
          final IntAndObjectToObject<? super U, ? extends V> snd) {
@@ -7661,6 +13141,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <U,V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntToObject<? extends U> fst,
+         final IntAndObjectToObject<? super U, ? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <U> IntAndLongToDouble compoundIndexedOp
         (final LongToObject<? extends U> fst,
          final IntAndObjectToDouble<? super U> snd) {
@@ -7669,6 +13157,22 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToDouble compoundIndexedOp
+        (final IntToObject<? extends U> fst,
+         final IntAndObjectToDouble<? super U> snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static <U> IntAndLongToFloat compoundIndexedOp
+        (final LongToObject<? extends U> fst,
+         final IntAndObjectToFloat<? super U> snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <U> IntAndLongToLong compoundIndexedOp
         (final LongToObject<? extends U> fst,
          final IntAndObjectToLong<? super U> snd) {
@@ -7677,6 +13181,14 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static <U> IntAndIntToInt compoundIndexedOp
+        (final IntToObject<? extends U> fst,
+         final IntAndObjectToInt<? super U> snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final ObjectToDouble<? super T> fst,
          final IntAndDoubleToObject<? extends V> snd) {
@@ -7685,6 +13197,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final ObjectToFloat<? super T> fst,
+         final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final ObjectToDouble<? super T> fst, final IntAndDoubleToDouble snd) {
         return new IntAndObjectToDouble<T>() {
@@ -7692,6 +13212,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final ObjectToFloat<? super T> fst, final IntAndFloatToFloat snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final ObjectToDouble<? super T> fst, final IntAndDoubleToLong snd) {
         return new IntAndObjectToLong<T>() {
@@ -7699,6 +13226,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final ObjectToDouble<? super T> fst, final IntAndDoubleToInt snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
+    static <T> IntAndObjectToLong<T> compoundIndexedOp
+        (final ObjectToFloat<? super T> fst, final IntAndFloatToLong snd) {
+        return new IntAndObjectToLong<T>() {
+            public long op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final DoubleOp fst, final IntAndDoubleToObject<? extends V> snd) {
         return new IntAndDoubleToObject<V>() {
@@ -7706,6 +13247,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final FloatOp fst, final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final DoubleOp fst, final IntAndDoubleToDouble snd) {
         return new IntAndDoubleToDouble() {
@@ -7713,6 +13261,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatToFloat compoundIndexedOp
+        (final FloatOp fst, final IntAndFloatToFloat snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final DoubleOp fst, final IntAndDoubleToLong snd) {
         return new IntAndDoubleToLong() {
@@ -7720,6 +13275,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final DoubleOp fst, final IntAndDoubleToInt snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final FloatOp fst, final IntAndFloatToLong snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final LongToDouble fst, final IntAndDoubleToObject<? extends V> snd) {
         return new IntAndLongToObject<V>() {
@@ -7727,6 +13296,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntToDouble fst, final IntAndDoubleToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
+    static <V> IntAndLongToObject<V> compoundIndexedOp
+        (final LongToFloat fst, final IntAndFloatToObject<? extends V> snd) {
+        return new IntAndLongToObject<V>() {
+            public V op(int i, long a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final LongToDouble fst, final IntAndDoubleToDouble snd) {
         return new IntAndLongToDouble() {
@@ -7734,6 +13317,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntToDouble fst, final IntAndDoubleToDouble snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final LongToFloat fst, final IntAndFloatToFloat snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final LongToDouble fst, final IntAndDoubleToLong snd) {
         return new IntAndLongToLong() {
@@ -7741,6 +13338,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntToDouble fst, final IntAndDoubleToInt snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndLongToLong compoundIndexedOp
+        (final LongToFloat fst, final IntAndFloatToLong snd) {
+        return new IntAndLongToLong() {
+                public long op(int i, long a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
         (final ObjectToLong<? super T> fst,
          final IntAndLongToObject<? extends V> snd) {
@@ -7749,6 +13360,14 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T,V> IntAndObjectToObject<T,V> compoundIndexedOp
+        (final ObjectToInt<? super T> fst,
+         final IntAndIntToObject<? extends V> snd) {
+        return new IntAndObjectToObject<T,V>() {
+            public V op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <T> IntAndObjectToDouble<T> compoundIndexedOp
         (final ObjectToLong<? super T> fst, final IntAndLongToDouble snd) {
         return new IntAndObjectToDouble<T>() {
@@ -7756,6 +13375,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToDouble<T> compoundIndexedOp
+        (final ObjectToInt<? super T> fst, final IntAndIntToDouble snd) {
+        return new IntAndObjectToDouble<T>() {
+            public double op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
+    static <T> IntAndObjectToFloat<T> compoundIndexedOp
+        (final ObjectToLong<? super T> fst, final IntAndLongToFloat snd) {
+        return new IntAndObjectToFloat<T>() {
+            public float op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <T> IntAndObjectToLong<T> compoundIndexedOp
         (final ObjectToLong<? super T> fst, final IntAndLongToLong snd) {
         return new IntAndObjectToLong<T>() {
@@ -7763,6 +13396,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <T> IntAndObjectToInt<T> compoundIndexedOp
+        (final ObjectToInt<? super T> fst, final IntAndIntToInt snd) {
+        return new IntAndObjectToInt<T>() {
+            public int op(int i, T a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static <V> IntAndDoubleToObject<V> compoundIndexedOp
         (final DoubleToLong fst, final IntAndLongToObject<? extends V> snd) {
         return new IntAndDoubleToObject<V>() {
@@ -7770,6 +13410,20 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndDoubleToObject<V> compoundIndexedOp
+        (final DoubleToInt fst, final IntAndIntToObject<? extends V> snd) {
+        return new IntAndDoubleToObject<V>() {
+            public V op(int i, double a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
+    static <V> IntAndFloatToObject<V> compoundIndexedOp
+        (final FloatToLong fst, final IntAndLongToObject<? extends V> snd) {
+        return new IntAndFloatToObject<V>() {
+            public V op(int i, float a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static IntAndDoubleToDouble compoundIndexedOp
         (final DoubleToLong fst, final IntAndLongToDouble snd) {
         return new IntAndDoubleToDouble() {
@@ -7777,6 +13431,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToDouble compoundIndexedOp
+        (final DoubleToInt fst, final IntAndIntToDouble snd) {
+        return new IntAndDoubleToDouble() {
+                public double op(int i, double a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndFloatToFloat compoundIndexedOp
+        (final FloatToLong fst, final IntAndLongToFloat snd) {
+        return new IntAndFloatToFloat() {
+                public float op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static IntAndDoubleToLong compoundIndexedOp
         (final DoubleToLong fst, final IntAndLongToLong snd) {
         return new IntAndDoubleToLong() {
@@ -7784,6 +13452,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndDoubleToInt compoundIndexedOp
+        (final DoubleToInt fst, final IntAndIntToInt snd) {
+        return new IntAndDoubleToInt() {
+                public int op(int i, double a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndFloatToLong compoundIndexedOp
+        (final FloatToLong fst, final IntAndLongToLong snd) {
+        return new IntAndFloatToLong() {
+                public long op(int i, float a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static <V> IntAndLongToObject<V> compoundIndexedOp
         (final LongOp fst, final IntAndLongToObject<? extends V> snd) {
         return new IntAndLongToObject<V>() {
@@ -7791,6 +13473,13 @@ public abstract class AbstractParallelAnyArray {
         };
     }
 
+    static <V> IntAndIntToObject<V> compoundIndexedOp
+        (final IntOp fst, final IntAndIntToObject<? extends V> snd) {
+        return new IntAndIntToObject<V>() {
+            public V op(int i, int a) { return snd.op(i, fst.op(a)); }
+        };
+    }
+
     static IntAndLongToDouble compoundIndexedOp
         (final LongOp fst, final IntAndLongToDouble snd) {
         return new IntAndLongToDouble() {
@@ -7798,6 +13487,20 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToDouble compoundIndexedOp
+        (final IntOp fst, final IntAndIntToDouble snd) {
+        return new IntAndIntToDouble() {
+                public double op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
+    static IntAndLongToFloat compoundIndexedOp
+        (final LongOp fst, final IntAndLongToFloat snd) {
+        return new IntAndLongToFloat() {
+                public float op(int i, long a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     static IntAndLongToLong compoundIndexedOp
         (final LongOp fst, final IntAndLongToLong snd) {
         return new IntAndLongToLong() {
@@ -7805,6 +13508,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntToInt compoundIndexedOp
+        (final IntOp fst, final IntAndIntToInt snd) {
+        return new IntAndIntToInt() {
+                public int op(int i, int a) { return snd.op(i, fst.op(a)); }
+            };
+    }
+
     // binary predicates
 
     static <T,U,W> IntAndObjectPredicate<T> indexedSelector
@@ -7831,6 +13541,18 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatPredicate indexedSelector
+        (final BinaryFloatPredicate bp,
+         final ParallelFloatArrayWithFloatMapping u, final int origin) {
+        return new IntAndFloatPredicate() {
+                final int offset = u.origin - origin;
+                public boolean op(int i, float a) {
+                    int k = i + offset;
+                    return u.isSelected(k) && bp.op(a, u.fget(k));
+                }
+            };
+    }
+
     static IntAndLongPredicate indexedSelector
         (final BinaryLongPredicate bp,
          final ParallelLongArrayWithLongMapping u, final int origin) {
@@ -7843,6 +13565,18 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntPredicate indexedSelector
+        (final BinaryIntPredicate bp,
+         final ParallelIntArrayWithIntMapping u, final int origin) {
+        return new IntAndIntPredicate() {
+                final int offset = u.origin - origin;
+                public boolean op(int i, int a) {
+                    int k = i + offset;
+                    return u.isSelected(k) && bp.op(a, u.iget(k));
+                }
+            };
+    }
+
     static <S, T extends S> IntAndObjectPredicate<T> compoundIndexedSelector
                          (final Predicate<S> fst, final IntAndObjectPredicate<? super T> snd) {
         return new IntAndObjectPredicate<T>() {
@@ -7872,6 +13606,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndFloatPredicate compoundIndexedSelector
+        (final FloatPredicate fst, final IntAndFloatPredicate snd) {
+        return new IntAndFloatPredicate() {
+                public boolean op(int i, float a) { return fst.op(a) && snd.op(i, a); }
+            };
+    }
+
     static  IntAndDoublePredicate compoundIndexedSelector
         (final IntAndDoublePredicate fst, final IntAndDoublePredicate snd) {
         return new IntAndDoublePredicate() {
@@ -7879,6 +13620,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static  IntAndFloatPredicate compoundIndexedSelector
+        (final IntAndFloatPredicate fst, final IntAndFloatPredicate snd) {
+        return new IntAndFloatPredicate() {
+                public boolean op(int i, float a) { return fst.op(i, a) && snd.op(i, a); }
+            };
+    }
+
     static  IntAndDoublePredicate compoundIndexedSelector
         (final IntAndDoublePredicate fst, final DoublePredicate snd) {
         return new IntAndDoublePredicate() {
@@ -7886,6 +13634,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static  IntAndFloatPredicate compoundIndexedSelector
+        (final IntAndFloatPredicate fst, final FloatPredicate snd) {
+        return new IntAndFloatPredicate() {
+                public boolean op(int i, float a) { return fst.op(i, a) && snd.op(a); }
+            };
+    }
+
     static IntAndLongPredicate compoundIndexedSelector
         (final LongPredicate fst, final IntAndLongPredicate snd) {
         return new IntAndLongPredicate() {
@@ -7893,6 +13648,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static IntAndIntPredicate compoundIndexedSelector
+        (final IntPredicate fst, final IntAndIntPredicate snd) {
+        return new IntAndIntPredicate() {
+                public boolean op(int i, int a) { return fst.op(a) && snd.op(i, a); }
+            };
+    }
+
     static  IntAndLongPredicate compoundIndexedSelector
         (final IntAndLongPredicate fst, final IntAndLongPredicate snd) {
         return new IntAndLongPredicate() {
@@ -7900,6 +13662,13 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static  IntAndIntPredicate compoundIndexedSelector
+        (final IntAndIntPredicate fst, final IntAndIntPredicate snd) {
+        return new IntAndIntPredicate() {
+                public boolean op(int i, int a) { return fst.op(i, a) && snd.op(i, a); }
+            };
+    }
+
     static  IntAndLongPredicate compoundIndexedSelector
         (final IntAndLongPredicate fst, final LongPredicate snd) {
         return new IntAndLongPredicate() {
@@ -7907,4 +13676,11 @@ public abstract class AbstractParallelAnyArray {
             };
     }
 
+    static  IntAndIntPredicate compoundIndexedSelector
+        (final IntAndIntPredicate fst, final IntPredicate snd) {
+        return new IntAndIntPredicate() {
+                public boolean op(int i, int a) { return fst.op(i, a) && snd.op(a); }
+            };
+    }
+
 }
@@ -150,6 +150,22 @@ public class CommonOps {
         }
     }
 
+
+    /**
+     * Returns a comparator for floats relying on natural ordering
+     */
+    public static FloatComparator naturalFloatComparator() {
+        return NaturalFloatComparator.comparator;
+    }
+    static final class NaturalFloatComparator
+        implements FloatComparator {
+        static final NaturalFloatComparator comparator = new
+            NaturalFloatComparator();
+        public int compare(float a, float b) {
+            return Float.compare(a, b);
+        }
+    }
+
     /**
      * Returns a reducer returning the maximum of two double elements,
      * using natural comparator
@@ -165,6 +181,21 @@ public class CommonOps {
         public double op(double a, double b) { return Math.max(a, b); }
     }
 
+    /**
+     * Returns a reducer returning the maximum of two float elements,
+     * using natural comparator
+     */
+    public static FloatReducer naturalFloatMaxReducer() {
+        return NaturalFloatMaxReducer.max;
+    }
+
+    static final class NaturalFloatMaxReducer
+        implements FloatReducer {
+        public static final NaturalFloatMaxReducer max =
+            new NaturalFloatMaxReducer();
+        public float op(float a, float b) { return Math.max(a, b); }
+    }
+
     /**
      * Returns a reducer returning the minimum of two double elements,
      * using natural comparator
@@ -179,6 +210,20 @@ public class CommonOps {
         public double op(double a, double b) { return Math.min(a, b); }
     }
 
+    /**
+     * Returns a reducer returning the minimum of two float elements,
+     * using natural comparator
+     */
+    public static FloatReducer naturalFloatMinReducer() {
+        return NaturalFloatMinReducer.min;
+    }
+    static final class NaturalFloatMinReducer
+        implements FloatReducer {
+        public static final NaturalFloatMinReducer min =
+            new NaturalFloatMinReducer();
+        public float op(float a, float b) { return Math.min(a, b); }
+    }
+
     /**
      * Returns a reducer returning the maximum of two double elements,
      * using the given comparator
@@ -192,6 +237,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a reducer returning the maximum of two float elements,
+     * using the given comparator
+     */
+    public static FloatReducer floatMaxReducer
+        (final FloatComparator comparator) {
+        return new FloatReducer() {
+                public float op(float a, float b) {
+                    return (comparator.compare(a, b) >= 0)? a : b;
+                }
+            };
+    }
+
     /**
      * Returns a reducer returning the minimum of two double elements,
      * using the given comparator
@@ -205,6 +263,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a reducer returning the minimum of two float elements,
+     * using the given comparator
+     */
+    public static FloatReducer floatMinReducer
+        (final FloatComparator comparator) {
+        return new FloatReducer() {
+                public float op(float a, float b) {
+                    return (comparator.compare(a, b) <= 0)? a : b;
+                }
+            };
+    }
+
     /**
      * Returns a comparator for longs relying on natural ordering
      */
@@ -220,6 +291,21 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a comparator for ints relying on natural ordering
+     */
+    public static IntComparator naturalIntComparator() {
+        return NaturalIntComparator.comparator;
+    }
+    static final class NaturalIntComparator
+        implements IntComparator {
+        static final NaturalIntComparator comparator = new
+            NaturalIntComparator();
+        public int compare(int a, int b) {
+            return a < b? -1 : ((a > b)? 1 : 0);
+        }
+    }
+
     /**
      * Returns a reducer returning the maximum of two long elements,
      * using natural comparator
@@ -235,6 +321,21 @@ public class CommonOps {
         public long op(long a, long b) { return a >= b? a : b; }
     }
 
+    /**
+     * Returns a reducer returning the maximum of two int elements,
+     * using natural comparator
+     */
+    public static IntReducer naturalIntMaxReducer() {
+        return NaturalIntMaxReducer.max;
+    }
+
+    static final class NaturalIntMaxReducer
+        implements IntReducer {
+        public static final NaturalIntMaxReducer max =
+            new NaturalIntMaxReducer();
+        public int op(int a, int b) { return a >= b? a : b; }
+    }
+
     /**
      * A reducer returning the minimum of two long elements,
      * using natural comparator
@@ -249,6 +350,20 @@ public class CommonOps {
         public long op(long a, long b) { return a <= b? a : b; }
     }
 
+    /**
+     * A reducer returning the minimum of two int elements,
+     * using natural comparator
+     */
+    public static IntReducer naturalIntMinReducer() {
+        return NaturalIntMinReducer.min;
+    }
+    static final class NaturalIntMinReducer
+        implements IntReducer {
+        public static final NaturalIntMinReducer min =
+            new NaturalIntMinReducer();
+        public int op(int a, int b) { return a <= b? a : b; }
+    }
+
     /**
      * Returns a reducer returning the maximum of two long elements,
      * using the given comparator
@@ -262,6 +377,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a reducer returning the maximum of two int elements,
+     * using the given comparator
+     */
+    public static IntReducer intMaxReducer
+        (final IntComparator comparator) {
+        return new IntReducer() {
+                public int op(int a, int b) {
+                    return (comparator.compare(a, b) >= 0)? a : b;
+                }
+            };
+    }
+
     /**
      * Returns a reducer returning the minimum of two long elements,
      * using the given comparator
@@ -275,6 +403,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a reducer returning the minimum of two int elements,
+     * using the given comparator
+     */
+    public static IntReducer intMinReducer
+        (final IntComparator comparator) {
+        return new IntReducer() {
+                public int op(int a, int b) {
+                    return (comparator.compare(a, b) <= 0)? a : b;
+                }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -299,6 +440,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,V> Op<T,V> compoundOp
+        (final ObjectToFloat<? super T> first,
+         final FloatToObject<? extends V> second) {
+        return new Op<T,V>() {
+            public final V op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -311,6 +464,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,V> Op<T,V> compoundOp
+        (final ObjectToInt<? super T> first,
+         final IntToObject<? extends V> second) {
+        return new Op<T,V>() {
+            public final V op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -323,6 +488,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,V> FloatToObject<V> compoundOp
+        (final FloatToObject<? extends T> first,
+         final Op<? super T,? extends V> second) {
+        return new FloatToObject<V>() {
+            public final V op(float t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -335,6 +512,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,V> IntToObject<V> compoundOp
+        (final IntToObject<? extends T> first,
+         final Op<? super T,? extends V> second) {
+        return new IntToObject<V>() {
+            public final V op(int t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -347,6 +536,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,U> ObjectToFloat<T> compoundOp
+        (final Op<? super T, ? extends U> first,
+         final ObjectToFloat<? super U> second) {
+        return new ObjectToFloat<T>() {
+            public final float op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -359,6 +560,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T,U> ObjectToInt<T> compoundOp
+        (final Op<? super T, ? extends U> first,
+         final ObjectToInt<? super U> second) {
+        return new ObjectToInt<T>() {
+            public final int op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -371,6 +584,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToFloat<T> compoundOp
+        (final ObjectToFloat<? super T> first,
+         final FloatOp second) {
+        return new ObjectToFloat<T>() {
+            public final float op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -383,6 +608,30 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToInt<T> compoundOp
+        (final ObjectToDouble<? super T> first,
+         final DoubleToInt second) {
+        return new ObjectToInt<T>() {
+            public final int op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToLong<T> compoundOp
+        (final ObjectToFloat<? super T> first,
+         final FloatToLong second) {
+        return new ObjectToLong<T>() {
+            public final long op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -395,6 +644,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToInt<T> compoundOp
+        (final ObjectToInt<? super T> first,
+         final IntOp second) {
+        return new ObjectToInt<T>() {
+            public final int op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -407,6 +668,30 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToDouble<T> compoundOp
+        (final ObjectToInt<? super T> first,
+         final IntToDouble second) {
+        return new ObjectToDouble<T>() {
+            public final double op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> ObjectToFloat<T> compoundOp
+        (final ObjectToLong<? super T> first,
+         final LongToFloat second) {
+        return new ObjectToFloat<T>() {
+            public final float op(T t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -419,6 +704,18 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static FloatOp compoundOp
+        (final FloatOp first,
+         final FloatOp second) {
+        return new FloatOp() {
+                public final float op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -431,6 +728,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static DoubleToInt compoundOp
+        (final DoubleOp first,
+         final DoubleToInt second) {
+        return new DoubleToInt() {
+                public final int op(double t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static FloatToLong compoundOp
+        (final FloatOp first,
+         final FloatToLong second) {
+        return new FloatToLong() {
+                public final long op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -443,6 +764,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static DoubleToInt compoundOp
+        (final DoubleToInt first,
+         final IntOp second) {
+        return new DoubleToInt() {
+                public final int op(double t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static FloatToLong compoundOp
+        (final FloatToLong first,
+         final LongOp second) {
+        return new FloatToLong() {
+                public final long op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -455,6 +800,30 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> DoubleToObject<T> compoundOp
+        (final DoubleToInt first,
+         final IntToObject<? extends T> second) {
+        return new DoubleToObject<T>() {
+            public final T op(double t) { return second.op(first.op(t)); }
+        };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> FloatToObject<T> compoundOp
+        (final FloatToLong first,
+         final LongToObject<? extends T> second) {
+        return new FloatToObject<T>() {
+            public final T op(float t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -467,6 +836,30 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> IntToObject<T> compoundOp
+        (final IntToDouble first,
+         final DoubleToObject<? extends T> second) {
+        return new IntToObject<T>() {
+            public final T op(int t) { return second.op(first.op(t)); }
+        };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> LongToObject<T> compoundOp
+        (final LongToFloat first,
+         final FloatToObject<? extends T> second) {
+        return new LongToObject<T>() {
+            public final T op(long t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -479,6 +872,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static IntToDouble compoundOp
+        (final IntOp first,
+         final IntToDouble second) {
+        return new IntToDouble() {
+                public final double op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static LongToFloat compoundOp
+        (final LongOp first,
+         final LongToFloat second) {
+        return new LongToFloat() {
+                public final float op(long t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -491,6 +908,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static IntToDouble compoundOp
+        (final IntToDouble first,
+         final DoubleOp second) {
+        return new IntToDouble() {
+                public final double op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static LongToFloat compoundOp
+        (final LongToFloat first,
+         final FloatOp second) {
+        return new LongToFloat() {
+                public final float op(long t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -503,6 +944,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> FloatToObject<T> compoundOp
+        (final FloatOp first,
+         final FloatToObject<? extends T> second) {
+        return new FloatToObject<T>() {
+            public final T op(float t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -515,6 +968,18 @@ public class CommonOps {
         };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> IntToObject<T> compoundOp
+        (final IntOp first,
+         final IntToObject<? extends T> second) {
+        return new IntToObject<T>() {
+            public final T op(int t) { return second.op(first.op(t)); }
+        };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -527,6 +992,18 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> FloatOp compoundOp
+        (final FloatToObject<? extends T> first,
+         final ObjectToFloat<? super T>  second) {
+        return new FloatOp() {
+                public final float op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -539,6 +1016,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> IntToDouble compoundOp
+        (final IntToObject<? extends T> first,
+         final ObjectToDouble<? super T>  second) {
+        return new IntToDouble() {
+                public final double op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> LongToFloat compoundOp
+        (final LongToObject<? extends T> first,
+         final ObjectToFloat<? super T>  second) {
+        return new LongToFloat() {
+                public final float op(long t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -551,6 +1052,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> DoubleToInt compoundOp
+        (final DoubleToObject<? extends T> first,
+         final ObjectToInt<? super T>  second) {
+        return new DoubleToInt() {
+                public final int op(double t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> FloatToLong compoundOp
+        (final FloatToObject<? extends T> first,
+         final ObjectToLong<? super T>  second) {
+        return new FloatToLong() {
+                public final long op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -563,6 +1088,18 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static <T> IntOp compoundOp
+        (final IntToObject<? extends T> first,
+         final ObjectToInt<? super T>  second) {
+        return new IntOp() {
+                public final int op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -575,6 +1112,18 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static IntOp compoundOp
+        (final IntOp first,
+         final IntOp second) {
+        return new IntOp() {
+                public final int op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -587,6 +1136,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static DoubleOp compoundOp
+        (final DoubleToInt first,
+         final IntToDouble second) {
+        return new DoubleOp() {
+                public final double op(double t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static FloatOp compoundOp
+        (final FloatToLong first,
+         final LongToFloat second) {
+        return new FloatOp() {
+                public final float op(float t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a composite mapper that applies a second mapper to the results
      * of applying the first one
@@ -599,6 +1172,30 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static IntOp compoundOp
+        (final IntToDouble first,
+         final DoubleToInt second) {
+        return new IntOp() {
+                public final int op(int t) { return second.op(first.op(t)); }
+            };
+    }
+
+    /**
+     * Returns a composite mapper that applies a second mapper to the results
+     * of applying the first one
+     */
+    public static LongOp compoundOp
+        (final LongToFloat first,
+         final FloatToLong second) {
+        return new LongOp() {
+                public final long op(long t) { return second.op(first.op(t)); }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to the negation of its contained predicate
      */
@@ -619,6 +1216,16 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a predicate evaluating to the negation of its contained predicate
+     */
+    public static FloatPredicate notPredicate
+        (final FloatPredicate pred) {
+        return new FloatPredicate() {
+                public final boolean op(float x) { return !pred.op(x); }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to the negation of its contained predicate
      */
@@ -629,6 +1236,16 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a predicate evaluating to the negation of its contained predicate
+     */
+    public static IntPredicate notPredicate
+        (final IntPredicate pred) {
+        return new IntPredicate() {
+                public final boolean op(int x) { return !pred.op(x); }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to the conjunction of its contained predicates
      */
@@ -668,6 +1285,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a predicate evaluating to the conjunction of its contained predicates
+     */
+    public static FloatPredicate andPredicate
+        (final FloatPredicate first,
+         final FloatPredicate second) {
+        return new FloatPredicate() {
+                public final boolean op(float x) {
+                    return first.op(x) && second.op(x);
+                }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to the disjunction of its contained predicates
      */
@@ -681,6 +1311,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a predicate evaluating to the disjunction of its contained predicates
+     */
+    public static FloatPredicate orPredicate
+        (final FloatPredicate first,
+         final FloatPredicate second) {
+        return new FloatPredicate() {
+                public final boolean op(float x) {
+                    return first.op(x) || second.op(x);
+                }
+            };
+    }
+
 
     /**
      * Returns a predicate evaluating to the conjunction of its contained predicates
@@ -695,6 +1338,20 @@ public class CommonOps {
             };
     }
 
+
+    /**
+     * Returns a predicate evaluating to the conjunction of its contained predicates
+     */
+    public static IntPredicate andPredicate
+        (final IntPredicate first,
+         final IntPredicate second) {
+        return new IntPredicate() {
+                public final boolean op(int x) {
+                    return first.op(x) && second.op(x);
+                }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to the disjunction of its contained predicates
      */
@@ -708,6 +1365,19 @@ public class CommonOps {
             };
     }
 
+    /**
+     * Returns a predicate evaluating to the disjunction of its contained predicates
+     */
+    public static IntPredicate orPredicate
+        (final IntPredicate first,
+         final IntPredicate second) {
+        return new IntPredicate() {
+                public final boolean op(int x) {
+                    return first.op(x) || second.op(x);
+                }
+            };
+    }
+
     /**
      * Returns a predicate evaluating to true if its argument is non-null
      */
@@ -769,6 +1439,15 @@ public class CommonOps {
         public double op(double a, double b) { return a + b; }
     }
 
+    /**
+     * Returns a reducer that adds two float elements
+     */
+    public static FloatReducer floatAdder() { return FloatAdder.adder; }
+    static final class FloatAdder implements FloatReducer {
+        static final FloatAdder adder = new FloatAdder();
+        public float op(float a, float b) { return a + b; }
+    }
+
     /**
      * Returns a reducer that adds two long elements
      */
@@ -803,6 +1482,22 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a generator producing uniform random values between
+     * zero and one, with the same properties as {@link
+     * java.util.Random#nextFloat}
+     */
+    public static FloatGenerator floatRandom() {
+        return FloatRandomGenerator.generator;
+    }
+    static final class FloatRandomGenerator implements FloatGenerator {
+        static final FloatRandomGenerator generator =
+            new FloatRandomGenerator();
+        public float op() {
+            return ThreadLocalRandom.current().nextFloat();
+        }
+    }
+
     /**
      * Returns a generator producing uniform random values between
      * zero and the given bound, with the same properties as {@link
@@ -820,6 +1515,23 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a generator producing uniform random values between
+     * zero and the given bound, with the same properties as {@link
+     * java.util.Random#nextFloat}.
+     * @param bound the upper bound (exclusive) of opd values
+     */
+    public static FloatGenerator floatRandom(float bound) {
+        return new FloatBoundedRandomGenerator(bound);
+    }
+    static final class FloatBoundedRandomGenerator implements FloatGenerator {
+        final float bound;
+        FloatBoundedRandomGenerator(float bound) { this.bound = bound; }
+        public float op() {
+            return ThreadLocalRandom.current().nextFloat() * bound;
+        }
+    }
+
     /**
      * Returns a generator producing uniform random values between the
      * given least value (inclusive) and bound (exclusive)
@@ -840,6 +1552,26 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a generator producing uniform random values between the
+     * given least value (inclusive) and bound (exclusive)
+     * @param least the least value returned
+     * @param bound the upper bound (exclusive) of opd values
+     */
+    public static FloatGenerator floatRandom(float least, float bound) {
+        return new FloatIntervalRandomGenerator(least, bound);
+    }
+    static final class FloatIntervalRandomGenerator implements FloatGenerator {
+        final float least;
+        final float range;
+        FloatIntervalRandomGenerator(float least, float bound) {
+            this.least = least; this.range = bound - least;
+        }
+        public float op() {
+            return ThreadLocalRandom.current().nextFloat() * range + least;
+        }
+    }
+
     /**
      * Returns a generator producing uniform random values with the
      * same properties as {@link java.util.Random#nextLong}
@@ -1025,6 +1757,21 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a predicate evaluating to true if the
+     * first argument <tt>==</tt> the second
+     */
+    public static BinaryFloatPredicate floatEqualityPredicate() {
+        return FloatEqualityPredicate.predicate;
+    }
+    static final class FloatEqualityPredicate implements BinaryFloatPredicate {
+        static final FloatEqualityPredicate predicate =
+            new FloatEqualityPredicate();
+        public final boolean op(float x, float y) {
+            return x == y;
+        }
+    }
+
 
     /**
      * Returns a predicate evaluating to true if the
@@ -1101,5 +1848,20 @@ public class CommonOps {
         }
     }
 
+    /**
+     * Returns a predicate evaluating to true if the
+     * first argument <tt>!=</tt> the second
+     */
+    public static BinaryFloatPredicate floatInequalityPredicate() {
+        return FloatInequalityPredicate.predicate;
+    }
+    static final class FloatInequalityPredicate implements BinaryFloatPredicate {
+        static final FloatInequalityPredicate predicate =
+            new FloatInequalityPredicate();
+        public final boolean op(float x, float y) {
+            return x != y;
+        }
+    }
+
 
 }
@@ -13,9 +13,11 @@ import java.util.*;
  * names for all operation signatures accepting zero, one or two
  * arguments, and returning zero or one results, for parameterized
  * types, as well as specializations to <tt>int</tt>, <tt>long</tt>,
- * and <tt>double</tt>. In keeping with normal Java evaluation rules
- * that promote, for example <tt>short</tt> to <tt>int</tt>, operation
- * names for these smaller types are absent.
+ * <tt>float</tt>, and <tt>double</tt>. In keeping with normal Java
+ * evaluation rules that promote, for example <tt>short</tt> to
+ * <tt>int</tt>, operation names for these smaller types are absent.
+ * The <tt>float</tt> specializations are limited to combinations
+ * with <tt>int</tt>, <tt>long</tt>, and Object types.
  *
  * <p><b>Preliminary release note: Some of the declarations in this
  * class are likely to be moved elsewhere in the JDK libraries
@@ -367,6 +369,14 @@ public class Ops {
     public static interface DoubleGenerator              { double  op();}
     public static interface DoubleReducer extends BinaryDoubleOp{}
     public static interface DoubleComparator             { int     compare(double a, double b);}
+    public static interface FloatOp                      { float   op(float a);}
+    public static interface BinaryFloatOp                { float   op(float a, float b);}
+    public static interface FloatPredicate               { boolean op(float a);}
+    public static interface BinaryFloatPredicate         { boolean op(float a, float b);}
+    public static interface FloatProcedure               { void    op(float a);}
+    public static interface FloatGenerator               { float   op();}
+    public static interface FloatReducer extends BinaryFloatOp{}
+    public static interface FloatComparator              { int     compare(float a, float b);}
 
     public static interface Action                       { void    op();}
 
@@ -383,8 +393,16 @@ public class Ops {
     public static interface ObjectToInt<A>               { int     op(A a);}
     public static interface ObjectToLong<A>              { long    op(A a);}
     public static interface ObjectToDouble<A>            { double  op(A a);}
+    public static interface IntToFloat                   { float   op(int a);}
+    public static interface LongToFloat                  { float   op(long a);}
+    public static interface FloatToInt                   { int     op(float a);}
+    public static interface FloatToLong                  { long    op(float a);}
+    public static interface FloatToObject<R>             { R       op(float a);}
+    public static interface ObjectToFloat<A>             { float   op(A a);}
 
     public static interface IntAndIntProcedure           { void    op(int a, int b);}
+    public static interface IntAndIntPredicate           { boolean op(int a, int b);}
+    public static interface IntAndIntToInt               { int     op(int a, int b);}
     public static interface IntAndIntToLong              { long    op(int a, int b);}
     public static interface IntAndIntToDouble            { double  op(int a, int b);}
     public static interface IntAndIntToObject<R>         { R       op(int a, int b);}
@@ -472,4 +490,53 @@ public class Ops {
     public static interface ObjectAndObjectToInt<A,B>    { int     op(A a, B b);}
     public static interface ObjectAndObjectToLong<A,B>   { long    op(A a, B b);}
     public static interface ObjectAndObjectToDouble<A,B> { double  op(A a, B b);}
+    public static interface IntAndIntToFloat             { float   op(int a, int b);}
+    public static interface IntAndLongToFloat            { float   op(int a, long b);}
+    public static interface IntAndFloatProcedure         { void    op(int a, float b);}
+    public static interface IntAndFloatPredicate         { boolean op(int a, float b);}
+    public static interface IntAndFloatToInt             { int     op(int a, float b);}
+    public static interface IntAndFloatToLong            { long    op(int a, float b);}
+    public static interface IntAndFloatToFloat           { float   op(int a, float b);}
+    public static interface IntAndFloatToObject<R>       { R       op(int a, float b);}
+    public static interface IntAndObjectToFloat<A>       { float   op(int a, A b);}
+    public static interface LongAndIntToFloat            { float   op(long a, int b);}
+    public static interface LongAndLongToFloat           { float   op(long a, long b);}
+    public static interface LongAndFloatProcedure        { void    op(long a, float b);}
+    public static interface LongAndFloatPredicate        { boolean op(long a, float b);}
+    public static interface LongAndFloatToInt            { int     op(long a, float b);}
+    public static interface LongAndFloatToLong           { long    op(long a, float b);}
+    public static interface LongAndFloatToFloat          { float   op(long a, float b);}
+    public static interface LongAndFloatToObject<R>      { R       op(long a, float b);}
+    public static interface LongAndObjectToFloat<A>      { float   op(long a, A b);}
+    public static interface FloatAndIntProcedure         { void    op(float a, int b);}
+    public static interface FloatAndIntPredicate         { boolean op(float a, int b);}
+    public static interface FloatAndIntToInt             { int     op(float a, int b);}
+    public static interface FloatAndIntToLong            { long    op(float a, int b);}
+    public static interface FloatAndIntToFloat           { float   op(float a, int b);}
+    public static interface FloatAndIntToObject<R>       { R       op(float a, int b);}
+    public static interface FloatAndLongProcedure        { void    op(float a, long b);}
+    public static interface FloatAndLongPredicate        { boolean op(float a, long b);}
+    public static interface FloatAndLongToInt            { int     op(float a, long b);}
+    public static interface FloatAndLongToLong           { long    op(float a, long b);}
+    public static interface FloatAndLongToFloat          { float   op(float a, long b);}
+    public static interface FloatAndLongToObject<R>      { R       op(float a, long b);}
+    public static interface FloatAndFloatProcedure       { void    op(float a, float b);}
+    public static interface FloatAndFloatToInt           { int     op(float a, float b);}
+    public static interface FloatAndFloatToLong          { long    op(float a, float b);}
+    public static interface FloatAndFloatToObject<R>     { R       op(float a, float b);}
+    public static interface FloatAndObjectProcedure<A>   { void    op(float a, A b);}
+    public static interface FloatAndObjectPredicate<A>   { boolean op(float a, A b);}
+    public static interface FloatAndObjectToInt<A>       { int     op(float a, A b);}
+    public static interface FloatAndObjectToLong<A>      { long    op(float a, A b);}
+    public static interface FloatAndObjectToFloat<A>     { float   op(float a, A b);}
+    public static interface FloatAndObjectToObject<A,R>  { R       op(float a, A b);}
+    public static interface ObjectAndIntToFloat<A>       { float   op(A a, int b);}
+    public static interface ObjectAndLongToFloat<A>      { float   op(A a, long b);}
+    public static interface ObjectAndFloatProcedure<A>   { void    op(A a, float b);}
+    public static interface ObjectAndFloatPredicate<A>   { boolean op(A a, float b);}
+    public static interface ObjectAndFloatToInt<A>       { int     op(A a, float b);}
+    public static interface ObjectAndFloatToLong<A>      { long    op(A a, float b);}
+    public static interface ObjectAndFloatToFloat<A>     { float   op(A a, float b);}
+    public static interface ObjectAndFloatToObject<A,R>  { R       op(A a, float b);}
+    public static interface ObjectAndObjectToFloat<A,B>  { float   op(A a, B b);}
 }
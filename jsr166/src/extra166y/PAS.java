@@ -18,25 +18,12 @@ import java.lang.reflect.Array;
 class PAS {
     private PAS() {} // all-static, non-instantiable
 
-    /** Global default executor */
-    private static volatile ForkJoinPool defaultExecutor;
-    /** Lock for on-demand initialization of defaultExecutor */
-    private static final Object poolLock = new Object();
-
+    /**
+     * Global default executor: the JVM-wide common pool, so that
+     * parallel arrays share workers with other users of it.
+     */
     static ForkJoinPool defaultExecutor() {
-        ForkJoinPool p = defaultExecutor; // double-check
-        if (p == null) {
-            synchronized(poolLock) {
-                p = defaultExecutor;
-                if (p == null) {
-                    // use ceil(7/8 * ncpus)
-                    int nprocs = Runtime.getRuntime().availableProcessors();
-                    int nthreads = nprocs - (nprocs >>> 3);
-                    defaultExecutor = p = new ForkJoinPool(nthreads);
-                }
-            }
-        }
-        return p;
+        return ForkJoinPool.commonPool();
     }
 
     /**
@@ -101,47 +88,138 @@ class PAS {
         abstract FJBase newSubtask(int l, int h, FJBase r);
     }
 
+    /**
+     * Base for apply, reduce and map tasks, which, unlike FJBase,
+     * never join. Splitting is the same as in FJBase: each task forks
+     * right-hand sides, linked through next, and runs the leftmost
+     * leaf itself. But instead of then joining the forked tasks, each
+     * counts them as pending and leaves its completion to whichever
+     * of them, or itself, finishes last, which then combines results
+     * in onCompletion and propagates completion to the parent. So no
+     * worker ever blocks in these operations, even when their
+     * subtasks are stolen, and the pool never needs to add spares to
+     * compensate.
+     */
+    static abstract class FJCBase extends CountedCompleter<Void> {
+        final AbstractParallelAnyArray pap;
+        final int lo;
+        final int hi;
+        final FJCBase next; // the next task forked by the parent
+        FJCBase forks;      // the last task forked by this task
+        FJCBase(FJCBase parent, AbstractParallelAnyArray pap,
+                int lo, int hi, FJCBase next) {
+            super(parent);
+            this.pap = pap;
+            this.lo = lo;
+            this.hi = hi;
+            this.next = next;
+        }
+
+        public final void compute() {
+            int g = pap.getThreshold();
+            int l = lo;
+            int h = hi;
+            FJCBase r = null;
+            while (h - l > g) {
+                int rh = h;
+                h = (l + h) >>> 1;
+                addToPendingCount(1);
+                (r = newSubtask(h, rh, r)).fork();
+            }
+            forks = r;
+            atLeaf(l, h);
+            tryComplete();
+        }
+
+        public final void onCompletion(CountedCompleter<?> caller) {
+            for (FJCBase r = forks; r != null; r = r.next)
+                onReduce(r);
+        }
+
+        /** Leaf computation */
+        abstract void atLeaf(int l, int h);
+        /** Operation performed for each completed forked subtask -- default noop */
+        void onReduce(FJCBase right) {}
+        /** Factory method to create new subtask, with this task as parent */
+        abstract FJCBase newSubtask(int l, int h, FJCBase r);
+    }
+
     // apply
 
-    static final class FJOApply extends FJBase {
+    static final class FJOApply extends FJCBase {
         final Procedure procedure;
-        FJOApply(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJOApply(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                  Procedure procedure) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.procedure = procedure;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJOApply(pap, l, h, r, procedure);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJOApply(this, pap, l, h, r, procedure);
         }
         void atLeaf(int l, int h) {
             pap.leafApply(l, h, procedure);
         }
     }
 
-    static final class FJDApply extends FJBase {
+    static final class FJDApply extends FJCBase {
         final DoubleProcedure procedure;
-        FJDApply(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJDApply(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                  DoubleProcedure procedure) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.procedure = procedure;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJDApply(pap, l, h, r, procedure);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJDApply(this, pap, l, h, r, procedure);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafApply(l, h, procedure);
+        }
+    }
+
+    static final class FJFApply extends FJCBase {
+        final FloatProcedure procedure;
+        FJFApply(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+                 FloatProcedure procedure) {
+            super(parent, pap, lo, hi, next);
+            this.procedure = procedure;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJFApply(this, pap, l, h, r, procedure);
         }
         void atLeaf(int l, int h) {
             pap.leafApply(l, h, procedure);
         }
     }
 
-    static final class FJLApply extends FJBase {
+    static final class FJLApply extends FJCBase {
         final LongProcedure procedure;
-        FJLApply(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJLApply(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                  LongProcedure procedure) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.procedure = procedure;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJLApply(pap, l, h, r, procedure);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJLApply(this, pap, l, h, r, procedure);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafApply(l, h, procedure);
+        }
+    }
+
+    static final class FJIApply extends FJCBase {
+        final IntProcedure procedure;
+        FJIApply(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+                 IntProcedure procedure) {
+            super(parent, pap, lo, hi, next);
+            this.procedure = procedure;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJIApply(this, pap, l, h, r, procedure);
         }
         void atLeaf(int l, int h) {
             pap.leafApply(l, h, procedure);
@@ -150,113 +228,197 @@ class PAS {
 
     // reduce
 
-    static final class FJOReduce extends FJBase {
+    static final class FJOReduce extends FJCBase {
         final Reducer reducer;
         Object result;
-        FJOReduce(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJOReduce(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                   Reducer reducer, Object base) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.reducer = reducer;
             this.result = base;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJOReduce(pap, l, h, r, reducer, result);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJOReduce(this, pap, l, h, r, reducer, result);
         }
         void atLeaf(int l, int h) {
             result = pap.leafReduce(l, h, reducer, result);
         }
-        void onReduce(FJBase right) {
+        void onReduce(FJCBase right) {
             result = reducer.op(result, ((FJOReduce)right).result);
         }
     }
 
-    static final class FJDReduce extends FJBase {
+    static final class FJDReduce extends FJCBase {
         final DoubleReducer reducer;
         double result;
-        FJDReduce(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJDReduce(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                   DoubleReducer reducer, double base) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.reducer = reducer;
             this.result = base;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJDReduce(pap, l, h, r, reducer, result);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJDReduce(this, pap, l, h, r, reducer, result);
         }
         void atLeaf(int l, int h) {
             result = pap.leafReduce(l, h, reducer, result);
         }
-        void onReduce(FJBase right) {
+        void onReduce(FJCBase right) {
             result = reducer.op(result, ((FJDReduce)right).result);
         }
     }
 
-    static final class FJLReduce extends FJBase {
+    static final class FJFReduce extends FJCBase {
+        final FloatReducer reducer;
+        float result;
+        FJFReduce(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+                  FloatReducer reducer, float base) {
+            super(parent, pap, lo, hi, next);
+            this.reducer = reducer;
+            this.result = base;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJFReduce(this, pap, l, h, r, reducer, result);
+        }
+        void atLeaf(int l, int h) {
+            result = pap.leafReduce(l, h, reducer, result);
+        }
+        void onReduce(FJCBase right) {
+            result = reducer.op(result, ((FJFReduce)right).result);
+        }
+    }
+
+    static final class FJLReduce extends FJCBase {
         final LongReducer reducer;
         long result;
-        FJLReduce(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJLReduce(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                   LongReducer reducer, long base) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.reducer = reducer;
             this.result = base;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJLReduce(pap, l, h, r, reducer, result);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJLReduce(this, pap, l, h, r, reducer, result);
         }
         void atLeaf(int l, int h) {
             result = pap.leafReduce(l, h, reducer, result);
         }
-        void onReduce(FJBase right) {
+        void onReduce(FJCBase right) {
             result = reducer.op(result, ((FJLReduce)right).result);
         }
     }
 
+    static final class FJIReduce extends FJCBase {
+        final IntReducer reducer;
+        int result;
+        FJIReduce(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+                  IntReducer reducer, int base) {
+            super(parent, pap, lo, hi, next);
+            this.reducer = reducer;
+            this.result = base;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJIReduce(this, pap, l, h, r, reducer, result);
+        }
+        void atLeaf(int l, int h) {
+            result = pap.leafReduce(l, h, reducer, result);
+        }
+        void onReduce(FJCBase right) {
+            result = reducer.op(result, ((FJIReduce)right).result);
+        }
+    }
+
     // map
 
-    static final class FJOMap extends FJBase {
+    static final class FJOMap extends FJCBase {
         final Object[] dest;
         final int offset;
-        FJOMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJOMap(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                Object[] dest, int offset) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.dest = dest;
             this.offset = offset;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJOMap(pap, l, h, r, dest, offset);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJOMap(this, pap, l, h, r, dest, offset);
         }
         void atLeaf(int l, int h) {
             pap.leafTransfer(l, h, dest, l + offset);
         }
     }
 
-    static final class FJDMap extends FJBase {
+    static final class FJDMap extends FJCBase {
         final double[] dest;
         final int offset;
-        FJDMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJDMap(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                double[] dest, int offset) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.dest = dest;
             this.offset = offset;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJDMap(pap, l, h, r, dest, offset);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJDMap(this, pap, l, h, r, dest, offset);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafTransfer(l, h, dest, l + offset);
+        }
+    }
+
+    static final class FJFMap extends FJCBase {
+        final float[] dest;
+        final int offset;
+        FJFMap(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+               float[] dest, int offset) {
+            super(parent, pap, lo, hi, next);
+            this.dest = dest;
+            this.offset = offset;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJFMap(this, pap, l, h, r, dest, offset);
         }
         void atLeaf(int l, int h) {
             pap.leafTransfer(l, h, dest, l + offset);
         }
     }
 
-    static final class FJLMap extends FJBase {
+    static final class FJLMap extends FJCBase {
         final long[] dest;
         final int offset;
-        FJLMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+        FJLMap(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
                long[] dest, int offset) {
-            super(pap, lo, hi, next);
+            super(parent, pap, lo, hi, next);
             this.dest = dest;
             this.offset = offset;
         }
-        FJBase newSubtask(int l, int h, FJBase r) {
-            return new FJLMap(pap, l, h, r, dest, offset);
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJLMap(this, pap, l, h, r, dest, offset);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafTransfer(l, h, dest, l + offset);
+        }
+    }
+
+    static final class FJIMap extends FJCBase {
+        final int[] dest;
+        final int offset;
+        FJIMap(FJCBase parent,
+                 AbstractParallelAnyArray pap, int lo, int hi, FJCBase next,
+               int[] dest, int offset) {
+            super(parent, pap, lo, hi, next);
+            this.dest = dest;
+            this.offset = offset;
+        }
+        FJCBase newSubtask(int l, int h, FJCBase r) {
+            return new FJIMap(this, pap, l, h, r, dest, offset);
         }
         void atLeaf(int l, int h) {
             pap.leafTransfer(l, h, dest, l + offset);
@@ -295,6 +457,21 @@ class PAS {
         }
     }
 
+    static final class FJFTransform extends FJBase {
+        final FloatOp op;
+        FJFTransform(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                     FloatOp op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFTransform(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafTransform(l, h, op);
+        }
+    }
+
     static final class FJLTransform extends FJBase {
         final LongOp op;
         FJLTransform(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
@@ -310,6 +487,21 @@ class PAS {
         }
     }
 
+    static final class FJITransform extends FJBase {
+        final IntOp op;
+        FJITransform(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                     IntOp op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJITransform(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafTransform(l, h, op);
+        }
+    }
+
     // index map
 
     static final class FJOIndexMap extends FJBase {
@@ -342,6 +534,21 @@ class PAS {
         }
     }
 
+    static final class FJFIndexMap extends FJBase {
+        final IntToFloat op;
+        FJFIndexMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                    IntToFloat op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFIndexMap(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafIndexMap(l, h, op);
+        }
+    }
+
     static final class FJLIndexMap extends FJBase {
         final IntToLong op;
         FJLIndexMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
@@ -357,6 +564,21 @@ class PAS {
         }
     }
 
+    static final class FJIIndexMap extends FJBase {
+        final IntOp op;
+        FJIIndexMap(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                    IntOp op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIIndexMap(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafIndexMap(l, h, op);
+        }
+    }
+
     // binary index map
 
     static final class FJOBinaryIndexMap extends FJBase {
@@ -389,6 +611,21 @@ class PAS {
         }
     }
 
+    static final class FJFBinaryIndexMap extends FJBase {
+        final IntAndFloatToFloat op;
+        FJFBinaryIndexMap(AbstractParallelAnyArray pap, int lo, int hi,
+                          FJBase next, IntAndFloatToFloat op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFBinaryIndexMap(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafBinaryIndexMap(l, h, op);
+        }
+    }
+
     static final class FJLBinaryIndexMap extends FJBase {
         final IntAndLongToLong op;
         FJLBinaryIndexMap(AbstractParallelAnyArray pap, int lo, int hi,
@@ -404,6 +641,21 @@ class PAS {
         }
     }
 
+    static final class FJIBinaryIndexMap extends FJBase {
+        final IntAndIntToInt op;
+        FJIBinaryIndexMap(AbstractParallelAnyArray pap, int lo, int hi,
+                          FJBase next, IntAndIntToInt op) {
+            super(pap, lo, hi, next);
+            this.op = op;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIBinaryIndexMap(pap, l, h, r, op);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafBinaryIndexMap(l, h, op);
+        }
+    }
+
 
     // generate
 
@@ -437,6 +689,21 @@ class PAS {
         }
     }
 
+    static final class FJFGenerate extends FJBase {
+        final FloatGenerator generator;
+        FJFGenerate(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                    FloatGenerator generator) {
+            super(pap, lo, hi, next);
+            this.generator = generator;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFGenerate(pap, l, h, r, generator);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafGenerate(l, h, generator);
+        }
+    }
+
     static final class FJLGenerate extends FJBase {
         final LongGenerator generator;
         FJLGenerate(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
@@ -452,6 +719,21 @@ class PAS {
         }
     }
 
+    static final class FJIGenerate extends FJBase {
+        final IntGenerator generator;
+        FJIGenerate(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                    IntGenerator generator) {
+            super(pap, lo, hi, next);
+            this.generator = generator;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIGenerate(pap, l, h, r, generator);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafGenerate(l, h, generator);
+        }
+    }
+
     // fill
 
     static final class FJOFill extends FJBase {
@@ -484,6 +766,21 @@ class PAS {
         }
     }
 
+    static final class FJFFill extends FJBase {
+        final float value;
+        FJFFill(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                float value) {
+            super(pap, lo, hi, next);
+            this.value = value;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFFill(pap, l, h, r, value);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafFill(l, h, value);
+        }
+    }
+
     static final class FJLFill extends FJBase {
         final long value;
         FJLFill(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
@@ -499,6 +796,21 @@ class PAS {
         }
     }
 
+    static final class FJIFill extends FJBase {
+        final int value;
+        FJIFill(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                int value) {
+            super(pap, lo, hi, next);
+            this.value = value;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIFill(pap, l, h, r, value);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafFill(l, h, value);
+        }
+    }
+
     // combine in place
 
     static final class FJOCombineInPlace extends FJBase {
@@ -543,6 +855,27 @@ class PAS {
         }
     }
 
+    static final class FJFCombineInPlace extends FJBase {
+        final float[] other;
+        final int otherOffset;
+        final BinaryFloatOp combiner;
+        FJFCombineInPlace(AbstractParallelAnyArray pap, int lo, int hi,
+                          FJBase next, float[] other, int otherOffset,
+                          BinaryFloatOp combiner) {
+            super(pap, lo, hi, next);
+            this.other = other;
+            this.otherOffset = otherOffset;
+            this.combiner = combiner;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFCombineInPlace
+                (pap, l, h, r, other, otherOffset, combiner);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafCombineInPlace(l, h, other, otherOffset, combiner);
+        }
+    }
+
     static final class FJLCombineInPlace extends FJBase {
         final long[] other;
         final int otherOffset;
@@ -564,6 +897,27 @@ class PAS {
         }
     }
 
+    static final class FJICombineInPlace extends FJBase {
+        final int[] other;
+        final int otherOffset;
+        final BinaryIntOp combiner;
+        FJICombineInPlace(AbstractParallelAnyArray pap, int lo, int hi,
+                          FJBase next, int[] other, int otherOffset,
+                          BinaryIntOp combiner) {
+            super(pap, lo, hi, next);
+            this.other = other;
+            this.otherOffset = otherOffset;
+            this.combiner = combiner;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJICombineInPlace
+                (pap, l, h, r, other, otherOffset, combiner);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafCombineInPlace(l, h, other, otherOffset, combiner);
+        }
+    }
+
     static final class FJOPACombineInPlace extends FJBase {
         final ParallelArrayWithMapping other;
         final int otherOffset;
@@ -608,6 +962,28 @@ class PAS {
         }
     }
 
+    static final class FJFPACombineInPlace extends FJBase {
+        final ParallelFloatArrayWithFloatMapping other;
+        final int otherOffset;
+        final BinaryFloatOp combiner;
+        FJFPACombineInPlace(AbstractParallelAnyArray pap, int lo, int hi,
+                            FJBase next,
+                            ParallelFloatArrayWithFloatMapping other,
+                            int otherOffset, BinaryFloatOp combiner) {
+            super(pap, lo, hi, next);
+            this.other = other;
+            this.otherOffset = otherOffset;
+            this.combiner = combiner;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFPACombineInPlace
+                (pap, l, h, r, other, otherOffset, combiner);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafCombineInPlace(l, h, other, otherOffset, combiner);
+        }
+    }
+
     static final class FJLPACombineInPlace extends FJBase {
         final ParallelLongArrayWithLongMapping other;
         final int otherOffset;
@@ -630,6 +1006,28 @@ class PAS {
         }
     }
 
+    static final class FJIPACombineInPlace extends FJBase {
+        final ParallelIntArrayWithIntMapping other;
+        final int otherOffset;
+        final BinaryIntOp combiner;
+        FJIPACombineInPlace(AbstractParallelAnyArray pap, int lo, int hi,
+                            FJBase next,
+                            ParallelIntArrayWithIntMapping other,
+                            int otherOffset, BinaryIntOp combiner) {
+            super(pap, lo, hi, next);
+            this.other = other;
+            this.otherOffset = otherOffset;
+            this.combiner = combiner;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIPACombineInPlace
+                (pap, l, h, r, other, otherOffset, combiner);
+        }
+        void atLeaf(int l, int h) {
+            pap.leafCombineInPlace(l, h, other, otherOffset, combiner);
+        }
+    }
+
     // stats
 
     static final class FJOStats extends FJBase
@@ -793,6 +1191,90 @@ class PAS {
         }
     }
 
+    static final class FJFStats extends FJBase
+        implements ParallelFloatArray.SummaryStatistics {
+        final FloatComparator comparator;
+        public int size() { return size; }
+        public float min() { return min; }
+        public float max() { return max; }
+        public float sum() { return sum; }
+        public float average() { return sum / size; }
+        public int indexOfMin() { return indexOfMin; }
+        public int indexOfMax() { return indexOfMax; }
+        int size;
+        float min;
+        float max;
+        float sum;
+        int indexOfMin;
+        int indexOfMax;
+        FJFStats(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                 FloatComparator comparator) {
+            super(pap, lo, hi, next);
+            this.comparator = comparator;
+            this.indexOfMin = -1;
+            this.indexOfMax = -1;
+            this.min = Float.MAX_VALUE;
+            this.max = -Float.MAX_VALUE;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFStats(pap, l, h, r, comparator);
+        }
+        void onReduce(FJBase right) {
+            FJFStats r = (FJFStats)right;
+            size += r.size;
+            sum += r.sum;
+            updateMin(r.indexOfMin, r.min);
+            updateMax(r.indexOfMax, r.max);
+        }
+        void updateMin(int i, float x) {
+            if (i >= 0 &&
+                (indexOfMin < 0 || comparator.compare(min, x) > 0)) {
+                min = x;
+                indexOfMin = i;
+            }
+        }
+        void updateMax(int i, float x) {
+            if (i >= 0 &&
+                (indexOfMax < 0 || comparator.compare(max, x) < 0)) {
+                max = x;
+                indexOfMax = i;
+            }
+        }
+        void atLeaf(int l, int h) {
+            if (pap.hasFilter())
+                filteredAtLeaf(l, h);
+            else {
+                size = h - l;
+                for (int i = l; i < h; ++i) {
+                    float x = pap.fget(i);
+                    sum += x;
+                    updateMin(i, x);
+                    updateMax(i, x);
+                }
+            }
+        }
+
+        void  filteredAtLeaf(int l, int h) {
+            for (int i = l; i < h; ++i) {
+                if (pap.isSelected(i)) {
+                    float x = pap.fget(i);
+                    ++size;
+                    sum += x;
+                    updateMin(i, x);
+                    updateMax(i, x);
+                }
+            }
+        }
+
+        public String toString() {
+            return
+                "size: " + size +
+                " min: " + min + " (index " + indexOfMin +
+                ") max: " + max + " (index " + indexOfMax +
+                ") sum: " + sum;
+        }
+    }
+
     static final class FJLStats extends FJBase
         implements ParallelLongArray.SummaryStatistics {
         final LongComparator comparator;
@@ -878,6 +1360,91 @@ class PAS {
         }
     }
 
+    static final class FJIStats extends FJBase
+        implements ParallelIntArray.SummaryStatistics {
+        final IntComparator comparator;
+        public int size() { return size; }
+        public int min() { return min; }
+        public int max() { return max; }
+        public int sum() { return sum; }
+        public double average() { return (double)sum / size; }
+        public int indexOfMin() { return indexOfMin; }
+        public int indexOfMax() { return indexOfMax; }
+        int size;
+        int min;
+        int max;
+        int sum;
+        int indexOfMin;
+        int indexOfMax;
+        FJIStats(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                 IntComparator comparator) {
+            super(pap, lo, hi, next);
+            this.comparator = comparator;
+            this.indexOfMin = -1;
+            this.indexOfMax = -1;
+            this.min = Integer.MAX_VALUE;
+            this.max = Integer.MIN_VALUE;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIStats(pap, l, h, r, comparator);
+        }
+        void onReduce(FJBase right) {
+            FJIStats r = (FJIStats)right;
+            size += r.size;
+            sum += r.sum;
+            updateMin(r.indexOfMin, r.min);
+            updateMax(r.indexOfMax, r.max);
+        }
+        void updateMin(int i, int x) {
+            if (i >= 0 &&
+                (indexOfMin < 0 || comparator.compare(min, x) > 0)) {
+                min = x;
+                indexOfMin = i;
+            }
+        }
+        void updateMax(int i, int x) {
+            if (i >= 0 &&
+                (indexOfMax < 0 || comparator.compare(max, x) < 0)) {
+                max = x;
+                indexOfMax = i;
+            }
+        }
+
+        void  atLeaf(int l, int h) {
+            if (pap.hasFilter())
+                filteredAtLeaf(l, h);
+            else {
+                size = h - l;
+                for (int i = l; i < h; ++i) {
+                    int x = pap.iget(i);
+                    sum += x;
+                    updateMin(i, x);
+                    updateMax(i, x);
+                }
+            }
+        }
+
+        void  filteredAtLeaf(int l, int h) {
+            for (int i = l; i < h; ++i) {
+                if (pap.isSelected(i)) {
+                    int x = pap.iget(i);
+                    ++size;
+                    sum += x;
+                    updateMin(i, x);
+                    updateMax(i, x);
+                }
+            }
+        }
+
+        public String toString() {
+            return
+                "size: " + size +
+                " min: " + min + " (index " + indexOfMin +
+                ") max: " + max + " (index " + indexOfMax +
+                ") sum: " + sum;
+        }
+    }
+
     // count
 
     static final class FJCountSelected extends FJBase {
@@ -1026,6 +1593,30 @@ class PAS {
         }
     }
 
+    static final class FJFIndexOf extends FJSearchBase {
+        final float target;
+        FJFIndexOf(AbstractParallelAnyArray pap, int lo, int hi,
+                   FJSearchBase next, AtomicInteger result, float target) {
+            super(pap, lo, hi, next, result);
+            this.target = target;
+        }
+        FJSearchBase newSubtask(int l, int h, FJSearchBase r) {
+            return new FJFIndexOf(pap, l, h, r, result, target);
+        }
+        void atLeaf(int l, int h) {
+            final float[] array = pap.fgetArray();
+            if (array == null) return;
+            for (int i = l; i < h; ++i) {
+                if (target == (array[i])) {
+                    result.compareAndSet(-1, i);
+                    break;
+                }
+                else if (result.get() >= 0)
+                    break;
+            }
+        }
+    }
+
     static final class FJLIndexOf extends FJSearchBase {
         final long target;
         FJLIndexOf(AbstractParallelAnyArray pap, int lo, int hi,
@@ -1050,6 +1641,30 @@ class PAS {
         }
     }
 
+    static final class FJIIndexOf extends FJSearchBase {
+        final int target;
+        FJIIndexOf(AbstractParallelAnyArray pap, int lo, int hi,
+                   FJSearchBase next, AtomicInteger result, int target) {
+            super(pap, lo, hi, next, result);
+            this.target = target;
+        }
+        FJSearchBase newSubtask(int l, int h, FJSearchBase r) {
+            return new FJIIndexOf(pap, l, h, r, result, target);
+        }
+        void atLeaf(int l, int h) {
+            final int[] array = pap.igetArray();
+            if (array == null) return;
+            for (int i = l; i < h; ++i) {
+                if (target == (array[i])) {
+                    result.compareAndSet(-1, i);
+                    break;
+                }
+                else if (result.get() >= 0)
+                    break;
+            }
+        }
+    }
+
     // select all
 
     /**
@@ -1186,6 +1801,19 @@ class PAS {
         }
     }
 
+    static final class FJFSelectAllDriver extends FJSelectAllDriver {
+        float[] results;
+        FJFSelectAllDriver(AbstractParallelAnyArray pap) {
+            super(pap, 0);
+        }
+        void createResults(int size) {
+            results = new float[size];
+        }
+        void leafPhase1(int loIdx, int hiIdx, int offset) {
+            pap.leafTransferByIndex(indices, loIdx, hiIdx, results, offset);
+        }
+    }
+
     static final class FJLSelectAllDriver extends FJSelectAllDriver {
         long[] results;
         FJLSelectAllDriver(AbstractParallelAnyArray pap) {
@@ -1199,6 +1827,19 @@ class PAS {
         }
     }
 
+    static final class FJISelectAllDriver extends FJSelectAllDriver {
+        int[] results;
+        FJISelectAllDriver(AbstractParallelAnyArray pap) {
+            super(pap, 0);
+        }
+        void createResults(int size) {
+            results = new int[size];
+        }
+        void leafPhase1(int loIdx, int hiIdx, int offset) {
+            pap.leafTransferByIndex(indices, loIdx, hiIdx, results, offset);
+        }
+    }
+
     static final class FJOAppendAllDriver extends FJSelectAllDriver {
         Object[] results;
         FJOAppendAllDriver(AbstractParallelAnyArray pap, int initialOffset,
@@ -1242,6 +1883,27 @@ class PAS {
         }
     }
 
+    static final class FJFAppendAllDriver extends FJSelectAllDriver {
+        float[] results;
+        FJFAppendAllDriver(AbstractParallelAnyArray pap, int initialOffset,
+                           float[] results) {
+            super(pap, initialOffset);
+            this.results = results;
+        }
+        void createResults(int size) {
+            int newSize = initialOffset + size;
+            int oldLength = results.length;
+            if (newSize > oldLength) {
+                float[] r = new float[newSize];
+                System.arraycopy(results, 0, r, 0, oldLength);
+                results = r;
+            }
+        }
+        void leafPhase1(int loIdx, int hiIdx, int offset) {
+            pap.leafTransferByIndex(indices, loIdx, hiIdx, results, offset);
+        }
+    }
+
     static final class FJLAppendAllDriver extends FJSelectAllDriver {
         long[] results;
         FJLAppendAllDriver(AbstractParallelAnyArray pap, int initialOffset,
@@ -1263,6 +1925,27 @@ class PAS {
         }
     }
 
+    static final class FJIAppendAllDriver extends FJSelectAllDriver {
+        int[] results;
+        FJIAppendAllDriver(AbstractParallelAnyArray pap, int initialOffset,
+                           int[] results) {
+            super(pap, initialOffset);
+            this.results = results;
+        }
+        void createResults(int size) {
+            int newSize = initialOffset + size;
+            int oldLength = results.length;
+            if (newSize > oldLength) {
+                int[] r = new int[newSize];
+                System.arraycopy(results, 0, r, 0, oldLength);
+                results = r;
+            }
+        }
+        void leafPhase1(int loIdx, int hiIdx, int offset) {
+            pap.leafTransferByIndex(indices, loIdx, hiIdx, results, offset);
+        }
+    }
+
 
     /**
      * Root node for FJRemoveAll. Spawns subtasks and shifts elements
@@ -1422,6 +2105,25 @@ class PAS {
         }
     }
 
+    static final class FJFUniquifier extends FJBase {
+        final UniquifierTable table;
+        int count;
+        FJFUniquifier(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                     UniquifierTable table) {
+            super(pap, lo, hi, next);
+            this.table = table;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJFUniquifier(pap, l, h, r, table);
+        }
+        void atLeaf(int l, int h) {
+            count = table.addFloats(l, h);
+        }
+        void onReduce(FJBase right) {
+            count += ((FJFUniquifier)right).count;
+        }
+    }
+
     static final class FJLUniquifier extends FJBase {
         final UniquifierTable table;
         int count;
@@ -1441,17 +2143,36 @@ class PAS {
         }
     }
 
-    /**
-     * Base class of fixed-size hash tables for
-     * uniquification. Opportunistically subclasses
-     * AtomicLongArray. The high word of each slot is the cached
-     * massaged hash of an element, and the low word contains its
-     * index, plus one, to ensure that a zero tab entry means
-     * empty. The mechanics for this are just folded into the
-     * main addElements method.
-     * Each leaf step places source array elements into table,
-     * Even though this table undergoes a lot of contention when
-     * elements are concurrently inserted by parallel threads, it is
+    static final class FJIUniquifier extends FJBase {
+        final UniquifierTable table;
+        int count;
+        FJIUniquifier(AbstractParallelAnyArray pap, int lo, int hi, FJBase next,
+                      UniquifierTable table) {
+            super(pap, lo, hi, next);
+            this.table = table;
+        }
+        FJBase newSubtask(int l, int h, FJBase r) {
+            return new FJIUniquifier(pap, l, h, r, table);
+        }
+        void atLeaf(int l, int h) {
+            count = table.addInts(l, h);
+        }
+        void onReduce(FJBase right) {
+            count += ((FJIUniquifier)right).count;
+        }
+    }
+
+    /**
+     * Base class of fixed-size hash tables for
+     * uniquification. Opportunistically subclasses
+     * AtomicLongArray. The high word of each slot is the cached
+     * massaged hash of an element, and the low word contains its
+     * index, plus one, to ensure that a zero tab entry means
+     * empty. The mechanics for this are just folded into the
+     * main addElements method.
+     * Each leaf step places source array elements into table,
+     * Even though this table undergoes a lot of contention when
+     * elements are concurrently inserted by parallel threads, it is
      * generally faster to do this than to have separate tables and
      * then merge them.
      */
@@ -1544,6 +2265,35 @@ class PAS {
             return count;
         }
 
+        int addFloats(int lo, int hi) {
+            boolean filtered = pap.hasFilter();
+            float[] src = pap.fgetArray();
+            final int mask = length() - 1;
+            int count = 0;
+            for (int k = lo; k < hi; ++k) {
+                if (filtered && !pap.isSelected(k))
+                    continue;
+                float x = src[k];
+                int hash = hash(Float.floatToIntBits(x));
+                long entry = (((long)hash) << 32) + (k + 1);
+                int idx = hash & mask;
+                for (;;) {
+                    long d = get(idx);
+                    if (d != 0) {
+                        if ((int)(d >>> 32) == hash &&
+                            x == src[(int)((d - 1) & 0x7fffffffL)])
+                            break;
+                        idx = (idx + 1) & mask;
+                    }
+                    else if (compareAndSet(idx, 0, entry)) {
+                        ++count;
+                        break;
+                    }
+                }
+            }
+            return count;
+        }
+
         int addLongs(int lo, int hi) {
             boolean filtered = pap.hasFilter();
             long[] src = pap.lgetArray();
@@ -1573,6 +2323,35 @@ class PAS {
             return count;
         }
 
+        int addInts(int lo, int hi) {
+            boolean filtered = pap.hasFilter();
+            int[] src = pap.igetArray();
+            final int mask = length() - 1;
+            int count = 0;
+            for (int k = lo; k < hi; ++k) {
+                if (filtered && !pap.isSelected(k))
+                    continue;
+                int x = src[k];
+                int hash = hash(x);
+                long entry = (((long)hash) << 32) + (k + 1);
+                int idx = hash & mask;
+                for (;;) {
+                    long d = get(idx);
+                    if (d != 0) {
+                        if ((int)(d >>> 32) == hash &&
+                            x == src[(int)((d - 1) & 0x7fffffffL)])
+                            break;
+                        idx = (idx + 1) & mask;
+                    }
+                    else if (compareAndSet(idx, 0, entry)) {
+                        ++count;
+                        break;
+                    }
+                }
+            }
+            return count;
+        }
+
         /**
          * Return new array holding all elements.
          */
@@ -1603,6 +2382,19 @@ class PAS {
             return res;
         }
 
+        float[] uniqueFloats(int size) {
+            float[] src = pap.fgetArray();
+            float[] res = new float[size];
+            int k = 0;
+            int n = length();
+            for (int i = 0; i < n && k < size; ++i) {
+                long d = get(i);
+                if (d != 0)
+                    res[k++] = src[((int)((d - 1) & 0x7fffffffL))];
+            }
+            return res;
+        }
+
         long[] uniqueLongs(int size) {
             long[] src = pap.lgetArray();
             long[] res = new long[size];
@@ -1615,6 +2407,572 @@ class PAS {
             }
             return res;
         }
+
+        int[] uniqueInts(int size) {
+            int[] src = pap.igetArray();
+            int[] res = new int[size];
+            int k = 0;
+            int n = length();
+            for (int i = 0; i < n && k < size; ++i) {
+                long d = get(i);
+                if (d != 0)
+                    res[k++] = src[((int)((d - 1) & 0x7fffffffL))];
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Grouping and aggregation by key.
+     *
+     * Unlike uniquification, grouping must combine per-key values,
+     * which cannot be done with a single CAS of a table slot, so each
+     * block of the array instead builds its own open-addressing
+     * table of the keys of its elements, along with per-key reduced
+     * values (or counts, for groupBy). Keys are then partitioned by
+     * hash: each block lays out its keys, hashes and values bucketed
+     * by partition, so that each partition merges a contiguous slice
+     * of the local tables of all blocks, in block order, into a
+     * partition table. Partitions are
+     * concatenated to form the result, and their tables are retained
+     * to support lookup by key. For groupBy, each partition also
+     * assigns each block a position within each of its groups, so
+     * that blocks can then scatter their elements to the result
+     * without interference, preserving the relative order of
+     * elements within groups.
+     *
+     * Hash codes are spread as for UniquifierTable to form table
+     * indices, and spread hashes are further scrambled by a
+     * multiplicative hash to select partitions, so that keys within a
+     * partition are not clustered in its table.
+     */
+
+    // Phases of grouper passes
+    static final int GROUP_BUILD   = 0;
+    static final int GROUP_MERGE   = 1;
+    static final int GROUP_EMIT    = 2;
+    static final int GROUP_SCATTER = 3;
+
+    static final class FJOGrouper extends RecursiveAction
+        implements ParallelArray.Grouping, ParallelArray.LongAggregation {
+        final ForkJoinPool ex;
+        final Object[] a;
+        final int n;
+        final Op keyOp;
+        final ObjectToLong valueOp;  // null for groupBy
+        final LongReducer reducer;   // null for groupBy
+        final int blockSize;
+        final int nBlocks;
+        final int nParts;            // a power of two
+
+        // Per-block local tables, indexed by block
+        // bucketed by partition; local ids index these arrays
+        Object[][] localKeys;
+        int[][] localHashes;
+        long[][] localValues;        // reduced values or counts
+        int[] localSizes;
+        int[][] localPartStarts;     // nParts+1 starts of buckets
+        int[][] localPositions;      // partition ids, then positions
+        int[] localIds;              // local id of each element
+
+        // Per-partition tables, indexed by partition
+        int[][] partTables;          // partition id plus one, or 0
+        int[][] partHashes;
+        Object[][] partKeys;
+        long[][] partValues;         // reduced values or counts
+        int[] partSizes;
+        int[] partBases;             // index of first key
+        int[] partElementBases;      // index of first element
+
+        Object[] keys;
+        long[] values;
+        int[] groupStarts;           // nKeys+1 starts into elements
+        Object[] elements;
+        int phase;
+
+        ParallelArray keyArray;
+        ParallelLongArray valueArray;
+        ParallelArray elementArray;
+
+        FJOGrouper(ForkJoinPool ex, Object[] a, int n, int gran,
+                   Op keyOp, ObjectToLong valueOp, LongReducer reducer) {
+            this.ex = ex;
+            this.a = a;
+            this.n = n;
+            this.keyOp = keyOp;
+            this.valueOp = valueOp;
+            this.reducer = reducer;
+            int bs = Math.max(gran, 1); // gran is 0 for empty arrays
+            this.blockSize = bs;
+            int nb = (int)(((long)n + bs - 1) / bs);
+            this.nBlocks = nb;
+            int np = 1;
+            while (np < nb) np <<= 1;
+            this.nParts = np;
+        }
+
+        public int size() { return keys.length; }
+        public ParallelArray keys() { return keyArray; }
+        public ParallelLongArray values() { return valueArray; }
+        public ParallelArray elements() { return elementArray; }
+
+        public ParallelArrayWithBounds group(int i) {
+            return elementArray.withBounds(groupStarts[i],
+                                           groupStarts[i + 1]);
+        }
+
+        public int indexOfKey(Object key) {
+            if (key == null)
+                return -1;
+            int h = UniquifierTable.hash(key.hashCode());
+            int p = partOf(h);
+            int[] tab = partTables[p];
+            int[] hs = partHashes[p];
+            int base = partBases[p];
+            int mask = tab.length - 1;
+            for (int idx = h & mask; ; idx = (idx + 1) & mask) {
+                int e = tab[idx];
+                if (e == 0)
+                    return -1;
+                if (hs[--e] == h && key.equals(keys[base + e]))
+                    return base + e;
+            }
+        }
+
+        /** Returns partition of key with given spread hash */
+        final int partOf(int h) {
+            return ((h * 0x9e3779b9) >>> 16) & (nParts - 1);
+        }
+
+        public void compute() {
+            int nb = nBlocks;
+            int np = nParts;
+            localKeys = new Object[nb][];
+            localHashes = new int[nb][];
+            localValues = new long[nb][];
+            localSizes = new int[nb];
+            localPartStarts = new int[nb][];
+            localPositions = new int[nb][];
+            if (reducer == null)
+                localIds = new int[n];
+            runPhase(GROUP_BUILD, nb);
+            partTables = new int[np][];
+            partHashes = new int[np][];
+            partKeys = new Object[np][];
+            partValues = new long[np][];
+            partSizes = new int[np];
+            runPhase(GROUP_MERGE, np);
+            int[] bases = new int[np];
+            int[] elementBases = new int[np];
+            int nKeys = 0;
+            int nElements = 0;
+            for (int p = 0; p < np; ++p) {
+                bases[p] = nKeys;
+                elementBases[p] = nElements;
+                nKeys += partSizes[p];
+                if (reducer == null) {
+                    long[] pv = partValues[p];
+                    for (int i = 0; i < partSizes[p]; ++i)
+                        nElements += (int)pv[i];
+                }
+            }
+            partBases = bases;
+            keys = new Object[nKeys];
+            if (reducer == null) {
+                groupStarts = new int[nKeys + 1];
+                groupStarts[nKeys] = n;
+                partElementBases = elementBases;
+                runPhase(GROUP_EMIT, np);
+                Class tc = a.getClass().getComponentType();
+                elements = (Object[])Array.newInstance(tc, n);
+                runPhase(GROUP_SCATTER, nb);
+                elementArray = ParallelArray.createUsingHandoff
+                    (elements, ex);
+            }
+            else {
+                values = new long[nKeys];
+                runPhase(GROUP_EMIT, np);
+                valueArray = ParallelLongArray.createUsingHandoff
+                    (values, ex);
+            }
+            keyArray = ParallelArray.createUsingHandoff(keys, ex);
+            localKeys = null;
+            localHashes = null;
+            localValues = null;
+            localPartStarts = null;
+            localPositions = null;
+            localIds = null;
+            partKeys = null;
+            partValues = null;
+        }
+
+        final void runPhase(int p, int nLeaves) {
+            phase = p;
+            new FJGroupPass(this, 0, nLeaves).compute();
+        }
+
+        final void leaf(int i) {
+            int p = phase;
+            if (p == GROUP_BUILD)
+                build(i);
+            else if (p == GROUP_MERGE)
+                merge(i);
+            else if (p == GROUP_EMIT)
+                emit(i);
+            else
+                scatter(i);
+        }
+
+        /** Builds local table for block b */
+        final void build(int b) {
+            Object[] src = a;
+            Op op = keyOp;
+            ObjectToLong vop = valueOp;
+            LongReducer r = reducer;
+            int[] ids = localIds;
+            int lo = b * blockSize;
+            int hi = Math.min(n, lo + blockSize);
+            int cap = 8;
+            Object[] ks = new Object[cap];
+            int[] hs = new int[cap];
+            long[] vs = new long[cap];
+            int[] tab = new int[cap << 1];
+            int m = 0;
+            for (int i = lo; i < hi; ++i) {
+                Object x = src[i];
+                Object k = op.op(x);
+                int h = UniquifierTable.hash(k.hashCode());
+                int mask = tab.length - 1;
+                int idx = h & mask;
+                int id;
+                for (;;) {
+                    int e = tab[idx];
+                    if (e == 0) {
+                        id = -1;
+                        break;
+                    }
+                    if (hs[--e] == h && k.equals(ks[e])) {
+                        id = e;
+                        break;
+                    }
+                    idx = (idx + 1) & mask;
+                }
+                if (id >= 0)
+                    vs[id] = (r == null) ? vs[id] + 1 :
+                        r.op(vs[id], vop.op(x));
+                else {
+                    id = m++;
+                    if (id == cap) {
+                        cap <<= 1;
+                        ks = Arrays.copyOf(ks, cap);
+                        hs = Arrays.copyOf(hs, cap);
+                        vs = Arrays.copyOf(vs, cap);
+                        tab = rehash(hs, m - 1, cap << 1);
+                        mask = tab.length - 1;
+                        idx = h & mask;
+                        while (tab[idx] != 0)
+                            idx = (idx + 1) & mask;
+                    }
+                    ks[id] = k;
+                    hs[id] = h;
+                    vs[id] = (r == null) ? 1 : vop.op(x);
+                    tab[idx] = id + 1;
+                }
+                if (ids != null)
+                    ids[i] = id;
+            }
+
+            // Bucket entries by partition, and renumber ids to match
+            int np = nParts;
+            int[] starts = new int[np + 1];
+            int[] slots = new int[m];    // partitions, then new ids
+            for (int j = 0; j < m; ++j)
+                ++starts[slots[j] = partOf(hs[j]) + 1];
+            for (int q = 1; q < np; ++q)
+                starts[q + 1] += starts[q];
+            int[] next = Arrays.copyOf(starts, np);
+            Object[] bks = new Object[m];
+            int[] bhs = new int[m];
+            long[] bvs = new long[m];
+            for (int j = 0; j < m; ++j) {
+                int s = slots[j] = next[slots[j] - 1]++;
+                bks[s] = ks[j];
+                bhs[s] = hs[j];
+                bvs[s] = vs[j];
+            }
+            if (ids != null) {
+                for (int i = lo; i < hi; ++i)
+                    ids[i] = slots[ids[i]];
+            }
+            localKeys[b] = bks;
+            localHashes[b] = bhs;
+            localValues[b] = bvs;
+            localSizes[b] = m;
+            localPartStarts[b] = starts;
+            localPositions[b] = new int[m];
+        }
+
+        /** Returns table of given size indexing the first m hashes */
+        static int[] rehash(int[] hs, int m, int size) {
+            int[] tab = new int[size];
+            int mask = size - 1;
+            for (int j = 0; j < m; ++j) {
+                int idx = hs[j] & mask;
+                while (tab[idx] != 0)
+                    idx = (idx + 1) & mask;
+                tab[idx] = j + 1;
+            }
+            return tab;
+        }
+
+        /** Merges local tables of all blocks for partition p */
+        final void merge(int p) {
+            LongReducer r = reducer;
+            int nb = nBlocks;
+            int total = 0;
+            for (int b = 0; b < nb; ++b) {
+                int[] starts = localPartStarts[b];
+                total += starts[p + 1] - starts[p];
+            }
+            int[] tab = new int[UniquifierTable.tableSizeFor(total)];
+            int mask = tab.length - 1;
+            int[] phs = new int[total];
+            long[] pvs = new long[total];
+            Object[] pks = new Object[total];
+            int m = 0;
+            for (int b = 0; b < nb; ++b) {
+                Object[] ks = localKeys[b];
+                int[] hs = localHashes[b];
+                long[] vs = localValues[b];
+                int[] pids = localPositions[b];
+                int[] starts = localPartStarts[b];
+                for (int lid = starts[p]; lid < starts[p + 1]; ++lid) {
+                    Object k = ks[lid];
+                    int h = hs[lid];
+                    int idx = h & mask;
+                    int pid;
+                    for (;;) {
+                        int e = tab[idx];
+                        if (e == 0) {
+                            pid = m++;
+                            pks[pid] = k;
+                            phs[pid] = h;
+                            pvs[pid] = vs[lid];
+                            tab[idx] = pid + 1;
+                            break;
+                        }
+                        if (phs[--e] == h && k.equals(pks[e])) {
+                            pid = e;
+                            pvs[pid] = (r == null) ? pvs[pid] + vs[lid] :
+                                r.op(pvs[pid], vs[lid]);
+                            break;
+                        }
+                        idx = (idx + 1) & mask;
+                    }
+                    pids[lid] = pid;
+                }
+            }
+            partTables[p] = tab;
+            partHashes[p] = phs;
+            partKeys[p] = pks;
+            partValues[p] = pvs;
+            partSizes[p] = m;
+        }
+
+        /** Copies results for partition p and computes positions */
+        final void emit(int p) {
+            int base = partBases[p];
+            Object[] pks = partKeys[p];
+            long[] pvs = partValues[p];
+            int m = partSizes[p];
+            System.arraycopy(pks, 0, keys, base, m);
+            if (reducer != null) {
+                System.arraycopy(pvs, 0, values, base, m);
+                return;
+            }
+            // Convert counts to cursors, recording group starts
+            int pos = partElementBases[p];
+            for (int i = 0; i < m; ++i) {
+                groupStarts[base + i] = pos;
+                long c = pvs[i];
+                pvs[i] = pos;
+                pos += (int)c;
+            }
+            for (int b = 0; b < nBlocks; ++b) {
+                long[] vs = localValues[b];
+                int[] positions = localPositions[b];
+                int[] starts = localPartStarts[b];
+                for (int lid = starts[p]; lid < starts[p + 1]; ++lid) {
+                    int pid = positions[lid];
+                    positions[lid] = (int)pvs[pid];
+                    pvs[pid] += vs[lid];
+                }
+            }
+        }
+
+        /** Scatters elements of block b to their groups */
+        final void scatter(int b) {
+            Object[] src = a;
+            Object[] dst = elements;
+            int[] ids = localIds;
+            int[] positions = localPositions[b];
+            int lo = b * blockSize;
+            int hi = Math.min(n, lo + blockSize);
+            for (int i = lo; i < hi; ++i)
+                dst[positions[ids[i]]++] = src[i];
+        }
+    }
+
+    /**
+     * Performs the current phase of a grouper over a range of blocks
+     * or partitions.
+     */
+    static final class FJGroupPass extends RecursiveAction {
+        final FJOGrouper grouper;
+        final int lo;
+        final int hi;
+        FJGroupPass(FJOGrouper grouper, int lo, int hi) {
+            this.grouper = grouper; this.lo = lo; this.hi = hi;
+        }
+        public void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                FJGroupPass r = new FJGroupPass(grouper, mid, hi);
+                r.fork();
+                new FJGroupPass(grouper, lo, mid).compute();
+                if (r.tryUnfork()) r.compute(); else r.join();
+            }
+            else if (lo < hi)
+                grouper.leaf(lo);
+        }
+    }
+
+    /**
+     * Hash join. The smaller array is grouped by key using
+     * FJOGrouper, whose partition tables then serve as a hash table
+     * of the groups. Blocks of the larger array probe this table in
+     * one parallel pass, recording the group of each element and
+     * counting matches. After prefix sums of counts over blocks,
+     * blocks combine each element with each member of its group in
+     * a second pass, writing to disjoint parts of the result.
+     */
+    static final class FJOJoiner extends RecursiveAction {
+        final ForkJoinPool ex;
+        final FJOGrouper build;
+        final Object[] a;            // the probing array
+        final int n;
+        final Op keyOp;
+        final BinaryOp combiner;
+        final boolean buildIsLeft;   // if so, build elements are first
+        final int blockSize;
+        final int nBlocks;
+        int[] groupIndices;          // group of each element, or -1
+        long[] counts;               // matches, then starts, per block
+        Object[] results;
+        boolean combining;           // false while probing
+
+        FJOJoiner(ForkJoinPool ex, FJOGrouper build,
+                  Object[] a, int n, int gran, Op keyOp,
+                  BinaryOp combiner, boolean buildIsLeft) {
+            this.ex = ex;
+            this.build = build;
+            this.a = a;
+            this.n = n;
+            this.keyOp = keyOp;
+            this.combiner = combiner;
+            this.buildIsLeft = buildIsLeft;
+            int bs = Math.max(gran, 1); // gran is 0 for empty arrays
+            this.blockSize = bs;
+            this.nBlocks = (int)(((long)n + bs - 1) / bs);
+        }
+
+        public void compute() {
+            build.compute();
+            int nb = nBlocks;
+            groupIndices = new int[n];
+            counts = new long[nb];
+            new FJJoinPass(this, 0, nb).compute();
+            long total = 0;
+            for (int b = 0; b < nb; ++b) {
+                long c = counts[b];
+                counts[b] = total;
+                total += c;
+            }
+            if (total > Integer.MAX_VALUE)
+                throw new OutOfMemoryError();
+            results = new Object[(int)total];
+            combining = true;
+            new FJJoinPass(this, 0, nb).compute();
+            groupIndices = null;
+            counts = null;
+        }
+
+        final void leaf(int b) {
+            int lo = b * blockSize;
+            int hi = Math.min(n, lo + blockSize);
+            Object[] src = a;
+            int[] gs = groupIndices;
+            int[] starts = build.groupStarts;
+            if (!combining) {
+                FJOGrouper g = build;
+                Op op = keyOp;
+                long c = 0;
+                for (int i = lo; i < hi; ++i) {
+                    Object k = op.op(src[i]);
+                    if (k == null)
+                        throw new NullPointerException();
+                    int gi = g.indexOfKey(k);
+                    gs[i] = gi;
+                    if (gi >= 0)
+                        c += starts[gi + 1] - starts[gi];
+                }
+                counts[b] = c;
+            }
+            else {
+                BinaryOp f = combiner;
+                Object[] es = build.elements;
+                Object[] dst = results;
+                int k = (int)counts[b];
+                for (int i = lo; i < hi; ++i) {
+                    int gi = gs[i];
+                    if (gi < 0)
+                        continue;
+                    Object x = src[i];
+                    int end = starts[gi + 1];
+                    if (buildIsLeft) {
+                        for (int j = starts[gi]; j < end; ++j)
+                            dst[k++] = f.op(es[j], x);
+                    }
+                    else {
+                        for (int j = starts[gi]; j < end; ++j)
+                            dst[k++] = f.op(x, es[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs the current pass of a joiner over a range of blocks.
+     */
+    static final class FJJoinPass extends RecursiveAction {
+        final FJOJoiner joiner;
+        final int lo;
+        final int hi;
+        FJJoinPass(FJOJoiner joiner, int lo, int hi) {
+            this.joiner = joiner; this.lo = lo; this.hi = hi;
+        }
+        public void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                FJJoinPass r = new FJJoinPass(joiner, mid, hi);
+                r.fork();
+                new FJJoinPass(joiner, lo, mid).compute();
+                if (r.tryUnfork()) r.compute(); else r.join();
+            }
+            else if (lo < hi)
+                joiner.leaf(lo);
+        }
     }
 
     /**
@@ -1758,6 +3116,43 @@ class PAS {
         }
     }
 
+    static final class FJFSorter extends RecursiveAction {
+        final FloatComparator cmp; final float[] a; final float[] w;
+        final int origin; final int n; final int gran;
+        FJFSorter(FloatComparator cmp,
+                  float[] a, float[] w, int origin, int n, int gran) {
+            this.cmp = cmp;
+            this.a = a; this.w = w; this.origin = origin; this.n = n;
+            this.gran = gran;
+        }
+        public void compute()  {
+            int l = origin;
+            int g = gran;
+            if (n > g) {
+                int h = n >>> 1;
+                int q = n >>> 2;
+                int u = h + q;
+                FJSubSorter ls = new FJSubSorter
+                    (new FJFSorter(cmp, a, w, l,   q,   g),
+                     new FJFSorter(cmp, a, w, l+q, h-q, g),
+                     new FJFMerger(cmp, a, w, l,   q,
+                                   l+q, h-q, l, g, null));
+                FJSubSorter rs = new FJSubSorter
+                    (new FJFSorter(cmp, a, w, l+h, q,   g),
+                     new FJFSorter(cmp, a, w, l+u, n-u, g),
+                     new FJFMerger(cmp, a, w, l+h, q,
+                                   l+u, n-u, l+h, g, null));
+                rs.fork();
+                ls.compute();
+                if (rs.tryUnfork()) rs.compute(); else rs.join();
+                new FJFMerger(cmp, w, a, l, h,
+                              l+h, n-h, l, g, null).compute();
+            }
+            else
+                fquickSort(a, cmp, l, l+n-1);
+        }
+    }
+
     static final class FJDCSorter extends RecursiveAction {
         final double[] a; final double[] w;
         final int origin; final int n; final int gran;
@@ -1794,6 +3189,42 @@ class PAS {
         }
     }
 
+    static final class FJFCSorter extends RecursiveAction {
+        final float[] a; final float[] w;
+        final int origin; final int n; final int gran;
+        FJFCSorter(float[] a, float[] w, int origin,
+                   int n, int gran) {
+            this.a = a; this.w = w; this.origin = origin; this.n = n;
+            this.gran = gran;
+        }
+        public void compute()  {
+            int l = origin;
+            int g = gran;
+            if (n > g) {
+                int h = n >>> 1;
+                int q = n >>> 2;
+                int u = h + q;
+                FJSubSorter ls = new FJSubSorter
+                    (new FJFCSorter(a, w, l,   q,   g),
+                     new FJFCSorter(a, w, l+q, h-q, g),
+                     new FJFCMerger(a, w, l,   q,
+                                    l+q, h-q, l, g, null));
+                FJSubSorter rs = new FJSubSorter
+                    (new FJFCSorter(a, w, l+h, q,   g),
+                     new FJFCSorter(a, w, l+u, n-u, g),
+                     new FJFCMerger(a, w, l+h, q,
+                                    l+u, n-u, l+h, g, null));
+                rs.fork();
+                ls.compute();
+                if (rs.tryUnfork()) rs.compute(); else rs.join();
+                new FJFCMerger(w, a, l, h,
+                               l+h, n-h, l, g, null).compute();
+            }
+            else
+                fcquickSort(a, l, l+n-1);
+        }
+    }
+
     static final class FJLSorter extends RecursiveAction {
         final LongComparator cmp; final long[] a; final long[] w;
         final int origin; final int n; final int gran;
@@ -1832,14 +3263,16 @@ class PAS {
         }
     }
 
-    static final class FJLCSorter extends RecursiveAction {
-        final long[] a; final long[] w;
+    static final class FJISorter extends RecursiveAction {
+        final IntComparator cmp; final int[] a; final int[] w;
         final int origin; final int n; final int gran;
-        FJLCSorter(long[] a, long[] w, int origin,
-                   int n, int gran) {
+        FJISorter(IntComparator cmp,
+                  int[] a, int[] w, int origin, int n, int gran) {
+            this.cmp = cmp;
             this.a = a; this.w = w; this.origin = origin; this.n = n;
             this.gran = gran;
         }
+
         public void compute()  {
             int l = origin;
             int g = gran;
@@ -1848,13 +3281,49 @@ class PAS {
                 int q = n >>> 2;
                 int u = h + q;
                 FJSubSorter ls = new FJSubSorter
-                    (new FJLCSorter(a, w, l,   q,   g),
-                     new FJLCSorter(a, w, l+q, h-q, g),
-                     new FJLCMerger(a, w, l,   q,
-                                    l+q, h-q, l, g, null));
-
+                    (new FJISorter(cmp, a, w, l,   q,   g),
+                     new FJISorter(cmp, a, w, l+q, h-q, g),
+                     new FJIMerger(cmp, a, w, l,   q,
+                                   l+q, h-q, l, g, null));
                 FJSubSorter rs = new FJSubSorter
-                    (new FJLCSorter(a, w, l+h, q,   g),
+                    (new FJISorter(cmp, a, w, l+h, q,   g),
+                     new FJISorter(cmp, a, w, l+u, n-u, g),
+                     new FJIMerger(cmp, a, w, l+h, q,
+                                   l+u, n-u, l+h, g, null));
+                rs.fork();
+                ls.compute();
+                if (rs.tryUnfork()) rs.compute(); else rs.join();
+                new FJIMerger(cmp, w, a, l, h,
+                              l+h, n-h, l, g, null).compute();
+            }
+            else
+                iquickSort(a, cmp, l, l+n-1);
+        }
+    }
+
+    static final class FJLCSorter extends RecursiveAction {
+        final long[] a; final long[] w;
+        final int origin; final int n; final int gran;
+        FJLCSorter(long[] a, long[] w, int origin,
+                   int n, int gran) {
+            this.a = a; this.w = w; this.origin = origin; this.n = n;
+            this.gran = gran;
+        }
+        public void compute()  {
+            int l = origin;
+            int g = gran;
+            if (n > g) {
+                int h = n >>> 1;
+                int q = n >>> 2;
+                int u = h + q;
+                FJSubSorter ls = new FJSubSorter
+                    (new FJLCSorter(a, w, l,   q,   g),
+                     new FJLCSorter(a, w, l+q, h-q, g),
+                     new FJLCMerger(a, w, l,   q,
+                                    l+q, h-q, l, g, null));
+
+                FJSubSorter rs = new FJSubSorter
+                    (new FJLCSorter(a, w, l+h, q,   g),
                      new FJLCSorter(a, w, l+u, n-u, g),
                      new FJLCMerger(a, w, l+h, q,
                                     l+u, n-u, l+h, g, null));
@@ -1869,6 +3338,43 @@ class PAS {
         }
     }
 
+    static final class FJICSorter extends RecursiveAction {
+        final int[] a; final int[] w;
+        final int origin; final int n; final int gran;
+        FJICSorter(int[] a, int[] w, int origin,
+                   int n, int gran) {
+            this.a = a; this.w = w; this.origin = origin; this.n = n;
+            this.gran = gran;
+        }
+        public void compute()  {
+            int l = origin;
+            int g = gran;
+            if (n > g) {
+                int h = n >>> 1;
+                int q = n >>> 2;
+                int u = h + q;
+                FJSubSorter ls = new FJSubSorter
+                    (new FJICSorter(a, w, l,   q,   g),
+                     new FJICSorter(a, w, l+q, h-q, g),
+                     new FJICMerger(a, w, l,   q,
+                                    l+q, h-q, l, g, null));
+
+                FJSubSorter rs = new FJSubSorter
+                    (new FJICSorter(a, w, l+h, q,   g),
+                     new FJICSorter(a, w, l+u, n-u, g),
+                     new FJICMerger(a, w, l+h, q,
+                                    l+u, n-u, l+h, g, null));
+                rs.fork();
+                ls.compute();
+                if (rs.tryUnfork()) rs.compute(); else rs.join();
+                new FJICMerger(w, a, l, h,
+                               l+h, n-h, l, g, null).compute();
+            }
+            else
+                icquickSort(a, l, l+n-1);
+        }
+    }
+
     /** Utility class to sort half a partitioned array */
     static final class FJSubSorter extends RecursiveAction {
         final RecursiveAction left;
@@ -2106,6 +3612,72 @@ class PAS {
         }
     }
 
+    static final class FJFMerger extends RecursiveAction {
+        final FloatComparator cmp; final float[] a; final float[] w;
+        final int lo; final int ln; final int ro; final int rn; final int wo;
+        final int gran;
+        final FJFMerger next;
+        FJFMerger(FloatComparator cmp, float[] a, float[] w,
+                  int lo, int ln, int ro, int rn, int wo,
+                  int gran, FJFMerger next) {
+            this.cmp = cmp;
+            this.a = a;    this.w = w;
+            this.lo = lo;  this.ln = ln;
+            this.ro = ro;  this.rn = rn;
+            this.wo = wo;
+            this.gran = gran;
+            this.next = next;
+        }
+        public void compute() {
+            FJFMerger rights = null;
+            int nleft = ln;
+            int nright = rn;
+            while (nleft > gran) {
+                int lh = nleft >>> 1;
+                int splitIndex = lo + lh;
+                float split = a[splitIndex];
+                int rl = 0;
+                int rh = nright;
+                while (rl < rh) {
+                    int mid = (rl + rh) >>> 1;
+                    if (cmp.compare(split, a[ro + mid]) <= 0)
+                        rh = mid;
+                    else
+                        rl = mid + 1;
+                }
+                (rights = new FJFMerger
+                 (cmp, a, w, splitIndex, nleft-lh, ro+rh,
+                  nright-rh, wo+lh+rh, gran, rights)).fork();
+                nleft = lh;
+                nright = rh;
+            }
+
+            int l = lo;
+            int lFence = lo + nleft;
+            int r = ro;
+            int rFence = ro + nright;
+            int k = wo;
+            while (l < lFence && r < rFence) {
+                float al = a[l];
+                float ar = a[r];
+                float t;
+                if (cmp.compare(al, ar) <= 0) {++l; t=al;} else {++r; t=ar; }
+                w[k++] = t;
+            }
+            while (l < lFence)
+                w[k++] = a[l++];
+            while (r < rFence)
+                w[k++] = a[r++];
+            while (rights != null) {
+                if (rights.tryUnfork())
+                    rights.compute();
+                else
+                    rights.join();
+                rights = rights.next;
+            }
+        }
+    }
+
     static final class FJDCMerger extends RecursiveAction {
         final double[] a; final double[] w;
         final int lo; final int ln; final int ro; final int rn; final int wo;
@@ -2171,6 +3743,71 @@ class PAS {
         }
     }
 
+    static final class FJFCMerger extends RecursiveAction {
+        final float[] a; final float[] w;
+        final int lo; final int ln; final int ro; final int rn; final int wo;
+        final int gran;
+        final FJFCMerger next;
+        FJFCMerger(float[] a, float[] w, int lo,
+                   int ln, int ro, int rn, int wo,
+                   int gran, FJFCMerger next) {
+            this.a = a;    this.w = w;
+            this.lo = lo;  this.ln = ln;
+            this.ro = ro;  this.rn = rn;
+            this.wo = wo;
+            this.gran = gran;
+            this.next = next;
+        }
+        public void compute() {
+            FJFCMerger rights = null;
+            int nleft = ln;
+            int nright = rn;
+            while (nleft > gran) {
+                int lh = nleft >>> 1;
+                int splitIndex = lo + lh;
+                float split = a[splitIndex];
+                int rl = 0;
+                int rh = nright;
+                while (rl < rh) {
+                    int mid = (rl + rh) >>> 1;
+                    if (split <= a[ro + mid])
+                        rh = mid;
+                    else
+                        rl = mid + 1;
+                }
+                (rights = new FJFCMerger
+                 (a, w, splitIndex, nleft-lh, ro+rh,
+                  nright-rh, wo+lh+rh, gran, rights)).fork();
+                nleft = lh;
+                nright = rh;
+            }
+
+            int l = lo;
+            int lFence = lo + nleft;
+            int r = ro;
+            int rFence = ro + nright;
+            int k = wo;
+            while (l < lFence && r < rFence) {
+                float al = a[l];
+                float ar = a[r];
+                float t;
+                if (al <= ar) {++l; t=al;} else {++r; t=ar; }
+                w[k++] = t;
+            }
+            while (l < lFence)
+                w[k++] = a[l++];
+            while (r < rFence)
+                w[k++] = a[r++];
+            while (rights != null) {
+                if (rights.tryUnfork())
+                    rights.compute();
+                else
+                    rights.join();
+                rights = rights.next;
+            }
+        }
+    }
+
     static final class FJLMerger extends RecursiveAction {
         final LongComparator cmp; final long[] a; final long[] w;
         final int lo; final int ln; final int ro; final int rn; final int wo;
@@ -2237,6 +3874,72 @@ class PAS {
         }
     }
 
+    static final class FJIMerger extends RecursiveAction {
+        final IntComparator cmp; final int[] a; final int[] w;
+        final int lo; final int ln; final int ro; final int rn; final int wo;
+        final int gran;
+        final FJIMerger next;
+        FJIMerger(IntComparator cmp, int[] a, int[] w,
+                  int lo, int ln, int ro, int rn, int wo,
+                  int gran, FJIMerger next) {
+            this.cmp = cmp;
+            this.a = a;    this.w = w;
+            this.lo = lo;  this.ln = ln;
+            this.ro = ro;  this.rn = rn;
+            this.wo = wo;
+            this.gran = gran;
+            this.next = next;
+        }
+        public void compute() {
+            FJIMerger rights = null;
+            int nleft = ln;
+            int nright = rn;
+            while (nleft > gran) {
+                int lh = nleft >>> 1;
+                int splitIndex = lo + lh;
+                int split = a[splitIndex];
+                int rl = 0;
+                int rh = nright;
+                while (rl < rh) {
+                    int mid = (rl + rh) >>> 1;
+                    if (cmp.compare(split, a[ro + mid]) <= 0)
+                        rh = mid;
+                    else
+                        rl = mid + 1;
+                }
+                (rights = new FJIMerger
+                 (cmp, a, w, splitIndex, nleft-lh, ro+rh,
+                  nright-rh, wo+lh+rh, gran, rights)).fork();
+                nleft = lh;
+                nright = rh;
+            }
+
+            int l = lo;
+            int lFence = lo + nleft;
+            int r = ro;
+            int rFence = ro + nright;
+            int k = wo;
+            while (l < lFence && r < rFence) {
+                int al = a[l];
+                int ar = a[r];
+                int t;
+                if (cmp.compare(al, ar) <= 0) {++l; t=al;} else {++r; t=ar;}
+                w[k++] = t;
+            }
+            while (l < lFence)
+                w[k++] = a[l++];
+            while (r < rFence)
+                w[k++] = a[r++];
+            while (rights != null) {
+                if (rights.tryUnfork())
+                    rights.compute();
+                else
+                    rights.join();
+                rights = rights.next;
+            }
+        }
+    }
+
     static final class FJLCMerger extends RecursiveAction {
         final long[] a; final long[] w;
         final int lo; final int ln; final int ro; final int rn; final int wo;
@@ -2302,10 +4005,75 @@ class PAS {
         }
     }
 
-    /** Cutoff for when to use insertion-sort instead of quicksort */
-    static final int INSERTION_SORT_THRESHOLD = 8;
+    static final class FJICMerger extends RecursiveAction {
+        final int[] a; final int[] w;
+        final int lo; final int ln; final int ro; final int rn; final int wo;
+        final int gran;
+        final FJICMerger next;
+        FJICMerger(int[] a, int[] w, int lo,
+                   int ln, int ro, int rn, int wo,
+                   int gran, FJICMerger next) {
+            this.a = a;    this.w = w;
+            this.lo = lo;  this.ln = ln;
+            this.ro = ro;  this.rn = rn;
+            this.wo = wo;
+            this.gran = gran;
+            this.next = next;
+        }
+        public void compute() {
+            FJICMerger rights = null;
+            int nleft = ln;
+            int nright = rn;
+            while (nleft > gran) {
+                int lh = nleft >>> 1;
+                int splitIndex = lo + lh;
+                int split = a[splitIndex];
+                int rl = 0;
+                int rh = nright;
+                while (rl < rh) {
+                    int mid = (rl + rh) >>> 1;
+                    if (split <= a[ro + mid])
+                        rh = mid;
+                    else
+                        rl = mid + 1;
+                }
+                (rights = new FJICMerger
+                 (a, w, splitIndex, nleft-lh, ro+rh,
+                  nright-rh, wo+lh+rh, gran, rights)).fork();
+                nleft = lh;
+                nright = rh;
+            }
 
-    // Six nearly identical versions of quicksort
+            int l = lo;
+            int lFence = lo + nleft;
+            int r = ro;
+            int rFence = ro + nright;
+            int k = wo;
+            while (l < lFence && r < rFence) {
+                int al = a[l];
+                int ar = a[r];
+                int t;
+                if (al <= ar) {++l; t=al;} else {++r; t = ar;}
+                w[k++] = t;
+            }
+            while (l < lFence)
+                w[k++] = a[l++];
+            while (r < rFence)
+                w[k++] = a[r++];
+            while (rights != null) {
+                if (rights.tryUnfork())
+                    rights.compute();
+                else
+                    rights.join();
+                rights = rights.next;
+            }
+        }
+    }
+
+    /** Cutoff for when to use insertion-sort instead of quicksort */
+    static final int INSERTION_SORT_THRESHOLD = 8;
+
+    // Six nearly identical versions of quicksort
 
     static void oquickSort(Object[] a, Comparator cmp, int lo, int hi) {
         for (;;) {
@@ -2463,6 +4231,58 @@ class PAS {
         }
     }
 
+    static void fquickSort(float[] a, FloatComparator cmp, int lo, int hi) {
+        for (;;) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                for (int i = lo + 1; i <= hi; i++) {
+                    float t = a[i];
+                    int j = i - 1;
+                    while (j >= lo && cmp.compare(t, a[j]) < 0) {
+                        a[j+1] = a[j];
+                        --j;
+                    }
+                    a[j+1] = t;
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(a[lo], a[mid]) > 0) {
+                float t = a[lo]; a[lo] = a[mid]; a[mid] = t;
+            }
+            if (cmp.compare(a[mid], a[hi]) > 0) {
+                float t = a[mid]; a[mid] = a[hi]; a[hi] = t;
+                if (cmp.compare(a[lo], a[mid]) > 0) {
+                    float u = a[lo]; a[lo] = a[mid]; a[mid] = u;
+                }
+            }
+
+            float pivot = a[mid];
+            int left = lo+1;
+            int right = hi-1;
+            for (;;) {
+                while (cmp.compare(pivot, a[right]) < 0)
+                    --right;
+                while (left < right && cmp.compare(pivot, a[left]) >= 0)
+                    ++left;
+                if (left < right) {
+                    float t = a[left]; a[left] = a[right]; a[right] = t;
+                    --right;
+                }
+                else break;
+            }
+
+            if (left - lo <= hi - right) {
+                fquickSort(a, cmp, lo, left);
+                lo = left + 1;
+            }               
+            else {
+                fquickSort(a, cmp, right, hi);
+                hi = left;
+            }
+        }
+    }
+
     static void dcquickSort(double[] a, int lo, int hi) {
         for (;;) {
             if (hi - lo <= INSERTION_SORT_THRESHOLD) {
@@ -2515,6 +4335,58 @@ class PAS {
         }
     }
 
+    static void fcquickSort(float[] a, int lo, int hi) {
+        for (;;) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                for (int i = lo + 1; i <= hi; i++) {
+                    float t = a[i];
+                    int j = i - 1;
+                    while (j >= lo && t < a[j]) {
+                        a[j+1] = a[j];
+                        --j;
+                    }
+                    a[j+1] = t;
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            if (a[lo] > a[mid]) {
+                float t = a[lo]; a[lo] = a[mid]; a[mid] = t;
+            }
+            if (a[mid] > a[hi]) {
+                float t = a[mid]; a[mid] = a[hi]; a[hi] = t;
+                if (a[lo] > a[mid]) {
+                    float u = a[lo]; a[lo] = a[mid]; a[mid] = u;
+                }
+            }
+
+            float pivot = a[mid];
+            int left = lo+1;
+            int right = hi-1;
+            for (;;) {
+                while (pivot < a[right])
+                    --right;
+                while (left < right && pivot >= a[left])
+                    ++left;
+                if (left < right) {
+                    float t = a[left]; a[left] = a[right]; a[right] = t;
+                    --right;
+                }
+                else break;
+            }
+
+            if (left - lo <= hi - right) {
+                fcquickSort(a, lo, left);
+                lo = left + 1;
+            }
+            else {
+                fcquickSort(a, right, hi);
+                hi = left;
+            }
+        }
+    }
+
     static void lquickSort(long[] a, LongComparator cmp, int lo, int hi) {
         for (;;) {
             if (hi - lo <= INSERTION_SORT_THRESHOLD) {
@@ -2567,6 +4439,58 @@ class PAS {
         }
     }
 
+    static void iquickSort(int[] a, IntComparator cmp, int lo, int hi) {
+        for (;;) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                for (int i = lo + 1; i <= hi; i++) {
+                    int t = a[i];
+                    int j = i - 1;
+                    while (j >= lo && cmp.compare(t, a[j]) < 0) {
+                        a[j+1] = a[j];
+                        --j;
+                    }
+                    a[j+1] = t;
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            if (cmp.compare(a[lo], a[mid]) > 0) {
+                int t = a[lo]; a[lo] = a[mid]; a[mid] = t;
+            }
+            if (cmp.compare(a[mid], a[hi]) > 0) {
+                int t = a[mid]; a[mid] = a[hi]; a[hi] = t;
+                if (cmp.compare(a[lo], a[mid]) > 0) {
+                    int u = a[lo]; a[lo] = a[mid]; a[mid] = u;
+                }
+            }
+
+            int pivot = a[mid];
+            int left = lo+1;
+            int right = hi-1;
+            for (;;) {
+                while (cmp.compare(pivot, a[right]) < 0)
+                    --right;
+                while (left < right && cmp.compare(pivot, a[left]) >= 0)
+                    ++left;
+                if (left < right) {
+                    int t = a[left]; a[left] = a[right]; a[right] = t;
+                    --right;
+                }
+                else break;
+            }
+
+            if (left - lo <= hi - right) {
+                iquickSort(a, cmp, lo, left);
+                lo = left + 1;
+            }               
+            else {
+                iquickSort(a, cmp, right, hi);
+                hi = left;
+            }
+        }
+    }
+
     static void lcquickSort(long[] a, int lo, int hi) {
         for (;;) {
             if (hi - lo <= INSERTION_SORT_THRESHOLD) {
@@ -2605,17 +4529,654 @@ class PAS {
                     long t = a[left]; a[left] = a[right]; a[right] = t;
                     --right;
                 }
-                else break;
+                else break;
+            }
+
+            if (left - lo <= hi - right) {
+                lcquickSort(a, lo, left);
+                lo = left + 1;
+            }
+            else {
+                lcquickSort(a, right, hi);
+                hi = left;
+            }
+        }
+    }
+
+    static void icquickSort(int[] a, int lo, int hi) {
+        for (;;) {
+            if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+                for (int i = lo + 1; i <= hi; i++) {
+                    int t = a[i];
+                    int j = i - 1;
+                    while (j >= lo && t < a[j]) {
+                        a[j+1] = a[j];
+                        --j;
+                    }
+                    a[j+1] = t;
+                }
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            if (a[lo] > a[mid]) {
+                int t = a[lo]; a[lo] = a[mid]; a[mid] = t;
+            }
+            if (a[mid] > a[hi]) {
+                int t = a[mid]; a[mid] = a[hi]; a[hi] = t;
+                if (a[lo] > a[mid]) {
+                    int u = a[lo]; a[lo] = a[mid]; a[mid] = u;
+                }
+            }
+
+            int pivot = a[mid];
+            int left = lo+1;
+            int right = hi-1;
+            for (;;) {
+                while (pivot < a[right])
+                    --right;
+                while (left < right && pivot >= a[left])
+                    ++left;
+                if (left < right) {
+                    int t = a[left]; a[left] = a[right]; a[right] = t;
+                    --right;
+                }
+                else break;
+            }
+
+            if (left - lo <= hi - right) {
+                icquickSort(a, lo, left);
+                lo = left + 1;
+            }
+            else {
+                icquickSort(a, right, hi);
+                hi = left;
+            }
+        }
+    }
+
+    /**
+     * Natural ordering of doubles and floats by merge sorts. These
+     * compare only with "<", which leaves NaNs scattered and -0.0 and
+     * 0.0 in either order. As in Arrays.sort, NaNs are first moved to
+     * the end and only the rest is sorted; the (contiguous) run of
+     * zeros is then rewritten with all -0.0s first, giving the order
+     * of Double.compare (or Float.compare), as do radix sorts. Both
+     * steps are sequential, but each touches each element at most
+     * once.
+     */
+
+    /** Moves NaNs in a[lo, hi) to its end, returning their start */
+    static int dmoveNaNsToEnd(double[] a, int lo, int hi) {
+        while (lo < hi) {
+            double x = a[lo];
+            if (x != x) {
+                a[lo] = a[--hi];
+                a[hi] = x;
+            }
+            else
+                ++lo;
+        }
+        return hi;
+    }
+
+    /** Places -0.0s before 0.0s in sorted NaN-free a[lo, hi) */
+    static void dorderZeros(double[] a, int lo, int hi) {
+        int l = lo;
+        int h = hi;
+        while (l < h) { // find first element not less than zero
+            int mid = (l + h) >>> 1;
+            if (a[mid] < 0.0)
+                l = mid + 1;
+            else
+                h = mid;
+        }
+        int negatives = 0;
+        int end = l;
+        for (; end < hi && a[end] == 0.0; ++end) {
+            if (Double.doubleToRawLongBits(a[end]) < 0)
+                ++negatives;
+        }
+        for (int i = l; i < end; ++i)
+            a[i] = (i - l < negatives) ? -0.0 : 0.0;
+    }
+
+    /** Moves NaNs in a[lo, hi) to its end, returning their start */
+    static int fmoveNaNsToEnd(float[] a, int lo, int hi) {
+        while (lo < hi) {
+            float x = a[lo];
+            if (x != x) {
+                a[lo] = a[--hi];
+                a[hi] = x;
+            }
+            else
+                ++lo;
+        }
+        return hi;
+    }
+
+    /** Places -0.0fs before 0.0fs in sorted NaN-free a[lo, hi) */
+    static void forderZeros(float[] a, int lo, int hi) {
+        int l = lo;
+        int h = hi;
+        while (l < h) { // find first element not less than zero
+            int mid = (l + h) >>> 1;
+            if (a[mid] < 0.0f)
+                l = mid + 1;
+            else
+                h = mid;
+        }
+        int negatives = 0;
+        int end = l;
+        for (; end < hi && a[end] == 0.0f; ++end) {
+            if (Float.floatToRawIntBits(a[end]) < 0)
+                ++negatives;
+        }
+        for (int i = l; i < end; ++i)
+            a[i] = (i - l < negatives) ? -0.0f : 0.0f;
+    }
+
+    /**
+     * Radix sorts for natural ordering of longs and doubles.  These
+     * are least-significant-digit-first sorts over 8-bit digits of
+     * 64-bit keys that order the same way as the elements: for
+     * longs, the value with its sign bit flipped; for doubles, the
+     * bits (with all NaNs mapped to the same positive NaN) with the
+     * sign bit flipped if clear and all bits flipped if set, which
+     * orders them as Double.compare does (-0.0 before 0.0, and NaNs
+     * last).
+     *
+     * The array is divided into blocks of about threshold size. A
+     * first parallel pass counts, for each block, the occurrences of
+     * each value of every digit. Digits taking only one value across
+     * the whole array (as do the high-order digits of timestamps and
+     * other clustered keys) are skipped. Each remaining digit takes
+     * one parallel pass, in which each block stably scatters its
+     * elements to positions given by prefix sums (over digit values,
+     * then blocks) of the counts, alternating between the array and
+     * a workspace. Blocks of the new order then recount the next
+     * digit. If the sorted elements end up in the workspace, they
+     * are copied back in a final parallel pass.
+     *
+     * Radix sorting touches each element a fixed number of times
+     * rather than about log(n) times, but pays for counting and for
+     * scattering to 256 output streams, so is used only for arrays
+     * of at least MIN_RADIX_SORT_SIZE elements.
+     */
+    static final int MIN_RADIX_SORT_SIZE = 1 << 15;
+    static final int RADIX_BITS = 8;
+    static final int RADIX = 1 << RADIX_BITS;
+    static final int RADIX_DIGITS = 64 / RADIX_BITS;
+    /** Smallest block, to bound counting overhead per element */
+    static final int MIN_RADIX_BLOCK_SIZE = 1 << 12;
+
+    // Phases of radix sorter passes
+    static final int RADIX_COUNT_ALL = 0;
+    static final int RADIX_COUNT     = 1;
+    static final int RADIX_SCATTER   = 2;
+    static final int RADIX_COPY      = 3;
+
+    /**
+     * Base of radix sorters, performing passes over ranges of blocks
+     * by invoking leaf methods of subclasses.
+     */
+    static abstract class FJRadixSorter extends RecursiveAction {
+        final int origin;
+        final int n;
+        final int blockSize;
+        final int nBlocks;
+        /**
+         * For each block, RADIX counts for each digit, replaced by
+         * scatter positions for each digit before its pass.
+         */
+        final int[][] counts;
+        int phase;
+        int digit;
+        boolean inWorkspace; // true if current elements are in workspace
+
+        FJRadixSorter(int origin, int n, int gran) {
+            this.origin = origin;
+            this.n = n;
+            int bs = Math.max(gran, MIN_RADIX_BLOCK_SIZE);
+            this.blockSize = bs;
+            int nb = (int)(((long)n + bs - 1) / bs);
+            this.nBlocks = nb;
+            this.counts = new int[nb][];
+        }
+
+        abstract void countAll(int lo, int hi, int[] c);
+        abstract void count(int lo, int hi, int[] c, int shift);
+        abstract void scatter(int lo, int hi, int[] c, int shift);
+        abstract void copyBack(int lo, int hi);
+
+        /** Performs current phase for given block */
+        final void leaf(int b) {
+            int lo = b * blockSize;
+            int hi = Math.min(n, lo + blockSize);
+            int p = phase;
+            if (p == RADIX_COUNT_ALL)
+                countAll(lo, hi, counts[b] = new int[RADIX_DIGITS * RADIX]);
+            else if (p == RADIX_COUNT) {
+                int[] c = counts[b];
+                int k = digit * RADIX;
+                for (int v = 0; v < RADIX; ++v)
+                    c[k + v] = 0;
+                count(lo, hi, c, digit * RADIX_BITS);
+            }
+            else if (p == RADIX_SCATTER)
+                scatter(lo, hi, counts[b], digit * RADIX_BITS);
+            else
+                copyBack(lo, hi);
+        }
+
+        final void runPhase(int p) {
+            phase = p;
+            new FJRadixPass(this, 0, nBlocks).compute();
+        }
+
+        /**
+         * Returns true if all elements have the same value of given
+         * digit, using counts from the first pass.
+         */
+        final boolean isUniform(int d) {
+            int k = d * RADIX;
+            for (int v = 0; v < RADIX; ++v) {
+                int total = 0;
+                for (int b = 0; b < nBlocks; ++b)
+                    total += counts[b][k + v];
+                if (total != 0)
+                    return total == n;
+            }
+            return true;
+        }
+
+        /** Replaces counts for digit with scatter positions */
+        final void prefixSum(int d) {
+            int k = d * RADIX;
+            int pos = 0;
+            for (int v = 0; v < RADIX; ++v) {
+                for (int b = 0; b < nBlocks; ++b) {
+                    int[] c = counts[b];
+                    int x = c[k + v];
+                    c[k + v] = pos;
+                    pos += x;
+                }
+            }
+        }
+
+        public void compute() {
+            runPhase(RADIX_COUNT_ALL);
+            boolean counted = true; // counts are current for next digit
+            for (int d = 0; d < RADIX_DIGITS; ++d) {
+                if (isUniform(d))
+                    continue;
+                digit = d;
+                if (!counted)
+                    runPhase(RADIX_COUNT);
+                prefixSum(d);
+                runPhase(RADIX_SCATTER);
+                inWorkspace = !inWorkspace;
+                counted = false;
+            }
+            if (inWorkspace)
+                runPhase(RADIX_COPY);
+        }
+    }
+
+    /**
+     * Performs the current phase of a radix sorter over a range of
+     * blocks.
+     */
+    static final class FJRadixPass extends RecursiveAction {
+        final FJRadixSorter sorter;
+        final int lo;
+        final int hi;
+        FJRadixPass(FJRadixSorter sorter, int lo, int hi) {
+            this.sorter = sorter; this.lo = lo; this.hi = hi;
+        }
+        public void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                FJRadixPass r = new FJRadixPass(sorter, mid, hi);
+                r.fork();
+                new FJRadixPass(sorter, lo, mid).compute();
+                if (r.tryUnfork()) r.compute(); else r.join();
+            }
+            else if (lo < hi)
+                sorter.leaf(lo);
+        }
+    }
+
+    static final class FJLRadixSorter extends FJRadixSorter {
+        final long[] a;
+        final long[] w;
+        FJLRadixSorter(long[] a, int origin, int n, int gran) {
+            super(origin, n, gran);
+            this.a = a;
+            this.w = new long[n];
+        }
+
+        void countAll(int lo, int hi, int[] c) {
+            long[] src = a;
+            int o = origin;
+            for (int i = lo; i < hi; ++i) {
+                long k = src[o + i] ^ Long.MIN_VALUE;
+                for (int j = 0; j < RADIX * RADIX_DIGITS; j += RADIX) {
+                    ++c[j + ((int)k & (RADIX - 1))];
+                    k >>>= RADIX_BITS;
+                }
+            }
+        }
+
+        void count(int lo, int hi, int[] c, int shift) {
+            long[] src;
+            int o;
+            if (inWorkspace) { src = w; o = 0; } else { src = a; o = origin; }
+            int k = shift / RADIX_BITS * RADIX;
+            for (int i = lo; i < hi; ++i)
+                ++c[k + ((int)((src[o + i] ^ Long.MIN_VALUE) >>> shift) &
+                         (RADIX - 1))];
+        }
+
+        void scatter(int lo, int hi, int[] c, int shift) {
+            long[] src, dst;
+            int so, dof;
+            if (inWorkspace) { src = w; so = 0; dst = a; dof = origin; }
+            else { src = a; so = origin; dst = w; dof = 0; }
+            int k = shift / RADIX_BITS * RADIX;
+            for (int i = lo; i < hi; ++i) {
+                long x = src[so + i];
+                int v = (int)((x ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1);
+                dst[dof + c[k + v]++] = x;
+            }
+        }
+
+        void copyBack(int lo, int hi) {
+            System.arraycopy(w, lo, a, origin + lo, hi - lo);
+        }
+    }
+
+    static final class FJDRadixSorter extends FJRadixSorter {
+        final double[] a;
+        final double[] w;
+        FJDRadixSorter(double[] a, int origin, int n, int gran) {
+            super(origin, n, gran);
+            this.a = a;
+            this.w = new double[n];
+        }
+
+        /** Returns a long key ordered as Double.compare orders x */
+        static long key(double x) {
+            long bits = Double.doubleToLongBits(x);
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+
+        void countAll(int lo, int hi, int[] c) {
+            double[] src = a;
+            int o = origin;
+            for (int i = lo; i < hi; ++i) {
+                long k = key(src[o + i]);
+                for (int j = 0; j < RADIX * RADIX_DIGITS; j += RADIX) {
+                    ++c[j + ((int)k & (RADIX - 1))];
+                    k >>>= RADIX_BITS;
+                }
+            }
+        }
+
+        void count(int lo, int hi, int[] c, int shift) {
+            double[] src;
+            int o;
+            if (inWorkspace) { src = w; o = 0; } else { src = a; o = origin; }
+            int k = shift / RADIX_BITS * RADIX;
+            for (int i = lo; i < hi; ++i)
+                ++c[k + ((int)(key(src[o + i]) >>> shift) & (RADIX - 1))];
+        }
+
+        void scatter(int lo, int hi, int[] c, int shift) {
+            double[] src, dst;
+            int so, dof;
+            if (inWorkspace) { src = w; so = 0; dst = a; dof = origin; }
+            else { src = a; so = origin; dst = w; dof = 0; }
+            int k = shift / RADIX_BITS * RADIX;
+            for (int i = lo; i < hi; ++i) {
+                double x = src[so + i];
+                int v = (int)(key(x) >>> shift) & (RADIX - 1);
+                dst[dof + c[k + v]++] = x;
+            }
+        }
+
+        void copyBack(int lo, int hi) {
+            System.arraycopy(w, lo, a, origin + lo, hi - lo);
+        }
+    }
+
+    /**
+     * Sample sort for Object arrays with comparators.
+     *
+     * The merge sorters above make about log(n) passes over both the
+     * array and a workspace. This sorter instead sorts a random
+     * sample of OVERSAMPLE elements per bucket, and takes evenly
+     * spaced members of the sorted sample as splitters (dropping
+     * duplicates). In one parallel pass, each block of the array
+     * classifies its elements by binary search over the splitters,
+     * recording bucket indices in a short array and counting bucket
+     * sizes. Each element is either strictly between two adjacent
+     * splitters, or equal to one of them, so there are 2m+1 buckets
+     * for m splitters, and the buckets of elements equal to a
+     * splitter need no sorting. This keeps heavily duplicated keys
+     * from producing oversized buckets. In a second pass, blocks
+     * scatter their elements to the workspace at positions given by
+     * prefix sums (over buckets, then blocks) of the counts. Finally,
+     * buckets are sorted independently and copied back. A bucket
+     * much larger than expected (which happens only for unlucky
+     * samples) is sorted using FJOSorter rather than sequentially.
+     *
+     * Sample sorting is used only when there are enough elements
+     * for sampling and classification overhead to pay off, and more
+     * than one worker. There is a block per leaf of the usual
+     * threshold, so about eight per worker, but the number of blocks
+     * is bounded so that the per-block bucket counts (about
+     * 2*nBlocks*nBlocks ints) stay small. This also keeps the
+     * 2*nBlocks-1 bucket indices within unsigned shorts.
+     */
+    static final int MIN_SAMPLE_SORT_SIZE = 1 << 15;
+    static final int MAX_SAMPLE_BLOCKS = 512;
+    static final int OVERSAMPLE = 32;
+
+    // Phases of sample sorter passes
+    static final int SAMPLE_CLASSIFY = 0;
+    static final int SAMPLE_SCATTER  = 1;
+    static final int SAMPLE_SORT     = 2;
+
+    static final class FJOSampleSorter extends RecursiveAction {
+        final Comparator cmp;
+        final Object[] a;     // array to be sorted
+        final int origin;
+        final int n;
+        final int gran;
+        final int blockSize;
+        final int nBlocks;
+        Object[] w;           // workspace, indexed as is a
+        Object[] splitters;
+        short[] ids;          // bucket index of each element
+        /**
+         * For each block, the number of elements in each bucket,
+         * replaced by scatter positions before the scatter pass.
+         */
+        int[][] counts;
+        int[] bucketStarts;   // nBuckets+1 start positions
+        int nBuckets;
+        int phase;
+
+        FJOSampleSorter(Comparator cmp, Object[] a,
+                        int origin, int n, int gran) {
+            this.cmp = cmp;
+            this.a = a;
+            this.origin = origin;
+            this.n = n;
+            this.gran = gran;
+            int nb = (int)Math.min(MAX_SAMPLE_BLOCKS,
+                                   ((long)n + gran - 1) / gran);
+            if (nb < 2)
+                nb = 2;
+            this.nBlocks = nb;
+            this.blockSize = (n + nb - 1) / nb;
+        }
+
+        public void compute() {
+            chooseSplitters();
+            ids = new short[n];
+            counts = new int[nBlocks][];
+            runPhase(SAMPLE_CLASSIFY, nBlocks);
+            prefixSum();
+            w = new Object[origin + n];
+            runPhase(SAMPLE_SCATTER, nBlocks);
+            ids = null;
+            runPhase(SAMPLE_SORT, nBuckets);
+        }
+
+        final void runPhase(int p, int nLeaves) {
+            phase = p;
+            new FJSamplePass(this, 0, nLeaves).compute();
+        }
+
+        /** Sorts a sample and picks distinct splitters from it */
+        final void chooseSplitters() {
+            Comparator c = cmp;
+            int k = nBlocks;
+            int ns = k * OVERSAMPLE;
+            Object[] s = new Object[ns];
+            ThreadLocalRandom rng = ThreadLocalRandom.current();
+            for (int i = 0; i < ns; ++i)
+                s[i] = a[origin + rng.nextInt(n)];
+            oquickSort(s, c, 0, ns - 1);
+            Object[] sp = new Object[k - 1];
+            int m = 0;
+            for (int i = 1; i < k; ++i) {
+                Object x = s[i * OVERSAMPLE];
+                if (m == 0 || c.compare(sp[m - 1], x) < 0)
+                    sp[m++] = x;
+            }
+            if (m < sp.length) {
+                Object[] t = new Object[m];
+                System.arraycopy(sp, 0, t, 0, m);
+                sp = t;
+            }
+            splitters = sp;
+            nBuckets = 2 * m + 1;
+        }
+
+        /**
+         * Returns 2j+1 if x equals splitter j, else 2j, where j is the
+         * number of splitters less than x.
+         */
+        final int bucketOf(Object x) {
+            Comparator c = cmp;
+            Object[] sp = splitters;
+            int lo = 0;
+            int hi = sp.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                int r = c.compare(x, sp[mid]);
+                if (r < 0)
+                    hi = mid;
+                else if (r > 0)
+                    lo = mid + 1;
+                else
+                    return (mid << 1) + 1;
+            }
+            return lo << 1;
+        }
+
+        /**
+         * Replaces counts with scatter positions, and records the
+         * start of each bucket.
+         */
+        final void prefixSum() {
+            int nk = nBuckets;
+            int[] starts = new int[nk + 1];
+            int pos = origin;
+            for (int k = 0; k < nk; ++k) {
+                starts[k] = pos;
+                for (int b = 0; b < nBlocks; ++b) {
+                    int[] c = counts[b];
+                    int x = c[k];
+                    c[k] = pos;
+                    pos += x;
+                }
             }
+            starts[nk] = pos;
+            bucketStarts = starts;
+        }
 
-            if (left - lo <= hi - right) {
-                lcquickSort(a, lo, left);
-                lo = left + 1;
+        /** Performs current phase for given block or bucket */
+        final void leaf(int i) {
+            int p = phase;
+            if (p == SAMPLE_SORT) {
+                sortBucket(i);
+                return;
+            }
+            int lo = origin + i * blockSize;
+            int hi = Math.min(origin + n, lo + blockSize);
+            Object[] src = a;
+            short[] bs = ids;
+            int o = origin;
+            if (p == SAMPLE_CLASSIFY) {
+                int[] c = counts[i] = new int[nBuckets];
+                for (int j = lo; j < hi; ++j) {
+                    int k = bucketOf(src[j]);
+                    bs[j - o] = (short)k;
+                    ++c[k];
+                }
             }
             else {
-                lcquickSort(a, right, hi);
-                hi = left;
+                int[] c = counts[i];
+                Object[] dst = w;
+                for (int j = lo; j < hi; ++j)
+                    dst[c[bs[j - o] & 0xffff]++] = src[j];
+            }
+        }
+
+        /**
+         * Sorts the given bucket in the workspace unless all of its
+         * elements are equal, and copies it back.
+         */
+        final void sortBucket(int k) {
+            int lo = bucketStarts[k];
+            int len = bucketStarts[k + 1] - lo;
+            if (len == 0)
+                return;
+            if ((k & 1) == 0) {
+                if (len > (blockSize << 2))
+                    new FJOSorter(cmp, w, a, lo, len, gran).compute();
+                else
+                    oquickSort(w, cmp, lo, lo + len - 1);
+            }
+            System.arraycopy(w, lo, a, lo, len);
+        }
+    }
+
+    /**
+     * Performs the current phase of a sample sorter over a range of
+     * blocks or buckets.
+     */
+    static final class FJSamplePass extends RecursiveAction {
+        final FJOSampleSorter sorter;
+        final int lo;
+        final int hi;
+        FJSamplePass(FJOSampleSorter sorter, int lo, int hi) {
+            this.sorter = sorter; this.lo = lo; this.hi = hi;
+        }
+        public void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                FJSamplePass r = new FJSamplePass(sorter, mid, hi);
+                r.fork();
+                new FJSamplePass(sorter, lo, mid).compute();
+                if (r.tryUnfork()) r.compute(); else r.join();
             }
+            else if (lo < hi)
+                sorter.leaf(lo);
         }
     }
 
@@ -2780,6 +5341,16 @@ class PAS {
         long lgetOut() { return 0; }
         void lsetIn(long x) { }
         void lsetOut(long x) { }
+
+        float fgetIn() { return 0; }
+        float fgetOut() { return 0; }
+        void fsetIn(float x) { }
+        void fsetOut(float x) { }
+
+        int igetIn() { return 0; }
+        int igetOut() { return 0; }
+        void isetIn(int x) { }
+        void isetOut(int x) { }
     }
 
     // Subclasses adding in/out fields of the appropriate type
@@ -2808,6 +5379,19 @@ class PAS {
 
     }
 
+    static final class FJFScan extends FJScan {
+        float in;
+        float out;
+        FJFScan(FJScan parent, FJScanOp op, int lo, int hi) {
+            super(parent, op, lo, hi);
+        }
+        float fgetIn() { return in; }
+        float fgetOut() { return out; }
+        void fsetIn(float x) { in = x; }
+        void fsetOut(float x) { out = x; }
+
+    }
+
     static final class FJLScan extends FJScan {
         long in;
         long out;
@@ -2820,6 +5404,18 @@ class PAS {
         void lsetOut(long x) { out = x; }
     }
 
+    static final class FJIScan extends FJScan {
+        int in;
+        int out;
+        FJIScan(FJScan parent, FJScanOp op, int lo, int hi) {
+            super(parent, op, lo, hi);
+        }
+        int igetIn() { return in; }
+        int igetOut() { return out; }
+        void isetIn(int x) { in = x; }
+        void isetOut(int x) { out = x; }
+    }
+
     /**
      * Computational operations for FJSCan
      */
@@ -2958,6 +5554,34 @@ class PAS {
         }
     }
 
+    static abstract class FJFScanOp extends FJScanOp {
+        final float[] array;
+        final FloatReducer reducer;
+        final float base;
+        FJFScanOp(AbstractParallelAnyArray.FPap pap,
+                  FloatReducer reducer, float base) {
+            super(pap);
+            this.array = pap.array;
+            this.reducer = reducer;
+            this.base = base;
+        }
+        final void pushDown(FJScan parent, FJScan left, FJScan right) {
+            float pin = parent.fgetIn();
+            left.fsetIn(pin);
+            right.fsetIn(reducer.op(pin, left.fgetOut()));
+        }
+        final void pushUp(FJScan parent, FJScan left, FJScan right) {
+            parent.fsetOut(reducer.op(left.fgetOut(),
+                                           right.fgetOut()));
+        }
+        final FJScan newSubtask(FJScan parent, int lo, int hi) {
+            FJFScan f = new FJFScan(parent, this, lo, hi);
+            f.in = base;
+            f.out = base;
+            return f;
+        }
+    }
+
     static final class FJDCumulateOp extends FJDScanOp {
         FJDCumulateOp(AbstractParallelAnyArray.DPap pap,
                       DoubleReducer reducer, double base) {
@@ -2987,6 +5611,35 @@ class PAS {
         }
     }
 
+    static final class FJFCumulateOp extends FJFScanOp {
+        FJFCumulateOp(AbstractParallelAnyArray.FPap pap,
+                      FloatReducer reducer, float base) {
+            super(pap, reducer, base);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            float sum = base;
+            if (hi != fence) {
+                float[] arr = array;
+                for (int i = lo; i < hi; ++i)
+                    sum = reducer.op(sum, arr[i]);
+            }
+            f.fsetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = f.fgetIn();
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum = reducer.op(sum, arr[i]);
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = base;
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum = reducer.op(sum, arr[i]);
+            f.fsetOut(sum);
+        }
+    }
+
     static final class FJDPrecumulateOp extends FJDScanOp {
         FJDPrecumulateOp(AbstractParallelAnyArray.DPap pap,
                          DoubleReducer reducer, double base) {
@@ -3020,6 +5673,39 @@ class PAS {
         }
     }
 
+    static final class FJFPrecumulateOp extends FJFScanOp {
+        FJFPrecumulateOp(AbstractParallelAnyArray.FPap pap,
+                         FloatReducer reducer, float base) {
+            super(pap, reducer, base);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = base;
+            for (int i = lo; i < hi; ++i)
+                sum = reducer.op(sum, arr[i]);
+            f.fsetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = f.fgetIn();
+            for (int i = lo; i < hi; ++i) {
+                float x = arr[i];
+                arr[i] = sum;
+                sum = reducer.op(sum, x);
+            }
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = base;
+            for (int i = lo; i < hi; ++i) {
+                float x = arr[i];
+                arr[i] = sum;
+                sum = reducer.op(sum, x);
+            }
+            f.fsetOut(sum);
+        }
+    }
+
     static abstract class FJLScanOp extends FJScanOp {
         final long[] array;
         final LongReducer reducer;
@@ -3048,6 +5734,34 @@ class PAS {
         }
     }
 
+    static abstract class FJIScanOp extends FJScanOp {
+        final int[] array;
+        final IntReducer reducer;
+        final int base;
+        FJIScanOp(AbstractParallelAnyArray.IPap pap,
+                  IntReducer reducer, int base) {
+            super(pap);
+            this.array = pap.array;
+            this.reducer = reducer;
+            this.base = base;
+        }
+        final void pushDown(FJScan parent, FJScan left, FJScan right) {
+            int pin = parent.igetIn();
+            left.isetIn(pin);
+            right.isetIn(reducer.op(pin, left.igetOut()));
+        }
+        final void pushUp(FJScan parent, FJScan left, FJScan right) {
+            parent.isetOut(reducer.op(left.igetOut(),
+                                           right.igetOut()));
+        }
+        final FJScan newSubtask(FJScan parent, int lo, int hi) {
+            FJIScan f = new FJIScan(parent, this, lo, hi);
+            f.in = base;
+            f.out = base;
+            return f;
+        }
+    }
+
     static final class FJLCumulateOp extends FJLScanOp {
         FJLCumulateOp(AbstractParallelAnyArray.LPap pap,
                       LongReducer reducer, long base) {
@@ -3077,6 +5791,35 @@ class PAS {
         }
     }
 
+    static final class FJICumulateOp extends FJIScanOp {
+        FJICumulateOp(AbstractParallelAnyArray.IPap pap,
+                      IntReducer reducer, int base) {
+            super(pap, reducer, base);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            int sum = base;
+            if (hi != fence) {
+                int[] arr = array;
+                for (int i = lo; i < hi; ++i)
+                    sum = reducer.op(sum, arr[i]);
+            }
+            f.isetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = f.igetIn();
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum = reducer.op(sum, arr[i]);
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = base;
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum = reducer.op(sum, arr[i]);
+            f.isetOut(sum);
+        }
+    }
+
     static final class FJLPrecumulateOp extends FJLScanOp {
         FJLPrecumulateOp(AbstractParallelAnyArray.LPap pap,
                          LongReducer reducer, long base) {
@@ -3110,6 +5853,39 @@ class PAS {
         }
     }
 
+    static final class FJIPrecumulateOp extends FJIScanOp {
+        FJIPrecumulateOp(AbstractParallelAnyArray.IPap pap,
+                         IntReducer reducer, int base) {
+            super(pap, reducer, base);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = base;
+            for (int i = lo; i < hi; ++i)
+                sum = reducer.op(sum, arr[i]);
+            f.isetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = f.igetIn();
+            for (int i = lo; i < hi; ++i) {
+                int x = arr[i];
+                arr[i] = sum;
+                sum = reducer.op(sum, x);
+            }
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = base;
+            for (int i = lo; i < hi; ++i) {
+                int x = arr[i];
+                arr[i] = sum;
+                sum = reducer.op(sum, x);
+            }
+            f.isetOut(sum);
+        }
+    }
+
     // specialized versions for plus
 
     static abstract class FJDScanPlusOp extends FJScanOp {
@@ -3134,6 +5910,30 @@ class PAS {
         }
     }
 
+    // specialized versions for plus
+
+    static abstract class FJFScanPlusOp extends FJScanOp {
+        final float[] array;
+        FJFScanPlusOp(AbstractParallelAnyArray.FPap pap) {
+            super(pap);
+            this.array = pap.array;
+        }
+        final void pushDown(FJScan parent, FJScan left, FJScan right) {
+            float pin = parent.fgetIn();
+            left.fsetIn(pin);
+            right.fsetIn(pin + left.fgetOut());
+        }
+        final void pushUp(FJScan parent, FJScan left, FJScan right) {
+            parent.fsetOut(left.fgetOut() + right.fgetOut());
+        }
+        final FJScan newSubtask(FJScan parent, int lo, int hi) {
+            FJFScan f = new FJFScan(parent, this, lo, hi);
+            f.in = 0.0f;
+            f.out = 0.0f;
+            return f;
+        }
+    }
+
     static final class FJDCumulatePlusOp extends FJDScanPlusOp {
         FJDCumulatePlusOp(AbstractParallelAnyArray.DPap pap) {
             super(pap);
@@ -3162,6 +5962,34 @@ class PAS {
         }
     }
 
+    static final class FJFCumulatePlusOp extends FJFScanPlusOp {
+        FJFCumulatePlusOp(AbstractParallelAnyArray.FPap pap) {
+            super(pap);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            float sum = 0.0f;
+            if (hi != fence) {
+                float[] arr = array;
+                for (int i = lo; i < hi; ++i)
+                    sum += arr[i];
+            }
+            f.fsetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = f.fgetIn();
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum += arr[i];
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = 0.0f;
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum += arr[i];
+            f.fsetOut(sum);
+        }
+    }
+
     static final class FJDPrecumulatePlusOp extends FJDScanPlusOp {
         FJDPrecumulatePlusOp(AbstractParallelAnyArray.DPap pap) {
             super(pap);
@@ -3194,6 +6022,38 @@ class PAS {
         }
     }
 
+    static final class FJFPrecumulatePlusOp extends FJFScanPlusOp {
+        FJFPrecumulatePlusOp(AbstractParallelAnyArray.FPap pap) {
+            super(pap);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = 0.0f;
+            for (int i = lo; i < hi; ++i)
+                sum += arr[i];
+            f.fsetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = f.fgetIn();
+            for (int i = lo; i < hi; ++i) {
+                float x = arr[i];
+                arr[i] = sum;
+                sum += x;
+            }
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            float[] arr = array;
+            float sum = 0.0f;
+            for (int i = lo; i < hi; ++i) {
+                float x = arr[i];
+                arr[i] = sum;
+                sum += x;
+            }
+            f.fsetOut(sum);
+        }
+    }
+
     static abstract class FJLScanPlusOp extends FJScanOp {
         final long[] array;
         FJLScanPlusOp(AbstractParallelAnyArray.LPap pap) {
@@ -3218,6 +6078,30 @@ class PAS {
         }
     }
 
+    static abstract class FJIScanPlusOp extends FJScanOp {
+        final int[] array;
+        FJIScanPlusOp(AbstractParallelAnyArray.IPap pap) {
+            super(pap);
+            this.array = pap.array;
+        }
+        final void pushDown(FJScan parent, FJScan left, FJScan right) {
+            int pin = parent.igetIn();
+            left.isetIn(pin);
+            right.isetIn(pin + left.igetOut());
+        }
+
+        final void pushUp(FJScan parent, FJScan left, FJScan right) {
+            parent.isetOut(left.igetOut() + right.igetOut());
+        }
+
+        final FJScan newSubtask(FJScan parent, int lo, int hi) {
+            FJIScan f = new FJIScan(parent, this, lo, hi);
+            f.in = 0;
+            f.out = 0;
+            return f;
+        }
+    }
+
     static final class FJLCumulatePlusOp extends FJLScanPlusOp {
         FJLCumulatePlusOp(AbstractParallelAnyArray.LPap pap) {
             super(pap);
@@ -3246,6 +6130,34 @@ class PAS {
         }
     }
 
+    static final class FJICumulatePlusOp extends FJIScanPlusOp {
+        FJICumulatePlusOp(AbstractParallelAnyArray.IPap pap) {
+            super(pap);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            int sum = 0;
+            if (hi != fence) {
+                int[] arr = array;
+                for (int i = lo; i < hi; ++i)
+                    sum += arr[i];
+            }
+            f.isetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = f.igetIn();
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum += arr[i];
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = 0;
+            for (int i = lo; i < hi; ++i)
+                arr[i] = sum += arr[i];
+            f.isetOut(sum);
+        }
+    }
+
     static final class FJLPrecumulatePlusOp extends FJLScanPlusOp {
         FJLPrecumulatePlusOp(AbstractParallelAnyArray.LPap pap) {
             super(pap);
@@ -3278,4 +6190,36 @@ class PAS {
         }
     }
 
+    static final class FJIPrecumulatePlusOp extends FJIScanPlusOp {
+        FJIPrecumulatePlusOp(AbstractParallelAnyArray.IPap pap) {
+            super(pap);
+        }
+        void sumLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = 0;
+            for (int i = lo; i < hi; ++i)
+                sum += arr[i];
+            f.isetOut(sum);
+        }
+        void cumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = f.igetIn();
+            for (int i = lo; i < hi; ++i) {
+                int x = arr[i];
+                arr[i] = sum;
+                sum += x;
+            }
+        }
+        void sumAndCumulateLeaf(int lo, int hi, FJScan f) {
+            int[] arr = array;
+            int sum = 0;
+            for (int i = lo; i < hi; ++i) {
+                int x = arr[i];
+                arr[i] = sum;
+                sum += x;
+            }
+            f.isetOut(sum);
+        }
+    }
+
 }
@@ -149,8 +149,9 @@ public class ParallelArray<T> extends AbstractParallelAnyArray.OUPap<T> implemen
 
     /**
      * Returns a common default executor for use in ParallelArrays.
-     * This executor arranges enough parallelism to use most, but not
-     * necessarily all, of the available processors on this system.
+     * This is {@link ForkJoinPool#commonPool}, which by default
+     * arranges enough parallelism to use most, but not necessarily
+     * all, of the available processors on this system.
      * @return the executor
      */
     public static ForkJoinPool defaultExecutor() {
@@ -285,6 +286,43 @@ public class ParallelArray<T> extends AbstractParallelAnyArray.OUPap<T> implemen
         public int indexOfMax();
     }
 
+    /**
+     * The distinct keys of a ParallelArray, each with the elements
+     * having that key, as returned by {@link ParallelArray#groupBy}.
+     * Keys are held in an unspecified order. Elements are arranged
+     * so that those with the same key are contiguous, and ordered as
+     * in the source array.
+     */
+    public static interface Grouping<K,T> {
+        /** Return the number of distinct keys */
+        public int size();
+        /** Return the keys */
+        public ParallelArray<K> keys();
+        /** Return the elements, arranged in groups ordered as keys */
+        public ParallelArray<T> elements();
+        /** Return the elements with the key at the given index */
+        public ParallelArrayWithBounds<T> group(int index);
+        /** Return the index of the given key, or -1 if not present */
+        public int indexOfKey(Object key);
+    }
+
+    /**
+     * The distinct keys of a ParallelArray, each with a reduction of
+     * the values of the elements having that key, as returned by
+     * {@link ParallelArray#aggregateByKey}. Keys are held in an
+     * unspecified order.
+     */
+    public static interface LongAggregation<K> {
+        /** Return the number of distinct keys */
+        public int size();
+        /** Return the keys */
+        public ParallelArray<K> keys();
+        /** Return the reduced values, ordered as keys */
+        public ParallelLongArray values();
+        /** Return the index of the given key, or -1 if not present */
+        public int indexOfKey(Object key);
+    }
+
     /**
      * Returns the executor used for computations
      * @return the executor
@@ -580,6 +618,88 @@ public class ParallelArray<T> extends AbstractParallelAnyArray.OUPap<T> implemen
         return super.allNonidenticalElements();
     }
 
+    /**
+     * Returns the distinct keys computed by the given op for
+     * elements, along with the elements having each key, using each
+     * key's <tt>equals</tt> method to test for duplication. All
+     * arrays of the result use this array's executor.
+     * @param op the op computing the key of each element
+     * @return the grouping
+     * @throws NullPointerException if the op returns null for any
+     * element
+     */
+    public <K> ParallelArray.Grouping<K,T> groupBy
+        (Op<? super T, ? extends K> op) {
+        PAS.FJOGrouper g = new PAS.FJOGrouper
+            (ex, array, fence, getThreshold(), op, null, null);
+        ex.invoke(g);
+        return g;
+    }
+
+    /**
+     * Returns the distinct keys computed by the given op for
+     * elements, along with the reduction of the values computed by
+     * the given mapper for the elements having each key, using each
+     * key's <tt>equals</tt> method to test for duplication. All
+     * arrays of the result use this array's executor.
+     * @param op the op computing the key of each element
+     * @param mapper the mapper computing the value of each element
+     * @param reducer the reducer
+     * @return the aggregation
+     * @throws NullPointerException if the op returns null for any
+     * element
+     */
+    public <K> ParallelArray.LongAggregation<K> aggregateByKey
+        (Op<? super T, ? extends K> op,
+         ObjectToLong<? super T> mapper,
+         LongReducer reducer) {
+        PAS.FJOGrouper g = new PAS.FJOGrouper
+            (ex, array, fence, getThreshold(), op, mapper, reducer);
+        ex.invoke(g);
+        return g;
+    }
+
+    /**
+     * Returns a new ParallelArray holding the results of applying
+     * <tt>combiner(thisElement, otherElement)</tt> to each pair of
+     * elements of this and the other array with equal keys, using
+     * each key's <tt>equals</tt> method to test for equality. The
+     * smaller of the two arrays is grouped by key, and the larger
+     * array probes the groups, so results are in an unspecified
+     * order.
+     * @param other the other array
+     * @param keyOfThis the op computing the key of elements of this array
+     * @param keyOfOther the op computing the key of elements of the
+     * other array
+     * @param combiner the combiner
+     * @return the new ParallelArray
+     * @throws NullPointerException if either op returns null for any
+     * element
+     */
+    public <U,K,V> ParallelArray<V> join
+        (ParallelArray<U> other,
+         Op<? super T, ? extends K> keyOfThis,
+         Op<? super U, ? extends K> keyOfOther,
+         BinaryOp<? super T, ? super U, ? extends V> combiner) {
+        PAS.FJOJoiner j;
+        if (fence <= other.fence) {
+            PAS.FJOGrouper g = new PAS.FJOGrouper
+                (ex, array, fence, getThreshold(), keyOfThis, null, null);
+            j = new PAS.FJOJoiner(ex, g, other.array, other.fence,
+                                  other.getThreshold(), keyOfOther,
+                                  combiner, true);
+        }
+        else {
+            PAS.FJOGrouper g = new PAS.FJOGrouper
+                (ex, other.array, other.fence, other.getThreshold(),
+                 keyOfOther, null, null);
+            j = new PAS.FJOJoiner(ex, g, array, fence, getThreshold(),
+                                  keyOfThis, combiner, false);
+        }
+        ex.invoke(j);
+        return new ParallelArray<V>(ex, (V[])j.results);
+    }
+
     /**
      * Removes from the array all elements for which the given
      * selector holds.
@@ -692,7 +812,7 @@ public class ParallelArray<T> extends AbstractParallelAnyArray.OUPap<T> implemen
             int csize = other.size();
             insertSlotsAt(end, csize);
             if (other.hasMap())
-                ex.invoke(new PAS.FJOMap(other, other.origin, other.fence,
+                ex.invoke(new PAS.FJOMap(null, other, other.origin, other.fence,
                                          null, array, end - other.origin));
             else
                 System.arraycopy(other.array, 0, array, end, csize);
@@ -28,7 +28,7 @@ public abstract class ParallelArrayWithMapping<T,U> extends AbstractParallelAnyA
      * @param procedure the procedure
      */
     public void apply(Procedure<? super U> procedure) {
-        ex.invoke(new PAS.FJOApply(this, origin, fence, null, procedure));
+        ex.invoke(new PAS.FJOApply(null, this, origin, fence, null, procedure));
     }
 
     /**
@@ -39,7 +39,7 @@ public abstract class ParallelArrayWithMapping<T,U> extends AbstractParallelAnyA
      */
     public U reduce(Reducer<U> reducer, U base) {
         PAS.FJOReduce f = new PAS.FJOReduce
-            (this, origin, fence, null, reducer, base);
+            (null, this, origin, fence, null, reducer, base);
         ex.invoke(f);
         return (U)(f.result);
     }
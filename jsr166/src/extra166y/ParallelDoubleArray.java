@@ -23,8 +23,9 @@ public class ParallelDoubleArray extends AbstractParallelAnyArray.DUPap {
 
     /**
      * Returns a common default executor for use in ParallelArrays.
-     * This executor arranges enough parallelism to use most, but not
-     * necessarily all, of the available processors on this system.
+     * This is {@link ForkJoinPool#commonPool}, which by default
+     * arranges enough parallelism to use most, but not necessarily
+     * all, of the available processors on this system.
      * @return the executor
      */
     public static ForkJoinPool defaultExecutor() {
@@ -406,6 +407,8 @@ public class ParallelDoubleArray extends AbstractParallelAnyArray.DUPap {
      * Sorts the array, assuming all elements are Comparable. Unlike
      * Arrays.sort, this sort does not guarantee that elements
      * with equal keys maintain their relative position in the array.
+     * Elements are ordered as by Double.compare, so -0.0 precedes
+     * 0.0, and NaNs are last.
      * @throws ClassCastException if any element is not Comparable.
      * @return this (to simplify use in expressions)
      */
@@ -472,7 +475,7 @@ public class ParallelDoubleArray extends AbstractParallelAnyArray.DUPap {
             int csize = other.size();
             insertSlotsAt(end, csize);
             if (other.hasMap())
-                ex.invoke(new PAS.FJDMap(other, other.origin, other.fence,
+                ex.invoke(new PAS.FJDMap(null, other, other.origin, other.fence,
                                          null, array, end - other.origin));
             else
                 System.arraycopy(other.array, 0, array, end, csize);
@@ -114,6 +114,8 @@ public abstract class ParallelDoubleArrayWithBounds extends ParallelDoubleArrayW
      * Comparable. Unlike Arrays.sort, this sort does not
      * guarantee that elements with equal keys maintain their relative
      * position in the array.
+     * Elements are ordered as by Double.compare, so -0.0 precedes
+     * 0.0, and NaNs are last.
      * @throws ClassCastException if any element is not Comparable.
      * @return this (to simplify use in expressions)
      */
@@ -28,7 +28,7 @@ public abstract class ParallelDoubleArrayWithLongMapping extends AbstractParalle
      * @param procedure the procedure
      */
     public void apply(LongProcedure procedure) {
-        ex.invoke(new PAS.FJLApply(this, origin, fence, null, procedure));
+        ex.invoke(new PAS.FJLApply(null, this, origin, fence, null, procedure));
     }
 
     /**
@@ -39,7 +39,7 @@ public abstract class ParallelDoubleArrayWithLongMapping extends AbstractParalle
      */
     public long reduce(LongReducer reducer, long base) {
         PAS.FJLReduce f = new PAS.FJLReduce
-            (this, origin, fence, null, reducer, base);
+            (null, this, origin, fence, null, reducer, base);
         ex.invoke(f);
         return f.result;
     }
@@ -0,0 +1,194 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package extra166y;
+import jsr166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.lang.reflect.Array;
+
+/**
+ * A prefix view of ParallelFloatArray that causes operations to apply
+ * only to elements for which a selector returns true.
+ * Instances of this class may be constructed only via prefix
+ * methods of ParallelFloatArray or its other prefix classes.
+ */
+public abstract class ParallelFloatArrayWithFilter extends ParallelFloatArrayWithFloatMapping {
+    ParallelFloatArrayWithFilter
+        (ForkJoinPool ex, int origin, int fence, float[] array) {
+        super(ex, origin, fence, array);
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * op to their current values.
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithMapping(FloatOp  op) {
+        ex.invoke(new PAS.FJFTransform(this, origin,
+                                       fence, null, op));
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * op to their indices
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithMappedIndex(IntToFloat op) {
+        ex.invoke(new PAS.FJFIndexMap(this, origin, fence,
+                                      null, op));
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * mapping to each index and current element value
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithMappedIndex(IntAndFloatToFloat op) {
+        ex.invoke(new PAS.FJFBinaryIndexMap
+                  (this, origin, fence, null, op));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying the given
+     * generator.
+     * @param generator the generator
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithGeneratedValue(FloatGenerator generator) {
+        ex.invoke(new PAS.FJFGenerate
+                  (this, origin, fence, null, generator));
+        return this;
+    }
+
+    /**
+     * Replaces elements with the given value.
+     * @param value the value
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithValue(float value) {
+        ex.invoke(new PAS.FJFFill(this, origin, fence,
+                                  null, value));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithMapping(BinaryFloatOp combiner,
+                                   ParallelFloatArrayWithFloatMapping other) {
+        ex.invoke(new PAS.FJFPACombineInPlace
+                  (this, origin, fence, null,
+                   other, other.origin - origin, combiner));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelFloatArrayWithFilter replaceWithMapping
+        (BinaryFloatOp combiner,
+         float[] other) {
+        ex.invoke(new PAS.FJFCombineInPlace
+                  (this, origin, fence, null, other,
+                   -origin, combiner));
+        return this;
+    }
+
+    /**
+     * Returns a new ParallelFloatArray containing only unique
+     * elements (that is, without any duplicates).
+     * @return the new ParallelFloatArray
+     */
+    public ParallelFloatArray allUniqueElements() {
+        PAS.UniquifierTable tab = new PAS.UniquifierTable
+            (fence - origin, this, false);
+        PAS.FJFUniquifier f = new PAS.FJFUniquifier
+            (this, origin, fence, null, tab);
+        ex.invoke(f);
+        float[] res = tab.uniqueFloats(f.count);
+        return new ParallelFloatArray(ex, res);
+    }
+
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithFilter withFilter
+        (FloatPredicate selector);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given binary selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public ParallelFloatArrayWithFilter withFilter
+        (BinaryFloatPredicate selector,
+         ParallelFloatArrayWithFloatMapping other) {
+        return withIndexedFilter(AbstractParallelAnyArray.indexedSelector(selector, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given indexed selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithFilter withIndexedFilter
+        (IntAndFloatPredicate selector);
+
+    /**
+     * Returns true if all elements at the same relative positions
+     * of this and other array are equal.
+     * @param other the other array
+     * @return true if equal
+     */
+    public boolean hasAllEqualElements
+        (ParallelFloatArrayWithFloatMapping other) {
+        return withFilter(CommonOps.floatInequalityPredicate(),
+                          other).anyIndex() < 0;
+    }
+
+    final void leafTransfer(int lo, int hi, float[] dest, int offset) {
+        final float[] a = this.array;
+        for (int i = lo; i < hi; ++i)
+            dest[offset++] = (a[i]);
+    }
+
+    final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                   float[] dest, int offset) {
+        final float[] a = this.array;
+        for (int i = loIdx; i < hiIdx; ++i)
+            dest[offset++] = (a[indices[i]]);
+    }
+
+    final float fget(int i) { return this.array[i]; }
+    final double dget(int i) { return this.array[i]; }
+
+}
+
@@ -0,0 +1,345 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package extra166y;
+import jsr166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.lang.reflect.Array;
+
+/**
+ * A prefix view of ParallelArray that causes operations to apply
+ * to mappings of elements, not to the elements themselves.
+ * Instances of this class may be constructed only via prefix
+ * methods of ParallelFloatArray or its other prefix classes.
+ */
+public abstract class ParallelFloatArrayWithFloatMapping extends AbstractParallelAnyArray.FPap {
+    ParallelFloatArrayWithFloatMapping
+        (ForkJoinPool ex, int origin, int fence, float[] array) {
+        super(ex, origin, fence, array);
+    }
+
+    /**
+     * Applies the given procedure to elements
+     * @param procedure the procedure
+     */
+    public void apply(FloatProcedure procedure) {
+        ex.invoke(new PAS.FJFApply(null, this, origin, fence, null, procedure));
+    }
+
+    /**
+     * Returns reduction of elements
+     * @param reducer the reducer
+     * @param base the result for an empty array
+     * @return reduction
+     */
+    public float reduce(FloatReducer reducer, float base) {
+        PAS.FJFReduce f = new PAS.FJFReduce
+            (null, this, origin, fence, null, reducer, base);
+        ex.invoke(f);
+        return f.result;
+    }
+
+    /**
+     * Returns the minimum element, or Float.MAX_VALUE if empty
+     * @return minimum element, or Float.MAX_VALUE if empty
+     */
+    public float min() {
+        return reduce(CommonOps.naturalFloatMinReducer(), Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the minimum element, or Float.MAX_VALUE if empty
+     * @param comparator the comparator
+     * @return minimum element, or Float.MAX_VALUE if empty
+     */
+    public float min(FloatComparator comparator) {
+        return reduce(CommonOps.floatMinReducer(comparator), Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the maximum element, or -Float.MAX_VALUE if empty
+     * @return maximum element, or -Float.MAX_VALUE if empty
+     */
+    public float max() {
+        return reduce(CommonOps.naturalFloatMaxReducer(), -Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the maximum element, or -Float.MAX_VALUE if empty
+     * @param comparator the comparator
+     * @return maximum element, or -Float.MAX_VALUE if empty
+     */
+    public float max(FloatComparator comparator) {
+        return reduce(CommonOps.floatMaxReducer(comparator), -Float.MAX_VALUE);
+    }
+
+    /**
+     * Returns the sum of elements
+     * @return the sum of elements
+     */
+    public float sum() {
+        return reduce(CommonOps.floatAdder(), 0);
+    }
+
+    /**
+     * Returns summary statistics
+     * @param comparator the comparator to use for
+     * locating minimum and maximum elements
+     * @return the summary.
+     */
+    public ParallelFloatArray.SummaryStatistics summary
+        (FloatComparator comparator) {
+        PAS.FJFStats f = new PAS.FJFStats
+            (this, origin, fence, null, comparator);
+        ex.invoke(f);
+        return f;
+    }
+
+    /**
+     * Returns summary statistics, using natural comparator
+     * @return the summary.
+     */
+    public ParallelFloatArray.SummaryStatistics summary() {
+        return summary(CommonOps.naturalFloatComparator());
+    }
+
+    /**
+     * Returns a new ParallelFloatArray holding elements
+     * @return a new ParallelFloatArray holding elements
+     */
+    public ParallelFloatArray all() {
+        return new ParallelFloatArray(ex, allFloats());
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithFloatMapping withMapping
+        (FloatOp op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithLongMapping withMapping
+        (FloatToLong op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract <U> ParallelFloatArrayWithMapping<U> withMapping
+        (FloatToObject<? extends U> op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W,X> ParallelFloatArrayWithMapping<W> withMapping
+        (FloatAndObjectToObject<? super V, ? extends W> combiner,
+         ParallelArrayWithMapping<X,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelFloatArrayWithMapping<V> withMapping
+        (FloatAndFloatToObject<? extends V> combiner,
+         ParallelFloatArrayWithFloatMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelFloatArrayWithMapping<V> withMapping
+        (FloatAndLongToObject<? extends V> combiner,
+         ParallelLongArrayWithLongMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelFloatArrayWithFloatMapping withMapping
+        (FloatAndObjectToFloat<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelFloatArrayWithFloatMapping withMapping
+        (BinaryFloatOp combiner,
+         ParallelFloatArrayWithFloatMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelFloatArrayWithFloatMapping withMapping
+        (FloatAndLongToFloat combiner,
+         ParallelLongArrayWithLongMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelFloatArrayWithLongMapping withMapping
+        (FloatAndObjectToLong<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelFloatArrayWithLongMapping withMapping
+        (FloatAndFloatToLong combiner,
+         ParallelFloatArrayWithFloatMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelFloatArrayWithLongMapping withMapping
+        (FloatAndLongToLong combiner,
+         ParallelLongArrayWithLongMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract <V> ParallelFloatArrayWithMapping<V> withIndexedMapping
+        (IntAndFloatToObject<? extends V> mapper);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithFloatMapping withIndexedMapping
+        (IntAndFloatToFloat mapper);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract ParallelFloatArrayWithLongMapping withIndexedMapping
+        (IntAndFloatToLong mapper);
+
+    /**
+     * Returns an Iterable view to sequentially step through mapped
+     * elements also obeying bound and filter constraints, without
+     * performing computations to evaluate them in parallel
+     * @return the Iterable view
+     */
+    public Iterable<Float> sequentially() {
+        return new SequentiallyAsFloat();
+    }
+}
+
@@ -0,0 +1,1211 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package extra166y;
+import jsr166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.lang.reflect.Array;
+
+/**
+ * An array of ints supporting parallel operations.  This class
+ * provides methods supporting the same operations as {@link
+ * ParallelArray}, but specialized for scalar ints. It additionally
+ * provides a few methods specific to numerical values.
+ *
+ * <p><b>Sample usages</b>.
+ * Here is a complete (although naive) prime filter program:
+ * <pre>
+ * import java.math.BigInteger;
+ * import jsr166y.forkjoin.*;
+ * import static jsr166y.forkjoin.Ops.*;
+ * import static jsr166y.forkjoin.ParallelIntArray.*;
+ *
+ * public class Sieve {
+ *   public static void main(String[] args) {
+ *     int n = Integer.parseInt(args[0]);
+ *     // create array of divisors
+ *     ParallelIntArray a = create(n-1, defaultExecutor());
+ *     a.replaceWithMappedIndex(add2);
+ *     int i = 0;
+ *     int p = 2;
+ *     while (p * p &lt; n) { // repeatedly filter
+ *         a = a.withFilter(notDivisibleBy(p)).all();
+ *         p = a.get(++i);
+ *     }
+ *     System.out.printf("sieve(%d) = %s%n", n, a);
+ *     // check result
+ *     if (!a.withFilter(notProbablePrime).isEmpty())
+ *         throw new Error();
+ *   }
+ *   static IntOp add2 = new IntOp() {
+ *     public int op(int i) { return i + 2; } };
+ *   static IntPredicate notDivisibleBy(final int p) {
+ *     return new IntPredicate() {
+ *        public boolean op(int n) { return n &lt;= p || (n % p) != 0; }
+ *     } }
+ *   static IntPredicate notProbablePrime = new IntPredicate() {
+ *     private static final int CERTAINTY = 8;
+ *     public boolean op(int n) {
+ *       return !BigInteger.valueOf(n).isProbablePrime(CERTAINTY);
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class ParallelIntArray extends AbstractParallelAnyArray.IUPap {
+    // Same internals as ParallelArray, but specialized for ints
+    AsList listView;
+
+    /**
+     * Returns a common default executor for use in ParallelArrays.
+     * This is {@link ForkJoinPool#commonPool}, which by default
+     * arranges enough parallelism to use most, but not necessarily
+     * all, of the available processors on this system.
+     * @return the executor
+     */
+    public static ForkJoinPool defaultExecutor() {
+        return PAS.defaultExecutor();
+    }
+
+    /**
+     * Constructor for use by subclasses to create a new ParallelIntArray
+     * using the given executor, and initially using the supplied
+     * array, with effective size bound by the given limit. This
+     * constructor is designed to enable extensions via
+     * subclassing. To create a ParallelIntArray, use {@link #create},
+     * {@link #createEmpty}, {@link #createUsingHandoff} or {@link
+     * #createFromCopy}.
+     * @param executor the executor
+     * @param array the array
+     * @param limit the upper bound limit
+     */
+    protected ParallelIntArray(ForkJoinPool executor, int[] array,
+                                int limit) {
+        super(executor, 0, limit, array);
+        if (executor == null || array == null)
+            throw new NullPointerException();
+        if (limit < 0 || limit > array.length)
+            throw new IllegalArgumentException();
+    }
+
+    /**
+     * Trusted internal version of protected constructor.
+     */
+    ParallelIntArray(ForkJoinPool executor, int[] array) {
+        super(executor, 0, array.length, array);
+    }
+
+    /**
+     * Creates a new ParallelIntArray using the given executor and
+     * an array of the given size
+     * @param size the array size
+     * @param executor the executor
+     */
+    public static ParallelIntArray create
+        (int size, ForkJoinPool executor) {
+        int[] array = new int[size];
+        return new ParallelIntArray(executor, array, size);
+    }
+
+    /**
+     * Creates a new ParallelIntArray initially using the given array and
+     * executor. In general, the handed off array should not be used
+     * for other purposes once constructing this ParallelIntArray.  The
+     * given array may be internally replaced by another array in the
+     * course of methods that add or remove elements.
+     * @param handoff the array
+     * @param executor the executor
+     */
+    public static ParallelIntArray createUsingHandoff
+        (int[] handoff, ForkJoinPool executor) {
+        return new ParallelIntArray(executor, handoff, handoff.length);
+    }
+
+    /**
+     * Creates a new ParallelIntArray using the given executor and
+     * initially holding copies of the given
+     * source elements.
+     * @param source the source of initial elements
+     * @param executor the executor
+     */
+    public static ParallelIntArray createFromCopy
+        (int[] source, ForkJoinPool executor) {
+        // For now, avoid copyOf so people can compile with Java5
+        int size = source.length;
+        int[] array = new int[size];
+        System.arraycopy(source, 0, array, 0, size);
+        return new ParallelIntArray(executor, array, size);
+    }
+
+    /**
+     * Creates a new ParallelIntArray using an array of the given size,
+     * initially holding copies of the given source truncated or
+     * padded with zeros to obtain the specified length.
+     * @param source the source of initial elements
+     * @param size the array size
+     * @param executor the executor
+     */
+    public static ParallelIntArray createFromCopy
+        (int size, int[] source, ForkJoinPool executor) {
+        // For now, avoid copyOf so people can compile with Java5
+        int[] array = new int[size];
+        System.arraycopy(source, 0, array, 0,
+                         Math.min(source.length, size));
+        return new ParallelIntArray(executor, array, size);
+    }
+
+    /**
+     * Creates a new ParallelIntArray using the given executor and
+     * an array of the given size, but with an initial effective size
+     * of zero, enabling incremental insertion via {@link
+     * ParallelIntArray#asList} operations.
+     * @param size the array size
+     * @param executor the executor
+     */
+    public static ParallelIntArray createEmpty
+        (int size, ForkJoinPool executor) {
+        int[] array = new int[size];
+        return new ParallelIntArray(executor, array, 0);
+    }
+
+    /**
+     * Summary statistics for a possibly bounded, filtered, and/or
+     * mapped ParallelIntArray.
+     */
+    public static interface SummaryStatistics {
+        /** Return the number of elements */
+        public int size();
+        /** Return the minimum element, or Integer.MAX_VALUE if empty */
+        public int min();
+        /** Return the maximum element, or Integer.MIN_VALUE if empty */
+        public int max();
+        /** Return the index of the minimum element, or -1 if empty */
+        public int indexOfMin();
+        /** Return the index of the maximum element, or -1 if empty */
+        public int indexOfMax();
+        /** Return the sum of all elements */
+        public int sum();
+        /** Return the arithmetic average of all elements */
+        public double average();
+    }
+
+    /**
+     * Returns the executor used for computations
+     * @return the executor
+     */
+    public ForkJoinPool getExecutor() { return ex; }
+
+    /**
+     * Applies the given procedure to elements
+     * @param procedure the procedure
+     */
+    public void apply(IntProcedure procedure) {
+        super.apply(procedure);
+    }
+
+    /**
+     * Returns reduction of elements
+     * @param reducer the reducer
+     * @param base the result for an empty array
+     * @return reduction
+     */
+    public int reduce(IntReducer reducer, int base) {
+        return super.reduce(reducer, base);
+    }
+
+    /**
+     * Returns a new ParallelIntArray holding all elements
+     * @return a new ParallelIntArray holding all elements
+     */
+    public ParallelIntArray all() {
+        return super.all();
+    }
+
+    /**
+     * Replaces elements with the results of applying the given op
+     * to their current values.
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithMapping(IntOp  op) {
+        super.replaceWithMapping(op);
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * op to their indices.
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithMappedIndex(IntOp op) {
+        super.replaceWithMappedIndex(op);
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * mapping to each index and current element value
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithMappedIndex(IntAndIntToInt op) {
+        super.replaceWithMappedIndex(op);
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * generator. For example, to fill the array with uniform random
+     * values, use
+     * <tt>replaceWithGeneratedValue(Ops.intRandom())</tt>
+     * @param generator the generator
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithGeneratedValue(IntGenerator generator){
+        super.replaceWithGeneratedValue(generator);
+        return this;
+    }
+
+    /**
+     * Replaces elements with the given value.
+     * @param value the value
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithValue(int value) {
+        super.replaceWithValue(value);
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray replaceWithMapping
+        (BinaryIntOp combiner,
+         ParallelIntArrayWithIntMapping other) {
+        super.replaceWithMapping(combiner, other);
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     * @throws ArrayIndexOutOfBoundsException if other array has
+     * fewer elements than this array.
+     */
+    public ParallelIntArray replaceWithMapping(BinaryIntOp combiner,
+                                                int[] other) {
+        super.replaceWithMapping(combiner, other);
+        return this;
+    }
+
+    /**
+     * Returns the index of some element equal to given target, or -1
+     * if not present
+     * @param target the element to search for
+     * @return the index or -1 if not present
+     */
+    public int indexOf(int target) {
+        return super.indexOf(target);
+    }
+
+    /**
+     * Assuming this array is sorted, returns the index of an element
+     * equal to given target, or -1 if not present. If the array
+     * is not sorted, the results are undefined.
+     * @param target the element to search for
+     * @return the index or -1 if not present
+     */
+    public int binarySearch(int target) {
+        return super.binarySearch(target);
+    }
+
+    /**
+     * Assuming this array is sorted with respect to the given
+     * comparator, returns the index of an element equal to given
+     * target, or -1 if not present. If the array is not sorted, the
+     * results are undefined.
+     * @param target the element to search for
+     * @param comparator the comparator
+     * @return the index or -1 if not present
+     */
+    public int binarySearch(int target, IntComparator comparator) {
+        return super.binarySearch(target, comparator);
+    }
+
+    /**
+     * Returns summary statistics, using the given comparator
+     * to locate minimum and maximum elements.
+     * @param comparator the comparator to use for
+     * locating minimum and maximum elements
+     * @return the summary.
+     */
+    public ParallelIntArray.SummaryStatistics summary
+        (IntComparator comparator) {
+        return super.summary(comparator);
+    }
+
+    /**
+     * Returns summary statistics, using natural comparator
+     * @return the summary.
+     */
+    public ParallelIntArray.SummaryStatistics summary() {
+        return super.summary();
+    }
+
+    /**
+     * Returns the minimum element, or Integer.MAX_VALUE if empty
+     * @param comparator the comparator
+     * @return minimum element, or Integer.MAX_VALUE if empty
+     */
+    public int min(IntComparator comparator) {
+        return super.min(comparator);
+    }
+
+    /**
+     * Returns the minimum element, or Integer.MAX_VALUE if empty,
+     * @return minimum element, or Integer.MAX_VALUE if empty
+     */
+    public int min() {
+        return super.min();
+    }
+
+    /**
+     * Returns the maximum element, or Integer.MIN_VALUE if empty
+     * @param comparator the comparator
+     * @return maximum element, or Integer.MIN_VALUE if empty
+     */
+    public int max(IntComparator comparator) {
+        return super.max(comparator);
+    }
+
+    /**
+     * Returns the maximum element, or Integer.MIN_VALUE if empty
+     * @return maximum element, or Integer.MIN_VALUE if empty
+     */
+    public int max() {
+        return super.max();
+    }
+
+    /**
+     * Replaces each element with the running cumulation of applying
+     * the given reducer. For example, if the contents are the numbers
+     * <tt>1, 2, 3</tt>, and the reducer operation adds numbers, then
+     * after invocation of this method, the contents would be <tt>1,
+     * 3, 6</tt> (that is, <tt>1, 1+2, 1+2+3</tt>);
+     * @param reducer the reducer
+     * @param base the result for an empty array
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray cumulate(IntReducer reducer, int base) {
+        super.cumulate(reducer, base);
+        return this;
+    }
+
+    /**
+     * Replaces each element with the cumulation of applying the given
+     * reducer to all previous values, and returns the total
+     * reduction. For example, if the contents are the numbers <tt>1,
+     * 2, 3</tt>, and the reducer operation adds numbers, then after
+     * invocation of this method, the contents would be <tt>0, 1,
+     * 3</tt> (that is, <tt>0, 0+1, 0+1+2</tt>, and the return value
+     * would be 6 (that is, <tt> 1+2+3</tt>);
+     * @param reducer the reducer
+     * @param base the result for an empty array
+     * @return the total reduction
+     */
+    public int precumulate(IntReducer reducer, int base) {
+        return super.precumulate(reducer, base);
+    }
+
+    /**
+     * Sorts the array. Unlike Arrays.sort, this sort does
+     * not guarantee that elements with equal keys maintain their
+     * relative position in the array.
+     * @param comparator the comparator to use
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray sort(IntComparator comparator) {
+        super.sort(comparator);
+        return this;
+    }
+
+    /**
+     * Sorts the array, assuming all elements are Comparable. Unlike
+     * Arrays.sort, this sort does not guarantee that elements
+     * with equal keys maintain their relative position in the array.
+     * @throws ClassCastException if any element is not Comparable.
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray sort() {
+        super.sort();
+        return this;
+    }
+
+    /**
+     * Removes consecutive elements that are equal,
+     * shifting others leftward, and possibly decreasing size.  This
+     * method may be used after sorting to ensure that this
+     * ParallelIntArray contains a set of unique elements.
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray removeConsecutiveDuplicates() {
+        // Sequential implementation for now
+        int k = 0;
+        int n = fence;
+        if (k < n) {
+            int[] arr = this.array;
+            int last = arr[k++];
+            for (int i = k; i < n; ++i) {
+                int x = arr[i];
+                if (last != x)
+                    arr[k++] = last = x;
+            }
+            removeSlotsAt(k, n);
+        }
+        return this;
+    }
+
+    /**
+     * Equivalent to <tt>asList().addAll</tt> but specialized for array
+     * arguments and likely to be more efficient.
+     * @param other the elements to add
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray addAll(int[] other) {
+        int csize = other.length;
+        int end = fence;
+        insertSlotsAt(end, csize);
+        System.arraycopy(other, 0, array, end, csize);
+        return this;
+    }
+
+    /**
+     * Appends all (possibly bounded, filtered, or mapped) elements of
+     * the given ParallelDoubleArray, resizing and/or reallocating this
+     * array if necessary.
+     * @param other the elements to add
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray addAll(ParallelIntArrayWithIntMapping other) {
+        int end = fence;
+        if (other.hasFilter()) {
+            PAS.FJIAppendAllDriver r = new PAS.FJIAppendAllDriver
+                (other, end, array);
+            ex.invoke(r);
+            array = r.results;
+            fence = end + r.resultSize;
+        }
+        else {
+            int csize = other.size();
+            insertSlotsAt(end, csize);
+            if (other.hasMap())
+                ex.invoke(new PAS.FJIMap(null, other, other.origin, other.fence,
+                                         null, array, end - other.origin));
+            else
+                System.arraycopy(other.array, 0, array, end, csize);
+        }
+        return this;
+    }
+
+    /**
+     * Returns a new ParallelIntArray containing only the unique
+     * elements of this array (that is, without any duplicates).
+     * @return the new ParallelIntArray
+     */
+    public ParallelIntArray allUniqueElements() {
+        return super.allUniqueElements();
+    }
+
+    /**
+     * Removes from the array all elements for which the given
+     * selector holds.
+     * @param selector the selector
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray removeAll(IntPredicate selector) {
+        IFPap v = new IFPap(ex, 0, fence, array, selector);
+        PAS.FJRemoveAllDriver f = new PAS.FJRemoveAllDriver(v, 0, fence);
+        ex.invoke(f);
+        removeSlotsAt(f.offset, fence);
+        return this;
+    }
+
+    /**
+     * Returns true if all elements at the same relative positions
+     * of this and other array are equal.
+     * @param other the other array
+     */
+    public boolean hasAllEqualElements(ParallelIntArrayWithIntMapping other) {
+        return super.hasAllEqualElements(other);
+    }
+
+    /**
+     * Returns the sum of elements
+     * @return the sum of elements
+     */
+    public int sum() {
+        return super.sum();
+    }
+
+    /**
+     * Replaces each element with the running sum
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArray cumulateSum() {
+        super.cumulateSum();
+        return this;
+    }
+
+    /**
+     * Replaces each element with its prefix sum
+     * @return the total sum
+     */
+    public int precumulateSum() {
+        return super.precumulateSum();
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to
+     * operate only on the elements of the array between
+     * firstIndex (inclusive) and upperBound (exclusive).
+     * @param firstIndex the lower bound (inclusive)
+     * @param upperBound the upper bound (exclusive)
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithBounds withBounds(int firstIndex,
+                                                  int upperBound) {
+        return super.withBounds(firstIndex, upperBound);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on the elements of the array for which the given selector
+     * returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithFilter withFilter(IntPredicate selector) {
+        return super.withFilter(selector);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the given binary selector returns
+     * true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithFilter withFilter
+        (BinaryIntPredicate selector,
+         ParallelIntArrayWithIntMapping other) {
+        return super.withFilter(selector, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the given indexed selector returns
+     * true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithFilter withIndexedFilter
+        (IntAndIntPredicate selector) {
+        return super.withIndexedFilter(selector);
+    }
+
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public <U> ParallelIntArrayWithMapping<U> withMapping
+        (IntToObject<? extends U> op) {
+        return super.withMapping(op);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithIntMapping withMapping(IntOp op) {
+        return super.withMapping(op);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithDoubleMapping withMapping(IntToDouble op) {
+        return super.withMapping(op);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W,X> ParallelIntArrayWithMapping<W> withMapping
+        (IntAndObjectToObject<? super V, ? extends W> combiner,
+         ParallelArrayWithMapping<X,V> other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelIntArrayWithMapping<V> withMapping
+        (IntAndDoubleToObject<? extends V> combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelIntArrayWithMapping<V> withMapping
+        (IntAndIntToObject<? extends V> combiner,
+         ParallelIntArrayWithIntMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndObjectToDouble<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndDoubleToDouble combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndIntToDouble combiner,
+         ParallelIntArrayWithIntMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelIntArrayWithIntMapping withMapping
+        (IntAndObjectToInt<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithIntMapping withMapping
+        (IntAndDoubleToInt combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithIntMapping withMapping
+        (BinaryIntOp combiner,
+         ParallelIntArrayWithIntMapping other) {
+        return super.withMapping(combiner, other);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate on
+     * mappings of this array using the given mapper that accepts as
+     * arguments an element's current index and value, and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public <U> ParallelIntArrayWithMapping<U> withIndexedMapping
+        (IntAndIntToObject<? extends U> mapper) {
+        return super.withIndexedMapping(mapper);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate on
+     * mappings of this array using the given mapper that accepts as
+     * arguments an element's current index and value, and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithDoubleMapping withIndexedMapping
+        (IntAndIntToDouble mapper) {
+        return super.withIndexedMapping(mapper);
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate on
+     * mappings of this array using the given mapper that accepts as
+     * arguments an element's current index and value, and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithIntMapping withIndexedMapping
+        (IntAndIntToInt mapper) {
+        return super.withIndexedMapping(mapper);
+    }
+
+    /**
+     * Returns an iterator stepping through each element of the array
+     * up to the current limit. This iterator does <em>not</em>
+     * support the remove operation. However, a full
+     * <tt>ListIterator</tt> supporting add, remove, and set
+     * operations is available via {@link #asList}.
+     * @return an iterator stepping through each element.
+     */
+    public Iterator<Integer> iterator() {
+        return new ParallelIntArrayIterator(array, fence);
+    }
+
+    static final class ParallelIntArrayIterator implements Iterator<Integer> {
+        int cursor;
+        final int[] arr;
+        final int hi;
+        ParallelIntArrayIterator(int[] a, int limit) { arr = a; hi = limit; }
+        public boolean hasNext() { return cursor < hi; }
+        public Integer next() {
+            if (cursor >= hi)
+                throw new NoSuchElementException();
+            return Integer.valueOf(arr[cursor++]);
+        }
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // List support
+
+    /**
+     * Returns a view of this ParallelIntArray as a List. This List has
+     * the same structural and performance characteristics as {@link
+     * ArrayList}, and may be used to modify, replace or extend the
+     * bounds of the array underlying this ParallelIntArray.  The methods
+     * supported by this list view are <em>not</em> in general
+     * implemented as parallel operations. This list is also not
+     * itself thread-safe.  In particular, performing list updates
+     * while other parallel operations are in progress has undefined
+     * (and surely undesired) effects.
+     * @return a list view
+     */
+    public List<Integer> asList() {
+        AsList lv = listView;
+        if (lv == null)
+            listView = lv = new AsList();
+        return lv;
+    }
+
+    /**
+     * Returns the effective size of the underlying array. The
+     * effective size is the current limit, if used (see {@link
+     * #setLimit}), or the length of the array otherwise.
+     * @return the effective size of array
+     */
+    public int size() { return fence; }
+
+    /**
+     * Returns the underlying array used for computations
+     * @return the array
+     */
+    public int[] getArray() { return array; }
+
+    /**
+     * Returns the element of the array at the given index
+     * @param i the index
+     * @return the element of the array at the given index
+     */
+    public int get(int i) { return array[i]; }
+
+    /**
+     * Sets the element of the array at the given index to the given value
+     * @param i the index
+     * @param x the value
+     */
+    public void set(int i, int x) { array[i] = x; }
+
+    /**
+     * Equivalent to <tt>asList().toString()</tt>
+     * @return a string representation
+     */
+    public String toString() {
+        return asList().toString();
+    }
+
+    /**
+     * Ensures that the underlying array can be accessed up to the
+     * given upper bound, reallocating and copying the underlying
+     * array to expand if necessary. Or, if the given limit is less
+     * than the length of the underlying array, causes computations to
+     * ignore elements past the given limit.
+     * @param newLimit the new upper bound
+     * @throws IllegalArgumentException if newLimit less than zero.
+     */
+    public final void setLimit(int newLimit) {
+        if (newLimit < 0)
+            throw new IllegalArgumentException();
+        int cap = array.length;
+        if (newLimit > cap)
+            resizeArray(newLimit);
+        fence = newLimit;
+    }
+
+    final void replaceElementsParallelIntArrayWith(int[] a) {
+        System.arraycopy(a, 0, array, 0, a.length);
+        fence = a.length;
+    }
+
+    final void resizeArray(int newCap) {
+        int cap = array.length;
+        if (newCap > cap) {
+            int[] a = new int[newCap];
+            System.arraycopy(array, 0, a, 0, cap);
+            array = a;
+        }
+    }
+
+    final void insertElementAt(int index, int e) {
+        int hi = fence++;
+        if (hi >= array.length)
+            resizeArray((hi * 3)/2 + 1);
+        if (hi > index)
+            System.arraycopy(array, index, array, index+1, hi - index);
+        array[index] = e;
+    }
+
+    final void appendElement(int e) {
+        int hi = fence++;
+        if (hi >= array.length)
+            resizeArray((hi * 3)/2 + 1);
+        array[hi] = e;
+    }
+
+    /**
+     * Make len slots available at index
+     */
+    final void insertSlotsAt(int index, int len) {
+        if (len <= 0)
+            return;
+        int cap = array.length;
+        int newSize = fence + len;
+        if (cap < newSize) {
+            cap = (cap * 3)/2 + 1;
+            if (cap < newSize)
+                cap = newSize;
+            resizeArray(cap);
+        }
+        if (index < fence)
+            System.arraycopy(array, index, array, index + len, fence - index);
+        fence = newSize;
+    }
+
+    final void removeSlotAt(int index) {
+        System.arraycopy(array, index + 1, array, index, fence - index - 1);
+        --fence;
+    }
+
+    final void removeSlotsAt(int fromIndex, int toIndex) {
+        if (fromIndex < toIndex) {
+            int size = fence;
+            System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+            int newSize = size - (toIndex - fromIndex);
+            fence = newSize;
+        }
+    }
+
+    final int seqIndexOf(int target) {
+        int[] arr = array;
+        int end = fence;
+        for (int i = 0; i < end; i++)
+            if (target == arr[i])
+                return i;
+        return -1;
+    }
+
+    final int seqLastIndexOf(int target) {
+        int[] arr = array;
+        for (int i = fence - 1; i >= 0; i--)
+            if (target == arr[i])
+                return i;
+        return -1;
+    }
+
+    final class ListIter implements ListIterator<Integer> {
+        int cursor;
+        int lastRet;
+        int[] arr; // cache array and bound
+        int hi;
+        ListIter(int lo) {
+            this.cursor = lo;
+            this.lastRet = -1;
+            this.arr = ParallelIntArray.this.array;
+            this.hi = ParallelIntArray.this.fence;
+        }
+
+        public boolean hasNext() {
+            return cursor < hi;
+        }
+
+        public Integer next() {
+            int i = cursor;
+            if (i < 0 || i >= hi)
+                throw new NoSuchElementException();
+            int next = arr[i];
+            lastRet = i;
+            cursor = i + 1;
+            return Integer.valueOf(next);
+        }
+
+        public void remove() {
+            int k = lastRet;
+            if (k < 0)
+                throw new IllegalStateException();
+            ParallelIntArray.this.removeSlotAt(k);
+            hi = ParallelIntArray.this.fence;
+            if (lastRet < cursor)
+                cursor--;
+            lastRet = -1;
+        }
+
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        public Integer previous() {
+            int i = cursor - 1;
+            if (i < 0 || i >= hi)
+                throw new NoSuchElementException();
+            int previous = arr[i];
+            lastRet = cursor = i;
+            return Integer.valueOf(previous);
+        }
+
+        public int nextIndex() {
+            return cursor;
+        }
+
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        public void set(Integer e) {
+            int i = lastRet;
+            if (i < 0 || i >= hi)
+                throw new NoSuchElementException();
+            arr[i] = e.intValue();
+        }
+
+        public void add(Integer e) {
+            int i = cursor;
+            ParallelIntArray.this.insertElementAt(i, e.intValue());
+            arr = ParallelIntArray.this.array;
+            hi = ParallelIntArray.this.fence;
+            lastRet = -1;
+            cursor = i + 1;
+        }
+    }
+
+    final class AsList extends AbstractList<Integer> implements RandomAccess {
+        public Integer get(int i) {
+            if (i >= fence)
+                throw new IndexOutOfBoundsException();
+            return Integer.valueOf(array[i]);
+        }
+
+        public Integer set(int i, Integer x) {
+            if (i >= fence)
+                throw new IndexOutOfBoundsException();
+            int[] arr = array;
+            Integer t = Integer.valueOf(arr[i]);
+            arr[i] = x.intValue();
+            return t;
+        }
+
+        public boolean isEmpty() {
+            return fence == 0;
+        }
+
+        public int size() {
+            return fence;
+        }
+
+        public Iterator<Integer> iterator() {
+            return new ListIter(0);
+        }
+
+        public ListIterator<Integer> listIterator() {
+            return new ListIter(0);
+        }
+
+        public ListIterator<Integer> listIterator(int index) {
+            if (index < 0 || index > fence)
+                throw new IndexOutOfBoundsException();
+            return new ListIter(index);
+        }
+
+        public boolean add(Integer e) {
+            appendElement(e.intValue());
+            return true;
+        }
+
+        public void add(int index, Integer e) {
+            if (index < 0 || index > fence)
+                throw new IndexOutOfBoundsException();
+            insertElementAt(index, e.intValue());
+        }
+
+        public boolean addAll(Collection<? extends Integer> c) {
+            int csize = c.size();
+            if (csize == 0)
+                return false;
+            int hi = fence;
+            setLimit(hi + csize);
+            int[] arr = array;
+            for (Integer e : c)
+                arr[hi++] = e.intValue();
+            return true;
+        }
+
+        public boolean addAll(int index, Collection<? extends Integer> c) {
+            if (index < 0 || index > fence)
+                throw new IndexOutOfBoundsException();
+            int csize = c.size();
+            if (csize == 0)
+                return false;
+            insertSlotsAt(index, csize);
+            int[] arr = array;
+            for (Integer e : c)
+                arr[index++] = e.intValue();
+            return true;
+        }
+
+        public void clear() {
+            fence = 0;
+        }
+
+        public boolean remove(Object o) {
+            if (!(o instanceof Integer))
+                return false;
+            int idx = seqIndexOf(((Integer)o).intValue());
+            if (idx < 0)
+                return false;
+            removeSlotAt(idx);
+            return true;
+        }
+
+        public Integer remove(int index) {
+            Integer oldValue = get(index);
+            removeSlotAt(index);
+            return oldValue;
+        }
+
+        public void removeRange(int fromIndex, int toIndex) {
+            removeSlotsAt(fromIndex, toIndex);
+        }
+
+        public boolean contains(Object o) {
+            if (!(o instanceof Integer))
+                return false;
+            return seqIndexOf(((Integer)o).intValue()) >= 0;
+        }
+
+        public int indexOf(Object o) {
+            if (!(o instanceof Integer))
+                return -1;
+            return seqIndexOf(((Integer)o).intValue());
+        }
+
+        public int lastIndexOf(Object o) {
+            if (!(o instanceof Integer))
+                return -1;
+            return seqLastIndexOf(((Integer)o).intValue());
+        }
+    }
+
+}
+
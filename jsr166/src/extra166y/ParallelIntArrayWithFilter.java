@@ -0,0 +1,190 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package extra166y;
+import jsr166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.lang.reflect.Array;
+
+
+/**
+ * A prefix view of ParallelIntArray that causes operations to apply
+ * only to elements for which a selector returns true.  Instances of
+ * this class may be constructed only via prefix methods of
+ * ParallelIntArray or its other prefix classes.
+ */
+public abstract class ParallelIntArrayWithFilter extends ParallelIntArrayWithIntMapping {
+    ParallelIntArrayWithFilter
+        (ForkJoinPool ex, int origin, int fence, int[] array) {
+        super(ex, origin, fence, array);
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * op to their current values.
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithMapping(IntOp  op) {
+        ex.invoke(new PAS.FJITransform
+                  (this, origin, fence, null, op));
+        return this;
+    }
+
+    /**
+     * Replaces elements with the results of applying the given
+     * op to their indices
+     * @param op the op
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithMappedIndex(IntOp op) {
+        ex.invoke(new PAS.FJIIndexMap
+                  (this, origin, fence, null, op));
+        return this;
+    }
+
+   /**
+    * Replaces elements with the results of applying the given
+    * mapping to each index and current element value
+    * @param op the op
+     * @return this (to simplify use in expressions)
+    */
+   public ParallelIntArrayWithFilter replaceWithMappedIndex(IntAndIntToInt op) {
+        ex.invoke(new PAS.FJIBinaryIndexMap
+                  (this, origin, fence, null, op));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying the given
+     * generator.
+     * @param generator the generator
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithGeneratedValue(IntGenerator generator) {
+        ex.invoke(new PAS.FJIGenerate
+                  (this, origin, fence, null, generator));
+        return this;
+    }
+
+    /**
+     * Replaces elements with the given value.
+     * @param value the value
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithValue(int value) {
+        ex.invoke(new PAS.FJIFill
+                  (this, origin, fence, null, value));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithMapping(BinaryIntOp combiner,
+                                   ParallelIntArrayWithIntMapping other) {
+        ex.invoke(new PAS.FJIPACombineInPlace
+                  (this, origin, fence, null,
+                   other, other.origin - origin, combiner));
+        return this;
+    }
+
+    /**
+     * Replaces elements with results of applying
+     * <tt>op(thisElement, otherElement)</tt>
+     * @param other the other array
+     * @param combiner the combiner
+     * @return this (to simplify use in expressions)
+     */
+    public ParallelIntArrayWithFilter replaceWithMapping(BinaryIntOp combiner,
+                                   int[] other) {
+        ex.invoke(new PAS.FJICombineInPlace
+                  (this, origin, fence, null, other,
+                   -origin, combiner));
+        return this;
+    }
+
+    /**
+     * Returns a new ParallelIntArray containing only unique
+     * elements (that is, without any duplicates).
+     * @return the new ParallelIntArray
+     */
+    public ParallelIntArray allUniqueElements() {
+        PAS.UniquifierTable tab = new PAS.UniquifierTable
+            (fence - origin, this, false);
+        PAS.FJIUniquifier f = new PAS.FJIUniquifier
+            (this, origin, fence, null, tab);
+        ex.invoke(f);
+        int[] res = tab.uniqueInts(f.count);
+        return new ParallelIntArray(ex, res);
+    }
+
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithFilter withFilter(IntPredicate selector);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given binary selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public ParallelIntArrayWithFilter withFilter
+        (BinaryIntPredicate selector,
+         ParallelIntArrayWithIntMapping other) {
+        return withIndexedFilter(AbstractParallelAnyArray.indexedSelector(selector, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * only on elements for which the current selector (if
+     * present) and the given indexed selector returns true
+     * @param selector the selector
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithFilter withIndexedFilter
+        (IntAndIntPredicate selector);
+
+    /**
+     * Returns true if all elements at the same relative positions
+     * of this and other array are equal.
+     * @param other the other array
+     * @return true if equal
+     */
+    public boolean hasAllEqualElements(ParallelIntArrayWithIntMapping other) {
+        return withFilter(CommonOps.intInequalityPredicate(),
+                          other).anyIndex() < 0;
+    }
+
+    final void leafTransfer(int lo, int hi, int[] dest, int offset) {
+        final int[] a = this.array;
+        for (int i = lo; i < hi; ++i)
+            dest[offset++] = (a[i]);
+    }
+
+    final void leafTransferByIndex(int[] indices, int loIdx, int hiIdx,
+                                   int[] dest, int offset) {
+        final int[] a = this.array;
+        for (int i = loIdx; i < hiIdx; ++i)
+            dest[offset++] = (a[indices[i]]);
+    }
+
+    final int iget(int i) { return this.array[i]; }
+    final long lget(int i) { return this.array[i]; }
+}
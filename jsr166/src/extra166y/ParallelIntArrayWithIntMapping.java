@@ -0,0 +1,346 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package extra166y;
+import jsr166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.lang.reflect.Array;
+
+/**
+ * A prefix view of ParallelIntArray that causes operations to apply
+ * to mappings of elements, not to the elements themselves.
+ * Instances of this class may be constructed only via prefix
+ * methods of ParallelIntArray or its other prefix classes.
+ */
+public abstract class ParallelIntArrayWithIntMapping extends AbstractParallelAnyArray.IPap {
+    ParallelIntArrayWithIntMapping
+        (ForkJoinPool ex, int origin, int fence, int[] array) {
+        super(ex, origin, fence, array);
+    }
+
+    /**
+     * Applies the given procedure to elements
+     * @param procedure the procedure
+     */
+    public void apply(IntProcedure procedure) {
+        ex.invoke(new PAS.FJIApply(null, this, origin, fence, null, procedure));
+    }
+
+    /**
+     * Returns reduction of elements
+     * @param reducer the reducer
+     * @param base the result for an empty array
+     * @return reduction
+     */
+    public int reduce(IntReducer reducer, int base) {
+        PAS.FJIReduce f = new PAS.FJIReduce
+            (null, this, origin, fence, null, reducer, base);
+        ex.invoke(f);
+        return f.result;
+    }
+
+    /**
+     * Returns the minimum element, or Integer.MAX_VALUE if empty
+     * @return minimum element, or Integer.MAX_VALUE if empty
+     */
+    public int min() {
+        return reduce(CommonOps.naturalIntMinReducer(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the minimum element, or Integer.MAX_VALUE if empty
+     * @param comparator the comparator
+     * @return minimum element, or Integer.MAX_VALUE if empty
+     */
+    public int min(IntComparator comparator) {
+        return reduce(CommonOps.intMinReducer(comparator), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the maximum element, or Integer.MIN_VALUE if empty
+     * @return maximum element, or Integer.MIN_VALUE if empty
+     */
+    public int max() {
+        return reduce(CommonOps.naturalIntMaxReducer(), Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the maximum element, or Integer.MIN_VALUE if empty
+     * @param comparator the comparator
+     * @return maximum element, or Integer.MIN_VALUE if empty
+     */
+    public int max(IntComparator comparator) {
+        return reduce(CommonOps.intMaxReducer(comparator), Integer.MIN_VALUE);
+    }
+
+    /**
+     * Returns the sum of elements
+     * @return the sum of elements
+     */
+    public int sum() {
+        return reduce(CommonOps.intAdder(), 0);
+    }
+
+    /**
+     * Returns summary statistics
+     * @param comparator the comparator to use for
+     * locating minimum and maximum elements
+     * @return the summary.
+     */
+    public ParallelIntArray.SummaryStatistics summary
+        (IntComparator comparator) {
+        PAS.FJIStats f = new PAS.FJIStats
+            (this, origin, fence, null, comparator);
+        ex.invoke(f);
+        return f;
+    }
+
+    /**
+     * Returns summary statistics, using natural comparator
+     * @return the summary.
+     */
+    public ParallelIntArray.SummaryStatistics summary() {
+        return summary(CommonOps.naturalIntComparator());
+    }
+
+    /**
+     * Returns a new ParallelIntArray holding elements
+     * @return a new ParallelIntArray holding elements
+     */
+    public ParallelIntArray all() {
+        return new ParallelIntArray(ex, allInts());
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithIntMapping withMapping(IntOp op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithDoubleMapping withMapping
+        (IntToDouble op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mapped elements of the array using the given op.
+     * @param op the op
+     * @return operation prefix
+     */
+    public abstract <U> ParallelIntArrayWithMapping<U> withMapping
+        (IntToObject<? extends U> op);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W,X> ParallelIntArrayWithMapping<W> withMapping
+        (IntAndObjectToObject<? super V, ? extends W> combiner,
+         ParallelArrayWithMapping<X,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelIntArrayWithMapping<V> withMapping
+        (IntAndDoubleToObject<? extends V> combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V> ParallelIntArrayWithMapping<V> withMapping
+        (IntAndIntToObject<? extends V> combiner,
+         ParallelIntArrayWithIntMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndObjectToDouble<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndDoubleToDouble combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithDoubleMapping withMapping
+        (IntAndIntToDouble combiner,
+         ParallelIntArrayWithIntMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public <V,W> ParallelIntArrayWithIntMapping withMapping
+        (IntAndObjectToInt<? super V> combiner,
+         ParallelArrayWithMapping<W,V> other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithIntMapping withMapping
+        (IntAndDoubleToInt combiner,
+         ParallelDoubleArrayWithDoubleMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on binary mappings of this array and the other array.
+     * @param combiner the combiner
+     * @param other the other array
+     * @return operation prefix
+     * @throws IllegalArgumentException if other array is a
+     * filtered view (all filters must precede all mappings).
+     */
+    public ParallelIntArrayWithIntMapping withMapping
+        (BinaryIntOp combiner,
+         ParallelIntArrayWithIntMapping other) {
+        if (other.hasFilter()) throw new IllegalArgumentException();
+        return withIndexedMapping
+            (AbstractParallelAnyArray.indexedMapper(combiner, other, origin));
+    }
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract <V> ParallelIntArrayWithMapping<V> withIndexedMapping
+        (IntAndIntToObject<? extends V> mapper);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithDoubleMapping withIndexedMapping
+        (IntAndIntToDouble mapper);
+
+    /**
+     * Returns an operation prefix that causes a method to operate
+     * on mappings of this array using the given mapper that
+     * accepts as arguments an element's current index and value
+     * (as mapped by preceding mappings, if any), and produces a
+     * new value.
+     * @param mapper the mapper
+     * @return operation prefix
+     */
+    public abstract ParallelIntArrayWithIntMapping withIndexedMapping
+        (IntAndIntToInt mapper);
+
+    /**
+     * Returns an Iterable view to sequentially step through mapped
+     * elements also obeying bound and filter constraints, without
+     * performing computations to evaluate them in parallel
+     * @return the Iterable view
+     */
+    public Iterable<Integer> sequentially() {
+        return new SequentiallyAsInt();
+    }
+
+}
+
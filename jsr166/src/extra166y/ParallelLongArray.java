@@ -63,8 +63,9 @@ public class ParallelLongArray extends AbstractParallelAnyArray.LUPap {
 
     /**
      * Returns a common default executor for use in ParallelArrays.
-     * This executor arranges enough parallelism to use most, but not
-     * necessarily all, of the available processors on this system.
+     * This is {@link ForkJoinPool#commonPool}, which by default
+     * arranges enough parallelism to use most, but not necessarily
+     * all, of the available processors on this system.
      * @return the executor
      */
     public static ForkJoinPool defaultExecutor() {
@@ -511,7 +512,7 @@ public class ParallelLongArray extends AbstractParallelAnyArray.LUPap {
             int csize = other.size();
             insertSlotsAt(end, csize);
             if (other.hasMap())
-                ex.invoke(new PAS.FJLMap(other, other.origin, other.fence,
+                ex.invoke(new PAS.FJLMap(null, other, other.origin, other.fence,
                                          null, array, end - other.origin));
             else
                 System.arraycopy(other.array, 0, array, end, csize);
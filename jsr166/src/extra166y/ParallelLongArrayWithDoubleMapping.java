@@ -28,7 +28,7 @@ public abstract class ParallelLongArrayWithDoubleMapping extends AbstractParalle
      * @param procedure the procedure
      */
     public void apply(DoubleProcedure procedure) {
-        ex.invoke(new PAS.FJDApply(this, origin, fence, null, procedure));
+        ex.invoke(new PAS.FJDApply(null, this, origin, fence, null, procedure));
     }
 
     /**
@@ -39,7 +39,7 @@ public abstract class ParallelLongArrayWithDoubleMapping extends AbstractParalle
      */
     public double reduce(DoubleReducer reducer, double base) {
         PAS.FJDReduce f = new PAS.FJDReduce
-            (this, origin, fence, null, reducer, base);
+            (null, this, origin, fence, null, reducer, base);
         ex.invoke(f);
         return f.result;
     }
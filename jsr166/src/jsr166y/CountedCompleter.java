@@ -0,0 +1,355 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package jsr166y;
+
+/**
+ * A ForkJoinTask with a completion action performed when triggered
+ * and there are no remaining pending actions. Unlike RecursiveActions
+ * and RecursiveTasks, which wait for their subtasks in <tt>join</tt>,
+ * a CountedCompleter never waits: each task holds a count of pending
+ * subtasks and a reference to the completer (normally its parent)
+ * that it must notify upon its own completion. A task whose
+ * <tt>compute</tt> method has forked its subtasks simply returns;
+ * the last of them to finish performs the parent's {@link
+ * #onCompletion} action and in turn notifies the parent's completer,
+ * and so on up to the root, which then completes normally. So no
+ * worker thread ever blocks inside a computation, and stolen
+ * subtasks never require ForkJoinPool to add spare threads to
+ * maintain parallelism.
+ *
+ * <p>A concrete CountedCompleter must define <tt>compute</tt>, which
+ * should in most cases invoke <tt>tryComplete()</tt> once before
+ * returning, and may override <tt>onCompletion</tt> to perform an
+ * action, such as combining the results of subtasks, upon completion.
+ * A CountedCompleter is itself complete, so that <tt>join</tt> or
+ * <tt>invoke</tt> return, only once it has been triggered with no
+ * pending count remaining. Normally only the root task of a
+ * computation is joined, by the caller of <tt>ForkJoinPool.invoke</tt>.
+ *
+ * <p>If <tt>compute</tt> throws an exception, the task completes
+ * abnormally, and so, unless {@link #onExceptionalCompletion} says
+ * otherwise, do its completer and each completer above it.
+ *
+ * <p><b>Sample Usage.</b> This task sums a <tt>long[]</tt> array,
+ * forking the right halves of repeated divisions by two, each with
+ * the current task as its completer, and directly summing the
+ * leftmost leaf itself:
+ *
+ * <pre>
+ * class Summer extends CountedCompleter&lt;Long&gt; {
+ *   final long[] array; final int lo, hi;
+ *   Summer forks, next; // forked right-hand sides
+ *   long sum;
+ *   Summer(CountedCompleter&lt;?&gt; parent, long[] array, int lo, int hi,
+ *          Summer next) {
+ *     super(parent);
+ *     this.array = array; this.lo = lo; this.hi = hi; this.next = next;
+ *   }
+ *   public void compute() {
+ *     int l = lo, h = hi;
+ *     while (h - l &gt; THRESHOLD) {
+ *       int mid = (l + h) &gt;&gt;&gt; 1;
+ *       addToPendingCount(1);
+ *       (forks = new Summer(this, array, mid, h, forks)).fork();
+ *       h = mid;
+ *     }
+ *     for (int i = l; i &lt; h; ++i)
+ *       sum += array[i];
+ *     tryComplete();
+ *   }
+ *   public void onCompletion(CountedCompleter&lt;?&gt; caller) {
+ *     for (Summer s = forks; s != null; s = s.next)
+ *       sum += s.sum;
+ *   }
+ *   public Long getRawResult() { return sum; }
+ * }
+ * </pre>
+ *
+ * and can be run as <tt>pool.invoke(new Summer(null, array, 0,
+ * array.length, null))</tt>.
+ */
+public abstract class CountedCompleter<T> extends ForkJoinTask<T> {
+
+    /** This task's completer, or null if none */
+    final CountedCompleter<?> completer;
+
+    /** The number of pending tasks until completion */
+    volatile int pending;
+
+    /**
+     * Creates a new CountedCompleter with the given completer
+     * and initial pending count.
+     *
+     * @param completer this task's completer, or null if none
+     * @param initialPendingCount the initial pending count
+     */
+    protected CountedCompleter(CountedCompleter<?> completer,
+                               int initialPendingCount) {
+        this.completer = completer;
+        this.pending = initialPendingCount;
+    }
+
+    /**
+     * Creates a new CountedCompleter with the given completer
+     * and an initial pending count of zero.
+     *
+     * @param completer this task's completer, or null if none
+     */
+    protected CountedCompleter(CountedCompleter<?> completer) {
+        this.completer = completer;
+    }
+
+    /**
+     * Creates a new CountedCompleter with no completer
+     * and an initial pending count of zero.
+     */
+    protected CountedCompleter() {
+        this.completer = null;
+    }
+
+    /**
+     * The main computation performed by this task.
+     */
+    public abstract void compute();
+
+    /**
+     * Performs an action when method {@link #tryComplete} is invoked
+     * and the pending count is zero, or when the unconditional
+     * method {@link #complete} is invoked.  By default, this method
+     * does nothing.
+     *
+     * @param caller the task invoking this method (which may
+     * be this task itself)
+     */
+    public void onCompletion(CountedCompleter<?> caller) {
+    }
+
+    /**
+     * Performs an action when method {@link #completeExceptionally}
+     * is invoked or method {@link #compute} throws an exception, and
+     * this task has not otherwise already completed normally. On
+     * entry to this method, this task has already completed
+     * abnormally. The return value controls further propagation: If
+     * true and this task has a completer that has not completed, then
+     * that completer is also completed exceptionally. The default
+     * implementation of this method does nothing except return true.
+     *
+     * @param ex the exception
+     * @param caller the task invoking this method (which may
+     * be this task itself)
+     * @return true if this exception should be propagated to this
+     * task's completer, if one exists
+     */
+    public boolean onExceptionalCompletion(Throwable ex,
+                                           CountedCompleter<?> caller) {
+        return true;
+    }
+
+    /**
+     * Returns the completer established in this task's constructor,
+     * or null if none.
+     *
+     * @return the completer
+     */
+    public final CountedCompleter<?> getCompleter() {
+        return completer;
+    }
+
+    /**
+     * Returns the current pending count.
+     *
+     * @return the current pending count
+     */
+    public final int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Sets the pending count to the given value.
+     *
+     * @param count the count
+     */
+    public final void setPendingCount(int count) {
+        pending = count;
+    }
+
+    /**
+     * Adds (atomically) the given value to the pending count.
+     *
+     * @param delta the value to add
+     */
+    public final void addToPendingCount(int delta) {
+        int c;
+        do;while (!casPending(c = pending, c + delta));
+    }
+
+    /**
+     * Sets (atomically) the pending count to the given count only if
+     * it currently holds the given expected value.
+     *
+     * @param expected the expected value
+     * @param count the new value
+     * @return true if successful
+     */
+    public final boolean compareAndSetPendingCount(int expected, int count) {
+        return casPending(expected, count);
+    }
+
+    /**
+     * Returns the root of the current computation; i.e., this
+     * task if it has no completer, else its completer's root.
+     *
+     * @return the root of the current computation
+     */
+    public final CountedCompleter<?> getRoot() {
+        CountedCompleter<?> a = this, p;
+        while ((p = a.completer) != null)
+            a = p;
+        return a;
+    }
+
+    /**
+     * If the pending count is nonzero, decrements the count;
+     * otherwise invokes {@link #onCompletion}, completes this task,
+     * and then similarly tries to complete this task's completer, if
+     * one exists.
+     */
+    public final void tryComplete() {
+        CountedCompleter<?> a = this, s = a;
+        for (int c;;) {
+            if ((c = a.pending) == 0) {
+                a.onCompletion(s);
+                a.setNormalCompletion();
+                if ((a = (s = a).completer) == null)
+                    return;
+            }
+            else if (a.casPending(c, c - 1))
+                return;
+        }
+    }
+
+    /**
+     * Equivalent to {@link #tryComplete} but does not invoke {@link
+     * #onCompletion} along the completion path: If the pending count
+     * is nonzero, decrements the count; otherwise, similarly tries to
+     * complete this task's completer, if one exists, else marks this
+     * task as complete.
+     */
+    public final void propagateCompletion() {
+        CountedCompleter<?> a = this;
+        for (int c;;) {
+            if ((c = a.pending) == 0) {
+                a.setNormalCompletion();
+                if ((a = a.completer) == null)
+                    return;
+            }
+            else if (a.casPending(c, c - 1))
+                return;
+        }
+    }
+
+    /**
+     * Regardless of pending count, invokes {@link #onCompletion},
+     * marks this task as complete with the given result, and further
+     * triggers {@link #tryComplete} on this task's completer, if one
+     * exists.
+     *
+     * @param rawResult the raw result
+     */
+    public void complete(T rawResult) {
+        setRawResult(rawResult);
+        onCompletion(this);
+        setNormalCompletion();
+        CountedCompleter<?> p;
+        if ((p = completer) != null)
+            p.tryComplete();
+    }
+
+    /**
+     * Completes this task abnormally with the given exception, and
+     * unless {@link #onExceptionalCompletion} returns false,
+     * propagates the exception to its completers.
+     *
+     * @param ex the exception
+     */
+    public void completeExceptionally(Throwable ex) {
+        super.completeExceptionally(ex);
+        propagateException(ex);
+    }
+
+    /**
+     * Propagates exception from this task, which has completed
+     * abnormally, to its completers.
+     */
+    private void propagateException(Throwable ex) {
+        CountedCompleter<?> a = this, s = a;
+        while (a.onExceptionalCompletion(ex, s) &&
+               (a = (s = a).completer) != null && a.status >= 0)
+            a.recordExceptionalCompletion(ex);
+    }
+
+    /**
+     * Completes this task abnormally without further propagation,
+     * which is left to the caller.
+     */
+    private void recordExceptionalCompletion(Throwable ex) {
+        super.completeExceptionally(ex);
+    }
+
+    /**
+     * Implements execution conventions for CountedCompleters.
+     * Completion happens only through tryComplete and related
+     * methods, so this returns false so that the caller does not mark
+     * the task complete.
+     */
+    protected final boolean exec() {
+        try {
+            compute();
+        } catch (Throwable ex) {
+            super.completeExceptionally(ex);
+            propagateException(ex);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the result of the computation. By default returns
+     * <tt>null</tt>, which is appropriate for <tt>Void</tt> actions,
+     * but in other cases should be overridden, almost always to
+     * return a field or function of a field that holds the result
+     * upon completion.
+     *
+     * @return the result of the computation
+     */
+    public T getRawResult() { return null; }
+
+    /**
+     * A method that result-bearing CountedCompleters may optionally
+     * use to help maintain result data. By default, does nothing.
+     * Overrides are not recommended. However, if this method is
+     * overridden to update existing objects or fields, then it must
+     * in general be defined to be thread-safe.
+     */
+    protected void setRawResult(T t) { }
+
+    private boolean casPending(int cmp, int val) {
+        return _unsafe.compareAndSwapInt(this, pendingOffset, cmp, val);
+    }
+
+    private static final long pendingOffset;
+
+    static {
+        try {
+            pendingOffset = _unsafe.objectFieldOffset
+                (CountedCompleter.class.getDeclaredField("pending"));
+        } catch (Throwable e) {
+            throw new RuntimeException("Could not initialize intrinsics", e);
+        }
+    }
+
+    private static final long serialVersionUID = 5232453752276485070L;
+}
@@ -43,12 +43,27 @@ import java.lang.reflect.*;
  * <code>setMaximumPoolSize</code> and/or
  * <code>setMaintainsParallelism</code>.
  *
+ * <p>By default, each worker thread processes the tasks it forks in
+ * LIFO order, which suits recursive decompositions in which tasks
+ * join the subtasks they fork. A pool may instead be constructed in
+ * <em>asynchronous mode</em>, in which each worker processes its own
+ * forked tasks in FIFO order. This may be more appropriate for
+ * event-style processing of tasks that are forked but never joined,
+ * in which LIFO order can leave the oldest tasks waiting
+ * indefinitely.
+ *
  * <p>In addition to execution and lifecycle control methods, this
  * class provides status check methods (for example
  * <code>getStealCount</code>) that are intended to aid in developing,
- * tuning, and monitoring fork/join applications. Also, method
- * <code>toString</code> returns indications of pool state in a
- * convenient form for informal monitoring.
+ * tuning, and monitoring fork/join applications. Method
+ * <code>getWorkerStats</code> breaks these down by worker thread, to
+ * help diagnose imbalance, and {@link ForkJoinPoolMonitor} exposes
+ * them through JMX. Methods <code>startTracing</code> and
+ * <code>stopTracing</code> collect a {@link ForkJoinTrace} of
+ * individual task events, for profiling fork and join latencies when
+ * tuning task granularity. Also, method <code>toString</code> returns
+ * indications of pool state in a convenient form for informal
+ * monitoring.
  *
  * <p><b>Implementation notes</b>: This implementation restricts the
  * maximum number of running threads to 32767. Attempts to create
@@ -107,6 +122,58 @@ public class ForkJoinPool extends AbstractExecutorService {
         defaultForkJoinWorkerThreadFactory =
         new DefaultForkJoinWorkerThreadFactory();
 
+    /**
+     * Policy assigning workers to locality groups, for example the
+     * sockets or NUMA nodes whose CPUs the workers are expected to
+     * run on (perhaps via a ForkJoinWorkerThreadFactory that sets
+     * affinity). When a pool is given a LocalityPolicy, an idle worker
+     * first tries to steal from other workers in its own group, and
+     * only then from any worker, so that tasks, and the data they
+     * touch, tend to stay near the processors that produced them.
+     */
+    public static interface LocalityPolicy {
+        /**
+         * Returns the locality group of the worker with the given
+         * pool index. Must be a pure function of the index.
+         *
+         * @param poolIndex the index of the worker in its pool
+         * @return a nonnegative group number
+         */
+        public int groupOf(int poolIndex);
+    }
+
+    /**
+     * Returns a LocalityPolicy assigning consecutive runs of pool
+     * indices to groups of the given sizes: for example with sizes
+     * {32, 32} workers 0 to 31 form group 0 and workers 32 to 63
+     * group 1. Indices past the sum of sizes, as may be assigned to
+     * spare threads, wrap around.
+     *
+     * @param groupSizes the number of workers in each group
+     * @return the policy
+     * @throws IllegalArgumentException if there are no groups, or
+     * any size is not positive
+     */
+    public static LocalityPolicy contiguousLocalityGroups(int... groupSizes) {
+        int total = 0;
+        for (int size : groupSizes) {
+            if (size <= 0)
+                throw new IllegalArgumentException();
+            total += size;
+        }
+        if (total == 0)
+            throw new IllegalArgumentException();
+        final int[] groups = new int[total];
+        for (int g = 0, i = 0; g < groupSizes.length; ++g)
+            for (int k = 0; k < groupSizes[g]; ++k)
+                groups[i++] = g;
+        return new LocalityPolicy() {
+            public int groupOf(int poolIndex) {
+                return groups[poolIndex % groups.length];
+            }
+        };
+    }
+
     /**
      * Permission required for callers of methods that may start or
      * kill threads.
@@ -130,6 +197,97 @@ public class ForkJoinPool extends AbstractExecutorService {
     private static final AtomicInteger poolNumberGenerator =
         new AtomicInteger();
 
+    /**
+     * The common pool, created on first use by commonPool().
+     */
+    private static volatile ForkJoinPool common;
+
+    /** Lock for on-demand initialization of common */
+    private static final Object commonLock = new Object();
+
+    /** Prefix of system properties configuring the common pool */
+    private static final String COMMON_PROPERTY_PREFIX =
+        "jsr166y.ForkJoinPool.common.";
+
+    /**
+     * Returns the common pool instance, creating it on first call.
+     * The common pool is shared by all code in the JVM that does not
+     * explicitly need a pool of its own, such as the default
+     * executors of <code>extra166y</code> parallel arrays, so that a
+     * process using several such libraries runs only one set of
+     * workers. Its workers are daemon threads that terminate after
+     * being idle for a while (by default one minute) and are
+     * recreated on demand, so an unused common pool holds no threads.
+     * Invocations of <code>shutdown</code> and
+     * <code>shutdownNow</code> have no effect on it.
+     *
+     * <p>The common pool is configured by the following system
+     * properties, read once when it is created:
+     * <ul>
+     * <li><code>jsr166y.ForkJoinPool.common.parallelism</code> -
+     * the parallelism level, by default seven eighths (rounded up)
+     * of the number of available processors
+     * <li><code>jsr166y.ForkJoinPool.common.threadFactory</code> -
+     * the class name of a {@link ForkJoinWorkerThreadFactory}, loaded
+     * with the system class loader
+     * <li><code>jsr166y.ForkJoinPool.common.maximumSpares</code> -
+     * the maximum number of spare threads (see {@link
+     * #setMaximumSpares})
+     * <li><code>jsr166y.ForkJoinPool.common.keepAliveMillis</code> -
+     * the time in milliseconds an idle worker waits for work before
+     * terminating, or zero for workers never to terminate
+     * </ul>
+     * Properties that are missing or cannot be used are ignored.
+     *
+     * @return the common pool instance
+     */
+    public static ForkJoinPool commonPool() {
+        ForkJoinPool p = common; // double-check
+        if (p == null) {
+            synchronized(commonLock) {
+                p = common;
+                if (p == null)
+                    common = p = makeCommonPool();
+            }
+        }
+        return p;
+    }
+
+    /**
+     * Creates the common pool, as configured by system properties.
+     */
+    private static ForkJoinPool makeCommonPool() {
+        int nprocs = Runtime.getRuntime().availableProcessors();
+        int parallelism = nprocs - (nprocs >>> 3); // ceil(7/8 * ncpus)
+        ForkJoinWorkerThreadFactory factory = defaultForkJoinWorkerThreadFactory;
+        int maxSpares = DEFAULT_MAX_SPARES;
+        long keepAlive = DEFAULT_COMMON_KEEP_ALIVE_MILLIS;
+        try {
+            String pp = System.getProperty(COMMON_PROPERTY_PREFIX + "parallelism");
+            String fp = System.getProperty(COMMON_PROPERTY_PREFIX + "threadFactory");
+            String sp = System.getProperty(COMMON_PROPERTY_PREFIX + "maximumSpares");
+            String kp = System.getProperty(COMMON_PROPERTY_PREFIX + "keepAliveMillis");
+            if (pp != null && Integer.parseInt(pp) > 0)
+                parallelism = Math.min(Integer.parseInt(pp), MAX_THREADS);
+            if (fp != null)
+                factory = (ForkJoinWorkerThreadFactory)ClassLoader.
+                    getSystemClassLoader().loadClass(fp).
+                    getDeclaredConstructor().newInstance();
+            if (sp != null && Integer.parseInt(sp) >= 0)
+                maxSpares = Integer.parseInt(sp);
+            if (kp != null && Long.parseLong(kp) >= 0)
+                keepAlive = Long.parseLong(kp);
+        } catch (Exception ignore) {
+        }
+        ForkJoinPool p = new ForkJoinPool(parallelism, factory);
+        p.setMaximumSpares(maxSpares);
+        p.idleKeepAliveNanos = TimeUnit.MILLISECONDS.toNanos(keepAlive);
+        return p;
+    }
+
+    /** Default idle keep-alive time of common pool workers */
+    private static final long DEFAULT_COMMON_KEEP_ALIVE_MILLIS = 60L * 1000L;
+
     /**
      * Array holding all worker threads in the pool. Array size must
      * be a power of two.  Updates and replacements are protected by
@@ -174,9 +332,14 @@ public class ForkJoinPool extends AbstractExecutorService {
     private final AtomicLong stealCount;
 
     /**
-     * Queue for external submissions.
+     * Queues for external submissions. Submitting threads are spread
+     * across them by thread id, so that concurrent submitters do not
+     * all contend on the same queue head and tail, and workers poll
+     * them starting at an index based on their own pool index, so
+     * that idle workers do not all contend on the same queue either.
+     * Array size must be a power of two.
      */
-    private final LinkedTransferQueue<ForkJoinTask<?>> submissionQueue;
+    private final LinkedTransferQueue<ForkJoinTask<?>>[] submissionQueues;
 
     /**
      * Head of Treiber stack for barrier sync. See below for explanation
@@ -190,8 +353,9 @@ public class ForkJoinPool extends AbstractExecutorService {
 
     /**
      * Pool number, just for assigning useful names to worker threads
+     * and monitoring beans
      */
-    private final int poolNumber;
+    final int poolNumber;
 
     /**
      * The maximum allowed pool size
@@ -317,6 +481,54 @@ public class ForkJoinPool extends AbstractExecutorService {
      */
     private volatile boolean maintainsParallelism;
 
+    /**
+     * Maximum number of spares that may be added to maintain
+     * parallelism, as opposed to avoiding starvation.
+     */
+    private volatile int maxSpares;
+
+    /**
+     * Nanoseconds a suspended spare waits to be resumed before
+     * terminating.
+     */
+    private volatile long spareKeepAliveNanos;
+
+    /** Default for maxSpares */
+    private static final int DEFAULT_MAX_SPARES = 256;
+
+    /**
+     * Nanoseconds an idle worker waits for work before terminating,
+     * or zero if idle workers never terminate. Workers are recreated
+     * on demand when tasks are next submitted.
+     */
+    private volatile long idleKeepAliveNanos;
+
+    /**
+     * The trace collecting events, or null if not tracing. Workers
+     * read only their own traceBuffer field, set from this by
+     * startTracing and createWorker, so cost nothing beyond a null
+     * check when not tracing.
+     */
+    private volatile ForkJoinTrace trace;
+
+    /** Maximum number of events per trace buffer */
+    private static final int MAX_TRACE_CAPACITY = 1 << 24;
+
+    /** Default for spareKeepAliveNanos: one minute */
+    private static final long DEFAULT_SPARE_KEEP_ALIVE_NANOS =
+        60L * 1000L * 1000L * 1000L;
+
+    /**
+     * True if workers process their local tasks in FIFO order (async
+     * mode). Read by workers when they start.
+     */
+    final boolean locallyFifo;
+
+    /**
+     * Locality policy for choosing steal victims, or null if none.
+     */
+    final LocalityPolicy localityPolicy;
+
     // Constructors
 
     /**
@@ -377,6 +589,53 @@ public class ForkJoinPool extends AbstractExecutorService {
      *         java.lang.RuntimePermission}<code>("modifyThread")</code>,
      */
     public ForkJoinPool(int parallelism, ForkJoinWorkerThreadFactory factory) {
+        this(parallelism, factory, false);
+    }
+
+    /**
+     * Creates a ForkJoinPool with the given parallelism and factory,
+     * and with workers processing their local tasks in FIFO order if
+     * asyncMode is true, or in the default LIFO order if false.
+     *
+     * @param parallelism the targeted number of worker threads
+     * @param factory the factory for creating new threads
+     * @param asyncMode if true, establishes local FIFO scheduling
+     * mode for forked tasks that are never joined
+     * @throws IllegalArgumentException if parallelism less than or
+     * equal to zero, or greater than implementation limit.
+     * @throws NullPointerException if factory is null
+     * @throws SecurityException if a security manager exists and
+     *         the caller is not permitted to modify threads
+     *         because it does not hold {@link
+     *         java.lang.RuntimePermission}<code>("modifyThread")</code>,
+     */
+    public ForkJoinPool(int parallelism, ForkJoinWorkerThreadFactory factory,
+                        boolean asyncMode) {
+        this(parallelism, factory, asyncMode, null);
+    }
+
+    /**
+     * Creates a ForkJoinPool with the given parallelism, factory and
+     * scheduling mode, in which idle workers prefer to steal tasks
+     * from workers in their own locality group, as assigned by the
+     * given policy.
+     *
+     * @param parallelism the targeted number of worker threads
+     * @param factory the factory for creating new threads
+     * @param asyncMode if true, establishes local FIFO scheduling
+     * mode for forked tasks that are never joined
+     * @param localityPolicy the policy assigning workers to groups,
+     * or null to steal from any worker with equal preference
+     * @throws IllegalArgumentException if parallelism less than or
+     * equal to zero, or greater than implementation limit.
+     * @throws NullPointerException if factory is null
+     * @throws SecurityException if a security manager exists and
+     *         the caller is not permitted to modify threads
+     *         because it does not hold {@link
+     *         java.lang.RuntimePermission}<code>("modifyThread")</code>,
+     */
+    public ForkJoinPool(int parallelism, ForkJoinWorkerThreadFactory factory,
+                        boolean asyncMode, LocalityPolicy localityPolicy) {
         if (parallelism <= 0 || parallelism > MAX_THREADS)
             throw new IllegalArgumentException();
         if (factory == null)
@@ -386,14 +645,32 @@ public class ForkJoinPool extends AbstractExecutorService {
         this.parallelism = parallelism;
         this.maxPoolSize = MAX_THREADS;
         this.maintainsParallelism = true;
+        this.maxSpares = DEFAULT_MAX_SPARES;
+        this.spareKeepAliveNanos = DEFAULT_SPARE_KEEP_ALIVE_NANOS;
+        this.locallyFifo = asyncMode;
+        this.localityPolicy = localityPolicy;
         this.poolNumber = poolNumberGenerator.incrementAndGet();
         this.workerLock = new ReentrantLock();
         this.termination = workerLock.newCondition();
         this.stealCount = new AtomicLong();
-        this.submissionQueue = new LinkedTransferQueue<ForkJoinTask<?>>();
+        this.submissionQueues = createSubmissionQueues();
         createAndStartInitialWorkers(parallelism);
     }
 
+    /**
+     * Creates one submission queue per processor, rounded up to a
+     * power of two.
+     */
+    @SuppressWarnings("unchecked")
+    private static LinkedTransferQueue<ForkJoinTask<?>>[] createSubmissionQueues() {
+        int n = arraySizeFor(Runtime.getRuntime().availableProcessors());
+        LinkedTransferQueue<ForkJoinTask<?>>[] qs =
+            (LinkedTransferQueue<ForkJoinTask<?>>[])new LinkedTransferQueue<?>[n];
+        for (int i = 0; i < n; ++i)
+            qs[i] = new LinkedTransferQueue<ForkJoinTask<?>>();
+        return qs;
+    }
+
     /**
      * Create new worker using factory.
      * @param index the index to assign worker
@@ -408,6 +685,9 @@ public class ForkJoinPool extends AbstractExecutorService {
             w.setName("ForkJoinPool-" + poolNumber + "-worker-" + index);
             if (h != null)
                 w.setUncaughtExceptionHandler(h);
+            ForkJoinTrace tr = trace;
+            if (tr != null)
+                w.traceBuffer = tr.newBuffer(index);
         }
         return w;
     }
@@ -513,8 +793,29 @@ public class ForkJoinPool extends AbstractExecutorService {
     private <T> void doSubmit(ForkJoinTask<T> task) {
         if (isShutdown())
             throw new RejectedExecutionException();
-        submissionQueue.offer(task);
-        signalIdleWorkers();
+        LinkedTransferQueue<ForkJoinTask<?>>[] qs = submissionQueues;
+        long id = Thread.currentThread().getId();
+        ForkJoinTrace tr = trace;
+        if (tr != null)
+            tr.recordSubmission(task);
+        qs[(int)id & (qs.length - 1)].offer(task);
+        signalWork();
+        if (totalCountOf(workerCounts) < parallelism)
+            replaceIdleTerminatedWorkers();
+    }
+
+    /**
+     * Recreates workers that terminated while idle, unless shut down.
+     */
+    private void replaceIdleTerminatedWorkers() {
+        final ReentrantLock lock = this.workerLock;
+        lock.lock();
+        try {
+            if (!isShutdown())
+                createAndStartAddedWorkers();
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -792,6 +1093,85 @@ public class ForkJoinPool extends AbstractExecutorService {
         maintainsParallelism = enable;
     }
 
+    /**
+     * Returns the maximum number of spare threads, beyond the target
+     * parallelism, that this pool adds to maintain parallelism while
+     * other threads are blocked joining tasks or in managed blocks.
+     * Threads may still be added beyond this bound, up to the
+     * maximum pool size, when no threads would otherwise be running.
+     * This setting is by default 256.
+     * @return the maximum number of spares
+     */
+    public int getMaximumSpares() {
+        return maxSpares;
+    }
+
+    /**
+     * Sets the maximum number of spare threads, beyond the target
+     * parallelism, that this pool adds to maintain parallelism.
+     * Setting this value has no effect on current pool size.
+     * @param maxSpares the maximum number of spares
+     * @throws IllegalArgumentException if negative
+     */
+    public void setMaximumSpares(int maxSpares) {
+        if (maxSpares < 0)
+            throw new IllegalArgumentException();
+        this.maxSpares = maxSpares;
+    }
+
+    /**
+     * Returns the time that a spare thread, suspended because it is
+     * no longer needed to maintain parallelism, waits to be resumed
+     * before terminating.
+     * This setting is by default one minute.
+     * @param unit the time unit of the result
+     * @return the keep-alive time in the given unit
+     */
+    public long getSpareKeepAliveTime(TimeUnit unit) {
+        return unit.convert(spareKeepAliveNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the time that a suspended spare thread waits to be resumed
+     * before terminating. Spares that are already suspended use the
+     * previous value.
+     * @param time the keep-alive time
+     * @param unit the time unit of the time argument
+     * @throws IllegalArgumentException if time is not positive
+     */
+    public void setSpareKeepAliveTime(long time, TimeUnit unit) {
+        if (time <= 0)
+            throw new IllegalArgumentException();
+        spareKeepAliveNanos = unit.toNanos(time);
+    }
+
+    /**
+     * Returns the time that a worker thread waits for work before
+     * terminating, or zero if idle workers never terminate.
+     * Terminated workers are replaced on demand, up to the target
+     * parallelism, upon later submissions. This setting is by
+     * default zero, except for the common pool.
+     * @param unit the time unit of the result
+     * @return the idle keep-alive time in the given unit
+     */
+    public long getIdleKeepAliveTime(TimeUnit unit) {
+        return unit.convert(idleKeepAliveNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the time that a worker thread waits for work before
+     * terminating. Workers already waiting use the previous value.
+     * @param time the idle keep-alive time, or zero for idle workers
+     * never to terminate
+     * @param unit the time unit of the time argument
+     * @throws IllegalArgumentException if time is negative
+     */
+    public void setIdleKeepAliveTime(long time, TimeUnit unit) {
+        if (time < 0)
+            throw new IllegalArgumentException();
+        idleKeepAliveNanos = unit.toNanos(time);
+    }
+
     /**
      * Returns an estimate of the number of worker threads that are
      * not blocked waiting to join tasks or for other managed
@@ -852,6 +1232,86 @@ public class ForkJoinPool extends AbstractExecutorService {
         return stealCount.get();
     }
 
+    /**
+     * Returns a snapshot of statistics for each worker thread
+     * currently in the pool, in pool index order. Counters of
+     * workers that have terminated are not included. Each snapshot
+     * is read without stopping its worker, so its values are only
+     * estimates of the counts at the time of the call, but are
+     * cheap enough to obtain that this method may be used to monitor
+     * load balance in running applications.
+     * @return the statistics of each current worker
+     */
+    public ForkJoinWorkerStats[] getWorkerStats() {
+        ForkJoinWorkerThread[] ws = workers;
+        ArrayList<ForkJoinWorkerStats> stats =
+            new ArrayList<ForkJoinWorkerStats>(ws.length);
+        for (int i = 0; i < ws.length; ++i) {
+            ForkJoinWorkerThread w = ws[i];
+            if (w != null)
+                stats.add(new ForkJoinWorkerStats(w));
+        }
+        return stats.toArray(new ForkJoinWorkerStats[stats.size()]);
+    }
+
+    /**
+     * Starts recording task scheduling events into a new {@link
+     * ForkJoinTrace}, replacing any trace in progress. Each worker,
+     * including those started later, records into a buffer holding
+     * its most recent events. Tracing costs each fork, steal, task
+     * execution and join a timestamp and a few stores, so is meant
+     * for profiling runs; when not tracing, its only cost is a check
+     * that the worker has no buffer.
+     * @param eventsPerWorker the capacity of each buffer, rounded up
+     * to a power of two
+     * @throws IllegalArgumentException if eventsPerWorker is not
+     * positive or exceeds 2<sup>24</sup>
+     */
+    public void startTracing(int eventsPerWorker) {
+        if (eventsPerWorker <= 0 || eventsPerWorker > MAX_TRACE_CAPACITY)
+            throw new IllegalArgumentException();
+        int cap = 1;
+        while (cap < eventsPerWorker)
+            cap <<= 1;
+        final ReentrantLock lock = this.workerLock;
+        lock.lock();
+        try {
+            ForkJoinTrace tr = new ForkJoinTrace(cap);
+            trace = tr;
+            ForkJoinWorkerThread[] ws = workers;
+            for (int i = 0; i < ws.length; ++i) {
+                ForkJoinWorkerThread w = ws[i];
+                if (w != null)
+                    w.traceBuffer = tr.newBuffer(w.poolIndex);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops tracing, returning the trace collected since the last
+     * call to <code>startTracing</code>.
+     * @return the trace, or null if not tracing
+     */
+    public ForkJoinTrace stopTracing() {
+        final ReentrantLock lock = this.workerLock;
+        lock.lock();
+        try {
+            ForkJoinTrace tr = trace;
+            trace = null;
+            ForkJoinWorkerThread[] ws = workers;
+            for (int i = 0; i < ws.length; ++i) {
+                ForkJoinWorkerThread w = ws[i];
+                if (w != null)
+                    w.traceBuffer = null;
+            }
+            return tr;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Accumulate steal count from a worker. Call only
      * when worker known to be idle.
@@ -889,7 +1349,11 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @return the number of queued submissions.
      */
     public int getQueuedSubmissionCount() {
-        return submissionQueue.size();
+        int count = 0;
+        LinkedTransferQueue<ForkJoinTask<?>>[] qs = submissionQueues;
+        for (int i = 0; i < qs.length; ++i)
+            count += qs[i].size();
+        return count;
     }
 
     /**
@@ -898,7 +1362,12 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @return <code>true</code> if there are any queued submissions.
      */
     public boolean hasQueuedSubmissions() {
-        return !submissionQueue.isEmpty();
+        LinkedTransferQueue<ForkJoinTask<?>>[] qs = submissionQueues;
+        for (int i = 0; i < qs.length; ++i) {
+            if (!qs[i].isEmpty())
+                return true;
+        }
+        return false;
     }
 
     /**
@@ -908,7 +1377,42 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @return the next submission, or null if none
      */
     protected ForkJoinTask<?> pollSubmission() {
-        return submissionQueue.poll();
+        return pollSubmission(0);
+    }
+
+    /**
+     * Removes and returns a submission, probing the submission queues
+     * in order from the given index.
+     * @param start the index of the first queue to poll
+     * @return the submission, or null if none
+     */
+    final ForkJoinTask<?> pollSubmission(int start) {
+        LinkedTransferQueue<ForkJoinTask<?>>[] qs = submissionQueues;
+        int mask = qs.length - 1;
+        for (int i = 0; i <= mask; ++i) {
+            ForkJoinTask<?> t = qs[(start + i) & mask].poll();
+            if (t != null)
+                return t;
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if this pool uses local FIFO scheduling mode for
+     * forked tasks that are never joined.
+     * @return true if this pool uses async mode
+     */
+    public boolean getAsyncMode() {
+        return locallyFifo;
+    }
+
+    /**
+     * Returns the policy assigning workers to locality groups, or
+     * null if this pool has none.
+     * @return the locality policy, or null if none
+     */
+    public LocalityPolicy getLocalityPolicy() {
+        return localityPolicy;
     }
 
     /**
@@ -928,6 +1432,7 @@ public class ForkJoinPool extends AbstractExecutorService {
         return super.toString() +
             "[" + runStateToString(runStateOf(rc)) +
             ", parallelism = " + ps +
+            (locallyFifo? ", async" : "") +
             ", size = " + totalCountOf(wc) +
             ", active = " + activeCountOf(rc) +
             ", running = " + runningCountOf(wc) +
@@ -962,6 +1467,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      */
     public void shutdown() {
         checkPermission();
+        if (this == common)
+            return;
         transitionRunStateTo(SHUTDOWN);
         if (canTerminateOnShutdown(runControl))
             terminateOnShutdown();
@@ -982,7 +1489,8 @@ public class ForkJoinPool extends AbstractExecutorService {
      */
     public List<Runnable> shutdownNow() {
         checkPermission();
-        terminate();
+        if (this != common)
+            terminate();
         return Collections.emptyList();
     }
 
@@ -1061,7 +1569,7 @@ public class ForkJoinPool extends AbstractExecutorService {
             int idx = w.poolIndex;
             if (idx >= 0 && idx < ws.length && ws[idx] == w)
                 ws[idx] = null;
-            if (totalCountOf(workerCounts) == 0) {
+            if (isShutdown() && totalCountOf(workerCounts) == 0) {
                 terminate(); // no-op if already terminating
                 transitionRunStateTo(TERMINATED);
                 termination.signalAll();
@@ -1069,6 +1577,9 @@ public class ForkJoinPool extends AbstractExecutorService {
             else if (!isTerminating()) {
                 tryShrinkWorkerArray();
                 tryResumeSpare(true); // allow replacement
+                // replace if a submission raced with idle termination
+                if (hasQueuedSubmissions())
+                    createAndStartAddedWorkers();
             }
         } finally {
             lock.unlock();
@@ -1088,6 +1599,15 @@ public class ForkJoinPool extends AbstractExecutorService {
             cancelQueuedWorkerTasks();
             interruptUnterminatedWorkers();
             signalIdleWorkers(); // resignal after interrupt
+            final ReentrantLock lock = this.workerLock;
+            lock.lock();
+            try { // no worker will report if all terminated while idle
+                if (totalCountOf(workerCounts) == 0 &&
+                    transitionRunStateTo(TERMINATED))
+                    termination.signalAll();
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
@@ -1188,21 +1708,43 @@ public class ForkJoinPool extends AbstractExecutorService {
      *   - pool termination
      *   - A worker pushing a task on an empty queue
      *
-     * The case of pushing a task occurs often enough, and is heavy
-     * enough compared to simple stack pushes, to require special
-     * handling: Method signalWork returns without advancing count if
-     * the queue appears to be empty.  This would ordinarily result in
-     * races causing some queued waiters not to be woken up. To avoid
-     * this, the first worker enqueued in method sync (see
-     * syncIsReleasable) rescans for tasks after being enqueued, and
-     * helps signal if any are found. This works well because the
-     * worker has nothing better to do, and so might as well help
-     * alleviate the overhead and contention on the threads actually
-     * doing work.  Also, since event counts increments on task
-     * availability exist to maintain liveness (rather than to force
-     * refreshes etc), it is OK for callers to exit early if
-     * contending with another signaller.
+     * Only the last three advance the count, which releases all
+     * waiters. Making new tasks available (submissions, and pushes
+     * onto empty queues) instead wakes at most one waiter, via
+     * signalWork, which pops and releases the top node without
+     * touching the count. A released worker that takes a task while
+     * more remain visible (a nonempty victim queue or further
+     * submissions) signals another in turn, so wakeups fan out only
+     * as far as there is work to take, rather than every producer
+     * burst waking every idle worker just to have most of them find
+     * nothing and park again.  Because the stack is LIFO, the same
+     * few recently active workers tend to be reused, letting the
+     * rest stay parked long enough to reach their idle keepalive and
+     * retire (see idleDeadline).
+     *
+     * Signalling only when the stack is nonempty would ordinarily
+     * result in races causing some tasks to be left with no worker
+     * woken to take them. To avoid this, the first worker enqueued in
+     * method sync (see syncIsReleasable) rescans for tasks and
+     * submissions after being enqueued, and releases itself if any
+     * are found. This works well because the worker has nothing
+     * better to do. signalWork in turn retries until it has woken a
+     * live waiter or found the stack empty, so every task made
+     * available is seen either by a signalled worker or by such a
+     * rescan.
+     *
+     * Before parking, the top waiter (the one signalWork would wake
+     * next) spins briefly on multiprocessors, since a signal often
+     * arrives within the time it would take to block and unblock.
+     */
+    /**
+     * Number of times the top waiter in sync rechecks for release
+     * before parking. Zero on uniprocessors, where spinning only
+     * delays the thread that would produce the signal.
      */
+    static final int SYNC_SPINS =
+        (Runtime.getRuntime().availableProcessors() > 1)? 1 << 6 : 0;
+
     static final class WaitQueueNode {
         WaitQueueNode next; // only written before enqueued
         volatile ForkJoinWorkerThread thread; // nulled to cancel wait
@@ -1213,34 +1755,87 @@ public class ForkJoinPool extends AbstractExecutorService {
             thread = w;
         }
 
+        /**
+         * Claims the node for release by nulling thread, returning
+         * the waiter, or null if already released or cancelled.
+         */
+        ForkJoinWorkerThread claim() {
+            ForkJoinWorkerThread t;
+            while ((t = thread) != null) {
+                if (_unsafe.compareAndSwapObject(this, nodeThreadOffset,
+                                                 t, null))
+                    break;
+            }
+            return t;
+        }
+
         /**
          * Wake up waiter, returning false if known to already
          */
         boolean signal() {
-            ForkJoinWorkerThread t = thread;
+            ForkJoinWorkerThread t = claim();
             if (t == null)
                 return false;
-            thread = null;
             LockSupport.unpark(t);
             return true;
         }
 
         /**
-         * Await release on sync
+         * Await release on sync, until the given deadline if nonzero
+         * @return false if timed out, in which case the node is
+         * cancelled
          */
-        void awaitSyncRelease(ForkJoinPool p) {
-            while (thread != null && !p.syncIsReleasable(this))
-                LockSupport.park(this);
+        boolean awaitSyncRelease(ForkJoinPool p, long deadline) {
+            ForkJoinWorkerThread w = thread;
+            int spins = (p.syncStack == this)? SYNC_SPINS : 0;
+            while (thread != null && !p.syncIsReleasable(this)) {
+                if (spins > 0) {
+                    --spins;
+                    continue;
+                }
+                if (deadline == 0L)
+                    LockSupport.park(this);
+                else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        if (claim() != null)
+                            return false;
+                        break;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+                ++w.parkCount;
+                if (thread == null) // released by signal
+                    ++w.unparkCount;
+            }
+            return true;
         }
 
         /**
-         * Await resumption as spare
+         * Await resumption as spare, for at most the given time
+         * @return false if timed out, in which case the node is
+         * cancelled and left for poppers to discard
          */
-        void awaitSpareRelease() {
-            while (thread != null) {
-                if (!Thread.interrupted())
-                    LockSupport.park(this);
+        boolean awaitSpareRelease(long nanos) {
+            ForkJoinWorkerThread w = thread;
+            if (w != null) {
+                long deadline = System.nanoTime() + nanos;
+                while (thread != null) {
+                    if (!Thread.interrupted()) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            if (claim() != null)
+                                return false;
+                        }
+                        else {
+                            ++w.parkCount;
+                            LockSupport.parkNanos(this, remaining);
+                        }
+                    }
+                }
+                ++w.unparkCount;
             }
+            return true;
         }
     }
 
@@ -1265,7 +1860,7 @@ public class ForkJoinPool extends AbstractExecutorService {
     }
 
     /**
-     * Increments event count and releases waiting threads.
+     * Increments event count and releases all waiting threads.
      */
     private void signalIdleWorkers() {
         long c;
@@ -1274,19 +1869,17 @@ public class ForkJoinPool extends AbstractExecutorService {
     }
 
     /**
-     * Signal threads waiting to poll a task. Because method sync
-     * rechecks availability, it is OK to only proceed if queue
-     * appears to be non-empty, and OK to skip under contention to
-     * increment count (since some other thread succeeded).
+     * Wakes one thread waiting to poll a task, if any are waiting,
+     * skipping nodes cancelled by timeouts. Because the first node
+     * enqueued in sync rechecks availability, it is OK to return as
+     * soon as the stack appears empty.
      */
     final void signalWork() {
-        long c;
         WaitQueueNode q;
-        if (syncStack != null &&
-            casEventCount(c = eventCount, c+1) &&
-            (((q = syncStack) != null && q.count <= c) &&
-             (!casBarrierStack(q, q.next) || !q.signal())))
-            ensureSync();
+        while ((q = syncStack) != null) {
+            if (casBarrierStack(q, q.next) && q.signal())
+                break;
+        }
     }
 
     /**
@@ -1296,27 +1889,50 @@ public class ForkJoinPool extends AbstractExecutorService {
      * @param w the calling worker thread
      */
     final void sync(ForkJoinWorkerThread w) {
+        long startTime = System.nanoTime();
         updateStealCount(w); // Transfer w's count while it is idle
 
         while (!w.isShutdown() && !isTerminating() && !suspendIfSpare(w)) {
             long prev = w.lastEventCount;
             WaitQueueNode node = null;
             WaitQueueNode h;
+            boolean released = false;
             while (eventCount == prev &&
                    ((h = syncStack) == null || h.count == prev)) {
                 if (node == null)
                     node = new WaitQueueNode(prev, w);
                 if (casBarrierStack(node.next = h, node)) {
-                    node.awaitSyncRelease(this);
+                    if (node.awaitSyncRelease(this, idleDeadline(w)))
+                        released = true;
+                    else
+                        w.shutdown(); // idle too long; retire
                     break;
                 }
             }
             long ec = ensureSync();
-            if (ec != prev) {
+            if (ec != prev || released) {
                 w.lastEventCount = ec;
                 break;
             }
         }
+        w.syncNanos += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Returns the time at which idle worker w may terminate, or zero
+     * if idle workers do not terminate. The deadline is set when w
+     * first syncs after running a task, so is not extended by pool
+     * events, such as other workers terminating, that wake w without
+     * giving it work.
+     */
+    private long idleDeadline(ForkJoinWorkerThread w) {
+        long nanos = idleKeepAliveNanos;
+        if (nanos <= 0)
+            return 0L;
+        long d = w.idleDeadline;
+        if (d == 0L && (d = System.nanoTime() + nanos) == 0L)
+            d = 1L; // avoid reserved value
+        return w.idleDeadline = d;
     }
 
     /**
@@ -1325,23 +1941,18 @@ public class ForkJoinPool extends AbstractExecutorService {
      *  - on event count advance (winning race to notify vs signaller)
      *  - on Interrupt
      *  - if the first queued node, we find work available
-     * If node was not signalled and event count not advanced on exit,
-     * then we also help advance event count.
+     * Other waiters are not woken here; if there is more work, the
+     * released worker signals them as it takes it.
      * @return true if node can be released
      */
     final boolean syncIsReleasable(WaitQueueNode node) {
-        long prev = node.count;
         if (!Thread.interrupted() && node.thread != null &&
             (node.next != null ||
-             !ForkJoinWorkerThread.hasQueuedTasks(workers)) &&
-            eventCount == prev)
+             (!ForkJoinWorkerThread.hasQueuedTasks(workers) &&
+              !hasQueuedSubmissions())) &&
+            eventCount == node.count)
             return false;
-        if (node.thread != null) {
-            node.thread = null;
-            long ec = eventCount;
-            if (prev <= ec) // help signal
-                casEventCount(ec, ec+1);
-        }
+        node.claim();
         return true;
     }
 
@@ -1385,6 +1996,12 @@ public class ForkJoinPool extends AbstractExecutorService {
      * many threads are blocked joining, but for less time than it
      * takes to create or resume spares.
      *
+     * To keep the number of spares down, callers first help (see
+     * isCompensationNeeded), and no more than maxSpares spares are
+     * added or kept running to maintain parallelism, although spares
+     * are always added if no threads would otherwise be running,
+     * which suffices to avoid starvation deadlocks.
+     *
      * @param joinMe if non-null, return early if done
      * @param maintainParallelism if true, try to stay within
      * target counts, else create only to avoid starvation
@@ -1393,17 +2010,20 @@ public class ForkJoinPool extends AbstractExecutorService {
     final boolean preJoin(ForkJoinTask<?> joinMe, boolean maintainParallelism) {
         maintainParallelism &= maintainsParallelism; // overrride
         boolean dec = false;  // true when running count decremented
-        while (spareStack == null || !tryResumeSpare(dec)) {
+        boolean added = false; // true when spare resumed or added
+        while (spareStack == null || !(added = tryResumeSpare(dec))) {
             int counts = workerCounts;
             if (dec || (dec = casWorkerCounts(counts, --counts))) { // CAS cheat
                 if (!needSpare(counts, maintainParallelism))
                     break;
                 if (joinMe.status < 0)
                     return true;
-                if (tryAddSpare(counts))
+                if (added = tryAddSpare(counts))
                     break;
             }
         }
+        if (added)
+            countSpareActivation();
         return false;
     }
 
@@ -1413,27 +2033,42 @@ public class ForkJoinPool extends AbstractExecutorService {
     final boolean preBlock(ManagedBlocker blocker, boolean maintainParallelism){
         maintainParallelism &= maintainsParallelism;
         boolean dec = false;
-        while (spareStack == null || !tryResumeSpare(dec)) {
+        boolean added = false;
+        while (spareStack == null || !(added = tryResumeSpare(dec))) {
             int counts = workerCounts;
             if (dec || (dec = casWorkerCounts(counts, --counts))) {
                 if (!needSpare(counts, maintainParallelism))
                     break;
                 if (blocker.isReleasable())
                     return true;
-                if (tryAddSpare(counts))
+                if (added = tryAddSpare(counts))
                     break;
             }
         }
+        if (added)
+            countSpareActivation();
         return false;
     }
 
+    /**
+     * Records, in the statistics of the calling thread if it is a
+     * worker, that a spare was added or resumed on its behalf.
+     */
+    private static void countSpareActivation() {
+        Thread t = Thread.currentThread();
+        if (t instanceof ForkJoinWorkerThread)
+            ++((ForkJoinWorkerThread)t).spareActivationCount;
+    }
+
     /**
      * Returns true if a spare thread appears to be needed.  If
      * maintaining parallelism, returns true when the deficit in
      * running threads is more than the surplus of total threads, and
      * there is apparently some work to do.  This self-limiting rule
      * means that the more threads that have already been added, the
-     * less parallelism we will tolerate before adding another.
+     * less parallelism we will tolerate before adding another. The
+     * surplus is further bounded by maxSpares except when no threads
+     * are running.
      * @param counts current worker counts
      * @param maintainParallelism try to maintain parallelism
      */
@@ -1446,10 +2081,24 @@ public class ForkJoinPool extends AbstractExecutorService {
         return (tc < maxPoolSize &&
                 (rc == 0 || totalSurplus < 0 ||
                  (maintainParallelism &&
+                  totalSurplus < maxSpares &&
                   runningDeficit > totalSurplus &&
                   ForkJoinWorkerThread.hasQueuedTasks(workers))));
     }
 
+    /**
+     * Returns true if blocking the calling worker in a join would
+     * lead preJoin to add or resume a spare. Joining workers first
+     * help by running other tasks while this holds, since running
+     * a task on the joiner's own stack is much cheaper than waking
+     * or creating a thread to run it, and avoids spares for the
+     * transient blocks typical of deep join chains.
+     */
+    final boolean isCompensationNeeded() {
+        return (spareStack != null ||
+                needSpare(workerCounts - 1, maintainsParallelism));
+    }
+
     /**
      * Add a spare worker if lock available and no more than the
      * expected numbers of threads exist
@@ -1523,8 +2172,12 @@ public class ForkJoinPool extends AbstractExecutorService {
             if (casWorkerCounts(s, s-1)) { // representation-dependent
                 // push onto stack
                 do;while (!casSpareStack(node.next = spareStack, node));
-                // block until released by resumeSpare
-                node.awaitSpareRelease();
+                // block until released by resumeSpare, or retire if
+                // not released within keepalive time
+                if (!node.awaitSpareRelease(spareKeepAliveNanos)) {
+                    updateRunningCount(1);
+                    w.shutdown();
+                }
                 return true;
             }
         }
@@ -1540,10 +2193,13 @@ public class ForkJoinPool extends AbstractExecutorService {
         WaitQueueNode q;
         while ((q = spareStack) != null) {
             if (casSpareStack(q, q.next)) {
-                if (updateCount)
-                    updateRunningCount(1);
-                q.signal();
-                return true;
+                ForkJoinWorkerThread t = q.claim();
+                if (t != null) { // else discard retired spare
+                    if (updateCount)
+                        updateRunningCount(1);
+                    LockSupport.unpark(t);
+                    return true;
+                }
             }
         }
         return false;
@@ -1558,8 +2214,11 @@ public class ForkJoinPool extends AbstractExecutorService {
         while ( (q = spareStack) != null) {
             if (casSpareStack(q, null)) {
                 do {
-                    updateRunningCount(1);
-                    q.signal();
+                    ForkJoinWorkerThread t = q.claim();
+                    if (t != null) {
+                        updateRunningCount(1);
+                        LockSupport.unpark(t);
+                    }
                 } while ((q = q.next) != null);
                 return true;
             }
@@ -1571,7 +2230,9 @@ public class ForkJoinPool extends AbstractExecutorService {
      * Pop and shutdown excessive spare threads. Call only while
      * holding lock. This is not guaranteed to eliminate all excess
      * threads, only those suspended as spares, which are the ones
-     * unlikely to be needed in the future.
+     * unlikely to be needed in the future. Spares that stay suspended
+     * for spareKeepAliveNanos also retire on their own (see
+     * suspendIfSpare).
      */
     private void trimSpares() {
         int surplus = totalCountOf(workerCounts) - parallelism;
@@ -1579,12 +2240,14 @@ public class ForkJoinPool extends AbstractExecutorService {
         while (surplus > 0 && (q = spareStack) != null) {
             if (casSpareStack(q, null)) {
                 do {
-                    updateRunningCount(1);
-                    ForkJoinWorkerThread w = q.thread;
-                    if (w != null && surplus > 0 &&
-                        runningCountOf(workerCounts) > 0 && w.shutdown())
-                        --surplus;
-                    q.signal();
+                    ForkJoinWorkerThread w = q.claim();
+                    if (w != null) {
+                        updateRunningCount(1);
+                        if (surplus > 0 &&
+                            runningCountOf(workerCounts) > 0 && w.shutdown())
+                            --surplus;
+                        LockSupport.unpark(w);
+                    }
                 } while ((q = q.next) != null);
             }
         }
@@ -1731,6 +2394,7 @@ public class ForkJoinPool extends AbstractExecutorService {
     static final long runControlOffset;
     static final long syncStackOffset;
     static final long spareStackOffset;
+    static final long nodeThreadOffset;
 
     static {
         try {
@@ -1740,6 +2404,8 @@ public class ForkJoinPool extends AbstractExecutorService {
             runControlOffset = fieldOffset("runControl");
             syncStackOffset = fieldOffset("syncStack");
             spareStackOffset = fieldOffset("spareStack");
+            nodeThreadOffset = _unsafe.objectFieldOffset
+                (WaitQueueNode.class.getDeclaredField("thread"));
         } catch (Throwable e) {
             throw new RuntimeException("Could not initialize intrinsics", e);
         }
@@ -0,0 +1,53 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package jsr166y;
+
+/**
+ * The management interface of a {@link ForkJoinPool}, as registered
+ * by {@link ForkJoinPoolMonitor}. Pool-wide counts are obtained as
+ * by the corresponding ForkJoinPool methods; totals of worker
+ * counters are sums over the current workers' {@link
+ * ForkJoinWorkerStats}, so exclude workers that have terminated.
+ */
+public interface ForkJoinPoolMXBean {
+    /** @return the targeted parallelism level of the pool */
+    int getParallelism();
+    /** @return the number of worker threads started but not terminated */
+    int getPoolSize();
+    /** @return an estimate of the number of running worker threads */
+    int getRunningThreadCount();
+    /** @return an estimate of the number of active worker threads */
+    int getActiveThreadCount();
+    /** @return true if all worker threads are idle */
+    boolean isQuiescent();
+    /** @return true if the pool has been shut down */
+    boolean isShutdown();
+    /** @return the total number of steals accumulated by the pool */
+    long getStealCount();
+    /** @return an estimate of the number of tasks in worker queues */
+    long getQueuedTaskCount();
+    /** @return an estimate of the number of queued submissions */
+    int getQueuedSubmissionCount();
+    /** @return the total number of tasks executed by current workers */
+    long getExecutedTaskCount();
+    /** @return the total number of steal attempts by current workers */
+    long getStealAttemptCount();
+    /** @return the total number of steals within locality groups by current workers */
+    long getLocalStealCount();
+    /** @return the total number of empty scans by current workers */
+    long getEmptyScanCount();
+    /** @return the total number of parks by current workers */
+    long getParkCount();
+    /** @return the total number of unparks of current workers */
+    long getUnparkCount();
+    /** @return the total nanoseconds current workers spent idle in sync */
+    long getSyncTimeNanos();
+    /** @return the total number of spare activations by current workers */
+    long getSpareActivationCount();
+    /** @return a snapshot of the counters of each current worker */
+    ForkJoinWorkerStats[] getWorkerStats();
+}
@@ -0,0 +1,159 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package jsr166y;
+import java.lang.management.ManagementFactory;
+import javax.management.*;
+
+/**
+ * A {@link ForkJoinPoolMXBean} reporting on a given {@link
+ * ForkJoinPool}. Pools are not registered with JMX unless requested,
+ * so monitoring costs nothing unless used. Sample usage:
+ * <pre>
+ * ForkJoinPool pool = new ForkJoinPool();
+ * ForkJoinPoolMonitor monitor = new ForkJoinPoolMonitor(pool);
+ * monitor.register();
+ * ...
+ * pool.shutdown();
+ * monitor.unregister();
+ * </pre>
+ * Each call of an attribute getter takes a fresh snapshot of worker
+ * statistics, so cost is proportional to the number of workers.
+ */
+public class ForkJoinPoolMonitor implements ForkJoinPoolMXBean {
+    private final ForkJoinPool pool;
+    private final ObjectName name;
+
+    /**
+     * Creates a monitor for the given pool, named
+     * <code>jsr166y:type=ForkJoinPool,name=ForkJoinPool-</code><em>n</em>,
+     * where <em>n</em> is the number used in the names of the pool's
+     * worker threads.
+     * @param pool the pool
+     * @throws NullPointerException if pool is null
+     */
+    public ForkJoinPoolMonitor(ForkJoinPool pool) {
+        if (pool == null)
+            throw new NullPointerException();
+        this.pool = pool;
+        try {
+            this.name = new ObjectName("jsr166y:type=ForkJoinPool,name=" +
+                                       "ForkJoinPool-" + pool.poolNumber);
+        } catch (MalformedObjectNameException ex) { // cannot happen
+            throw new Error(ex);
+        }
+    }
+
+    /**
+     * Returns the pool this monitor reports on.
+     * @return the pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns the name under which this monitor registers.
+     * @return the object name
+     */
+    public ObjectName getObjectName() {
+        return name;
+    }
+
+    /**
+     * Registers this monitor with the platform MBean server.
+     * @throws IllegalStateException if already registered, or
+     * registration otherwise fails
+     */
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+        } catch (JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Unregisters this monitor from the platform MBean server, if
+     * registered.
+     */
+    public void unregister() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        } catch (JMException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public int getParallelism()           { return pool.getParallelism(); }
+    public int getPoolSize()              { return pool.getPoolSize(); }
+    public int getRunningThreadCount()    { return pool.getRunningThreadCount(); }
+    public int getActiveThreadCount()     { return pool.getActiveThreadCount(); }
+    public boolean isQuiescent()          { return pool.isQuiescent(); }
+    public boolean isShutdown()           { return pool.isShutdown(); }
+    public long getStealCount()           { return pool.getStealCount(); }
+    public long getQueuedTaskCount()      { return pool.getQueuedTaskCount(); }
+    public int getQueuedSubmissionCount() { return pool.getQueuedSubmissionCount(); }
+    public ForkJoinWorkerStats[] getWorkerStats() { return pool.getWorkerStats(); }
+
+    public long getExecutedTaskCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getExecutedTaskCount();
+        return sum;
+    }
+
+    public long getStealAttemptCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getStealAttemptCount();
+        return sum;
+    }
+
+    public long getLocalStealCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getLocalStealCount();
+        return sum;
+    }
+
+    public long getEmptyScanCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getEmptyScanCount();
+        return sum;
+    }
+
+    public long getParkCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getParkCount();
+        return sum;
+    }
+
+    public long getUnparkCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getUnparkCount();
+        return sum;
+    }
+
+    public long getSyncTimeNanos() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getSyncTimeNanos();
+        return sum;
+    }
+
+    public long getSpareActivationCount() {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getSpareActivationCount();
+        return sum;
+    }
+}
@@ -259,7 +259,16 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     private int awaitDone(ForkJoinWorkerThread w, boolean maintainParallelism) {
         ForkJoinPool pool = w == null? null : w.pool;
+        ForkJoinTrace.Buffer tb = w == null? null : w.traceBuffer;
+        long startTime = (tb == null)? 0L : System.nanoTime();
         int s;
+        if (pool != null && maintainParallelism) {
+            // Help rather than block while blocking would need a spare
+            ForkJoinTask<?> t;
+            while (status >= 0 && pool.isCompensationNeeded() &&
+                   (t = w.scanWhileJoining(this)) != null)
+                w.execTask(t);
+        }
         while ((s = status) >= 0) {
             if (casStatus(s, pool == null? s|EXTERNAL_SIGNAL : s+1)) {
                 if (pool == null || !pool.preJoin(this, maintainParallelism))
@@ -269,6 +278,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
                 break;
             }
         }
+        if (tb != null)
+            tb.record(ForkJoinTrace.JOIN, this, startTime,
+                      System.nanoTime() - startTime);
         return s;
     }
 
@@ -278,6 +290,8 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      */
     private int awaitDone(ForkJoinWorkerThread w, long nanos) {
         ForkJoinPool pool = w == null? null : w.pool;
+        ForkJoinTrace.Buffer tb = w == null? null : w.traceBuffer;
+        long traceStart = (tb == null)? 0L : System.nanoTime();
         int s;
         while ((s = status) >= 0) {
             if (casStatus(s, pool == null? s|EXTERNAL_SIGNAL : s+1)) {
@@ -293,6 +307,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
                 break;
             }
         }
+        if (tb != null)
+            tb.record(ForkJoinTrace.JOIN, this, traceStart,
+                      System.nanoTime() - traceStart);
         return s;
     }
 
@@ -463,7 +480,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
         int s;
         ForkJoinTask<?> t;
         while ((s = status) >= 0 && (t = w.scanWhileJoining(this)) != null)
-            t.quietlyExec();
+            w.execTask(t);
         return (s >= 0)? awaitDone(w, false) : s; // block if no work
     }
 
@@ -926,9 +943,9 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
     protected abstract boolean exec();
 
     /**
-     * Returns, but does not unschedule or execute, the task most
-     * recently forked by the current thread but not yet executed, if
-     * one is available. There is no guarantee that this task will
+     * Returns, but does not unschedule or execute, the next task
+     * queued by the current thread but not yet executed, if one is
+     * available (see {@link #pollNextLocalTask}). There is no guarantee that this task will
      * actually be polled or executed next.
      * This method is designed primarily to support extensions,
      * and is unlikely to be useful otherwise.
@@ -943,8 +960,10 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
     }
 
     /**
-     * Unschedules and returns, without executing, the task most
-     * recently forked by the current thread but not yet executed.
+     * Unschedules and returns, without executing, the next task
+     * queued by the current thread but not yet executed: the most
+     * recently forked one, or in pools using async mode, the least
+     * recently forked one.
      * This method is designed primarily to support extensions,
      * and is unlikely to be useful otherwise.
      * This method may be invoked only from within
@@ -954,7 +973,7 @@ public abstract class ForkJoinTask<V> implements Future<V>, Serializable {
      * @return the next task, or null if none are available
      */
     protected static ForkJoinTask<?> pollNextLocalTask() {
-        return ((ForkJoinWorkerThread)(Thread.currentThread())).popTask();
+        return ((ForkJoinWorkerThread)(Thread.currentThread())).pollLocalTask();
     }
 
     /**
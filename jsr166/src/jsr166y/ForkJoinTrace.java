@@ -0,0 +1,292 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package jsr166y;
+
+import java.util.*;
+import java.io.PrintStream;
+
+/**
+ * A record of task scheduling events in a {@link ForkJoinPool},
+ * collected between calls to {@link ForkJoinPool#startTracing} and
+ * {@link ForkJoinPool#stopTracing}. Each worker thread records, in a
+ * ring buffer of its own, the tasks it forks, steals, takes back
+ * before they are stolen, and executes, and the time each of its
+ * joins spends waiting. Submissions are recorded in one more shared
+ * buffer. When a buffer is full, its oldest events are
+ * overwritten, so a trace holds at most the most recent events of
+ * each thread.
+ *
+ * <p>Method {@link #printTimeline} lists all retained events in time
+ * order. Method {@link #queueWaitHistogram} summarizes how long tasks
+ * waited between being forked or submitted and being taken from a
+ * queue (by a thief, by their own forker on joining, or for
+ * execution), and {@link #joinWaitHistogram} how long joins waited
+ * for their tasks to complete. Long queue waits with few steals
+ * suggest that tasks are split more finely than idle workers can
+ * use, while long join waits suggest that they are split too
+ * coarsely to balance load.
+ *
+ * <p>Events are recorded without synchronization by each worker, so
+ * a trace should be examined after the traced computations have
+ * completed; events recorded concurrently with <code>stopTracing</code>
+ * may or may not appear. A trace retains references to the tasks of
+ * its events, so should be discarded once examined.
+ */
+public final class ForkJoinTrace {
+    /** Event kind: a worker pushed a task onto its queue */
+    public static final int FORK    = 0;
+    /** Event kind: a task was submitted to the pool rather than forked */
+    public static final int SUBMIT  = 1;
+    /** Event kind: a worker took a task from another worker's queue */
+    public static final int STEAL   = 2;
+    /** Event kind: a worker took back a task it forked, to run it inline */
+    public static final int UNFORK  = 3;
+    /** Event kind: a worker ran a task it took from a queue */
+    public static final int EXEC    = 4;
+    /** Event kind: a worker waited for a task to complete in a join */
+    public static final int JOIN    = 5;
+
+    private static final String[] KIND_NAMES = {
+        "fork", "submit", "steal", "unfork", "exec", "join"
+    };
+
+    /** Number of histogram buckets; bucket i holds [2^i, 2^(i+1)) ns */
+    private static final int BUCKETS = 40;
+
+    /**
+     * A ring buffer of events, written only by a single thread (or,
+     * for submissions, under its lock).
+     */
+    static final class Buffer {
+        final int source;        // worker pool index, or -1
+        final int mask;
+        final byte[] kinds;
+        final long[] times;
+        final long[] args;
+        final Object[] tasks;
+        long count;              // total events recorded
+
+        Buffer(int source, int capacity) {
+            this.source = source;
+            this.mask = capacity - 1;
+            this.kinds = new byte[capacity];
+            this.times = new long[capacity];
+            this.args = new long[capacity];
+            this.tasks = new Object[capacity];
+        }
+
+        /**
+         * Records an event.
+         * @param kind the event kind
+         * @param task the task
+         * @param time the time of the event, from System.nanoTime
+         * @param arg the victim index for steals, the duration for
+         * execs and joins, otherwise zero
+         */
+        void record(int kind, ForkJoinTask<?> task, long time, long arg) {
+            int i = (int)(count++) & mask;
+            kinds[i] = (byte)kind;
+            times[i] = time;
+            args[i] = arg;
+            tasks[i] = task;
+        }
+    }
+
+    /**
+     * A retained event, as sorted for printing and analysis.
+     */
+    private static final class Event implements Comparable<Event> {
+        final int source;
+        final int kind;
+        final long time;
+        final long arg;
+        final Object task;
+        Event(Buffer b, int i) {
+            source = b.source;
+            kind = b.kinds[i];
+            time = b.times[i];
+            arg = b.args[i];
+            task = b.tasks[i];
+        }
+        public int compareTo(Event e) {
+            return time < e.time? -1 : ((time == e.time)? 0 : 1);
+        }
+    }
+
+    private final int capacity;
+    private final long startTime;
+    private final ArrayList<Buffer> buffers = new ArrayList<Buffer>();
+    private final Buffer submissions;
+
+    /**
+     * Creates a trace with the given buffer capacity, which must be
+     * a power of two.
+     */
+    ForkJoinTrace(int capacity) {
+        this.capacity = capacity;
+        this.startTime = System.nanoTime();
+        this.submissions = newBuffer(-1);
+    }
+
+    /**
+     * Creates and registers a buffer for the worker with the given
+     * pool index. Workers replacing terminated ones get buffers of
+     * their own, so events of terminated workers are retained.
+     */
+    synchronized Buffer newBuffer(int source) {
+        Buffer b = new Buffer(source, capacity);
+        buffers.add(b);
+        return b;
+    }
+
+    /**
+     * Records submission of the given task.
+     */
+    void recordSubmission(ForkJoinTask<?> task) {
+        Buffer b = submissions;
+        synchronized(b) {
+            b.record(SUBMIT, task, System.nanoTime(), 0L);
+        }
+    }
+
+    /**
+     * Returns retained events of all buffers, in time order.
+     */
+    private synchronized List<Event> events() {
+        ArrayList<Event> es = new ArrayList<Event>();
+        for (Buffer b : buffers) {
+            synchronized(b) { // only needed for submissions
+                long n = b.count;
+                long first = Math.max(0L, n - capacity);
+                for (long k = first; k < n; ++k)
+                    es.add(new Event(b, (int)k & b.mask));
+            }
+        }
+        Collections.sort(es);
+        return es;
+    }
+
+    /**
+     * Returns the number of events that were overwritten because
+     * their buffer was full, and so are not included in this trace.
+     * @return the number of lost events
+     */
+    public synchronized long getDroppedEventCount() {
+        long d = 0;
+        for (Buffer b : buffers)
+            d += Math.max(0L, b.count - capacity);
+        return d;
+    }
+
+    /**
+     * Prints all retained events in time order, one per line: the
+     * time in microseconds since tracing started, the worker pool
+     * index (or "ext" for submissions), the event kind, the
+     * task class and identity hash code, and for steals the index of
+     * the victim worker, or for execs and joins their duration in
+     * microseconds.
+     * @param out the stream to print to
+     */
+    public void printTimeline(PrintStream out) {
+        for (Event e : events()) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("%12.3f ", (e.time - startTime) / 1000.0));
+            sb.append((e.source < 0)? "ext" : ("w" + e.source));
+            sb.append(' ').append(KIND_NAMES[e.kind]).append(' ');
+            if (e.task != null)
+                sb.append(e.task.getClass().getName()).append('@').
+                    append(Integer.toHexString(System.identityHashCode(e.task)));
+            if (e.kind == STEAL)
+                sb.append(" from w").append(e.arg);
+            else if (e.kind == EXEC || e.kind == JOIN)
+                sb.append(String.format(" %.3fus", e.arg / 1000.0));
+            out.println(sb);
+        }
+    }
+
+    /**
+     * Returns a histogram of queue waits: the times from each
+     * retained fork or submission of a task to the first later
+     * steal, unfork, or exec of the same task. Element i of the
+     * returned array counts waits of at least 2<sup>i</sup> and less
+     * than 2<sup>i+1</sup> nanoseconds (with element 0 also counting
+     * waits under one nanosecond). Tasks whose fork event was
+     * overwritten, or that were never taken while traced, are not
+     * counted.
+     * @return the histogram
+     */
+    public long[] queueWaitHistogram() {
+        long[] h = new long[BUCKETS];
+        IdentityHashMap<Object, Long> queued =
+            new IdentityHashMap<Object, Long>();
+        for (Event e : events()) {
+            if (e.kind == FORK || e.kind == SUBMIT)
+                queued.put(e.task, Long.valueOf(e.time));
+            else if (e.kind != JOIN) {
+                Long t = queued.remove(e.task);
+                if (t != null)
+                    ++h[bucketFor(e.time - t.longValue())];
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Returns a histogram, with the same buckets as
+     * <code>queueWaitHistogram</code>, of the time retained joins
+     * spent waiting for their tasks to complete, including time
+     * spent helping by running other tasks.
+     * @return the histogram
+     */
+    public long[] joinWaitHistogram() {
+        long[] h = new long[BUCKETS];
+        for (Event e : events())
+            if (e.kind == JOIN)
+                ++h[bucketFor(e.arg)];
+        return h;
+    }
+
+    /**
+     * Prints the queue wait and join wait histograms, one line per
+     * nonempty bucket, showing its lower bound and count.
+     * @param out the stream to print to
+     */
+    public void printHistograms(PrintStream out) {
+        printHistogram(out, "queue wait", queueWaitHistogram());
+        printHistogram(out, "join wait", joinWaitHistogram());
+    }
+
+    private static void printHistogram(PrintStream out, String title,
+                                       long[] h) {
+        long total = 0;
+        for (long c : h)
+            total += c;
+        out.println(title + " (" + total + " samples):");
+        for (int i = 0; i < h.length; ++i) {
+            if (h[i] != 0)
+                out.printf("  >= %12dns %10d\n", 1L << i, h[i]);
+        }
+    }
+
+    private static int bucketFor(long nanos) {
+        int b = (nanos <= 0)? 0 : 63 - Long.numberOfLeadingZeros(nanos);
+        return (b < BUCKETS)? b : BUCKETS - 1;
+    }
+
+    /**
+     * Returns a string summarizing this trace.
+     * @return a string identifying this trace and its event counts
+     */
+    public synchronized String toString() {
+        long n = 0;
+        for (Buffer b : buffers)
+            n += b.count;
+        return super.toString() + "[buffers = " + buffers.size() +
+            ", events = " + n + ", dropped = " + getDroppedEventCount() +
+            "]";
+    }
+}
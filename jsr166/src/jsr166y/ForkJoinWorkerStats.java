@@ -0,0 +1,159 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+package jsr166y;
+
+/**
+ * A snapshot of the activity counters of one {@link
+ * ForkJoinWorkerThread}, as returned by {@link
+ * ForkJoinPool#getWorkerStats}. Counters accumulate over the life of
+ * the worker. They are maintained by each worker without
+ * synchronization and read without stopping it, so values are only
+ * estimates, and different counters of one snapshot may reflect
+ * slightly different moments. Comparing snapshots across the workers
+ * of a pool, or over time, helps reveal load imbalance: for example
+ * workers with many empty scans and parks but few executions are
+ * starved, while high steal attempt to steal ratios indicate
+ * contention.
+ */
+public final class ForkJoinWorkerStats implements java.io.Serializable {
+    private final String name;
+    private final int poolIndex;
+    private final int queuedTaskCount;
+    private final long executedTaskCount;
+    private final long stealAttemptCount;
+    private final long stealCount;
+    private final long localStealCount;
+    private final long emptyScanCount;
+    private final long parkCount;
+    private final long unparkCount;
+    private final long syncTimeNanos;
+    private final long spareActivationCount;
+
+    /**
+     * Reads the current counters of the given worker.
+     */
+    ForkJoinWorkerStats(ForkJoinWorkerThread w) {
+        this.name = w.getName();
+        this.poolIndex = w.poolIndex;
+        this.queuedTaskCount = w.getQueueSize();
+        this.executedTaskCount = w.execCount;
+        this.stealAttemptCount = w.stealAttemptCount;
+        this.stealCount = w.totalStealCount;
+        this.localStealCount = w.localStealCount;
+        this.emptyScanCount = w.emptyScanCount;
+        this.parkCount = w.parkCount;
+        this.unparkCount = w.unparkCount;
+        this.syncTimeNanos = w.syncNanos;
+        this.spareActivationCount = w.spareActivationCount;
+    }
+
+    /**
+     * Returns the name of the worker thread.
+     * @return the thread name
+     */
+    public String getName() { return name; }
+
+    /**
+     * Returns the index of the worker in its pool.
+     * @return the pool index
+     */
+    public int getPoolIndex() { return poolIndex; }
+
+    /**
+     * Returns the number of tasks that were held in the worker's
+     * queue.
+     * @return the number of queued tasks
+     */
+    public int getQueuedTaskCount() { return queuedTaskCount; }
+
+    /**
+     * Returns the number of tasks the worker took from its own
+     * queue, from other workers, or from pool submissions, and
+     * executed. Tasks run directly by the worker that forked them,
+     * when joining them before they were stolen, are not counted.
+     * @return the number of executed tasks
+     */
+    public long getExecutedTaskCount() { return executedTaskCount; }
+
+    /**
+     * Returns the number of times the worker tried to take a task
+     * from a non-empty queue of another worker.
+     * @return the number of steal attempts
+     */
+    public long getStealAttemptCount() { return stealAttemptCount; }
+
+    /**
+     * Returns the number of tasks the worker stole from other
+     * workers.
+     * @return the number of steals
+     */
+    public long getStealCount() { return stealCount; }
+
+    /**
+     * Returns the number of tasks the worker stole from other
+     * workers in its own locality group, which is always zero in
+     * pools without a {@link ForkJoinPool.LocalityPolicy}.
+     * @return the number of local steals
+     */
+    public long getLocalStealCount() { return localStealCount; }
+
+    /**
+     * Returns the number of times the worker scanned the other
+     * workers for a task to steal without obtaining one.
+     * @return the number of empty scans
+     */
+    public long getEmptyScanCount() { return emptyScanCount; }
+
+    /**
+     * Returns the number of times the worker parked while waiting
+     * for work or while suspended as a spare.
+     * @return the number of parks
+     */
+    public long getParkCount() { return parkCount; }
+
+    /**
+     * Returns the number of times the worker was released from
+     * parking by another thread.
+     * @return the number of unparks
+     */
+    public long getUnparkCount() { return unparkCount; }
+
+    /**
+     * Returns the total time the worker spent idle, waiting for
+     * pool events.
+     * @return the time in sync, in nanoseconds
+     */
+    public long getSyncTimeNanos() { return syncTimeNanos; }
+
+    /**
+     * Returns the number of spare workers that were created or
+     * resumed to maintain parallelism while this worker was blocked
+     * joining a task or in a managed block.
+     * @return the number of spare activations
+     */
+    public long getSpareActivationCount() { return spareActivationCount; }
+
+    /**
+     * Returns a string identifying the worker and its counts.
+     * @return a string describing this snapshot
+     */
+    public String toString() {
+        return name +
+            "[queued = " + queuedTaskCount +
+            ", executed = " + executedTaskCount +
+            ", steals = " + stealCount + "/" + stealAttemptCount +
+            ", local steals = " + localStealCount +
+            ", empty scans = " + emptyScanCount +
+            ", parks = " + parkCount +
+            ", unparks = " + unparkCount +
+            ", sync ms = " + syncTimeNanos / 1000000 +
+            ", spares = " + spareActivationCount +
+            "]";
+    }
+
+    private static final long serialVersionUID = 4302919838207375117L;
+}
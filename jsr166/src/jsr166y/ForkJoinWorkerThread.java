@@ -124,9 +124,13 @@ public class ForkJoinWorkerThread extends Thread {
     /**
      * Capacity of work-stealing queue array upon initialization.
      * Must be a power of two. Initial size must be at least 2, but is
-     * padded to minimize cache effects.
+     * padded to minimize cache effects. It is kept small (a few cache
+     * lines of references per worker) since typical divide-and-conquer
+     * computations leave only O(log n) tasks in any one queue, and
+     * growQueue covers the rest; larger arrays are released again
+     * when the worker goes idle (see trimQueue).
      */
-    private static final int INITIAL_QUEUE_CAPACITY = 1 << 13;
+    private static final int INITIAL_QUEUE_CAPACITY = 1 << 8;
 
     /**
      * Maximum work-stealing queue array size.  Must be less than or
@@ -143,7 +147,10 @@ public class ForkJoinWorkerThread extends Thread {
 
     /**
      * The work-stealing queue array. Size must be a power of two.
-     * Initialized when thread starts, to improve memory locality.
+     * Allocated by this thread on its first push, to improve memory
+     * locality and so that workers that never fork carry no array,
+     * and nulled out by trimQueue when idle after growing. Null only
+     * when the queue is empty.
      */
     private ForkJoinTask<?>[] queue;
 
@@ -181,11 +188,63 @@ public class ForkJoinWorkerThread extends Thread {
      */
     private int seed;
 
+    /**
+     * True if local tasks are taken FIFO from base rather than LIFO
+     * from sp. Copied from pool when thread starts.
+     */
+    private boolean locallyFifo;
+
+    /**
+     * Locality group of this worker under pool.localityPolicy, or -1
+     * if the pool has none. Set when thread starts.
+     */
+    private int localityGroup;
+
+    /**
+     * Pool indices of the other workers in this worker's locality
+     * group, within a workers array of length localPeersLength.
+     * Recomputed lazily in scan when the workers array is resized.
+     */
+    private int[] localPeers;
+    private int localPeersLength;
+
     /**
      * Number of steals, transferred to pool when idle
      */
     private int stealCount;
 
+    /*
+     * Statistics counters. These are written only by this thread,
+     * without synchronization, and read by other threads only to
+     * construct ForkJoinWorkerStats snapshots, so reported values are
+     * only estimates. Unlike stealCount, they are never cleared.
+     */
+
+    /** Number of tasks taken from a queue and run by this thread */
+    long execCount;
+    /** Number of attempts to take a task from another worker */
+    long stealAttemptCount;
+    /** Number of tasks successfully taken from another worker */
+    long totalStealCount;
+    /** Number of steals from workers in this worker's locality group */
+    long localStealCount;
+    /** Number of scans of other workers that found no task */
+    long emptyScanCount;
+    /** Number of times parked waiting for work or as a spare */
+    long parkCount;
+    /** Number of times released from parking by another thread */
+    long unparkCount;
+    /** Total time, in nanoseconds, spent in pool.sync */
+    long syncNanos;
+    /** Number of spares added or resumed while this thread joined */
+    long spareActivationCount;
+
+    /**
+     * The buffer recording this worker's events while the pool is
+     * tracing, else null. Set by pool, read only by this thread.
+     */
+    ForkJoinTrace.Buffer traceBuffer;
+
     /**
      * Index of this worker in pool array. Set once by pool before
      * running, and accessed directly by pool during cleanup etc
@@ -198,6 +257,14 @@ public class ForkJoinWorkerThread extends Thread {
      */
     long lastEventCount;
 
+    /**
+     * If nonzero, the time (in System.nanoTime units) at which this
+     * worker, idle since it last ran a task in mainLoop, may
+     * terminate if the pool has an idle keep-alive time. Accessed in
+     * pool.sync, but only by current thread.
+     */
+    long idleDeadline;
+
     /**
      * Creates a ForkJoinWorkerThread operating in the given pool.
      * @param pool the pool this thread works in
@@ -323,10 +390,15 @@ public class ForkJoinWorkerThread extends Thread {
     private void mainLoop() {
         while (!isShutdown()) {
             ForkJoinTask<?> t = pollTask();
-            if (t != null || (t = pollSubmission()) != null)
-                t.quietlyExec();
-            else if (tryInactivate())
+            if (t != null || (t = pollSubmission()) != null) {
+                ++execCount;
+                idleDeadline = 0;
+                execTask(t);
+            }
+            else if (tryInactivate()) {
+                trimQueue();
                 pool.sync(this);
+            }
         }
     }
 
@@ -340,9 +412,9 @@ public class ForkJoinWorkerThread extends Thread {
      * processing tasks.
      */
     protected void onStart() {
-        // Allocate while starting to improve chances of thread-local
-        // isolation
-        queue = new ForkJoinTask<?>[INITIAL_QUEUE_CAPACITY];
+        locallyFifo = pool.locallyFifo;
+        ForkJoinPool.LocalityPolicy lp = pool.localityPolicy;
+        localityGroup = (lp == null)? -1 : lp.groupOf(poolIndex);
         // Initial value of seed need not be especially random but
         // should differ across workers and must be nonzero
         int p = poolIndex + 1;
@@ -361,9 +433,11 @@ public class ForkJoinWorkerThread extends Thread {
         // Execute remaining local tasks unless aborting or terminating
         while (exception == null &&  !pool.isTerminating() && base != sp) {
             try {
-                ForkJoinTask<?> t = popTask();
-                if (t != null)
-                    t.quietlyExec();
+                ForkJoinTask<?> t = pollLocalTask();
+                if (t != null) {
+                    ++execCount;
+                    execTask(t);
+                }
             } catch(Throwable ex) {
                 exception = ex;
             }
@@ -419,8 +493,13 @@ public class ForkJoinWorkerThread extends Thread {
      */
     final void pushTask(ForkJoinTask<?> t) {
         ForkJoinTask<?>[] q = queue;
+        if (q == null) // allocate lazily; published by storeSp
+            queue = q = new ForkJoinTask<?>[INITIAL_QUEUE_CAPACITY];
         int mask = q.length - 1;
         int s = sp;
+        ForkJoinTrace.Buffer tb = traceBuffer;
+        if (tb != null)
+            tb.record(ForkJoinTrace.FORK, t, System.nanoTime(), 0L);
         setSlot(q, s & mask, t);
         storeSp(++s);
         if ((s -= base) == 1)
@@ -470,6 +549,37 @@ public class ForkJoinWorkerThread extends Thread {
         return null;
     }
 
+    /**
+     * Returns a task taken from the base of the queue, or null if
+     * empty. Unlike deqTask, retries on contention, since the owner
+     * cannot be locked out by thieves for long. Ensures active status
+     * if nonnull. Called only by current thread.
+     */
+    final ForkJoinTask<?> locallyDeqTask() {
+        int b;
+        while (sp != (b = base)) {
+            if (tryActivate()) {
+                ForkJoinTask<?>[] q = queue;
+                int i = (q.length - 1) & b;
+                ForkJoinTask<?> t = q[i];
+                if (t != null && casSlotNull(q, i, t)) {
+                    base = b + 1;
+                    return t;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the next local task, taken according to the pool's
+     * scheduling mode, or null if empty. Called only by current
+     * thread.
+     */
+    final ForkJoinTask<?> pollLocalTask() {
+        return locallyFifo? locallyDeqTask() : popTask();
+    }
+
     /**
      * Specialized version of popTask to pop only if
      * topmost element is the given task. Called only
@@ -478,21 +588,29 @@ public class ForkJoinWorkerThread extends Thread {
      */
     final boolean unpushTask(ForkJoinTask<?> t) {
         ForkJoinTask<?>[] q = queue;
+        if (q == null)
+            return false;
         int mask = q.length - 1;
         int s = sp - 1;
         if (casSlotNull(q, s & mask, t)) {
             storeSp(s);
+            ForkJoinTrace.Buffer tb = traceBuffer;
+            if (tb != null)
+                tb.record(ForkJoinTrace.UNFORK, t, System.nanoTime(), 0L);
             return true;
         }
         return false;
     }
 
     /**
-     * Returns next task to pop.
+     * Returns next local task to be taken by pollLocalTask.
      */
     final ForkJoinTask<?> peekTask() {
         ForkJoinTask<?>[] q = queue;
-        return q == null? null : q[(sp - 1) & (q.length - 1)];
+        if (q == null)
+            return null;
+        int i = locallyFifo? base : (sp - 1);
+        return q[i & (q.length - 1)];
     }
 
     /**
@@ -522,6 +640,20 @@ public class ForkJoinWorkerThread extends Thread {
         pool.signalWork();
     }
 
+    /**
+     * Releases the queue array if it is empty and has grown past its
+     * initial capacity, so that one burst of forks does not pin a
+     * large array for the rest of the worker's life. pushTask
+     * allocates a fresh array when next needed. Thieves that read
+     * the old array or a null one just fail to take a task, as they
+     * would on any empty queue. Called only by current thread.
+     */
+    private void trimQueue() {
+        ForkJoinTask<?>[] q = queue;
+        if (q != null && q.length > INITIAL_QUEUE_CAPACITY && sp == base)
+            queue = null;
+    }
+
     /**
      * Tries to steal a task from another worker. Starts at a random
      * index of workers array, and probes workers until finding one
@@ -531,6 +663,8 @@ public class ForkJoinWorkerThread extends Thread {
      * accurately set active status by caller. Also restarts if pool
      * events occurred since last scan, which forces refresh of
      * workers array, in case barrier was associated with resize.
+     * After stealing from a queue that still holds tasks, it wakes
+     * one more idle worker (if any) to help drain it.
      *
      * This method must be both fast and quiet -- usually avoiding
      * memory accesses that could disrupt cache sharing etc other than
@@ -538,6 +672,11 @@ public class ForkJoinWorkerThread extends Thread {
      * among other things, updating random seed in place without
      * storing it until exit.
      *
+     * If the pool has a locality policy, the random probes are
+     * preceded by one circular traversal, from a random start, of the
+     * other workers in this worker's group, so that steals stay
+     * within the group whenever it has work.
+     *
      * @return a task, or null if none found
      */
     private ForkJoinTask<?> scan() {
@@ -547,6 +686,29 @@ public class ForkJoinWorkerThread extends Thread {
         int mask;                        // must be power 2 minus 1 and > 0
         outer:do {
             if ((ws = pool.workers) != null && (mask = ws.length - 1) > 0) {
+                int[] peers = (localityGroup < 0)? null : localPeers(ws.length);
+                int n;
+                if (peers != null && (n = peers.length) > 0) {
+                    r = xorShift(r);
+                    int start = (r >>> 1) % n;
+                    for (int j = 0; j < n; ++j) {
+                        int k = start + j;
+                        ForkJoinWorkerThread v = ws[peers[k < n? k : k - n]];
+                        if (v != null && v.sp != v.base) {
+                            if (!tryActivate())
+                                continue outer;
+                            ++stealAttemptCount;
+                            if ((t = v.deqTask()) == null)
+                                continue outer; // restart on contention
+                            ++localStealCount;
+                            if (traceBuffer != null)
+                                traceSteal(t, v);
+                            if (v.sp != v.base)
+                                pool.signalWork(); // more to take
+                            break outer;
+                        }
+                    }
+                }
                 int idx = r;
                 int probes = ~mask;      // use random index while negative
                 for (;;) {
@@ -558,25 +720,85 @@ public class ForkJoinWorkerThread extends Thread {
                         else
                             break;
                     }
-                    else if (!tryActivate() || (t = v.deqTask()) == null)
-                        continue outer;  // restart on contention
-                    else
+                    else if (!tryActivate())
+                        continue outer;
+                    else {
+                        ++stealAttemptCount;
+                        if ((t = v.deqTask()) == null)
+                            continue outer;  // restart on contention
+                        if (traceBuffer != null)
+                            traceSteal(t, v);
+                        if (v.sp != v.base)
+                            pool.signalWork(); // more to take
                         break outer;
+                    }
                 }
             }
         } while (pool.hasNewSyncEvent(this)); // retry on pool events
         seed = r;
+        if (t == null)
+            ++emptyScanCount;
         return t;
     }
 
     /**
-     * Pops or steals a task
+     * Records the steal of task t from victim v.
+     */
+    private void traceSteal(ForkJoinTask<?> t, ForkJoinWorkerThread v) {
+        ForkJoinTrace.Buffer tb = traceBuffer;
+        if (tb != null)
+            tb.record(ForkJoinTrace.STEAL, t, System.nanoTime(), v.poolIndex);
+    }
+
+    /**
+     * Runs a task taken from a queue, recording it if tracing.
+     * Called only by current thread.
+     */
+    final void execTask(ForkJoinTask<?> t) {
+        ForkJoinTrace.Buffer tb = traceBuffer;
+        if (tb == null)
+            t.quietlyExec();
+        else {
+            long start = System.nanoTime();
+            t.quietlyExec();
+            tb.record(ForkJoinTrace.EXEC, t, start, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns the indices, less than len, of the other workers in
+     * this worker's locality group, recomputing them if len differs
+     * from that of the last call.
+     */
+    private int[] localPeers(int len) {
+        int[] peers = localPeers;
+        if (peers == null || localPeersLength != len) {
+            ForkJoinPool.LocalityPolicy lp = pool.localityPolicy;
+            int g = localityGroup;
+            int n = 0;
+            int[] ps = new int[len];
+            for (int i = 0; i < len; ++i) {
+                if (i != poolIndex && lp.groupOf(i) == g)
+                    ps[n++] = i;
+            }
+            peers = new int[n];
+            System.arraycopy(ps, 0, peers, 0, n);
+            localPeers = peers;
+            localPeersLength = len;
+        }
+        return peers;
+    }
+
+    /**
+     * Takes a local task or steals one
      * @return a task, if available
      */
     final ForkJoinTask<?> pollTask() {
-        ForkJoinTask<?> t = popTask();
-        if (t == null && (t = scan()) != null)
+        ForkJoinTask<?> t = pollLocalTask();
+        if (t == null && (t = scan()) != null) {
             ++stealCount;
+            ++totalStealCount;
+        }
         return t;
     }
 
@@ -588,8 +810,11 @@ public class ForkJoinWorkerThread extends Thread {
         ForkJoinPool p = pool;
         while (p.hasQueuedSubmissions()) {
             ForkJoinTask<?> t;
-            if (tryActivate() && (t = p.pollSubmission()) != null)
+            if (tryActivate() && (t = p.pollSubmission(poolIndex)) != null) {
+                if (p.hasQueuedSubmissions())
+                    p.signalWork(); // more to take
                 return t;
+            }
         }
         return null;
     }
@@ -663,6 +888,8 @@ public class ForkJoinWorkerThread extends Thread {
             pushTask(t); // unsteal if done and this task would be stealable
             t = null;
         }
+        if (t != null)
+            ++execCount;
         return t;
     }
 
@@ -672,8 +899,10 @@ public class ForkJoinWorkerThread extends Thread {
     final void helpQuiescePool() {
         for (;;) {
             ForkJoinTask<?> t = pollTask();
-            if (t != null)
-                t.quietlyExec();
+            if (t != null) {
+                ++execCount;
+                execTask(t);
+            }
             else if (tryInactivate() && pool.isQuiescent())
                 break;
         }
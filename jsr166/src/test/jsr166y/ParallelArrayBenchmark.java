@@ -0,0 +1,202 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+/**
+ * Times the main ParallelArray, ParallelLongArray and
+ * ParallelDoubleArray operations across array sizes and pool sizes,
+ * reporting the min and median of several timed runs after warmup.
+ * Usage: ParallelArrayBenchmark [maxSize [warmups [runs]]]
+ * Sizes go from 1K up by factors of 10 to maxSize (default 10M);
+ * pool sizes go from 1 up by doubling to NCPU.
+ */
+public class ParallelArrayBenchmark {
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws Exception {
+        int maxSize = (args.length > 0) ? Integer.parseInt(args[0]) : 10000000;
+        int warmups = (args.length > 1) ? Integer.parseInt(args[1]) : 5;
+        int runs = (args.length > 2) ? Integer.parseInt(args[2]) : 10;
+        System.out.printf("%-8s %-28s %10s %5s %12s %12s\n",
+                          "type", "op", "size", "pool", "min(us)", "median(us)");
+        for (int n = 1000; n <= maxSize; n *= 10) {
+            for (int p = 1; p <= NCPU; p <<= 1) {
+                ForkJoinPool fjp = new ForkJoinPool(p);
+                for (Bench b : objectBenches(fjp, n))
+                    b.report("Long", n, p, warmups, runs);
+                for (Bench b : longBenches(fjp, n))
+                    b.report("long", n, p, warmups, runs);
+                for (Bench b : doubleBenches(fjp, n))
+                    b.report("double", n, p, warmups, runs);
+                fjp.shutdown();
+            }
+        }
+    }
+
+    /**
+     * A timed operation. setUp is called before each run, untimed,
+     * to restore any state that the previous run changed.
+     */
+    static abstract class Bench {
+        final String name;
+        Bench(String name) { this.name = name; }
+        void setUp() {}
+        abstract void run();
+
+        final void report(String type, int n, int p, int warmups, int runs) {
+            for (int i = 0; i < warmups; ++i) {
+                setUp();
+                run();
+            }
+            long[] times = new long[runs];
+            for (int i = 0; i < runs; ++i) {
+                setUp();
+                long start = System.nanoTime();
+                run();
+                times[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(times);
+            System.out.printf("%-8s %-28s %10d %5d %12.1f %12.1f\n",
+                              type, name, n, p,
+                              times[0] / 1000.0, times[runs / 2] / 1000.0);
+        }
+    }
+
+    // Ops used across element types
+
+    static final Procedure<Long> sink = new Procedure<Long>() {
+            public void op(Long x) { if (x == Long.MIN_VALUE) throw new Error(); }
+        };
+    static final Reducer<Long> sum = new Reducer<Long>() {
+            public Long op(Long a, Long b) { return a + b; }
+        };
+    static final Op<Long,Long> square = new Op<Long,Long>() {
+            public Long op(Long a) { return a * a; }
+        };
+    static final Predicate<Long> isEven = new Predicate<Long>() {
+            public boolean op(Long a) { return (a & 1) == 0; }
+        };
+    static final Comparator<Long> natural = new Comparator<Long>() {
+            public int compare(Long a, Long b) { return a.compareTo(b); }
+        };
+
+    static final LongProcedure lsink = new LongProcedure() {
+            public void op(long x) { if (x == Long.MIN_VALUE) throw new Error(); }
+        };
+    static final LongOp lsquare = new LongOp() {
+            public long op(long a) { return a * a; }
+        };
+    static final LongPredicate lisEven = new LongPredicate() {
+            public boolean op(long a) { return (a & 1) == 0; }
+        };
+
+    static final DoubleProcedure dsink = new DoubleProcedure() {
+            public void op(double x) { if (x != x) throw new Error(); }
+        };
+    static final DoubleOp dsquare = new DoubleOp() {
+            public double op(double a) { return a * a; }
+        };
+    static final DoublePredicate disPositive = new DoublePredicate() {
+            public boolean op(double a) { return a > 0; }
+        };
+
+    static List<Bench> objectBenches(final ForkJoinPool fjp, final int n) {
+        final Long[] source = new Long[n];
+        Random rng = new Random(n);
+        for (int i = 0; i < n; ++i)
+            source[i] = Long.valueOf(rng.nextInt(n));
+        final ParallelArray<Long> pa = ParallelArray.createFromCopy(source, fjp);
+        List<Bench> benches = new ArrayList<Bench>();
+        benches.add(new Bench("apply") {
+                void run() { pa.apply(sink); }});
+        benches.add(new Bench("reduce") {
+                void run() { pa.reduce(sum, 0L); }});
+        benches.add(new Bench("map") {
+                void run() { pa.withMapping(square).all(); }});
+        benches.add(new Bench("filter") {
+                void run() { pa.withFilter(isEven).all(); }});
+        benches.add(new Bench("sort") {
+                ParallelArray<Long> a;
+                void setUp() { a = ParallelArray.createFromCopy(source, fjp); }
+                void run() { a.sort(natural); }});
+        benches.add(new Bench("cumulate") {
+                ParallelArray<Long> a;
+                void setUp() { a = ParallelArray.createFromCopy(source, fjp); }
+                void run() { a.cumulate(sum, 0L); }});
+        benches.add(new Bench("removeConsecutiveDuplicates") {
+                final Long[] sorted = pa.all().sort(natural).getArray();
+                ParallelArray<Long> a;
+                void setUp() { a = ParallelArray.createFromCopy(sorted, fjp); }
+                void run() { a.removeConsecutiveDuplicates(); }});
+        return benches;
+    }
+
+    static List<Bench> longBenches(final ForkJoinPool fjp, final int n) {
+        final long[] source = new long[n];
+        Random rng = new Random(n);
+        for (int i = 0; i < n; ++i)
+            source[i] = rng.nextInt(n);
+        final ParallelLongArray pa = ParallelLongArray.createFromCopy(source, fjp);
+        List<Bench> benches = new ArrayList<Bench>();
+        benches.add(new Bench("apply") {
+                void run() { pa.apply(lsink); }});
+        benches.add(new Bench("reduce") {
+                void run() { pa.sum(); }});
+        benches.add(new Bench("map") {
+                void run() { pa.withMapping(lsquare).all(); }});
+        benches.add(new Bench("filter") {
+                void run() { pa.withFilter(lisEven).all(); }});
+        benches.add(new Bench("sort") {
+                ParallelLongArray a;
+                void setUp() { a = ParallelLongArray.createFromCopy(source, fjp); }
+                void run() { a.sort(); }});
+        benches.add(new Bench("cumulate") {
+                ParallelLongArray a;
+                void setUp() { a = ParallelLongArray.createFromCopy(source, fjp); }
+                void run() { a.cumulateSum(); }});
+        benches.add(new Bench("removeConsecutiveDuplicates") {
+                final long[] sorted = pa.all().sort().getArray();
+                ParallelLongArray a;
+                void setUp() { a = ParallelLongArray.createFromCopy(sorted, fjp); }
+                void run() { a.removeConsecutiveDuplicates(); }});
+        return benches;
+    }
+
+    static List<Bench> doubleBenches(final ForkJoinPool fjp, final int n) {
+        final double[] source = new double[n];
+        Random rng = new Random(n);
+        for (int i = 0; i < n; ++i)
+            source[i] = rng.nextGaussian();
+        final ParallelDoubleArray pa = ParallelDoubleArray.createFromCopy(source, fjp);
+        List<Bench> benches = new ArrayList<Bench>();
+        benches.add(new Bench("apply") {
+                void run() { pa.apply(dsink); }});
+        benches.add(new Bench("reduce") {
+                void run() { pa.sum(); }});
+        benches.add(new Bench("map") {
+                void run() { pa.withMapping(dsquare).all(); }});
+        benches.add(new Bench("filter") {
+                void run() { pa.withFilter(disPositive).all(); }});
+        benches.add(new Bench("sort") {
+                ParallelDoubleArray a;
+                void setUp() { a = ParallelDoubleArray.createFromCopy(source, fjp); }
+                void run() { a.sort(); }});
+        benches.add(new Bench("cumulate") {
+                ParallelDoubleArray a;
+                void setUp() { a = ParallelDoubleArray.createFromCopy(source, fjp); }
+                void run() { a.cumulateSum(); }});
+        benches.add(new Bench("removeConsecutiveDuplicates") {
+                final double[] sorted = pa.all().sort().getArray();
+                ParallelDoubleArray a;
+                void setUp() { a = ParallelDoubleArray.createFromCopy(sorted, fjp); }
+                void run() { a.removeConsecutiveDuplicates(); }});
+        return benches;
+    }
+}
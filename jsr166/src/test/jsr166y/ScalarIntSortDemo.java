@@ -0,0 +1,58 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import jsr166y.*;
+import extra166y.*;
+import java.util.*;
+
+class ScalarIntSortDemo {
+    static final long NPS = (1000L * 1000 * 1000);
+
+    public static void main (String[] args) throws Exception {
+        int n = 1 << 20;
+        int sreps = 4;
+        int reps = 10;
+        System.out.printf("Sorting %d ints, %d replications\n", n, sreps);
+        int[] a = new int[n];
+        ForkJoinPool fjpool = new ForkJoinPool();
+        ParallelIntArray pa = ParallelIntArray.createUsingHandoff(a, fjpool);
+        int max = 1234567890;
+
+        for (int i = 0; i < sreps; ++i) {
+            pa.replaceWithGeneratedValue(CommonOps.intRandom(max++));
+            long last = System.nanoTime();
+            java.util.Arrays.sort(a);
+            double elapsed = (double)(System.nanoTime() - last) / NPS;
+            System.out.printf("java.util.Arrays.sort time:  %7.3f\n", elapsed);
+            if (i == 0)
+                checkSorted(a);
+        }
+
+        System.out.printf("Sorting %d ints, %d replications\n", n, reps);
+        for (int i = 0; i < reps; ++i) {
+            pa.replaceWithGeneratedValue(CommonOps.intRandom(max++));
+            long last = System.nanoTime();
+            pa.sort();
+            double elapsed = (double)(System.nanoTime() - last) / NPS;
+            System.out.printf("ParallelIntArray.sort time:  %7.3f\n", elapsed);
+            if (i == 0)
+                checkSorted(a);
+        }
+
+        fjpool.shutdown();
+    }
+
+    static void checkSorted (int[] a)  {
+        int n = a.length;
+        for (int i = 0; i < n - 1; i++) {
+            if (a[i] > a[i+1]) {
+                throw new Error("Unsorted at " + i + ": " + a[i] + " / " + a[i+1]);
+            }
+        }
+    }
+
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import jsr166y.*;
+import extra166y.*;
+import java.util.*;
+
+/**
+ * Traces a ParallelLongArray sort and sum, printing queue wait and
+ * join wait histograms, and optionally the event timeline.
+ * Usage: TraceDemo [size [eventsPerWorker [timeline]]]
+ */
+class TraceDemo {
+
+    public static void main(String[] args) throws Exception {
+        int n = (args.length > 0) ? Integer.parseInt(args[0]) : 1 << 20;
+        int events = (args.length > 1) ? Integer.parseInt(args[1]) : 1 << 16;
+        boolean timeline = args.length > 2;
+        ForkJoinPool fjp = new ForkJoinPool();
+        long[] a = new long[n];
+        Random rng = new Random();
+        for (int i = 0; i < n; ++i)
+            a[i] = rng.nextLong();
+        ParallelLongArray pa = ParallelLongArray.createFromCopy(a, fjp);
+        pa.sort(); // warm up
+        pa.replaceWithGeneratedValue(CommonOps.longRandom());
+
+        fjp.startTracing(events);
+        pa.sort();
+        pa.sum();
+        ForkJoinTrace trace = fjp.stopTracing();
+        fjp.shutdown();
+
+        System.out.println("Sorted and summed " + n + " longs with " +
+                           fjp.getParallelism() + " workers: " + trace);
+        if (timeline)
+            trace.printTimeline(System.out);
+        trace.printHistograms(System.out);
+    }
+}
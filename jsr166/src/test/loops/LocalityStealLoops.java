@@ -0,0 +1,98 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import jsr166y.*;
+import java.util.*;
+
+/**
+ * Compares steal locality and time of a memory-bound recursive sweep
+ * in pools with and without a LocalityPolicy. The array is first
+ * written by the pool itself, so that on NUMA machines its pages are
+ * placed by first touch near the workers that will later sweep it;
+ * steals that cross groups then drag chunks across the interconnect.
+ * Reports, per pass, time and the fraction of steals that stayed
+ * within the thief's group (for grouped pools only).
+ * Usage: LocalityStealLoops [groups [megabytes [passes]]]
+ */
+public final class LocalityStealLoops {
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws Exception {
+        int groups = (args.length > 0) ? Integer.parseInt(args[0]) : 2;
+        int mb = (args.length > 1) ? Integer.parseInt(args[1]) : 256;
+        int passes = (args.length > 2) ? Integer.parseInt(args[2]) : 20;
+        if (groups > NCPU)
+            groups = NCPU;
+        int[] sizes = new int[groups];
+        for (int g = 0; g < groups; ++g)
+            sizes[g] = NCPU / groups + ((g < NCPU % groups) ? 1 : 0);
+        long[] array = new long[mb << 17];
+        System.out.println("cpus: " + NCPU + " groups: " + groups +
+                           " MB: " + mb);
+        for (int rep = 0; rep < 2; ++rep) {
+            test("random", array, null, passes);
+            test("grouped", array,
+                 ForkJoinPool.contiguousLocalityGroups(sizes), passes);
+        }
+    }
+
+    static void test(String label, long[] array,
+                     ForkJoinPool.LocalityPolicy policy, int passes) {
+        ForkJoinPool pool = new ForkJoinPool
+            (NCPU, ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+             false, policy);
+        int threshold = Math.max(array.length / (NCPU << 4), 1024);
+        pool.invoke(new Sweep(array, 0, array.length, threshold, true));
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int i = 0; i < passes; ++i)
+            sum += pool.invoke(new Sweep(array, 0, array.length,
+                                         threshold, false));
+        long time = System.nanoTime() - start;
+        long steals = 0, local = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats()) {
+            steals += s.getStealCount();
+            local += s.getLocalStealCount();
+        }
+        pool.shutdown();
+        if (sum == 42) System.out.print(" ");
+        // local steals are only distinguished in pools with a policy
+        String localPct = (policy == null || steals == 0) ? "-" :
+            String.format("%.1f%%", 100.0 * local / steals);
+        System.out.printf("%-8s %10.3f ms/pass  steals: %8d  local: %6s\n",
+                          label, time / (passes * 1e6), steals, localPct);
+    }
+
+    static final class Sweep extends RecursiveTask<Long> {
+        final long[] array;
+        final int lo, hi, threshold;
+        final boolean init;
+        Sweep(long[] array, int lo, int hi, int threshold, boolean init) {
+            this.array = array; this.lo = lo; this.hi = hi;
+            this.threshold = threshold; this.init = init;
+        }
+        protected Long compute() {
+            if (hi - lo <= threshold) {
+                long[] a = array;
+                long sum = 0;
+                if (init) {
+                    for (int i = lo; i < hi; ++i)
+                        a[i] = i;
+                }
+                else {
+                    for (int i = lo; i < hi; ++i)
+                        sum += a[i];
+                }
+                return sum;
+            }
+            int mid = (lo + hi) >>> 1;
+            Sweep right = new Sweep(array, mid, hi, threshold, init);
+            right.fork();
+            long left = new Sweep(array, lo, mid, threshold, init).compute();
+            return left + right.join();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import jsr166y.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures wakeup overhead under a bursty external producer: bursts
+ * of small submissions separated by pauses long enough for workers
+ * to go idle. Reports, per round, time and the total number of
+ * worker parks and unparks, which (like ContextSwitchTest measures
+ * for a single pair of threads) approximate the context switches
+ * paid to deliver the work.
+ * Usage: SubmissionBurstLoops [threads [bursts [burstSize [pauseMillis]]]]
+ */
+public final class SubmissionBurstLoops {
+    static final int NCPU = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws Exception {
+        int threads = (args.length > 0) ? Integer.parseInt(args[0]) : NCPU;
+        int bursts = (args.length > 1) ? Integer.parseInt(args[1]) : 200;
+        int burstSize = (args.length > 2) ? Integer.parseInt(args[2]) : 16;
+        int pause = (args.length > 3) ? Integer.parseInt(args[3]) : 2;
+        System.out.println("threads: " + threads + " bursts: " + bursts +
+                           " burstSize: " + burstSize);
+        for (int rep = 0; rep < 5; ++rep)
+            test(threads, bursts, burstSize, pause);
+    }
+
+    static void test(int threads, int bursts, int burstSize, int pause)
+        throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<Work> ws = new ArrayList<Work>(burstSize);
+        long busy = 0;
+        for (int b = 0; b < bursts; ++b) {
+            long start = System.nanoTime();
+            for (int i = 0; i < burstSize; ++i) {
+                Work w = new Work();
+                ws.add(w);
+                pool.execute(w);
+            }
+            for (Work w : ws)
+                w.join();
+            busy += System.nanoTime() - start;
+            ws.clear();
+            Thread.sleep(pause);
+        }
+        long parks = 0, unparks = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats()) {
+            parks += s.getParkCount();
+            unparks += s.getUnparkCount();
+        }
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        System.out.printf("busy time/burst: %8d ns  parks: %7d  unparks: %7d\n",
+                          busy / bursts, parks, unparks);
+    }
+
+    static final class Work extends RecursiveAction {
+        protected void compute() {
+            int x = 17;
+            for (int i = 0; i < 2000; ++i)
+                x = LoopHelpers.compute2(x);
+            if (x == 0)
+                throw new Error();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.concurrent.atomic.*;
+
+public class CountedCompleterTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(CountedCompleterTest.class);
+    }
+
+    static final int[] SIZES = { 0, 1, 2, 1000, 100000 };
+
+    static long[] longs(int n) {
+        long[] a = new long[n];
+        for (int i = 0; i < n; ++i)
+            a[i] = i * 7L - 3;
+        return a;
+    }
+
+    /**
+     * Sums a range of an array as in the CountedCompleter class
+     * documentation, counting completions.
+     */
+    static final class Summer extends CountedCompleter<Long> {
+        final long[] array; final int lo, hi;
+        final AtomicInteger completions;
+        Summer forks, next;
+        long sum;
+        Summer(CountedCompleter<?> parent, long[] array, int lo, int hi,
+               Summer next, AtomicInteger completions) {
+            super(parent);
+            this.array = array; this.lo = lo; this.hi = hi; this.next = next;
+            this.completions = completions;
+        }
+        public void compute() {
+            int l = lo, h = hi;
+            while (h - l > 100) {
+                int mid = (l + h) >>> 1;
+                addToPendingCount(1);
+                (forks = new Summer(this, array, mid, h, forks,
+                                    completions)).fork();
+                h = mid;
+            }
+            for (int i = l; i < h; ++i)
+                sum += array[i];
+            tryComplete();
+        }
+        public void onCompletion(CountedCompleter<?> caller) {
+            completions.incrementAndGet();
+            for (Summer s = forks; s != null; s = s.next)
+                sum += s.sum;
+        }
+        public Long getRawResult() { return sum; }
+    }
+
+    /**
+     * A completer whose leaves throw at the given index
+     */
+    static final class Thrower extends CountedCompleter<Void> {
+        final int lo, hi, bad;
+        Thrower(CountedCompleter<?> parent, int lo, int hi, int bad) {
+            super(parent);
+            this.lo = lo; this.hi = hi; this.bad = bad;
+        }
+        public void compute() {
+            int l = lo, h = hi;
+            while (h - l > 1) {
+                int mid = (l + h) >>> 1;
+                addToPendingCount(1);
+                new Thrower(this, mid, h, bad).fork();
+                h = mid;
+            }
+            if (l == bad)
+                throw new IllegalStateException();
+            tryComplete();
+        }
+    }
+
+    /**
+     * invoke returns the combined result, after onCompletion has run
+     * once for each task
+     */
+    public void testSum() {
+        for (int ps : new int[] { 1, 4 }) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    long[] a = longs(n);
+                    long expected = 0;
+                    for (int i = 0; i < n; ++i)
+                        expected += a[i];
+                    AtomicInteger completions = new AtomicInteger();
+                    Summer s = new Summer(null, a, 0, n, null, completions);
+                    assertEquals(expected, (long)pool.invoke(s));
+                    assertTrue(s.isDone());
+                    assertEquals(0, s.getPendingCount());
+                    int tasks = 1;
+                    for (int m = n; m > 100; m -= m >>> 1)
+                        ++tasks; // leftmost chain of splits
+                    assertTrue(completions.get() >= tasks);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * An exception thrown by a leaf completes the root abnormally
+     */
+    public void testExceptionalCompletion() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int bad : new int[] { 0, 17, 63 }) {
+                Thrower t = new Thrower(null, 0, 64, bad);
+                try {
+                    pool.invoke(t);
+                    shouldThrow();
+                } catch (IllegalStateException success) {
+                }
+                assertTrue(t.isCompletedAbnormally());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * getRoot and getCompleter follow completer links
+     */
+    public void testCompleterLinks() {
+        AtomicInteger c = new AtomicInteger();
+        Summer root = new Summer(null, new long[0], 0, 0, null, c);
+        Summer child = new Summer(root, new long[0], 0, 0, null, c);
+        Summer grandchild = new Summer(child, new long[0], 0, 0, null, c);
+        assertNull(root.getCompleter());
+        assertSame(root, child.getCompleter());
+        assertSame(root, grandchild.getRoot());
+        root.setPendingCount(2);
+        root.addToPendingCount(1);
+        assertEquals(3, root.getPendingCount());
+        assertTrue(root.compareAndSetPendingCount(3, 0));
+        assertEquals(0, root.getPendingCount());
+    }
+
+    /**
+     * ParallelArray apply, reduce and map, which run as
+     * CountedCompleters, visit each element exactly once
+     */
+    public void testParallelLongArrayKernels() {
+        for (int ps : new int[] { 1, 4 }) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    long[] a = longs(n);
+                    ParallelLongArray pa =
+                        ParallelLongArray.createFromCopy(a, pool);
+                    final AtomicLong applied = new AtomicLong();
+                    final AtomicInteger visits = new AtomicInteger();
+                    pa.apply(new LongProcedure() {
+                            public void op(long x) {
+                                applied.addAndGet(x);
+                                visits.incrementAndGet();
+                            }});
+                    long expected = 0;
+                    for (int i = 0; i < n; ++i)
+                        expected += a[i];
+                    assertEquals(n, visits.get());
+                    assertEquals(expected, applied.get());
+                    assertEquals(expected, pa.sum());
+                    if (n > 2) {
+                        long bounded = 0;
+                        for (int i = 1; i < n - 1; ++i)
+                            bounded += a[i];
+                        assertEquals(bounded,
+                                     pa.withBounds(1, n - 1).sum());
+                    }
+                    long[] doubled = pa.withMapping(new LongOp() {
+                            public long op(long x) { return x * 2; }})
+                        .all().getArray();
+                    assertEquals(n, doubled.length);
+                    for (int i = 0; i < n; ++i)
+                        assertEquals(a[i] * 2, doubled[i]);
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * An exception thrown by a procedure passed to apply is rethrown
+     */
+    public void testApplyException() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelLongArray pa =
+                ParallelLongArray.createFromCopy(longs(100000), pool);
+            try {
+                pa.apply(new LongProcedure() {
+                        public void op(long x) {
+                            if (x == 7L * 5000 - 3)
+                                throw new IllegalStateException();
+                        }});
+                shouldThrow();
+            } catch (IllegalStateException success) {
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
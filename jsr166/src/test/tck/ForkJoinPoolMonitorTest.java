@@ -0,0 +1,136 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import javax.management.*;
+import javax.management.openmbean.CompositeData;
+
+public class ForkJoinPoolMonitorTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ForkJoinPoolMonitorTest.class);
+    }
+
+    static final int FORKS = 32;
+
+    /**
+     * A task that forks FORKS tasks and then blocks its worker until
+     * they have all run, so that other workers must steal every one
+     */
+    static final class Spreader extends RecursiveAction {
+        final CountDownLatch done = new CountDownLatch(FORKS);
+        protected void compute() {
+            for (int i = 0; i < FORKS; ++i) {
+                new RecursiveAction() {
+                    protected void compute() { done.countDown(); }
+                }.fork();
+            }
+            try {
+                done.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a numeric attribute
+     */
+    static long attribute(MBeanServer server, ObjectName name, String attribute)
+        throws JMException {
+        return ((Number)server.getAttribute(name, attribute)).longValue();
+    }
+
+    /**
+     * A registered monitor is visible in the platform MBean server
+     * under its name, and can be registered only once
+     */
+    public void testRegister() throws JMException {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ForkJoinPoolMonitor monitor = new ForkJoinPoolMonitor(pool);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = monitor.getObjectName();
+        try {
+            assertSame(pool, monitor.getPool());
+            assertFalse(server.isRegistered(name));
+            monitor.register();
+            assertTrue(server.isRegistered(name));
+            assertEquals(3, attribute(server, name, "Parallelism"));
+            assertEquals(Boolean.FALSE, server.getAttribute(name, "Shutdown"));
+            try {
+                monitor.register();
+                shouldThrow();
+            } catch (IllegalStateException success) {
+            }
+        } finally {
+            monitor.unregister();
+            joinPool(pool);
+        }
+        assertFalse(server.isRegistered(name));
+        monitor.unregister();
+    }
+
+    /**
+     * Monitors of different pools have different names
+     */
+    public void testNames() {
+        ForkJoinPool p1 = new ForkJoinPool(1);
+        ForkJoinPool p2 = new ForkJoinPool(1);
+        try {
+            assertFalse(new ForkJoinPoolMonitor(p1).getObjectName().equals
+                        (new ForkJoinPoolMonitor(p2).getObjectName()));
+        } finally {
+            joinPool(p1);
+            joinPool(p2);
+        }
+    }
+
+    /**
+     * After a workload in which other workers must steal each forked
+     * task, the counters read through the MBean server are nonzero
+     * and consistent with each other and with the worker statistics
+     */
+    public void testCountersAfterWorkload() throws JMException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ForkJoinPoolMonitor monitor = new ForkJoinPoolMonitor(pool);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = monitor.getObjectName();
+        try {
+            monitor.register();
+            pool.invoke(new Spreader());
+            long executed = attribute(server, name, "ExecutedTaskCount");
+            long attempts = attribute(server, name, "StealAttemptCount");
+            long localSteals = attribute(server, name, "LocalStealCount");
+            // as an MXBean, worker statistics are mapped to open types
+            CompositeData[] stats =
+                (CompositeData[])server.getAttribute(name, "WorkerStats");
+            assertEquals(pool.getPoolSize(), stats.length);
+            long steals = 0;
+            for (CompositeData s : stats) {
+                long stolen = (Long)s.get("stealCount");
+                assertTrue(stolen <= (Long)s.get("executedTaskCount"));
+                assertTrue(stolen <= (Long)s.get("stealAttemptCount"));
+                steals += stolen;
+            }
+            // the submission, and each forked task by some thief
+            assertTrue(executed >= FORKS + 1);
+            assertTrue(steals >= FORKS);
+            assertTrue(steals <= executed);
+            assertTrue(steals <= attempts);
+            assertEquals(0, localSteals); // no locality policy
+            assertTrue(attribute(server, name, "StealCount") <= steals);
+            assertEquals(0, attribute(server, name, "QueuedSubmissionCount"));
+        } finally {
+            monitor.unregister();
+            joinPool(pool);
+        }
+    }
+}
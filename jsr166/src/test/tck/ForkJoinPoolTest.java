@@ -0,0 +1,593 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.*;
+
+public class ForkJoinPoolTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ForkJoinPoolTest.class);
+    }
+
+    /**
+     * A task that counts its runs
+     */
+    static final class Counter extends RecursiveAction {
+        final AtomicInteger runs;
+        Counter(AtomicInteger runs) { this.runs = runs; }
+        protected void compute() { runs.incrementAndGet(); }
+    }
+
+    /**
+     * A task that occupies its worker until released
+     */
+    static final class Blocker extends RecursiveAction {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        protected void compute() {
+            started.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * A pool whose queued submissions a test can take
+     */
+    static final class DrainablePool extends ForkJoinPool {
+        DrainablePool(int parallelism) { super(parallelism); }
+        ForkJoinTask<?> poll() { return pollSubmission(); }
+    }
+
+    /**
+     * A task that records its index when run
+     */
+    static final class Recorder extends RecursiveAction {
+        final int index;
+        final List<Integer> order;
+        final CountDownLatch done;
+        Recorder(int index, List<Integer> order, CountDownLatch done) {
+            this.index = index; this.order = order; this.done = done;
+        }
+        protected void compute() {
+            order.add(index);
+            done.countDown();
+        }
+    }
+
+    /**
+     * A task that forks n Recorders without joining them, and
+     * records the index of the next local task after forking
+     */
+    static final class Forker extends RecursiveAction {
+        final int n;
+        final List<Integer> order =
+            Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch done;
+        int nextLocal = -1;
+        Forker(int n) { this.n = n; this.done = new CountDownLatch(n); }
+        protected void compute() {
+            for (int i = 0; i < n; ++i)
+                new Recorder(i, order, done).fork();
+            nextLocal = ((Recorder)peekNextLocalTask()).index;
+        }
+    }
+
+    /**
+     * Runs a Forker of n tasks in a single-worker pool of the given
+     * mode, and returns the order its forked tasks ran in
+     */
+    static Forker runForker(boolean asyncMode, int n)
+        throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool
+            (1, ForkJoinPool.defaultForkJoinWorkerThreadFactory, asyncMode);
+        try {
+            assertEquals(asyncMode, pool.getAsyncMode());
+            Forker f = new Forker(n);
+            pool.invoke(f);
+            assertTrue(f.done.await(LONG_DELAY_MS, TimeUnit.MILLISECONDS));
+            return f;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * A task that forks n tasks and then blocks its worker until they
+     * have all run, so that other workers must steal every one
+     */
+    static final class Spreader extends RecursiveAction {
+        final CountDownLatch done;
+        Spreader(int n) { done = new CountDownLatch(n); }
+        protected void compute() {
+            for (long i = done.getCount(); i > 0; --i) {
+                new RecursiveAction() {
+                    protected void compute() { done.countDown(); }
+                }.fork();
+            }
+            try {
+                done.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the total of the steal counts, or if local, the local
+     * steal counts, of the pool's workers
+     */
+    static long steals(ForkJoinPool pool, boolean local) {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += local? s.getLocalStealCount() : s.getStealCount();
+        return sum;
+    }
+
+    /**
+     * Returns the total of the unpark counts of the pool's workers
+     */
+    static long unparks(ForkJoinPool pool) {
+        long sum = 0;
+        for (ForkJoinWorkerStats s : pool.getWorkerStats())
+            sum += s.getUnparkCount();
+        return sum;
+    }
+
+    /**
+     * A task that forks n Counters at once, records how many tasks
+     * were then queued, and joins them all
+     */
+    static final class Burst extends RecursiveAction {
+        final int n;
+        final AtomicInteger runs;
+        int queued;
+        Burst(int n, AtomicInteger runs) { this.n = n; this.runs = runs; }
+        protected void compute() {
+            Counter[] forked = new Counter[n];
+            for (int i = 0; i < n; ++i)
+                (forked[i] = new Counter(runs)).fork();
+            queued = getQueuedTaskCount();
+            for (int i = n - 1; i >= 0; --i)
+                forked[i].join();
+        }
+    }
+
+    /**
+     * Waits until the pool is quiescent, and then long enough for
+     * its workers to go idle
+     */
+    static void awaitIdle(ForkJoinPool pool) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LONG_DELAY_MS;
+        while (!pool.isQuiescent()) {
+            if (System.currentTimeMillis() > deadline)
+                fail("pool not quiescent");
+            Thread.sleep(1);
+        }
+        Thread.sleep(SHORT_DELAY_MS);
+    }
+
+    /**
+     * A blocker that waits for a latch to be released
+     */
+    static final class LatchBlocker implements ForkJoinPool.ManagedBlocker {
+        final CountDownLatch latch;
+        LatchBlocker(CountDownLatch latch) { this.latch = latch; }
+        public boolean block() throws InterruptedException {
+            latch.await();
+            return true;
+        }
+        public boolean isReleasable() { return latch.getCount() == 0; }
+    }
+
+    /**
+     * A task that forks n tasks blocking in managedBlock until
+     * released, and keeps its own worker running until stopped, so
+     * that the pool keeps adding spares to run the blocked tasks'
+     * siblings for as long as its bounds allow. The forked tasks
+     * block only once all are forked, so that each sees the others
+     * still queued when it blocks.
+     */
+    static final class BlockingForker extends RecursiveAction {
+        final int n;
+        final CountDownLatch released = new CountDownLatch(1);
+        final CountDownLatch finished;
+        volatile boolean forked;
+        volatile boolean stopped;
+        BlockingForker(int n) { this.n = n; finished = new CountDownLatch(n); }
+        protected void compute() {
+            for (int i = 0; i < n; ++i) {
+                new RecursiveAction() {
+                    protected void compute() {
+                        while (!forked)
+                            Thread.yield();
+                        try {
+                            ForkJoinPool.managedBlock
+                                (new LatchBlocker(released), true);
+                        } catch (InterruptedException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                        finished.countDown();
+                    }
+                }.fork();
+            }
+            forked = true;
+            while (!stopped)
+                Thread.yield();
+        }
+    }
+
+    /**
+     * Runs a BlockingForker of n tasks in the given pool for the
+     * given time, then releases it, and returns the largest pool size
+     * seen meanwhile
+     */
+    static int maxPoolSizeWhileBlocked(ForkJoinPool pool, int n, long millis)
+        throws InterruptedException {
+        BlockingForker f = new BlockingForker(n);
+        pool.execute(f);
+        int max = 0;
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            max = Math.max(max, pool.getPoolSize());
+            Thread.sleep(1);
+        }
+        f.released.countDown();
+        f.stopped = true;
+        assertTrue(f.finished.await(LONG_DELAY_MS, TimeUnit.MILLISECONDS));
+        f.join();
+        return max;
+    }
+
+    /**
+     * Waits until the pool has at most the given number of workers,
+     * failing if it takes more than LONG_DELAY_MS
+     */
+    static void awaitPoolSizeAtMost(ForkJoinPool pool, int size)
+        throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LONG_DELAY_MS;
+        while (pool.getPoolSize() > size) {
+            if (System.currentTimeMillis() > deadline)
+                fail("pool size " + pool.getPoolSize() + " > " + size);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Submits tasks from the given number of threads, each submitting
+     * perThread of them, and returns the tasks
+     */
+    static List<ForkJoinTask<?>> submitFromThreads(final ForkJoinPool pool,
+                                                   int threads,
+                                                   final int perThread,
+                                                   final AtomicInteger runs)
+        throws InterruptedException {
+        final List<ForkJoinTask<?>> tasks =
+            Collections.synchronizedList(new ArrayList<ForkJoinTask<?>>());
+        Thread[] ts = new Thread[threads];
+        for (int i = 0; i < threads; ++i) {
+            ts[i] = new Thread(new Runnable() {
+                    public void run() {
+                        for (int k = 0; k < perThread; ++k) {
+                            Counter c = new Counter(runs);
+                            tasks.add(c);
+                            pool.execute(c);
+                        }
+                    }});
+            ts[i].start();
+        }
+        for (Thread t : ts)
+            t.join();
+        return tasks;
+    }
+
+    /**
+     * Submissions from many threads are all counted while queued, and
+     * all run once a worker is free
+     */
+    public void testSubmissionsFromManyThreads() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            Blocker b = new Blocker();
+            pool.execute(b);
+            b.started.await();
+            AtomicInteger runs = new AtomicInteger();
+            List<ForkJoinTask<?>> tasks = submitFromThreads(pool, 8, 10, runs);
+            assertTrue(pool.hasQueuedSubmissions());
+            assertEquals(80, pool.getQueuedSubmissionCount());
+            assertEquals(0, runs.get());
+            b.released.countDown();
+            for (ForkJoinTask<?> t : tasks)
+                t.join();
+            assertEquals(80, runs.get());
+            assertFalse(pool.hasQueuedSubmissions());
+            assertEquals(0, pool.getQueuedSubmissionCount());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * pollSubmission removes submissions from every submitting thread
+     */
+    public void testPollSubmission() throws InterruptedException {
+        DrainablePool pool = new DrainablePool(1);
+        try {
+            Blocker b = new Blocker();
+            pool.execute(b);
+            b.started.await();
+            AtomicInteger runs = new AtomicInteger();
+            List<ForkJoinTask<?>> tasks = submitFromThreads(pool, 8, 10, runs);
+            Set<ForkJoinTask<?>> polled = new HashSet<ForkJoinTask<?>>();
+            ForkJoinTask<?> t;
+            while ((t = pool.poll()) != null)
+                polled.add(t);
+            assertEquals(new HashSet<ForkJoinTask<?>>(tasks), polled);
+            assertFalse(pool.hasQueuedSubmissions());
+            b.released.countDown();
+            b.join();
+            assertEquals(0, runs.get());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * In async mode, a worker runs the tasks it forked and never
+     * joined in the order they were forked
+     */
+    public void testAsyncModeIsFifo() throws InterruptedException {
+        Forker f = runForker(true, 100);
+        assertEquals(0, f.nextLocal);
+        for (int i = 0; i < 100; ++i)
+            assertEquals(i, (int)f.order.get(i));
+    }
+
+    /**
+     * By default, a worker runs the tasks it forked and never joined
+     * most recent first
+     */
+    public void testDefaultModeIsLifo() throws InterruptedException {
+        Forker f = runForker(false, 100);
+        assertEquals(99, f.nextLocal);
+        for (int i = 0; i < 100; ++i)
+            assertEquals(99 - i, (int)f.order.get(i));
+    }
+
+    /**
+     * Pools made by the constructors without a mode are not in async mode
+     */
+    public void testGetAsyncModeDefault() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertFalse(pool.getAsyncMode());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * contiguousLocalityGroups assigns consecutive indices to each
+     * group in turn, wrapping around past the last group
+     */
+    public void testContiguousLocalityGroups() {
+        ForkJoinPool.LocalityPolicy p =
+            ForkJoinPool.contiguousLocalityGroups(2, 3);
+        int[] expected = { 0, 0, 1, 1, 1, 0, 0, 1, 1, 1 };
+        for (int i = 0; i < expected.length; ++i)
+            assertEquals(expected[i], p.groupOf(i));
+    }
+
+    /**
+     * contiguousLocalityGroups throws IllegalArgumentException given
+     * no groups or a group size that is not positive
+     */
+    public void testContiguousLocalityGroupsIllegal() {
+        int[][] bad = { {}, { 0 }, { 2, -1 } };
+        for (int[] sizes : bad) {
+            try {
+                ForkJoinPool.contiguousLocalityGroups(sizes);
+                shouldThrow();
+            } catch (IllegalArgumentException success) {
+            }
+        }
+    }
+
+    /**
+     * getLocalityPolicy returns the policy the pool was made with
+     */
+    public void testGetLocalityPolicy() {
+        ForkJoinPool.LocalityPolicy p =
+            ForkJoinPool.contiguousLocalityGroups(2);
+        ForkJoinPool pool = new ForkJoinPool
+            (2, ForkJoinPool.defaultForkJoinWorkerThreadFactory, false, p);
+        ForkJoinPool plain = new ForkJoinPool(2);
+        try {
+            assertSame(p, pool.getLocalityPolicy());
+            assertNull(plain.getLocalityPolicy());
+        } finally {
+            joinPool(pool);
+            joinPool(plain);
+        }
+    }
+
+    /**
+     * Steals are counted as local only between workers of the same
+     * group: always some when all workers share a group, and none
+     * when each worker is alone in its group
+     */
+    public void testLocalSteals() {
+        for (int groups : new int[] { 1, 4 }) {
+            int[] sizes = new int[groups];
+            Arrays.fill(sizes, 4 / groups);
+            ForkJoinPool pool = new ForkJoinPool
+                (4, ForkJoinPool.defaultForkJoinWorkerThreadFactory, false,
+                 ForkJoinPool.contiguousLocalityGroups(sizes));
+            try {
+                pool.invoke(new Spreader(32));
+                long steals = steals(pool, false);
+                long local = steals(pool, true);
+                assertTrue(steals >= 32);
+                if (groups == 1)
+                    assertTrue(local > 0 && local <= steals);
+                else
+                    assertEquals(0, local);
+            } finally {
+                joinPool(pool);
+            }
+        }
+    }
+
+    /**
+     * The spare and idle keep-alive settings round-trip, and
+     * illegal values throw IllegalArgumentException
+     */
+    public void testSpareSettings() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertEquals(256, pool.getMaximumSpares());
+            pool.setMaximumSpares(3);
+            assertEquals(3, pool.getMaximumSpares());
+            pool.setSpareKeepAliveTime(2, TimeUnit.SECONDS);
+            assertEquals(2000, pool.getSpareKeepAliveTime(TimeUnit.MILLISECONDS));
+            assertEquals(0, pool.getIdleKeepAliveTime(TimeUnit.NANOSECONDS));
+            pool.setIdleKeepAliveTime(5, TimeUnit.MILLISECONDS);
+            assertEquals(5, pool.getIdleKeepAliveTime(TimeUnit.MILLISECONDS));
+            try {
+                pool.setMaximumSpares(-1);
+                shouldThrow();
+            } catch (IllegalArgumentException success) {
+            }
+            try {
+                pool.setSpareKeepAliveTime(0, TimeUnit.SECONDS);
+                shouldThrow();
+            } catch (IllegalArgumentException success) {
+            }
+            try {
+                pool.setIdleKeepAliveTime(-1, TimeUnit.SECONDS);
+                shouldThrow();
+            } catch (IllegalArgumentException success) {
+            }
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * While workers block in managedBlock with tasks still queued, the
+     * pool adds spares, but no more than setMaximumSpares allows
+     */
+    public void testMaximumSparesBoundsPoolSize() throws InterruptedException {
+        for (int maxSpares : new int[] { 0, 1, 2 }) {
+            ForkJoinPool pool = new ForkJoinPool(4);
+            pool.setMaximumSpares(maxSpares);
+            try {
+                int max = maxPoolSizeWhileBlocked(pool, 20, SMALL_DELAY_MS);
+                assertTrue(max <= 4 + maxSpares);
+            } finally {
+                joinPool(pool);
+            }
+        }
+    }
+
+    /**
+     * Without a tighter maximum, the pool adds more spares than the
+     * bounds above allow, and once blocked tasks are released, spares
+     * no longer needed retire after the spare keep-alive time
+     */
+    public void testSparesRetire() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        pool.setSpareKeepAliveTime(SHORT_DELAY_MS, TimeUnit.MILLISECONDS);
+        try {
+            int max = maxPoolSizeWhileBlocked(pool, 20, SMALL_DELAY_MS);
+            assertTrue(max > 4 + 2);
+            awaitPoolSizeAtMost(pool, 4);
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * Workers idle for longer than the idle keep-alive time terminate,
+     * and are replaced when tasks are submitted again
+     */
+    public void testIdleWorkersRetireAndAreReplaced()
+        throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        pool.setIdleKeepAliveTime(SHORT_DELAY_MS, TimeUnit.MILLISECONDS);
+        try {
+            AtomicInteger runs = new AtomicInteger();
+            pool.invoke(new Counter(runs));
+            awaitPoolSizeAtMost(pool, 0);
+            assertEquals(0, pool.getRunningThreadCount());
+            pool.invoke(new Counter(runs));
+            assertEquals(2, runs.get());
+            assertTrue(pool.getPoolSize() > 0);
+            assertTrue(pool.getPoolSize() <= 2);
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * A single submission to a pool whose workers are all parked
+     * wakes at most one of them, which runs it
+     */
+    public void testSubmissionWakesOneWorker() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            pool.invoke(new Spreader(32));
+            awaitIdle(pool);
+            long before = unparks(pool);
+            AtomicInteger runs = new AtomicInteger();
+            pool.invoke(new Counter(runs));
+            Thread.sleep(SHORT_DELAY_MS);
+            assertEquals(1, runs.get());
+            assertTrue(unparks(pool) - before <= 1);
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * A worker whose queue grew during a burst of forks, and was
+     * released when the worker went idle, queues and runs every task
+     * of later bursts
+     */
+    public void testBurstsAfterIdle() throws InterruptedException {
+        for (int ps : new int[] { 1, 4 }) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int round = 0; round < 3; ++round) {
+                    AtomicInteger runs = new AtomicInteger();
+                    Burst b = new Burst(1000, runs);
+                    pool.invoke(b);
+                    assertEquals(1000, runs.get());
+                    if (ps == 1) // no thieves
+                        assertEquals(1000, b.queued);
+                    awaitIdle(pool);
+                    // a single fork onto the fresh queue
+                    runs.set(0);
+                    pool.invoke(new Burst(1, runs));
+                    assertEquals(1, runs.get());
+                    awaitIdle(pool);
+                }
+            } finally {
+                joinPool(pool);
+            }
+        }
+    }
+}
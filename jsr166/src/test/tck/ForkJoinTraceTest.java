@@ -0,0 +1,228 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import java.io.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ForkJoinTraceTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ForkJoinTraceTest.class);
+    }
+
+    /**
+     * A task that forks n tasks counting their runs, and joins them
+     * newest first, so that in a single-worker pool each is taken
+     * back by its forker
+     */
+    static final class Burst extends RecursiveAction {
+        final int n;
+        final AtomicInteger runs = new AtomicInteger();
+        Burst(int n) { this.n = n; }
+        protected void compute() {
+            RecursiveAction[] forked = new RecursiveAction[n];
+            for (int i = 0; i < n; ++i) {
+                (forked[i] = new RecursiveAction() {
+                        protected void compute() { runs.incrementAndGet(); }
+                    }).fork();
+            }
+            for (int i = n - 1; i >= 0; --i)
+                forked[i].join();
+        }
+    }
+
+    /**
+     * A task that forks a task, waits until another worker has
+     * stolen and started it, and then joins it while it sleeps
+     */
+    static final class StolenJoin extends RecursiveAction {
+        protected void compute() {
+            final CountDownLatch started = new CountDownLatch(1);
+            RecursiveAction t = new RecursiveAction() {
+                    protected void compute() {
+                        started.countDown();
+                        try {
+                            Thread.sleep(SHORT_DELAY_MS);
+                        } catch (InterruptedException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                    }
+                };
+            t.fork();
+            try {
+                started.await();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+            t.join();
+        }
+    }
+
+    /**
+     * Waits until the pool is quiescent, so that its workers have
+     * recorded every event of completed tasks, and stops tracing
+     */
+    static ForkJoinTrace awaitTrace(ForkJoinPool pool)
+        throws InterruptedException {
+        long deadline = System.currentTimeMillis() + LONG_DELAY_MS;
+        while (!pool.isQuiescent()) {
+            if (System.currentTimeMillis() > deadline)
+                fail("pool not quiescent");
+            Thread.sleep(1);
+        }
+        return pool.stopTracing();
+    }
+
+    /**
+     * Returns the total of the counts of a histogram
+     */
+    static long total(long[] h) {
+        long sum = 0;
+        for (long c : h)
+            sum += c;
+        return sum;
+    }
+
+    /**
+     * Returns the lines of the timeline of a trace
+     */
+    static String[] timeline(ForkJoinTrace trace) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes);
+        trace.printTimeline(out);
+        out.flush();
+        String s = bytes.toString();
+        return s.length() == 0 ? new String[0] : s.split("\n");
+    }
+
+    /**
+     * Returns the number of lines of the timeline of a trace
+     * recording events of the given kind
+     */
+    static int count(String[] lines, String kind) {
+        int n = 0;
+        for (String line : lines)
+            if (line.contains(" " + kind + " "))
+                ++n;
+        return n;
+    }
+
+    /**
+     * startTracing throws IllegalArgumentException if the buffer
+     * capacity is not positive or is too large
+     */
+    public void testStartTracingIllegal() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            for (int cap : new int[] { 0, -1, (1 << 24) + 1 }) {
+                try {
+                    pool.startTracing(cap);
+                    shouldThrow();
+                } catch (IllegalArgumentException success) {
+                }
+            }
+            assertNull(pool.stopTracing());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * stopTracing returns null if not tracing, and each trace only
+     * once
+     */
+    public void testStopTracing() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertNull(pool.stopTracing());
+            pool.startTracing(16);
+            assertNotNull(pool.stopTracing());
+            assertNull(pool.stopTracing());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * A trace of a single worker's forks and joins records the
+     * submission, each fork and unfork, and the execution of the
+     * submitted task, and each fork or submission is matched by a
+     * queue wait; workers started after tracing starts are traced
+     */
+    public void testTraceOfForksAndUnforks() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            pool.startTracing(1024);
+            Burst b = new Burst(100);
+            pool.invoke(b);
+            ForkJoinTrace trace = awaitTrace(pool);
+            assertEquals(100, b.runs.get());
+            String[] lines = timeline(trace);
+            assertEquals(1, count(lines, "submit"));
+            assertEquals(100, count(lines, "fork"));
+            assertEquals(100, count(lines, "unfork"));
+            assertEquals(1, count(lines, "exec"));
+            assertEquals(0, count(lines, "steal"));
+            assertEquals(202, lines.length);
+            assertEquals(101, total(trace.queueWaitHistogram()));
+            assertEquals(0, trace.getDroppedEventCount());
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * A join of a task running in another worker records the steal,
+     * the execution by the thief, and the wait in the join
+     */
+    public void testTraceOfStealAndJoin() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            pool.startTracing(1024);
+            pool.invoke(new StolenJoin());
+            ForkJoinTrace trace = awaitTrace(pool);
+            String[] lines = timeline(trace);
+            assertEquals(1, count(lines, "fork"));
+            assertEquals(1, count(lines, "steal"));
+            assertEquals(2, count(lines, "exec"));
+            assertEquals(1, count(lines, "join"));
+            assertEquals(1, total(trace.joinWaitHistogram()));
+            // the submission is executed, the fork stolen
+            assertEquals(2, total(trace.queueWaitHistogram()));
+        } finally {
+            joinPool(pool);
+        }
+    }
+
+    /**
+     * Buffers hold at most their capacity, rounded up to a power of
+     * two, of each worker's most recent events, and count the rest
+     * as dropped; events after stopTracing are not recorded
+     */
+    public void testDroppedEvents() throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            pool.startTracing(3);
+            pool.invoke(new Burst(100));
+            ForkJoinTrace trace = awaitTrace(pool);
+            // 4 of the worker's 201 events, and the submission
+            String[] lines = timeline(trace);
+            assertEquals(5, lines.length);
+            assertEquals(197, trace.getDroppedEventCount());
+            String summary = trace.toString();
+            pool.invoke(new Burst(100));
+            assertEquals(summary, trace.toString());
+            assertEquals(5, timeline(trace).length);
+        } finally {
+            joinPool(pool);
+        }
+    }
+}
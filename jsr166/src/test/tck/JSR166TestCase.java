@@ -135,17 +135,26 @@ public class JSR166TestCase extends TestCase {
         suite.addTest(new TestSuite(CopyOnWriteArrayListTest.class));
         suite.addTest(new TestSuite(CopyOnWriteArraySetTest.class));
         suite.addTest(new TestSuite(CountDownLatchTest.class));
+        suite.addTest(new TestSuite(CountedCompleterTest.class));
         suite.addTest(new TestSuite(CyclicBarrierTest.class));
         suite.addTest(new TestSuite(DelayQueueTest.class));
         suite.addTest(new TestSuite(EntryTest.class));
         suite.addTest(new TestSuite(ExchangerTest.class));
         suite.addTest(new TestSuite(ExecutorsTest.class));
         suite.addTest(new TestSuite(ExecutorCompletionServiceTest.class));
+        suite.addTest(new TestSuite(ForkJoinPoolMonitorTest.class));
+        suite.addTest(new TestSuite(ForkJoinPoolTest.class));
+        suite.addTest(new TestSuite(ForkJoinTraceTest.class));
         suite.addTest(new TestSuite(FutureTaskTest.class));
         suite.addTest(new TestSuite(LinkedBlockingDequeTest.class));
         suite.addTest(new TestSuite(LinkedBlockingQueueTest.class));
         suite.addTest(new TestSuite(LinkedListTest.class));
         suite.addTest(new TestSuite(LockSupportTest.class));
+        suite.addTest(new TestSuite(ParallelArrayTest.class));
+        suite.addTest(new TestSuite(ParallelDoubleArrayTest.class));
+        suite.addTest(new TestSuite(ParallelFloatArrayTest.class));
+        suite.addTest(new TestSuite(ParallelIntArrayTest.class));
+        suite.addTest(new TestSuite(ParallelLongArrayTest.class));
         suite.addTest(new TestSuite(PriorityBlockingQueueTest.class));
         suite.addTest(new TestSuite(PriorityQueueTest.class));
         suite.addTest(new TestSuite(ReentrantLockTest.class));
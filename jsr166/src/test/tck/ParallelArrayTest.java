@@ -0,0 +1,328 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+public class ParallelArrayTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ParallelArrayTest.class);
+    }
+
+    // sizes on either side of the sample sort threshold
+    static final int[] SIZES = { 0, 1, 2, 1000, 32767, 40000 };
+    static final int[] PARALLELISMS = { 1, 4 };
+
+    /**
+     * Returns Integers in [0, range), so that small ranges give many
+     * duplicates.
+     */
+    static Integer[] integers(int n, int range, long seed) {
+        Random r = new Random(seed);
+        Integer[] a = new Integer[n];
+        for (int i = 0; i < n; ++i)
+            a[i] = r.nextInt(range);
+        return a;
+    }
+
+    static final Comparator<Integer> DESCENDING = new Comparator<Integer>() {
+        public int compare(Integer x, Integer y) { return y.compareTo(x); }
+    };
+
+    /**
+     * sort with a comparator orders elements as Arrays.sort does
+     */
+    public void testSortWithComparator() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    for (int range : new int[] { 100, Integer.MAX_VALUE }) {
+                        Integer[] a = integers(n, range, n);
+                        Integer[] expected = a.clone();
+                        Arrays.sort(expected, DESCENDING);
+                        ParallelArray<Integer> pa =
+                            ParallelArray.createFromCopy(a, pool);
+                        pa.sort(DESCENDING);
+                        assertTrue(Arrays.equals(expected, pa.getArray()));
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort with a comparator of a bounded range orders only that range
+     */
+    public void testSortWithComparatorAndBounds() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    if (n < 2)
+                        continue;
+                    int lo = 1, hi = n - 1;
+                    Integer[] a = integers(n, Integer.MAX_VALUE, n);
+                    Integer[] expected = a.clone();
+                    Arrays.sort(expected, lo, hi, DESCENDING);
+                    ParallelArray<Integer> pa =
+                        ParallelArray.createFromCopy(a, pool);
+                    pa.withBounds(lo, hi).sort(DESCENDING);
+                    assertTrue(Arrays.equals(expected, pa.getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort with a comparator takes the sample sort path for large
+     * ranges of a pool with more than one worker, and orders them as
+     * Arrays.sort does, including ranges not starting at zero, keys
+     * that are all equal, and more buckets than fit in a byte
+     */
+    public void testSampleSort() {
+        int n = 1 << 17;
+        // 64 workers give 512 blocks, so up to 1023 buckets
+        for (int ps : new int[] { 4, 64 }) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int range : new int[] { 1, 3, 1000, Integer.MAX_VALUE }) {
+                    for (int lo : new int[] { 0, n >>> 3 }) {
+                        int hi = n - lo;
+                        Integer[] a = integers(n, range, range + lo);
+                        Integer[] expected = a.clone();
+                        Arrays.sort(expected, lo, hi, DESCENDING);
+                        ParallelArray<Integer> pa =
+                            ParallelArray.createFromCopy(a, pool);
+                        pa.withBounds(lo, hi).sort(DESCENDING);
+                        assertTrue(Arrays.equals(expected, pa.getArray()));
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    static Op<Integer,Integer> keyMod(final int m) {
+        return new Op<Integer,Integer>() {
+            public Integer op(Integer x) { return x % m; }
+        };
+    }
+
+    /**
+     * Returns the elements of a having each key, in source order
+     */
+    static Map<Integer,List<Integer>> groups(Integer[] a, int m) {
+        Map<Integer,List<Integer>> map = new HashMap<Integer,List<Integer>>();
+        for (Integer x : a) {
+            List<Integer> g = map.get(x % m);
+            if (g == null)
+                map.put(x % m, g = new ArrayList<Integer>());
+            g.add(x);
+        }
+        return map;
+    }
+
+    /**
+     * groupBy returns each distinct key once, with the elements
+     * having that key in their source order
+     */
+    public void testGroupBy() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    for (int m : new int[] { 1, 17, 1 << 20 }) {
+                        Integer[] a = integers(n, Integer.MAX_VALUE, n);
+                        Map<Integer,List<Integer>> expected = groups(a, m);
+                        ParallelArray.Grouping<Integer,Integer> g =
+                            ParallelArray.createFromCopy(a, pool)
+                            .groupBy(keyMod(m));
+                        assertEquals(expected.size(), g.size());
+                        assertEquals(n, g.elements().size());
+                        ParallelArray<Integer> keys = g.keys();
+                        for (int k = 0; k < g.size(); ++k) {
+                            Integer key = keys.get(k);
+                            assertEquals(k, g.indexOfKey(key));
+                            assertEquals(expected.get(key),
+                                         g.group(k).all().asList());
+                        }
+                        assertEquals(-1, g.indexOfKey(-1));
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * groupBy of a bounded range groups only the elements in range
+     */
+    public void testGroupByWithBounds() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Integer[] a = integers(40000, Integer.MAX_VALUE, 1);
+            Integer[] range = Arrays.copyOfRange(a, 100, 39000);
+            Map<Integer,List<Integer>> expected = groups(range, 17);
+            ParallelArray.Grouping<Integer,Integer> g =
+                ParallelArray.createFromCopy(a, pool)
+                .withBounds(100, 39000).all().groupBy(keyMod(17));
+            assertEquals(expected.size(), g.size());
+            for (int k = 0; k < g.size(); ++k)
+                assertEquals(expected.get(g.keys().get(k)),
+                             g.group(k).all().asList());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * groupBy throws NullPointerException if the op returns null
+     */
+    public void testGroupByNullKey() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelArray<Integer> pa =
+                ParallelArray.createFromCopy(integers(1000, 100, 1), pool);
+            pa.groupBy(new Op<Integer,Integer>() {
+                    public Integer op(Integer x) {
+                        return x == 50 ? null : x;
+                    }});
+            shouldThrow();
+        } catch (NullPointerException success) {
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * aggregateByKey reduces the values of the elements having each key
+     */
+    public void testAggregateByKey() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    for (int m : new int[] { 1, 17, 1 << 20 }) {
+                        Integer[] a = integers(n, Integer.MAX_VALUE, n);
+                        Map<Integer,Long> expected = new HashMap<Integer,Long>();
+                        for (Integer x : a) {
+                            Long s = expected.get(x % m);
+                            expected.put(x % m, (s == null ? 0L : s) + x);
+                        }
+                        ParallelArray.LongAggregation<Integer> agg =
+                            ParallelArray.createFromCopy(a, pool)
+                            .aggregateByKey
+                            (keyMod(m),
+                             new ObjectToLong<Integer>() {
+                                public long op(Integer x) { return x; }},
+                             new LongReducer() {
+                                public long op(long x, long y) {
+                                    return x + y; }});
+                        assertEquals(expected.size(), agg.size());
+                        ParallelArray<Integer> keys = agg.keys();
+                        ParallelLongArray values = agg.values();
+                        for (int k = 0; k < agg.size(); ++k) {
+                            Integer key = keys.get(k);
+                            assertEquals(k, agg.indexOfKey(key));
+                            assertEquals((long)expected.get(key),
+                                         values.get(k));
+                        }
+                        assertEquals(-1, agg.indexOfKey(-1));
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    static final BinaryOp<Integer,Integer,Long> PAIR =
+        new BinaryOp<Integer,Integer,Long>() {
+            public Long op(Integer x, Integer y) {
+                return ((long)x << 32) | y;
+            }
+        };
+
+    /**
+     * join combines each pair of elements with equal keys, whichever
+     * array is smaller
+     */
+    public void testJoin() {
+        int[] sizes = { 0, 1, 1000, 40000 };
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : sizes) {
+                    for (int m : sizes) {
+                        int mod = (n <= 1000 && m <= 1000) ? 17 : 1 << 20;
+                        Integer[] a = integers(n, Integer.MAX_VALUE, n);
+                        Integer[] b = integers(m, Integer.MAX_VALUE, m + 1);
+                        Map<Integer,List<Integer>> bs = groups(b, mod);
+                        List<Long> expected = new ArrayList<Long>();
+                        for (Integer x : a) {
+                            List<Integer> g = bs.get(x % mod);
+                            if (g != null)
+                                for (Integer y : g)
+                                    expected.add(PAIR.op(x, y));
+                        }
+                        ParallelArray<Long> joined =
+                            ParallelArray.createFromCopy(a, pool)
+                            .join(ParallelArray.createFromCopy(b, pool),
+                                  keyMod(mod), keyMod(mod), PAIR);
+                        List<Long> results =
+                            new ArrayList<Long>(joined.asList());
+                        Collections.sort(expected);
+                        Collections.sort(results);
+                        assertEquals(expected, results);
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * join throws NullPointerException if either op returns null
+     */
+    public void testJoinNullKey() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelArray<Integer> small =
+                ParallelArray.createFromCopy(integers(10, 100, 1), pool);
+            ParallelArray<Integer> large =
+                ParallelArray.createFromCopy(integers(1000, 100, 2), pool);
+            Op<Integer,Integer> nulls = new Op<Integer,Integer>() {
+                public Integer op(Integer x) { return null; }
+            };
+            try {
+                small.join(large, nulls, keyMod(17), PAIR);
+                shouldThrow();
+            } catch (NullPointerException success) {
+            }
+            try {
+                small.join(large, keyMod(17), nulls, PAIR);
+                shouldThrow();
+            } catch (NullPointerException success) {
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
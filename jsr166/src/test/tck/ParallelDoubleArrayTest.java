@@ -0,0 +1,116 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+public class ParallelDoubleArrayTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ParallelDoubleArrayTest.class);
+    }
+
+    // sizes on either side of the radix sort threshold
+    static final int[] SIZES = { 0, 1, 2, 1000, 32767, 40000 };
+    static final int[] PARALLELISMS = { 1, 4 };
+
+    /**
+     * Returns doubles mixing NaNs, both zeros, infinities and
+     * values of both signs.
+     */
+    static double[] doubles(int n, long seed) {
+        Random r = new Random(seed);
+        double[] a = new double[n];
+        for (int i = 0; i < n; ++i) {
+            switch (r.nextInt(10)) {
+            case 0:  a[i] = Double.NaN; break;
+            case 1:  a[i] = -0.0; break;
+            case 2:  a[i] = 0.0; break;
+            case 3:  a[i] = Double.NEGATIVE_INFINITY; break;
+            case 4:  a[i] = Double.POSITIVE_INFINITY; break;
+            default: a[i] = r.nextGaussian() * 1e6; break;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * sort orders elements as Arrays.sort does, with -0.0 before
+     * 0.0 and NaNs last
+     */
+    public void testSort() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    double[] a = doubles(n, n);
+                    double[] expected = a.clone();
+                    Arrays.sort(expected);
+                    ParallelDoubleArray pa =
+                        ParallelDoubleArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(expected, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort of a bounded range orders only that range
+     */
+    public void testSortWithBounds() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    if (n < 2)
+                        continue;
+                    int lo = 1, hi = n - 1;
+                    double[] a = doubles(n, n);
+                    double[] expected = a.clone();
+                    Arrays.sort(expected, lo, hi);
+                    ParallelDoubleArray pa =
+                        ParallelDoubleArray.createFromCopy(a, pool);
+                    pa.withBounds(lo, hi).sort();
+                    assertTrue(Arrays.equals(expected, pa.getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort places all NaNs last and negative zeros before positive
+     * zeros, whatever their initial positions
+     */
+    public void testSortNaNsAndZeros() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    double[] a = new double[n];
+                    for (int i = 0; i < n; ++i)
+                        a[i] = (i % 3 == 0) ? Double.NaN
+                            : (i % 3 == 1) ? 0.0 : -0.0;
+                    double[] expected = a.clone();
+                    Arrays.sort(expected);
+                    ParallelDoubleArray pa =
+                        ParallelDoubleArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(expected, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+public class ParallelFloatArrayTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ParallelFloatArrayTest.class);
+    }
+
+    // sizes on either side of the radix sort threshold
+    static final int[] SIZES = { 0, 1, 2, 1000, 32767, 40000 };
+    static final int[] PARALLELISMS = { 1, 4 };
+
+    /**
+     * Returns floats mixing NaNs, both zeros, infinities and
+     * small integral values, whose sums are exact in any order.
+     */
+    static float[] floats(int n, long seed) {
+        Random r = new Random(seed);
+        float[] a = new float[n];
+        for (int i = 0; i < n; ++i) {
+            switch (r.nextInt(10)) {
+            case 0:  a[i] = Float.NaN; break;
+            case 1:  a[i] = -0.0f; break;
+            case 2:  a[i] = 0.0f; break;
+            case 3:  a[i] = Float.NEGATIVE_INFINITY; break;
+            case 4:  a[i] = Float.POSITIVE_INFINITY; break;
+            default: a[i] = r.nextInt(2000) - 1000; break;
+            }
+        }
+        return a;
+    }
+
+    static float[] finite(float[] a) {
+        float[] b = new float[a.length];
+        for (int i = 0; i < a.length; ++i)
+            b[i] = (Float.isNaN(a[i]) || Float.isInfinite(a[i])) ? 1.0f : a[i];
+        return b;
+    }
+
+    /**
+     * sort orders elements as Arrays.sort does, with -0.0f before
+     * 0.0f and NaNs last
+     */
+    public void testSort() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    float[] a = floats(n, n);
+                    float[] expected = a.clone();
+                    Arrays.sort(expected);
+                    ParallelFloatArray pa =
+                        ParallelFloatArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(expected, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort of a bounded range orders only that range
+     */
+    public void testSortWithBounds() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    if (n < 2)
+                        continue;
+                    int lo = 1, hi = n - 1;
+                    float[] a = floats(n, n);
+                    float[] expected = a.clone();
+                    Arrays.sort(expected, lo, hi);
+                    ParallelFloatArray pa =
+                        ParallelFloatArray.createFromCopy(a, pool);
+                    pa.withBounds(lo, hi).sort();
+                    assertTrue(Arrays.equals(expected, pa.getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sum, reduce, min and max agree with a sequential loop
+     */
+    public void testReductions() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    float[] a = finite(floats(n, n));
+                    float sum = 0.0f;
+                    float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+                    for (float x : a) {
+                        sum += x;
+                        min = Math.min(min, x); max = Math.max(max, x);
+                    }
+                    ParallelFloatArray pa =
+                        ParallelFloatArray.createFromCopy(a, pool);
+                    assertEquals(sum, pa.sum(), 0.0f);
+                    assertEquals(sum, pa.reduce(new FloatReducer() {
+                            public float op(float x, float y) { return x + y; }},
+                            0.0f), 0.0f);
+                    if (n > 0) {
+                        assertEquals(min, pa.min(), 0.0f);
+                        assertEquals(max, pa.max(), 0.0f);
+                    }
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * withFilter selects matching elements in their original order
+     */
+    public void testFilter() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    float[] a = floats(n, n);
+                    int k = 0;
+                    float[] buf = new float[n];
+                    for (float x : a)
+                        if (x != x || x < 0.0f)
+                            buf[k++] = x;
+                    float[] expected = Arrays.copyOf(buf, k);
+                    ParallelFloatArray pa =
+                        ParallelFloatArray.createFromCopy(a, pool);
+                    float[] selected = pa.withFilter(new FloatPredicate() {
+                            public boolean op(float x) {
+                                return x != x || x < 0.0f; }})
+                        .all().getArray();
+                    assertTrue(Arrays.equals(expected, selected));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+public class ParallelIntArrayTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ParallelIntArrayTest.class);
+    }
+
+    // sizes on either side of the radix sort threshold
+    static final int[] SIZES = { 0, 1, 2, 1000, 32767, 40000 };
+    static final int[] PARALLELISMS = { 1, 4 };
+
+    static int[] ints(int n, long seed) {
+        Random r = new Random(seed);
+        int[] a = new int[n];
+        for (int i = 0; i < n; ++i) {
+            switch (r.nextInt(8)) {
+            case 0:  a[i] = Integer.MIN_VALUE; break;
+            case 1:  a[i] = Integer.MAX_VALUE; break;
+            case 2:  a[i] = r.nextInt(16) - 8; break;
+            default: a[i] = r.nextInt(); break;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * sort orders elements as Arrays.sort does
+     */
+    public void testSort() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    int[] a = ints(n, n);
+                    int[] expected = a.clone();
+                    Arrays.sort(expected);
+                    ParallelIntArray pa =
+                        ParallelIntArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(expected, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort of a bounded range orders only that range
+     */
+    public void testSortWithBounds() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    if (n < 2)
+                        continue;
+                    int lo = 1, hi = n - 1;
+                    int[] a = ints(n, n);
+                    int[] expected = a.clone();
+                    Arrays.sort(expected, lo, hi);
+                    ParallelIntArray pa =
+                        ParallelIntArray.createFromCopy(a, pool);
+                    pa.withBounds(lo, hi).sort();
+                    assertTrue(Arrays.equals(expected, pa.getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sum, reduce, min and max agree with a sequential loop
+     */
+    public void testReductions() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    int[] a = ints(n, n);
+                    int sum = 0, xor = 0;
+                    int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+                    for (int x : a) {
+                        sum += x; xor ^= x;
+                        min = Math.min(min, x); max = Math.max(max, x);
+                    }
+                    ParallelIntArray pa =
+                        ParallelIntArray.createFromCopy(a, pool);
+                    assertEquals(sum, pa.sum());
+                    assertEquals(xor, pa.reduce(new IntReducer() {
+                            public int op(int x, int y) { return x ^ y; }},
+                            0));
+                    assertEquals(min, pa.min());
+                    assertEquals(max, pa.max());
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * withFilter selects matching elements in their original order
+     */
+    public void testFilter() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    int[] a = ints(n, n);
+                    int k = 0;
+                    int[] buf = new int[n];
+                    for (int x : a)
+                        if ((x & 1) == 0)
+                            buf[k++] = x;
+                    int[] expected = Arrays.copyOf(buf, k);
+                    ParallelIntArray pa =
+                        ParallelIntArray.createFromCopy(a, pool);
+                    int[] evens = pa.withFilter(new IntPredicate() {
+                            public boolean op(int x) { return (x & 1) == 0; }})
+                        .all().getArray();
+                    assertTrue(Arrays.equals(expected, evens));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Written by Doug Lea with assistance from members of JCP JSR-166
+ * Expert Group and released to the public domain, as explained at
+ * http://creativecommons.org/licenses/publicdomain
+ */
+
+import junit.framework.*;
+import jsr166y.*;
+import extra166y.*;
+import static extra166y.Ops.*;
+import java.util.*;
+
+public class ParallelLongArrayTest extends JSR166TestCase {
+    public static void main (String[] args) {
+        junit.textui.TestRunner.run (suite());
+    }
+    public static Test suite() {
+        return new TestSuite(ParallelLongArrayTest.class);
+    }
+
+    // sizes on either side of the radix sort threshold
+    static final int[] SIZES = { 0, 1, 2, 1000, 32767, 40000 };
+    static final int[] PARALLELISMS = { 1, 4 };
+
+    /**
+     * Returns longs mixing extreme values, small values of both
+     * signs, and values spread over the whole range.
+     */
+    static long[] longs(int n, long seed) {
+        Random r = new Random(seed);
+        long[] a = new long[n];
+        for (int i = 0; i < n; ++i) {
+            switch (r.nextInt(8)) {
+            case 0:  a[i] = Long.MIN_VALUE; break;
+            case 1:  a[i] = Long.MAX_VALUE; break;
+            case 2:  a[i] = r.nextInt(16) - 8; break;
+            default: a[i] = r.nextLong(); break;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * sort orders elements as Arrays.sort does
+     */
+    public void testSort() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    long[] a = longs(n, n);
+                    long[] expected = a.clone();
+                    Arrays.sort(expected);
+                    ParallelLongArray pa =
+                        ParallelLongArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(expected, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort of a bounded range orders only that range
+     */
+    public void testSortWithBounds() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    if (n < 2)
+                        continue;
+                    int lo = 1, hi = n - 1;
+                    long[] a = longs(n, n);
+                    long[] expected = a.clone();
+                    Arrays.sort(expected, lo, hi);
+                    ParallelLongArray pa =
+                        ParallelLongArray.createFromCopy(a, pool);
+                    pa.withBounds(lo, hi).sort();
+                    assertTrue(Arrays.equals(expected, pa.getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * sort of an already sorted or reversed array leaves it sorted
+     */
+    public void testSortOrdered() {
+        for (int ps : PARALLELISMS) {
+            ForkJoinPool pool = new ForkJoinPool(ps);
+            try {
+                for (int n : SIZES) {
+                    long[] a = new long[n];
+                    for (int i = 0; i < n; ++i)
+                        a[i] = (long)i << 20;
+                    long[] rev = new long[n];
+                    for (int i = 0; i < n; ++i)
+                        rev[i] = a[n - 1 - i];
+                    ParallelLongArray pa =
+                        ParallelLongArray.createFromCopy(a, pool);
+                    assertTrue(Arrays.equals(a, pa.sort().getArray()));
+                    pa = ParallelLongArray.createFromCopy(rev, pool);
+                    assertTrue(Arrays.equals(a, pa.sort().getArray()));
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
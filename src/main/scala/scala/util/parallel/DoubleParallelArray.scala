@@ -0,0 +1,42 @@
+package scala.util.parallel
+
+import jsr166y.ForkJoinPool
+import extra166y.{ParallelDoubleArray => JParallelDoubleArray}
+import extra166y.Ops.{DoubleOp, DoublePredicate, DoubleReducer}
+
+/**
+ * A ParallelArray over unboxed Doubles. Every operation delegates to the
+ * primitive kernels behind extra166y.ParallelDoubleArray, so elements are never
+ * boxed and no intermediate arrays are created beyond the result.
+ */
+class DoubleParallelArray(val underlying: JParallelDoubleArray) {
+
+  def this(data: Array[Double], executor: ForkJoinPool) = this(JParallelDoubleArray.createUsingHandoff(data, executor))
+  def this(data: Array[Double]) = this(data, JParallelDoubleArray.defaultExecutor)
+
+  def size = underlying.size
+  def apply(i: Int) = underlying.get(i)
+  def executor = underlying.getExecutor
+
+  def reduce(id: Double)(r: DoubleReducer): Double = underlying.reduce(r, id)
+  def sum: Double = underlying.sum
+  def min: Double = underlying.min
+  def max: Double = underlying.max
+
+  def count(p: DoublePredicate): Int = underlying.withFilter(p).size
+  def exists(p: DoublePredicate): Boolean = underlying.withFilter(p).anyIndex >= 0
+  def forall(p: DoublePredicate): Boolean = !exists(new DoublePredicate { def op(a: Double) = !p.op(a) })
+
+  def map(f: DoubleOp) = new DoubleParallelArray(underlying.withMapping(f).all)
+  def filter(p: DoublePredicate) = new DoubleParallelArray(underlying.withFilter(p).all)
+  def remove(p: DoublePredicate) = filter(new DoublePredicate { def op(a: Double) = !p.op(a) })
+
+  def toArray: Array[Double] = {
+    val a = underlying.getArray
+    if (a.length == size) a else {
+      val copy = new Array[Double](size)
+      System.arraycopy(a, 0, copy, 0, size)
+      copy
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package scala.util.parallel
+
+import jsr166y.ForkJoinPool
+import extra166y.{ParallelIntArray => JParallelIntArray}
+import extra166y.Ops.{IntOp, IntPredicate, IntReducer}
+
+/**
+ * A ParallelArray over unboxed Ints. Every operation delegates to the
+ * primitive kernels behind extra166y.ParallelIntArray, so elements are never
+ * boxed and no intermediate arrays are created beyond the result.
+ */
+class IntParallelArray(val underlying: JParallelIntArray) {
+
+  def this(data: Array[Int], executor: ForkJoinPool) = this(JParallelIntArray.createUsingHandoff(data, executor))
+  def this(data: Array[Int]) = this(data, JParallelIntArray.defaultExecutor)
+
+  def size = underlying.size
+  def apply(i: Int) = underlying.get(i)
+  def executor = underlying.getExecutor
+
+  def reduce(id: Int)(r: IntReducer): Int = underlying.reduce(r, id)
+  def sum: Int = underlying.sum
+  def min: Int = underlying.min
+  def max: Int = underlying.max
+
+  def count(p: IntPredicate): Int = underlying.withFilter(p).size
+  def exists(p: IntPredicate): Boolean = underlying.withFilter(p).anyIndex >= 0
+  def forall(p: IntPredicate): Boolean = !exists(new IntPredicate { def op(a: Int) = !p.op(a) })
+
+  def map(f: IntOp) = new IntParallelArray(underlying.withMapping(f).all)
+  def filter(p: IntPredicate) = new IntParallelArray(underlying.withFilter(p).all)
+  def remove(p: IntPredicate) = filter(new IntPredicate { def op(a: Int) = !p.op(a) })
+
+  def toArray: Array[Int] = {
+    val a = underlying.getArray
+    if (a.length == size) a else {
+      val copy = new Array[Int](size)
+      System.arraycopy(a, 0, copy, 0, size)
+      copy
+    }
+  }
+}
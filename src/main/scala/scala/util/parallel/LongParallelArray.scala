@@ -0,0 +1,42 @@
+package scala.util.parallel
+
+import jsr166y.ForkJoinPool
+import extra166y.{ParallelLongArray => JParallelLongArray}
+import extra166y.Ops.{LongOp, LongPredicate, LongReducer}
+
+/**
+ * A ParallelArray over unboxed Longs. Every operation delegates to the
+ * primitive kernels behind extra166y.ParallelLongArray, so elements are never
+ * boxed and no intermediate arrays are created beyond the result.
+ */
+class LongParallelArray(val underlying: JParallelLongArray) {
+
+  def this(data: Array[Long], executor: ForkJoinPool) = this(JParallelLongArray.createUsingHandoff(data, executor))
+  def this(data: Array[Long]) = this(data, JParallelLongArray.defaultExecutor)
+
+  def size = underlying.size
+  def apply(i: Int) = underlying.get(i)
+  def executor = underlying.getExecutor
+
+  def reduce(id: Long)(r: LongReducer): Long = underlying.reduce(r, id)
+  def sum: Long = underlying.sum
+  def min: Long = underlying.min
+  def max: Long = underlying.max
+
+  def count(p: LongPredicate): Int = underlying.withFilter(p).size
+  def exists(p: LongPredicate): Boolean = underlying.withFilter(p).anyIndex >= 0
+  def forall(p: LongPredicate): Boolean = !exists(new LongPredicate { def op(a: Long) = !p.op(a) })
+
+  def map(f: LongOp) = new LongParallelArray(underlying.withMapping(f).all)
+  def filter(p: LongPredicate) = new LongParallelArray(underlying.withFilter(p).all)
+  def remove(p: LongPredicate) = filter(new LongPredicate { def op(a: Long) = !p.op(a) })
+
+  def toArray: Array[Long] = {
+    val a = underlying.getArray
+    if (a.length == size) a else {
+      val copy = new Array[Long](size)
+      System.arraycopy(a, 0, copy, 0, size)
+      copy
+    }
+  }
+}
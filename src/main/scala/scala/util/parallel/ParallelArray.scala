@@ -1,26 +1,39 @@
 package scala.util.parallel
 
-import jsr166y.{RecursiveAction,ForkJoinTask, ForkJoinPool}
+import jsr166y.{RecursiveAction,ForkJoinTask, ForkJoinWorkerThread}
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.{ArrayList, Comparator, HashMap}
+import extra166y.{ParallelArray => JParallelArray}
+import extra166y.Ops.Reducer
 
 trait FunctionalRecursiveAction[T] extends RecursiveAction {
   def getResult: T
   val seqentialThreshold: Int
 }
 
-trait Pool{
-  def invokeAndGet[T](action:FunctionalRecursiveAction[T]): T
-}
-
 object ParallelArray{
-  val defaultSequentialThreshold = 16
+  /**
+   * seqentialThreshold values that pick the leaf size automatically.
+   * Sized splits into leaves of 1 + n / (parallelism * 8) elements, like
+   * extra166y's AbstractParallelAnyArray.computeThreshold.
+   * Adaptive keeps splitting only while the current worker has few surplus
+   * queued tasks, bottoming out at a leaf eight times finer than Sized.
+   * Any positive value is used as a fixed leaf size.
+   */
+  val Sized = 0
+  val Adaptive = -1
 
-  object DefaultPool extends Pool{
-    private val fjPool = new ForkJoinPool
-    def invokeAndGet[T](action: FunctionalRecursiveAction[T]): T = {
-      fjPool.invoke(action)
-      action.getResult
-    }
-  }
+  val defaultSequentialThreshold = Sized
+
+  // leaves stop splitting once this many stealable tasks are already queued
+  val maxSurplusTasks = 3
+
+  val DefaultPool: Pool = Pool.Shared
+
+  // returned by the steps of views and selections for elements a filter rejected.
+  private object Rejected
+  private[parallel] def rejected[B]: B = Rejected.asInstanceOf[B]
+  private[parallel] def isRejected(b: Any) = b.asInstanceOf[AnyRef] eq Rejected
 }
 
 case class ParallelArray[A](data: Array[A], pool:Pool, val seqentialThreshold: Int){
@@ -30,69 +43,377 @@ case class ParallelArray[A](data: Array[A], pool:Pool, val seqentialThreshold: I
   def this(data: Array[A], pool:Pool) = this(data, pool, ParallelArray.defaultSequentialThreshold)
   def this(data: Array[A], seqentialThreshold: Int) = this(data, ParallelArray.DefaultPool, seqentialThreshold)
 
+  // the fixed leaf size, or for Adaptive the smallest leaf it may split down to.
+  private lazy val leafSize = seqentialThreshold match {
+    case ParallelArray.Sized => sizedThreshold(8)
+    case ParallelArray.Adaptive => sizedThreshold(64)
+    case t => t
+  }
+
+  private def sizedThreshold(leavesPerThread: Int) = {
+    val p = pool.parallelism
+    if (p > 1) 1 + data.length / (p * leavesPerThread) else data.length
+  }
+
+  // only worker threads may fork, so anything run elsewhere stays sequential.
+  // CallerThread never splits, even when its caller is a worker of some pool.
+  private def shouldSplit(n: Int) =
+    if (n <= leafSize || (pool eq Pool.CallerThread) ||
+        !Thread.currentThread.isInstanceOf[ForkJoinWorkerThread]) false
+    else seqentialThreshold != ParallelArray.Adaptive ||
+         ForkJoinTask.getSurplusQueuedTaskCount <= ParallelArray.maxSurplusTasks
+
   // the mastermind of this operation.
   def mapreduce[B](id: B)(map: A => B, reduce: (B, B) => B): B = {
     def sequentialReduce(s:Int, e:Int) = (s to e).foldLeft(id) {(b, i) => reduce(b, map(data(i)))}
-    pool.invokeAndGet(new BinaryRecursiveAction(reduce, sequentialReduce))
+    pool.invokeAndGet(new LinkedRecursiveAction(reduce, sequentialReduce))
   }
 
-  // these all work off mapreduce
-  def find (p: A => Boolean): Option[A] = {
-    mapreduce[Option[A]](None)(
-      a => if(p(a)) Some(a) else None,
-      (l, r) => l match{ case Some(_) => l; case None => r } )
+  // these stop early, once the answer is known.
+  def indexWhere(p: A => Boolean): Int = searchIndices(i => p(data(i)), true)
+  def find  (p: A => Boolean): Option[A] = {
+    val i = indexWhere(p)
+    if (i < 0) None else Some(data(i))
   }
-  def exists(p: A => Boolean): Boolean = mapreduce(false)(p, _ || _ )
-  def forall(p: A => Boolean): Boolean = mapreduce(true )(p, _ && _ )
+  def exists(p: A => Boolean): Boolean = searchIndices(i => p(data(i)), false) >= 0
+  def forall(p: A => Boolean): Boolean = !exists(!p(_))
+
+  // the matching index found by a search over indices, or -1.
+  private[parallel] def searchIndices(p: Int => Boolean, leftmost: Boolean): Int =
+    pool.invokeAndGet(new SearchAction(p, leftmost))
+
+  // these all work off mapreduce
   def reduce(id: A)(r: (A, A) => A): A = mapreduce(id)(a=>a, r)
   def count (p: A => Boolean): Int     = mapreduce[Int](0)(a => if(p(a)) 1 else 0, (l, r) => l + r )
 
   // these three require a new array, and populate mutably.
-  // the do not work off mapreduce!
+  // they do not work off mapreduce!
   def map[B](f: A => B) = {
     val sequentialMapper = sequentialMutator[B](new Array[B](data.size), f, t => true) _
-    val mapAction = new BinaryRecursiveAction[Array[B]]((l,r)=>l, sequentialMapper)
+    val mapAction = new LinkedRecursiveAction[Array[B]]((l,r)=>l, sequentialMapper)
     ParallelArray(pool.invokeAndGet(mapAction), pool, seqentialThreshold)
   }
 
   def filter(p: A => Boolean) = {
-    val sequentialFilter = sequentialMutator[A](new Array[A](data.size), t => t, p) _
-    val filterAction = new BinaryRecursiveAction[Array[A]]((l,r)=>l, sequentialFilter)
-    ParallelArray(pool.invokeAndGet(filterAction).filter(_!=null), pool, seqentialThreshold)
+    val select = new SelectAction[A](a => if (p(a)) a else ParallelArray.rejected[A])
+    ParallelArray(pool.invokeAndGet(select), pool, seqentialThreshold)
   }
 
   def remove(p: A => Boolean): ParallelArray[A] = filter(!p(_))
 
+  // lazy views: stages are fused into one leaf loop, run by a terminal operation.
+  def withFilter(p: A => Boolean) = new ParallelArrayView[A, A](this, a => if (p(a)) a else ParallelArray.rejected[A])
+  def withMapping[B](f: A => B) = new ParallelArrayView[A, B](this, f)
+
+  // these hand a copy of the data to extra166y.ParallelArray and run its kernels.
+  // the sorts are parallel merge sorts, and like extra166y's they are not stable.
+  def sort(implicit ord: A => Ordered[A]): ParallelArray[A] = sortWith((x, y) => x compare y)
+  def sortBy[B](f: A => B)(implicit ord: B => Ordered[B]): ParallelArray[A] = sortWith((x, y) => f(x) compare f(y))
+  def sortWith(cmp: (A, A) => Int): ParallelArray[A] = {
+    val comparator = new Comparator[AnyRef] {
+      def compare(x: AnyRef, y: AnyRef) = cmp(x.asInstanceOf[A], y.asInstanceOf[A])
+    }
+    fromExtra(toExtra.sort(comparator))
+  }
+
+  // the running reduction: for 1, 2, 3 and addition, 1, 3, 6.
+  def cumulate(id: A)(r: (A, A) => A): ParallelArray[A] = {
+    val reducer = new Reducer[AnyRef] {
+      def op(x: AnyRef, y: AnyRef) = r(x.asInstanceOf[A], y.asInstanceOf[A]).asInstanceOf[AnyRef]
+    }
+    fromExtra(toExtra.cumulate(reducer, id.asInstanceOf[AnyRef]))
+  }
+  // the usual name for cumulate. unlike scanLeft, the result does not start with id.
+  def scan(id: A)(r: (A, A) => A): ParallelArray[A] = cumulate(id)(r)
+
+  // the non-null elements without duplicates (by equals), in no particular order.
+  def distinct: ParallelArray[A] = fromExtra(toExtra.allUniqueElements)
+
+  /**
+   * Partitions the elements by key. Each leaf builds its own table and
+   * neighbouring tables are merged as the leaves are joined, so the
+   * elements of each group keep their order in this array.
+   */
+  def groupBy[K](key: A => K): Map[K, ParallelArray[A]] = {
+    def sequentialGroup(s: Int, e: Int) = {
+      val groups = new HashMap[K, ArrayList[A]]
+      var i = s
+      while (i <= e) {
+        val a = data(i)
+        val k = key(a)
+        var group = groups.get(k)
+        if (group == null) {
+          group = new ArrayList[A]
+          groups.put(k, group)
+        }
+        group.add(a)
+        i += 1
+      }
+      groups
+    }
+    def merge(l: HashMap[K, ArrayList[A]], r: HashMap[K, ArrayList[A]]) = {
+      val entries = r.entrySet.iterator
+      while (entries.hasNext) {
+        val entry = entries.next
+        val group = l.get(entry.getKey)
+        if (group == null) l.put(entry.getKey, entry.getValue)
+        else group.addAll(entry.getValue)
+      }
+      l
+    }
+    val groups = pool.invokeAndGet(new LinkedRecursiveAction[HashMap[K, ArrayList[A]]](merge, sequentialGroup))
+    var result = Map[K, ParallelArray[A]]()
+    val entries = groups.entrySet.iterator
+    while (entries.hasNext) {
+      val entry = entries.next
+      val group = entry.getValue
+      val elements = new Array[A](group.size)
+      for (i <- 0 until elements.length) elements(i) = group.get(i)
+      result = result + (entry.getKey -> ParallelArray(elements, pool, seqentialThreshold))
+    }
+    result
+  }
+
+  // extra166y needs a ForkJoinPool; pools without one borrow the common pool.
+  private def executor = pool match {
+    case p: ForkJoinBackedPool => p.executor
+    case _ => Pool.Shared.executor
+  }
+
+  private def toExtra: JParallelArray[AnyRef] = {
+    val objects = new Array[AnyRef](data.length)
+    def copy(s: Int, e: Int) = {
+      for (i <- s to e) objects(i) = data(i).asInstanceOf[AnyRef]
+      objects
+    }
+    pool.invokeAndGet(new LinkedRecursiveAction[Array[AnyRef]]((l, r) => l, copy))
+    JParallelArray.createUsingHandoff(objects, executor)
+  }
+
+  private def fromExtra(extra: JParallelArray[AnyRef]): ParallelArray[A] = {
+    val objects = extra.getArray
+    val elements = new Array[A](extra.size)
+    def copy(s: Int, e: Int) = {
+      for (i <- s to e) elements(i) = objects(i).asInstanceOf[A]
+      elements
+    }
+    pool.invokeAndGet(new LinkedRecursiveAction[Array[A]]((l, r) => l, copy, 0, elements.length - 1, null))
+    ParallelArray(elements, pool, seqentialThreshold)
+  }
+
   private def sequentialMutator[T](newData:Array[T], map: A => T,
                                    pred: A => Boolean)(start:Int, end:Int):Array[T] = {
     for (i <- start to end; if(pred(data(i)))) newData(i) = map(data(i))
     newData
   }
 
-  class BinaryRecursiveAction[T](val reduce: (T, T) => T, val executeSequentially: (Int, Int) => T,
-                                 val start: Int, val end: Int) extends FunctionalRecursiveAction[T] {
+  /**
+   * Splits the way extra166y's PAS.FJBase does: rather than building a tree of
+   * binary tasks, it forks only right halves, linked through next, and runs
+   * the leftmost leaf itself. It then walks the chain, running any right half
+   * that was not stolen inline (without resplitting it) and joining the rest.
+   * There are only as many tasks as leaves.
+   */
+  class LinkedRecursiveAction[T](val reduce: (T, T) => T, val executeSequentially: (Int, Int) => T,
+                                 val start: Int, val end: Int,
+                                 val next: LinkedRecursiveAction[T]) extends FunctionalRecursiveAction[T] {
 
     def this(reduce: (T, T) => T, executeSequentially: (Int, Int) => T) = {
-      this( reduce, executeSequentially, 0, data.length-1)
+      this( reduce, executeSequentially, 0, data.length-1, null)
     }
 
     val seqentialThreshold = ParallelArray.this.seqentialThreshold
 
-    private var result: Option[T] = None
-    private def size = end - start
-    private def midpoint = size / 2
+    private var result: T = _
+
+    def getResult = result
+
+    override def compute {
+      var e = end
+      var right: LinkedRecursiveAction[T] = null
+      while (shouldSplit(e - start + 1)) {
+        val mid = start + (e - start) / 2
+        right = new LinkedRecursiveAction(reduce, executeSequentially, mid + 1, e, right)
+        right.fork
+        e = mid
+      }
+      var r = executeSequentially(start, e)
+      // the chain runs nearest-first, so folding it in keeps left-to-right order
+      while (right != null) {
+        if (right.tryUnfork) right.result = executeSequentially(right.start, right.end)
+        else right.join
+        r = reduce(r, right.result)
+        right = right.next
+      }
+      result = r
+    }
+  }
+
+  /**
+   * Port of PAS.FJSelectAllDriver. Selection proceeds in two passes. In the
+   * first, each leaf applies step to its elements and keeps the results that
+   * were not rejected in its own matches buffer, which grows as needed, so
+   * step runs once per element and no array of the full input size is made.
+   * Once the total count is known, an exactly sized result is created and the
+   * second pass copies each leaf's matches to its offset in it. Subtrees
+   * without matches are pruned after the first pass.
+   */
+  class SelectAction[B](val step: A => B) extends FunctionalRecursiveAction[Array[B]] {
+    val seqentialThreshold = ParallelArray.this.seqentialThreshold
+    var phase = 0
+    var results: Array[B] = null
+
+    def getResult = results
+
+    override def compute {
+      val root = new SelectAll(this, 0, data.length)
+      root.compute
+      results = new Array[B](root.count)
+      phase = 1
+      root.compute
+    }
+  }
+
+  private class SelectAll[B](val driver: SelectAction[B], val lo: Int, val hi: Int) extends RecursiveAction {
+    var left: SelectAll[B] = null
+    var right: SelectAll[B] = null
+    var count = 0   // number of matching elements
+    var offset = 0
+    var matches: Array[B] = null   // a leaf's first count matches
+    var isInternal = false
+
+    override def compute {
+      if (driver.phase == 0) {
+        isInternal = shouldSplit(hi - lo)
+        if (isInternal) internalPhase0 else count = leafSelect
+      }
+      else if (count != 0) {
+        if (isInternal) internalPhase1 else leafCopy
+      }
+    }
+
+    private def leafSelect = {
+      val step = driver.step
+      var values = new Array[B](Math.min(hi - lo, 16))
+      var k = 0
+      var i = lo
+      while (i < hi) {
+        val b = step(data(i))
+        if (!ParallelArray.isRejected(b)) {
+          if (k == values.length) {
+            val grown = new Array[B](Math.min(hi - lo, k << 1))
+            Array.copy(values, 0, grown, 0, k)
+            values = grown
+          }
+          values(k) = b
+          k += 1
+        }
+        i += 1
+      }
+      matches = values
+      k
+    }
+
+    private def leafCopy {
+      Array.copy(matches, 0, driver.results, offset, count)
+      matches = null
+    }
+
+    private def internalPhase0 {
+      val mid = (lo + hi) >>> 1
+      val l = new SelectAll[B](driver, lo, mid)
+      val r = new SelectAll[B](driver, mid, hi)
+      r.fork
+      l.compute
+      if (r.tryUnfork) r.compute else r.join
+      if (l.count != 0) left = l
+      if (r.count != 0) right = r
+      count = l.count + r.count
+    }
+
+    private def internalPhase1 {
+      if (left != null) {
+        left.offset = offset
+        left.reinitialize
+        if (right != null) {
+          right.offset = offset + left.count
+          right.reinitialize
+          right.fork
+          left.compute
+          if (right.tryUnfork) right.compute else right.join
+        }
+        else left.compute
+      }
+      else if (right != null) {
+        right.offset = offset
+        right.compute
+      }
+    }
+  }
+
+  /**
+   * Port of PAS.FJSearchBase: a LinkedRecursiveAction that stops once its
+   * answer is known. Leaves stop scanning, and tasks still waiting to run are
+   * cancelled or skipped instead of joined.
+   * The predicate is given indices, so callers can see where a match is.
+   * When leftmost is set the result is the smallest matching index, so a task
+   * only gives up once a match has been found to the left of it. Otherwise
+   * any match stops the whole search. The result is -1 if nothing matches.
+   */
+  class SearchAction(val p: Int => Boolean, val leftmost: Boolean, val lo: Int, val hi: Int,
+                     val next: SearchAction, val result: AtomicInteger) extends FunctionalRecursiveAction[Int] {
 
-    def getResult = result.get
+    def this(p: Int => Boolean, leftmost: Boolean) = {
+      this(p, leftmost, 0, data.length, null, new AtomicInteger(Math.MAX_INT))
+    }
+
+    val seqentialThreshold = ParallelArray.this.seqentialThreshold
+
+    def getResult = {
+      val i = result.get
+      if (i == Math.MAX_INT) -1 else i
+    }
 
-    private def executeInParallel: T = {
-      val left = new BinaryRecursiveAction(reduce, executeSequentially, start, start + midpoint)
-      val right = new BinaryRecursiveAction(reduce, executeSequentially, start + midpoint + 1, end)
-      ForkJoinTask.invokeAll(left, right)
-      reduce(left.result.get, right.result.get)
+    // true if nothing at or after index i can change the result
+    private def stopped(i: Int) = {
+      val best = result.get
+      if (leftmost) best <= i else best != Math.MAX_INT
     }
 
     override def compute {
-      result = Some(if (size < seqentialThreshold) executeSequentially(start, end) else executeInParallel)
+      if (stopped(lo)) return
+      var h = hi
+      var right: SearchAction = null
+      while (shouldSplit(h - lo)) {
+        val mid = (lo + h) >>> 1
+        right = new SearchAction(p, leftmost, mid, h, right, result)
+        right.fork
+        h = mid
+      }
+      atLeaf(lo, h)
+      while (right != null) {
+        val stopping = stopped(right.lo)
+        if (right.tryUnfork) { if (!stopping) right.atLeaf(right.lo, right.hi) }
+        else if (stopping) right.cancel(false)
+        else right.join
+        right = right.next
+      }
+    }
+
+    private def atLeaf(l: Int, h: Int) {
+      var i = l
+      while (i < h && !stopped(i)) {
+        if (p(i)) {
+          found(i)
+          return
+        }
+        i += 1
+      }
+    }
+
+    private def found(i: Int) {
+      var current = result.get
+      while (i < current && !result.compareAndSet(current, i)) current = result.get
     }
   }
 }
@@ -0,0 +1,79 @@
+package scala.util.parallel
+
+import java.util.concurrent.atomic.AtomicReference
+import ParallelArray.{rejected, isRejected}
+
+/**
+ * A lazy view of a ParallelArray, analogous to extra166y's withFilter and
+ * withMapping prefixes. Filters and mappings only compose functions; nothing
+ * runs until a terminal operation, which makes a single pass over the source
+ * with every stage fused into one leaf loop. Only all allocates an array.
+ *
+ * The stages are composed into a single step per element, which applies each
+ * mapping once and returns ParallelArray.rejected for elements that some
+ * filter turned down, so later stages and terminal operations never see them.
+ */
+class ParallelArrayView[A, B](val source: ParallelArray[A], val step: A => B) {
+
+  def withFilter(p: B => Boolean) =
+    new ParallelArrayView[A, B](source, a => {
+      val b = step(a)
+      if (isRejected(b) || p(b)) b else rejected[B]
+    })
+
+  def withMapping[C](f: B => C) =
+    new ParallelArrayView[A, C](source, a => {
+      val b = step(a)
+      if (isRejected(b)) rejected[C] else f(b)
+    })
+
+  def mapreduce[C](id: C)(map: B => C, reduce: (C, C) => C): C = {
+    val data = source.data
+    def sequentialReduce(s: Int, e: Int) = {
+      var acc = id
+      var i = s
+      while (i <= e) {
+        val b = step(data(i))
+        if (!isRejected(b)) acc = reduce(acc, map(b))
+        i += 1
+      }
+      acc
+    }
+    source.pool.invokeAndGet(new source.LinkedRecursiveAction[C](reduce, sequentialReduce))
+  }
+
+  // these stop early, by searching the source with every stage folded into the predicate.
+  // find keeps the value of the leftmost match it has seen, so no step runs twice.
+  def find(p: B => Boolean): Option[B] = {
+    val data = source.data
+    val first = new AtomicReference[(Int, B)](null)
+    def matches(i: Int) = {
+      val b = step(data(i))
+      val m = !isRejected(b) && p(b)
+      if (m) {
+        var current = first.get
+        while ((current == null || i < current._1) && !first.compareAndSet(current, (i, b)))
+          current = first.get
+      }
+      m
+    }
+    if (source.searchIndices(matches, true) < 0) None else Some(first.get._2)
+  }
+  def exists(p: B => Boolean): Boolean = source.exists(selected(p))
+  def forall(p: B => Boolean): Boolean = !exists(!p(_))
+
+  private def selected(p: B => Boolean): A => Boolean = a => {
+    val b = step(a)
+    !isRejected(b) && p(b)
+  }
+
+  def reduce(id: B)(r: (B, B) => B): B = mapreduce(id)(b=>b, r)
+  def count (p: B => Boolean): Int     = mapreduce[Int](0)(b => if(p(b)) 1 else 0, (l, r) => l + r )
+  def size: Int                        = count(b => true)
+
+  // the only operation that allocates: an exactly sized array of the results.
+  def all: ParallelArray[B] = {
+    val results = source.pool.invokeAndGet(new source.SelectAction[B](step))
+    ParallelArray(results, source.pool, source.seqentialThreshold)
+  }
+}
@@ -0,0 +1,72 @@
+package scala.util.parallel
+
+import jsr166y.ForkJoinPool
+
+trait Pool{
+  def invokeAndGet[T](action:FunctionalRecursiveAction[T]): T
+  def parallelism: Int
+  def resize(parallelism: Int)
+  def shutdown
+}
+
+/**
+ * A Pool that runs actions in a jsr166y ForkJoinPool.
+ */
+abstract class ForkJoinBackedPool extends Pool{
+  def executor: ForkJoinPool
+
+  def invokeAndGet[T](action: FunctionalRecursiveAction[T]): T = {
+    executor.invoke(action)
+    action.getResult
+  }
+  def parallelism = executor.getParallelism
+  def resize(parallelism: Int) = executor.setParallelism(parallelism)
+  def shutdown = executor.shutdown
+}
+
+object Pool{
+
+  /**
+   * jsr166y's JVM-wide ForkJoinPool.commonPool, which is also what
+   * extra166y.ParallelArray uses by default, so that the scala and java APIs
+   * and any other library using the common pool run a single set of workers.
+   * It is created on first use, its idle workers retire, and since other code
+   * shares it, shutdown is ignored.
+   */
+  object Shared extends ForkJoinBackedPool{
+    def executor = ForkJoinPool.commonPool
+    override def shutdown {}
+  }
+
+  /**
+   * Runs each action on the calling thread without splitting it, for inputs
+   * too small to be worth handing to workers. This holds even when the caller
+   * is itself a worker of some ForkJoinPool. The operations ParallelArray
+   * hands to extra166y (the sorts, cumulate and distinct) need a
+   * ForkJoinPool, so they still run on Shared.
+   */
+  object CallerThread extends Pool{
+    def invokeAndGet[T](action: FunctionalRecursiveAction[T]): T = {
+      action.invoke
+      action.getResult
+    }
+    def parallelism = 1
+    def resize(parallelism: Int) {}
+    def shutdown {}
+  }
+
+  /**
+   * A private ForkJoinPool that never grows past the given number of
+   * threads, even to compensate for blocked joins.
+   */
+  class Bounded(initialParallelism: Int) extends ForkJoinBackedPool{
+    val executor = new ForkJoinPool(initialParallelism)
+    executor.setMaximumPoolSize(initialParallelism)
+
+    override def resize(parallelism: Int) {
+      if (parallelism > executor.getMaximumPoolSize) executor.setMaximumPoolSize(parallelism)
+      executor.setParallelism(parallelism)
+      executor.setMaximumPoolSize(parallelism)
+    }
+  }
+}
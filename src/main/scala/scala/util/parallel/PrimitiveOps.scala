@@ -0,0 +1,27 @@
+package scala.util.parallel
+
+import extra166y.Ops._
+
+/**
+ * Implicit conversions from scala functions to the primitive extra166y Ops
+ * interfaces used by IntParallelArray, LongParallelArray and DoubleParallelArray.
+ *
+ * These are a convenience: a scala Function1 still boxes its argument, so the
+ * hot path is allocation free only when an Ops instance is passed directly:
+ *
+ *   longs.map(new LongOp{ def op(a: Long) = a * 2 })
+ */
+object PrimitiveOps {
+
+  implicit def toIntOp(f: Int => Int): IntOp = new IntOp { def op(a: Int) = f(a) }
+  implicit def toIntPredicate(f: Int => Boolean): IntPredicate = new IntPredicate { def op(a: Int) = f(a) }
+  implicit def toIntReducer(f: (Int, Int) => Int): IntReducer = new IntReducer { def op(a: Int, b: Int) = f(a, b) }
+
+  implicit def toLongOp(f: Long => Long): LongOp = new LongOp { def op(a: Long) = f(a) }
+  implicit def toLongPredicate(f: Long => Boolean): LongPredicate = new LongPredicate { def op(a: Long) = f(a) }
+  implicit def toLongReducer(f: (Long, Long) => Long): LongReducer = new LongReducer { def op(a: Long, b: Long) = f(a, b) }
+
+  implicit def toDoubleOp(f: Double => Double): DoubleOp = new DoubleOp { def op(a: Double) = f(a) }
+  implicit def toDoublePredicate(f: Double => Boolean): DoublePredicate = new DoublePredicate { def op(a: Double) = f(a) }
+  implicit def toDoubleReducer(f: (Double, Double) => Double): DoubleReducer = new DoubleReducer { def op(a: Double, b: Double) = f(a, b) }
+}
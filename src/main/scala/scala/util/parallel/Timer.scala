@@ -1,10 +1,58 @@
 package scala.util.parallel
 
 object Timer{
-  def time[T]( f: => T ) = {
-    val start = System.currentTimeMillis
-    val t = f
-    println("time: " + (System.currentTimeMillis - start))
-    t
+  /**
+   * Times a single run of f, without warmup.
+   */
+  def time(f: => Any): Timing = measure(0, 1)(f)
+
+  /**
+   * Runs f warmup times untimed, so the JIT and the pool settle, and then
+   * times iterations more runs of it with System.nanoTime.
+   */
+  def measure(warmup: Int, iterations: Int)(f: => Any): Timing = {
+    for (i <- 0 until warmup) f
+    val samples = new Array[Long](iterations)
+    for (i <- 0 until iterations) {
+      val start = System.nanoTime
+      f
+      samples(i) = System.nanoTime - start
+    }
+    Timing(samples.toList)
   }
-}
\ No newline at end of file
+}
+
+/**
+ * The run times, in nanoseconds, of a measured operation.
+ */
+case class Timing(samples: List[Long]){
+  if (samples.isEmpty) throw new IllegalArgumentException("no samples")
+
+  private val sorted = {
+    val s = samples.toArray
+    java.util.Arrays.sort(s)
+    s
+  }
+
+  def iterations = samples.length
+  def total = samples.foldLeft(0L)(_ + _)
+  def min = sorted(0)
+  def max = sorted(sorted.length - 1)
+  def mean = total / iterations
+  def median = percentile(50)
+  def p99 = percentile(99)
+
+  // nearest-rank percentile, p in (0, 100]
+  def percentile(p: Double): Long = {
+    val rank = Math.ceil(p / 100 * sorted.length).toInt
+    sorted(Math.max(rank, 1) - 1)
+  }
+
+  // runs per second, or with opsPerRun, e.g. elements processed, ops per second
+  def throughput: Double = throughput(1)
+  def throughput(opsPerRun: Long): Double = opsPerRun * iterations * 1e9 / total
+
+  override def toString =
+    "min: " + min + "ns, median: " + median + "ns, p99: " + p99 + "ns, " +
+    "iterations: " + iterations + ", runs/s: " + throughput
+}
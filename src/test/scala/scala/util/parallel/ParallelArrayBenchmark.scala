@@ -0,0 +1,52 @@
+package scala.util.parallel
+
+import extra166y.{ParallelArray => JParallelArray}
+import extra166y.Ops.{Op, Predicate, Reducer}
+import java.lang.{Long => JLong}
+
+/**
+ * Head-to-head timings of scala.util.parallel.ParallelArray against
+ * extra166y.ParallelArray on the same data and the same shared executor.
+ * Usage: ParallelArrayBenchmark [maxSize [warmups [runs]]]
+ * The jsr166 tree has the full java benchmark, test/jsr166y/ParallelArrayBenchmark.
+ */
+object ParallelArrayBenchmark {
+
+  def main(args: Array[String]) {
+    val maxSize = if (args.length > 0) args(0).toInt else 10000000
+    val warmups = if (args.length > 1) args(1).toInt else 5
+    val runs    = if (args.length > 2) args(2).toInt else 10
+
+    var n = 1000
+    while (n <= maxSize) {
+      val random = new java.util.Random(n)
+      val data = new Array[JLong](n)
+      for (i <- 0 until n) data(i) = JLong.valueOf(random.nextInt(n))
+      val zero = JLong.valueOf(0)
+      val sp = new ParallelArray[JLong](data)
+      val jp = JParallelArray.createFromCopy(data, JParallelArray.defaultExecutor)
+
+      def compare(op: String)(s: => Any)(j: => Any) {
+        println(op + " n=" + n)
+        println("  scala : " + Timer.measure(warmups, runs)(s))
+        println("  java  : " + Timer.measure(warmups, runs)(j))
+      }
+
+      compare("reduce")(sp.reduce(zero)((a, b) => JLong.valueOf(a.longValue + b.longValue)))(
+        jp.reduce(new Reducer[JLong] {
+          def op(a: JLong, b: JLong) = JLong.valueOf(a.longValue + b.longValue)
+        }, zero))
+      compare("map")(sp.map(a => JLong.valueOf(a.longValue * a.longValue)))(
+        jp.withMapping[JLong](new Op[JLong, JLong] {
+          def op(a: JLong) = JLong.valueOf(a.longValue * a.longValue)
+        }).all)
+      compare("filter")(sp.filter(a => (a.longValue & 1) == 0))(
+        jp.withFilter(new Predicate[JLong] {
+          def op(a: JLong) = (a.longValue & 1) == 0
+        }).all)
+      compare("sort")(sp.sortWith((a, b) => a.compareTo(b)))(
+        JParallelArray.createFromCopy(data, JParallelArray.defaultExecutor).sort)
+      n *= 10
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package scala.util.parallel
+
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Checks ParallelArray against the same operations run sequentially on its
+ * data.
+ */
+class ParallelArrayTest extends ParallelTest {
+
+  test("filter keeps matching elements in order"){
+    forEachArray { (data, pa) =>
+      mustMatch(pa.filter(_ % 3 == 0).data, data.filter(_ % 3 == 0))
+      mustMatch(pa.filter(_ => true).data, data)
+      pa.filter(_ => false).data.length mustBe 0
+    }
+  }
+
+  test("remove drops matching elements"){
+    forEachArray { (data, pa) =>
+      mustMatch(pa.remove(_ % 3 == 0).data, data.filter(_ % 3 != 0))
+    }
+  }
+
+  test("filter applies its predicate once per element"){
+    forEachArray { (data, pa) =>
+      val calls = new AtomicInteger
+      mustMatch(pa.filter(a => { calls.incrementAndGet; a < 500 }).data, data.filter(_ < 500))
+      calls.get mustBe data.length
+    }
+  }
+
+  test("filter results keep the pool and threshold"){
+    forEachArray { (data, pa) =>
+      val filtered = pa.filter(_ % 2 == 0)
+      filtered.pool mustBe pa.pool
+      filtered.seqentialThreshold mustBe pa.seqentialThreshold
+    }
+  }
+
+  test("indexWhere and find return the leftmost match"){
+    forEachArray { (data, pa) =>
+      for (target <- List(0, 1, 500, 999, 1000)) {
+        pa.indexWhere(_ == target) mustBe data.findIndexOf(_ == target)
+        pa.find(_ >= target) mustBe data.find(_ >= target)
+      }
+    }
+  }
+
+  test("a match in the last element is found"){
+    for (n <- sizes; t <- thresholds; if n > 0) {
+      val data = new Array[Int](n)
+      data(n - 1) = 1
+      val pa = ParallelArray(data, pool, t)
+      pa.indexWhere(_ == 1) mustBe n - 1
+      pa.exists(_ == 1) mustBe true
+      pa.forall(_ == 0) mustBe false
+    }
+  }
+
+  test("exists and forall"){
+    forEachArray { (data, pa) =>
+      pa.exists(_ == 500) mustBe data.exists(_ == 500)
+      pa.exists(_ >= 1000) mustBe false
+      pa.forall(_ < 1000) mustBe true
+      pa.forall(_ < 500) mustBe data.forall(_ < 500)
+    }
+  }
+
+  test("a search stops at the first match"){
+    // CallerThread never splits, so there is a single leaf
+    val pa = ParallelArray(ints(10000), Pool.CallerThread, ParallelArray.Sized)
+    for (i <- List(0, 17, 9999)) {
+      val calls = new AtomicInteger
+      val index = pa.indexWhere(a => { calls.incrementAndGet == i + 1 })
+      index mustBe i
+      calls.get mustBe i + 1
+    }
+    val visits = new AtomicInteger
+    val found = pa.exists(a => { visits.incrementAndGet; true })
+    found mustBe true
+    visits.get mustBe 1
+  }
+
+  def sorted(data: Array[Int]) = {
+    val a = new Array[Int](data.length)
+    Array.copy(data, 0, a, 0, data.length)
+    java.util.Arrays.sort(a)
+    a
+  }
+
+  test("sort, sortBy and sortWith"){
+    forEachArray { (data, pa) =>
+      val ascending = sorted(data)
+      val descending = ascending.reverse
+      mustMatch(pa.sort.data, ascending)
+      mustMatch(pa.sortBy(a => -a).data, descending)
+      mustMatch(pa.sortWith((x, y) => y - x).data, descending)
+      mustMatch(pa.data, data)
+    }
+  }
+
+  test("distinct keeps one of each element"){
+    forEachArray { (data, pa) =>
+      val unique = new java.util.TreeSet[Int]
+      for (a <- data) unique.add(a)
+      val expected = new Array[Int](unique.size)
+      var i = 0
+      val elements = unique.iterator
+      while (elements.hasNext) { expected(i) = elements.next; i += 1 }
+      mustMatch(sorted(pa.distinct.data), expected)
+    }
+  }
+
+  test("cumulate and scan give running reductions"){
+    forEachArray { (data, pa) =>
+      val sums, maxima = new Array[Int](data.length)
+      var sum, max = 0
+      for (i <- 0 until data.length) {
+        sum += data(i); sums(i) = sum
+        max = Math.max(max, data(i)); maxima(i) = max
+      }
+      mustMatch(pa.cumulate(0)(_ + _).data, sums)
+      mustMatch(pa.scan(0)(_ + _).data, sums)
+      mustMatch(pa.scan(0)(Math.max(_, _)).data, maxima)
+    }
+  }
+
+  test("groupBy keeps each group in order"){
+    forEachArray { (data, pa) =>
+      val groups = pa.groupBy(_ % 10)
+      groups.size mustBe data.map(_ % 10).toList.removeDuplicates.length
+      for ((k, group) <- groups) {
+        mustMatch(group.data, data.filter(_ % 10 == k))
+        group.pool mustBe pa.pool
+      }
+    }
+  }
+}
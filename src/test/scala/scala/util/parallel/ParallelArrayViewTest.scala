@@ -0,0 +1,66 @@
+package scala.util.parallel
+
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Checks that ParallelArrayView pipelines give the results of the same
+ * stages run eagerly, and that each mapping runs once per element.
+ */
+class ParallelArrayViewTest extends ParallelTest {
+
+  // the pipeline used by most tests, and its eager equivalent
+  def pipeline(pa: ParallelArray[Int]) = pa.withMapping(_ * 2).withFilter(_ % 3 == 0).withMapping(_ + 1)
+  def expected(data: Array[Int]) = data.map(_ * 2).filter(_ % 3 == 0).map(_ + 1).toList
+
+  test("all gives the results of the stages run in order"){
+    forEachArray { (data, pa) =>
+      mustMatch(pipeline(pa).all.data, expected(data))
+      mustMatch(pa.withFilter(_ > 500).all.data, data.filter(_ > 500))
+      mustMatch(pa.withFilter(_ > 200).withFilter(_ < 800).all.data, data.filter(a => a > 200 && a < 800))
+    }
+  }
+
+  test("terminal reductions see only elements the filters keep"){
+    forEachArray { (data, pa) =>
+      val e = expected(data)
+      pipeline(pa).reduce(0)(_ + _) mustBe e.foldLeft(0)(_ + _)
+      pipeline(pa).count(_ > 1000) mustBe e.filter(_ > 1000).length
+      pipeline(pa).size mustBe e.length
+      pipeline(pa).mapreduce(0L)(_.toLong, _ + _) mustBe e.foldLeft(0L)(_ + _)
+    }
+  }
+
+  test("find, exists and forall"){
+    forEachArray { (data, pa) =>
+      val e = expected(data)
+      pipeline(pa).find(_ > 1000) mustBe e.find(_ > 1000)
+      pipeline(pa).find(_ < 0) mustBe None
+      pipeline(pa).exists(_ % 2 == 0) mustBe false
+      pipeline(pa).exists(_ > 1000) mustBe e.exists(_ > 1000)
+      pipeline(pa).forall(_ % 2 == 1) mustBe true
+      pipeline(pa).forall(_ > 1000) mustBe e.forall(_ > 1000)
+    }
+  }
+
+  test("each mapping runs once per element"){
+    forEachArray { (data, pa) =>
+      val first, second = new AtomicInteger
+      val view = pa.withMapping(a => { first.incrementAndGet; a * 2 })
+                   .withFilter(_ % 3 == 0)
+                   .withMapping(a => { second.incrementAndGet; a + 1 })
+      mustMatch(view.all.data, expected(data))
+      first.get mustBe data.length
+      second.get mustBe expected(data).length
+    }
+  }
+
+  test("stages run only in a terminal operation"){
+    val calls = new AtomicInteger
+    val pa = ParallelArray(ints(1000), pool, ParallelArray.Sized)
+    val view = pa.withMapping(a => { calls.incrementAndGet; a }).withFilter(_ > 0)
+    calls.get mustBe 0
+    val size = view.size
+    size mustBe pa.data.filter(_ > 0).length
+    calls.get mustBe 1000
+  }
+}
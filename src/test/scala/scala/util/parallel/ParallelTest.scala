@@ -0,0 +1,41 @@
+package scala.util.parallel
+
+import org.scalatest.{FunSuite, BeforeAndAfter}
+import org.scalatest.matchers.{MustMatchers, MustBeSugar}
+
+/**
+ * Fixture shared by the ParallelArray suites: one pool for the whole suite,
+ * shut down after it, and arrays of several sizes split with automatic and
+ * small fixed leaf sizes, so that results are combined across many leaves.
+ */
+trait ParallelTest extends FunSuite with MustMatchers with MustBeSugar with BeforeAndAfter {
+
+  val pool = new Pool.Bounded(4)
+  val sizes = List(0, 1, 2, 1000, 10000)
+  val thresholds = List(ParallelArray.Sized, ParallelArray.Adaptive, 1, 7)
+
+  override def afterAll { pool.shutdown }
+
+  def ints(n: Int) = {
+    val random = new java.util.Random(n)
+    val a = new Array[Int](n)
+    for (i <- 0 until n) a(i) = random.nextInt(1000)
+    a
+  }
+
+  // runs f on arrays of every size, split with every threshold
+  def forEachArray(f: (Array[Int], ParallelArray[Int]) => Unit) {
+    for (n <- sizes; t <- thresholds) {
+      val data = ints(n)
+      f(data, ParallelArray(data, pool, t))
+    }
+  }
+
+  // element by element, since List equality in 2.7 recurses once per element;
+  // also, mustBe evaluates its left side twice, so bind side effects to a val
+  def mustMatch(actual: Seq[Any], expected: Seq[Any]) {
+    actual.length mustBe expected.length
+    for (i <- 0 until actual.length)
+      if (actual(i) != expected(i)) fail("element " + i + ": " + actual(i) + " != " + expected(i))
+  }
+}
@@ -0,0 +1,75 @@
+package scala.util.parallel
+
+import jsr166y.RecursiveAction
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Checks that each Pool behaves as documented: CallerThread stays on the
+ * calling thread, Bounded resizes its limit along with its parallelism, and
+ * Shared ignores shutdown.
+ */
+class PoolTest extends ParallelTest {
+
+  // the threads that run the functions passed to CallerThread arrays of every threshold
+  def callerThreads = {
+    val threads = new ConcurrentHashMap[Thread, Thread]
+    def record { val t = Thread.currentThread; threads.put(t, t) }
+    for (t <- thresholds) {
+      val pa = ParallelArray(ints(10000), Pool.CallerThread, t)
+      pa.map(a => { record; a })
+      pa.filter(a => { record; true })
+      pa.withMapping(a => { record; a }).all
+      pa.exists(a => { record; false })
+    }
+    threads.keySet
+  }
+
+  test("CallerThread runs on the calling thread"){
+    val threads = callerThreads
+    threads.size mustBe 1
+    threads.contains(Thread.currentThread) mustBe true
+  }
+
+  test("CallerThread does not split inside a worker"){
+    var worker: Thread = null
+    var threads: java.util.Set[Thread] = null
+    pool.executor.invoke(new RecursiveAction {
+      def compute {
+        worker = Thread.currentThread
+        threads = callerThreads
+      }
+    })
+    threads.size mustBe 1
+    threads.contains(worker) mustBe true
+  }
+
+  test("Bounded resize changes parallelism and the limit on threads"){
+    val bounded = new Pool.Bounded(2)
+    try {
+      bounded.executor.getMaximumPoolSize mustBe 2
+      bounded.resize(6)
+      bounded.parallelism mustBe 6
+      bounded.executor.getMaximumPoolSize mustBe 6
+      bounded.resize(1)
+      bounded.parallelism mustBe 1
+      bounded.executor.getMaximumPoolSize mustBe 1
+      ParallelArray(ints(1000), bounded, 7).count(_ < 500) mustBe ints(1000).filter(_ < 500).length
+    } finally {
+      bounded.shutdown
+    }
+    bounded.executor.isShutdown mustBe true
+  }
+
+  test("Shared ignores shutdown"){
+    Pool.Shared.shutdown
+    Pool.Shared.executor.isShutdown mustBe false
+    ParallelArray(ints(1000), Pool.Shared, 7).count(_ < 500) mustBe ints(1000).filter(_ < 500).length
+  }
+
+  test("CallerThread ignores resize and shutdown"){
+    Pool.CallerThread.resize(4)
+    Pool.CallerThread.parallelism mustBe 1
+    Pool.CallerThread.shutdown
+    ParallelArray(ints(1000), Pool.CallerThread, 7).count(_ < 500) mustBe ints(1000).filter(_ < 500).length
+  }
+}
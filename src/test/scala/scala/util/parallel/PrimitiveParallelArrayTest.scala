@@ -0,0 +1,124 @@
+package scala.util.parallel
+
+import jsr166y.ForkJoinPool
+import java.util.concurrent.atomic.AtomicInteger
+import PrimitiveOps._
+
+/**
+ * Checks IntParallelArray, LongParallelArray and DoubleParallelArray against
+ * the same operations run sequentially on the underlying array.
+ */
+class PrimitiveParallelArrayTest extends ParallelTest {
+
+  // the shared pool's workers, shut down with it after the suite
+  val executor = pool.executor
+  override val sizes = List(0, 1, 2, 1000, 100000)
+
+  // signed, unlike the shared fixture, so that min, max and sign tests see negatives
+  override def ints(n: Int) = {
+    val random = new java.util.Random(n)
+    val a = new Array[Int](n)
+    for (i <- 0 until n) a(i) = random.nextInt(2000) - 1000
+    a
+  }
+  def longs(n: Int) = {
+    val a = new Array[Long](n)
+    val source = ints(n)
+    for (i <- 0 until n) a(i) = source(i).toLong << 20
+    a
+  }
+  // integral values, so sums are exact in any order
+  def doubles(n: Int) = {
+    val a = new Array[Double](n)
+    val source = ints(n)
+    for (i <- 0 until n) a(i) = source(i).toDouble
+    a
+  }
+
+  test("Int reductions"){
+    for (n <- sizes) {
+      val data = ints(n)
+      val pa = new IntParallelArray(data, executor)
+      pa.size mustBe n
+      pa.sum mustBe data.foldLeft(0)(_ + _)
+      pa.reduce(0)((a: Int, b: Int) => a ^ b) mustBe data.foldLeft(0)(_ ^ _)
+      pa.count((a: Int) => a > 0) mustBe data.filter(_ > 0).length
+      if (n > 0) {
+        pa.min mustBe data.foldLeft(Math.MAX_INT)(Math.min(_, _))
+        pa.max mustBe data.foldLeft(Math.MIN_INT)(Math.max(_, _))
+      }
+    }
+  }
+
+  test("Int map, filter and remove"){
+    for (n <- sizes) {
+      val data = ints(n)
+      val pa = new IntParallelArray(data, executor)
+      mustMatch(pa.map((a: Int) => a * 3).toArray, data.map(_ * 3))
+      mustMatch(pa.filter((a: Int) => a % 2 == 0).toArray, data.filter(_ % 2 == 0))
+      mustMatch(pa.remove((a: Int) => a % 2 == 0).toArray, data.filter(_ % 2 != 0))
+    }
+  }
+
+  test("Int exists and forall"){
+    for (n <- sizes) {
+      val data = ints(n)
+      val pa = new IntParallelArray(data, executor)
+      pa.exists((a: Int) => a == 999) mustBe data.exists(_ == 999)
+      pa.exists((a: Int) => a > 1000) mustBe false
+      pa.forall((a: Int) => a >= -1000) mustBe true
+      pa.forall((a: Int) => a < 0) mustBe data.forall(_ < 0)
+    }
+  }
+
+  test("Int exists stops at the first match"){
+    val single = new ForkJoinPool(1)
+    try {
+      val calls = new AtomicInteger
+      val pa = new IntParallelArray(new Array[Int](100000), single)
+      val found = pa.exists((a: Int) => { calls.incrementAndGet; a == 0 })
+      found mustBe true
+      calls.get mustBe 1
+    } finally {
+      single.shutdown
+    }
+  }
+
+  test("Long operations"){
+    for (n <- sizes) {
+      val data = longs(n)
+      val pa = new LongParallelArray(data, executor)
+      pa.size mustBe n
+      pa.sum mustBe data.foldLeft(0L)(_ + _)
+      pa.reduce(0L)((a: Long, b: Long) => a ^ b) mustBe data.foldLeft(0L)(_ ^ _)
+      pa.count((a: Long) => a > 0) mustBe data.filter(_ > 0).length
+      if (n > 0) {
+        pa.min mustBe data.foldLeft(Math.MAX_LONG)(Math.min(_, _))
+        pa.max mustBe data.foldLeft(Math.MIN_LONG)(Math.max(_, _))
+      }
+      mustMatch(pa.map((a: Long) => a + 1).toArray, data.map(_ + 1))
+      mustMatch(pa.filter((a: Long) => a > 0).toArray, data.filter(_ > 0))
+      pa.exists((a: Long) => a == 999L << 20) mustBe data.exists(_ == 999L << 20)
+      pa.forall((a: Long) => a < 0) mustBe data.forall(_ < 0)
+    }
+  }
+
+  test("Double operations"){
+    for (n <- sizes) {
+      val data = doubles(n)
+      val pa = new DoubleParallelArray(data, executor)
+      pa.size mustBe n
+      pa.sum mustBe data.foldLeft(0.0)(_ + _)
+      pa.reduce(0.0)((a: Double, b: Double) => a + b) mustBe data.foldLeft(0.0)(_ + _)
+      pa.count((a: Double) => a > 0) mustBe data.filter(_ > 0).length
+      if (n > 0) {
+        pa.min mustBe data.foldLeft(Math.MAX_DOUBLE)(Math.min(_, _))
+        pa.max mustBe data.foldLeft(-Math.MAX_DOUBLE)(Math.max(_, _))
+      }
+      mustMatch(pa.map((a: Double) => a / 2).toArray, data.map(_ / 2))
+      mustMatch(pa.filter((a: Double) => a > 0).toArray, data.filter(_ > 0))
+      pa.exists((a: Double) => a == 999.0) mustBe data.exists(_ == 999.0)
+      pa.forall((a: Double) => a < 0) mustBe data.forall(_ < 0)
+    }
+  }
+}
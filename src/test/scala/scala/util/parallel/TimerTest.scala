@@ -0,0 +1,75 @@
+package scala.util.parallel
+
+import org.scalatest.FunSuite
+import org.scalatest.matchers.{MustMatchers, MustBeSugar}
+
+/**
+ * Checks Timing's statistics on known samples, and that measure and time
+ * take the runs they are asked for.
+ */
+class TimerTest extends FunSuite with MustMatchers with MustBeSugar {
+
+  // 1 to 100, shuffled, so that statistics must not depend on sample order
+  val hundred = {
+    val a = new Array[Long](100)
+    for (i <- 0 until 100) a(i) = (i * 37) % 100 + 1
+    Timing(a.toList)
+  }
+
+  test("nearest-rank percentiles"){
+    hundred.percentile(1) mustBe 1L
+    hundred.percentile(50) mustBe 50L
+    hundred.percentile(50.5) mustBe 51L
+    hundred.percentile(99) mustBe 99L
+    hundred.percentile(100) mustBe 100L
+    hundred.median mustBe 50L
+    hundred.p99 mustBe 99L
+
+    val three = Timing(List(30L, 10L, 20L))
+    three.percentile(33) mustBe 10L
+    three.percentile(34) mustBe 20L
+    three.median mustBe 20L
+    three.p99 mustBe 30L
+  }
+
+  test("min, max, total, mean and throughput"){
+    hundred.iterations mustBe 100
+    hundred.min mustBe 1L
+    hundred.max mustBe 100L
+    hundred.total mustBe 5050L
+    hundred.mean mustBe 50L
+    Timing(List(500000000L, 500000000L)).throughput mustBe 2.0
+    Timing(List(500000000L, 500000000L)).throughput(1000) mustBe 2000.0
+  }
+
+  test("a single sample is every statistic"){
+    val one = Timing(List(7L))
+    one.min mustBe 7L
+    one.max mustBe 7L
+    one.median mustBe 7L
+    one.p99 mustBe 7L
+    one.percentile(0.1) mustBe 7L
+  }
+
+  test("timings with the same samples are equal"){
+    Timing(List(1L, 2L)) mustBe Timing(List(1L, 2L))
+    (Timing(List(1L, 2L)) == Timing(List(2L, 1L))) mustBe false
+  }
+
+  test("a timing needs samples"){
+    intercept[IllegalArgumentException] { Timing(Nil) }
+  }
+
+  test("measure runs warmup and timed runs"){
+    var runs = 0
+    val timing = Timer.measure(3, 5) { runs += 1 }
+    runs mustBe 8
+    timing.iterations mustBe 5
+    timing.min >= 0 mustBe true
+
+    runs = 0
+    val once = Timer.time { runs += 1 }
+    runs mustBe 1
+    once.iterations mustBe 1
+  }
+}